@@ -11,6 +11,8 @@
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.DigestibleHttpEntity;
+
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.http.HttpEntity;
@@ -61,8 +63,14 @@ private String computeContentHash(HttpRequest request) throws IOException {
 		}
 
 		final MessageDigest digest = getSha256Digest();
-		DigestOutputStream digestStream = new DigestOutputStream( DISCARDING_STREAM, digest );
-		entity.writeTo( digestStream );
+		if ( entity instanceof DigestibleHttpEntity ) {
+			// The entity will keep the encoded content and send it as-is, avoiding a second encoding
+			( (DigestibleHttpEntity) entity ).updateDigest( digest );
+		}
+		else {
+			DigestOutputStream digestStream = new DigestOutputStream( DISCARDING_STREAM, digest );
+			entity.writeTo( digestStream );
+		}
 		return Hex.encodeHexString( digest.digest() );
 	}
 
@@ -155,6 +155,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String DISCOVERY_SCHEME = "discovery.default_scheme";
 
+	/**
+	 * Whether HTTP request bodies should be compressed using GZIP,
+	 * and compressed responses should be accepted.
+	 * <p>
+	 * Compression reduces network traffic significantly, in particular for bulk indexing requests,
+	 * at the cost of some CPU time on both the client and the cluster.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether JSON included in logs should be pretty-printed (indented, with line breaks).
 	 * <p>
@@ -165,6 +179,112 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LOG_JSON_PRETTY_PRINTING = "log.json_pretty_printing";
 
+	/**
+	 * The size of the thread pool assigned to the backend,
+	 * used in particular to prepare and send requests to the Elasticsearch cluster.
+	 * <p>
+	 * The thread pool is shared between all indexes of the backend:
+	 * each index processes at most one batch of works at any given time,
+	 * but multiple indexes may process works concurrently,
+	 * up to the size of the thread pool.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String THREAD_POOL_SIZE = "thread_pool.size";
+
+	/**
+	 * The maximum number of read requests (search, count, explain, scroll)
+	 * sent concurrently to the Elasticsearch cluster.
+	 * <p>
+	 * Read requests are sent directly from the thread executing the query,
+	 * and do not wait for indexing requests to be batched.
+	 * Read requests submitted while this limit is reached are queued until another read request completes.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_MAX_CONCURRENT_REQUESTS}.
+	 */
+	public static final String QUERY_MAX_CONCURRENT_REQUESTS = "query.max_concurrent_requests";
+
+	/**
+	 * The maximum number of indexing works sent to the Elasticsearch cluster in a single bulk request.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 *
+	 * @see #INDEXING_BULK_TARGET_LATENCY
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum size of a single bulk request sent to the Elasticsearch cluster, in bytes.
+	 * <p>
+	 * The size of each indexing work is estimated from its JSON representation,
+	 * and a bulk request is sent as soon as adding another work would exceed this size.
+	 * A single work exceeding this size on its own is still sent, in a bulk request of its own.
+	 * This should be set to a value lower than the {@code http.max_content_length} setting of the cluster.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 10485760},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * The target execution time of bulk requests, in milliseconds.
+	 * <p>
+	 * When set, the number of works per bulk request is adapted automatically,
+	 * between a small minimum and {@link #INDEXING_MAX_BULK_SIZE}:
+	 * it decreases when bulk requests take longer than this target, fail,
+	 * or when the cluster rejects works because it is overloaded,
+	 * and slowly increases again when bulk requests complete within this target.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * No default: if not set, bulk requests always contain up to {@link #INDEXING_MAX_BULK_SIZE} works.
+	 */
+	public static final String INDEXING_BULK_TARGET_LATENCY = "indexing.bulk_target_latency";
+
+	/**
+	 * The maximum number of times an indexing work will be sent again to the Elasticsearch cluster
+	 * after the cluster rejected it because it was temporarily overloaded or unavailable
+	 * (HTTP status 429 or 503).
+	 * <p>
+	 * Only the rejected works of a bulk request are retried, in a new bulk request,
+	 * after a delay that doubles with each retry (see {@link #INDEXING_RETRY_BACKOFF}).
+	 * Works that are still rejected after that many retries are reported as failed.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_RETRIES}.
+	 */
+	public static final String INDEXING_MAX_RETRIES = "indexing.max_retries";
+
+	/**
+	 * The delay before the first retry of indexing works rejected by the Elasticsearch cluster, in milliseconds.
+	 * <p>
+	 * Each subsequent retry waits twice as long as the previous one, up to 30 seconds,
+	 * with some random variation so that rejected works are not all retried at the same time.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_BACKOFF}.
+	 *
+	 * @see #INDEXING_MAX_RETRIES
+	 */
+	public static final String INDEXING_RETRY_BACKOFF = "indexing.retry_backoff";
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -200,9 +320,15 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final int QUERY_MAX_CONCURRENT_REQUESTS = 10;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final long INDEXING_MAX_BULK_BYTES = 5L * 1024 * 1024;
+		public static final int INDEXING_MAX_RETRIES = 3;
+		public static final int INDEXING_RETRY_BACKOFF = 100;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final String DISCOVERY_SCHEME = "http";
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 	}
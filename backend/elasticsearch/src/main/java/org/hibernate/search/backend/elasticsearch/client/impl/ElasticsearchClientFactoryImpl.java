@@ -115,6 +115,12 @@ public BeanHolder<ElasticsearchClientFactory> resolve(BeanResolver beanResolver)
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_SCHEME )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	private final List<ElasticsearchHttpClientConfigurer> httpClientConfigurers;
 
 	public ElasticsearchClientFactoryImpl(
@@ -130,6 +136,7 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		Sniffer sniffer = createSniffer( restClient, propertySource );
 
 		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS,
+				COMPRESSION_ENABLED.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper() );
 	}
 
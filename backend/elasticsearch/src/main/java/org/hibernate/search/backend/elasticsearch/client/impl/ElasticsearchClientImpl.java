@@ -6,13 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -20,10 +22,13 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -51,6 +56,17 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP = "gzip";
+
+	private static final int BODY_BUFFER_SIZE = 8 * 1024;
+
+	private static final RequestOptions ACCEPT_GZIP_OPTIONS;
+	static {
+		RequestOptions.Builder builder = RequestOptions.DEFAULT.toBuilder();
+		builder.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP );
+		ACCEPT_GZIP_OPTIONS = builder.build();
+	}
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -60,17 +76,21 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean compressionEnabled;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	public ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			int requestTimeoutValue, TimeUnit requestTimeoutUnit,
+			boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = Executors.newScheduledThreadPool( "Elasticsearch request timeout executor" );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -100,7 +120,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -150,7 +170,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
@@ -159,36 +179,69 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 		request.setEntity( entity );
 
+		if ( compressionEnabled ) {
+			request.setOptions( ACCEPT_GZIP_OPTIONS );
+		}
+
 		return request;
 	}
 
 	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
+		int statusCode = response.getStatusLine().getStatusCode();
+		String reasonPhrase = response.getStatusLine().getReasonPhrase();
 		try {
-			JsonObject body = parseBody( response );
-			return new ElasticsearchResponse(
-					response.getStatusLine().getStatusCode(),
-					response.getStatusLine().getReasonPhrase(),
-					body );
+			HttpEntity entity = response.getEntity();
+			if ( entity == null ) {
+				return new ElasticsearchResponse( statusCode, reasonPhrase, null );
+			}
+			Charset charset = getCharset( entity );
+			byte[] rawBody = readBody( response, entity );
+			if ( !ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+				// Parse errors right away, so that malformed error responses are reported as such
+				JsonObject body = gson.fromJson( new InputStreamReader( new ByteArrayInputStream( rawBody ), charset ),
+						JsonObject.class );
+				return new ElasticsearchResponse( statusCode, reasonPhrase, body );
+			}
+			/*
+			 * Successful responses are only parsed when the work handles them,
+			 * so that works returning large bodies (e.g. search works) can read them in a streaming fashion
+			 * instead of building the whole JSON tree.
+			 */
+			return new ElasticsearchResponse( statusCode, reasonPhrase, gson, rawBody, charset );
 		}
 		catch (IOException | RuntimeException e) {
-			throw log.failedToParseElasticsearchResponse(
-					response.getStatusLine().getStatusCode(),
-					response.getStatusLine().getReasonPhrase(),
-					e );
+			throw log.failedToParseElasticsearchResponse( statusCode, reasonPhrase, e );
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
-			return null;
+	private static byte[] readBody(Response response, HttpEntity entity) throws IOException {
+		boolean gzipped = isGzipped( response );
+		long contentLength = entity.getContentLength();
+		try ( InputStream inputStream = gzipped ? new GZIPInputStream( entity.getContent() ) : entity.getContent() ) {
+			if ( !gzipped && contentLength >= 0 && contentLength <= Integer.MAX_VALUE ) {
+				// Avoid copying the body around when we know its size in advance
+				byte[] body = new byte[(int) contentLength];
+				int offset = 0;
+				int read;
+				while ( offset < body.length && ( read = inputStream.read( body, offset, body.length - offset ) ) >= 0 ) {
+					offset += read;
+				}
+				return offset == body.length ? body : Arrays.copyOf( body, offset );
+			}
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream( BODY_BUFFER_SIZE );
+			byte[] buffer = new byte[BODY_BUFFER_SIZE];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+			return outputStream.toByteArray();
 		}
+	}
 
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
-		}
+	private static boolean isGzipped(Response response) {
+		// The REST client doesn't decompress responses automatically
+		String contentEncoding = response.getHeader( HttpHeaders.CONTENT_ENCODING );
+		return contentEncoding != null && GZIP.equalsIgnoreCase( contentEncoding.trim() );
 	}
 
 	private static Charset getCharset(HttpEntity entity) {
@@ -13,17 +13,20 @@
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
-import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.HttpHeaders;
 import org.apache.http.nio.ContentEncoder;
 import org.apache.http.nio.IOControl;
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.DigestibleHttpEntity;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -55,14 +58,26 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Finally, when a digest of the content is needed before sending it
+ * (e.g. to sign requests to AWS), the content has to be encoded upfront anyway.
+ * In that case we keep the encoded bytes and send them as-is,
+ * so as to avoid encoding large bulks twice.
+ *
+ * Content can optionally be compressed using GZIP.
+ * Compression happens as the content is produced, one buffer page at a time
+ * (see {@link GzipContentEncoder}), so compressed content is never buffered entirely either.
+ * Small messages are compressed upfront, so that we can report the content length.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
-final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+final class GsonHttpEntity implements DigestibleHttpEntity, HttpAsyncContentProducer {
 
 	private static final Charset CHARSET = StandardCharsets.UTF_8;
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HttpHeaders.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -80,8 +95,17 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 */
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
+	/**
+	 * The size of pages in {@link PagedByteArrayOutputStream},
+	 * used to retain the fully encoded content when a digest is requested.
+	 * These pages live as long as the request, so they can be larger than
+	 * the short-lived pages of {@link ProgressiveCharBufferWriter}.
+	 */
+	private static final int ENCODED_CONTENT_PAGE_SIZE = 16 * BYTE_BUFFER_PAGE_SIZE;
+
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean gzip;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -121,11 +145,31 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
+	/**
+	 * The fully encoded content, if it had to be computed upfront for {@link #updateDigest(MessageDigest)};
+	 * {@code null} otherwise.
+	 * When set, content is written from these bytes instead of being encoded again.
+	 */
+	private PagedByteArrayOutputStream encodedContent;
+
+	/**
+	 * Compresses the output of {@link #writer} when producing GZIP content,
+	 * created lazily the first time content is produced; {@code null} otherwise.
+	 * We keep this as a field level attribute as it might hold compressed bytes
+	 * while flow control refuses to accept more bytes.
+	 */
+	private GzipContentEncoder gzipEncoder;
+
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.gzip = gzip;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -153,8 +197,8 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently this is the correct value when not compressing:
+		return gzip ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
@@ -165,8 +209,20 @@ public InputStream getContent() {
 				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
 	}
 
+	@Override
+	public void updateDigest(MessageDigest digest) throws IOException {
+		if ( encodedContent == null ) {
+			encodeContentUpfront();
+		}
+		encodedContent.updateDigest( digest );
+	}
+
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
+		if ( encodedContent != null ) {
+			encodedContent.writeTo( out );
+			return;
+		}
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
@@ -174,12 +230,17 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
+		OutputStream contentStream = gzip ? new NonClosingGzipOutputStream( countingStream ) : countingStream;
+		Writer writer = new OutputStreamWriter( contentStream, CHARSET );
 		for ( JsonObject bodyPart : bodyParts ) {
 			gson.toJson( bodyPart, writer );
 			writer.append( '\n' );
 		}
 		writer.flush();
+		if ( gzip ) {
+			// Writes the end of the compressed stream, without closing the output stream
+			contentStream.close();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -201,6 +262,13 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		if ( gzipEncoder != null ) {
+			gzipEncoder.close();
+			gzipEncoder = null;
+		}
+		if ( encodedContent != null ) {
+			encodedContent.rewind();
+		}
 	}
 
 	/**
@@ -219,6 +287,11 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+			if ( gzip ) {
+				// The content is small: compress it right away, so that we know the compressed length.
+				encodeContentUpfront();
+				return;
+			}
 			writer.flush();
 			// The buffer's current content size is the final content size,
 			// as we know the entire content has been encoded already,
@@ -227,6 +300,12 @@ private void attemptOnePassEncoding() throws IOException {
 		}
 	}
 
+	private void encodeContentUpfront() throws IOException {
+		PagedByteArrayOutputStream stream = new PagedByteArrayOutputStream( ENCODED_CONTENT_PAGE_SIZE );
+		writeTo( stream );
+		encodedContent = stream;
+	}
+
 	/**
 	 * Higher level write loop. It will start writing the JSON objects
 	 * from either the  beginning or the next object which wasn't written yet
@@ -255,8 +334,25 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		if ( encodedContent != null ) {
+			// The content was already encoded to compute a digest: just send the resulting bytes.
+			if ( encodedContent.produceContent( encoder ) ) {
+				encoder.complete();
+			}
+			return;
+		}
+
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( gzip ) {
+			if ( gzipEncoder == null ) {
+				gzipEncoder = new GzipContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+			}
+			gzipEncoder.setOutput( encoder );
+			writer.setOutput( gzipEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -276,8 +372,16 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		// Completing the compressing encoder completes the underlying encoder
+		ContentEncoder outputEncoder = gzipEncoder != null ? gzipEncoder : encoder;
+		outputEncoder.complete();
+		if ( !outputEncoder.isCompleted() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
 		// If we haven't aborted yet, we finished!
-		encoder.complete();
+		//The next rendering, if any, will need a new compressed stream
+		gzipEncoder = null;
 
 		// Design note: we could finally know the content length in bytes at this point
 		// (we had an accumulator in previous versions) but that's always pointless
@@ -293,4 +397,24 @@ private void hintContentLength(long contentLength) {
 		}
 	}
 
+	/**
+	 * A GZIP stream that does not close the underlying stream when closed,
+	 * but still releases its native resources.
+	 */
+	private static final class NonClosingGzipOutputStream extends GZIPOutputStream {
+		private NonClosingGzipOutputStream(OutputStream out) throws IOException {
+			super( out, BYTE_BUFFER_PAGE_SIZE );
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				finish();
+			}
+			finally {
+				def.end();
+			}
+		}
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} compressing content in the GZIP format
+ * before passing it to another {@link ContentEncoder}.
+ * <p>
+ * Content is compressed as it is written, buffer by buffer,
+ * so that compressing a large request does not require holding its whole content in memory.
+ * <p>
+ * When flow control pushes back, compressed bytes that could not be written are kept aside,
+ * and no more content is accepted until they have been written:
+ * thus at most the compressed form of a single buffer is held in memory.
+ * <p>
+ * Since the end of the compressed stream may not be accepted by the output all at once,
+ * {@link #complete()} may have to be called multiple times:
+ * the output is only completed once it accepted all the compressed content,
+ * which can be checked with {@link #isCompleted()}.
+ */
+final class GzipContentEncoder implements ContentEncoder {
+
+	private static final byte[] HEADER = {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
+	private static final int TRAILER_SIZE = 8;
+
+	private final Deflater deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+	private final CRC32 crc = new CRC32();
+	private final byte[] deflateBuffer;
+
+	/**
+	 * Compressed content waiting to be written to the output, between {@link #pendingStart} and {@link #pendingEnd}.
+	 */
+	private byte[] pending;
+	private int pendingStart = 0;
+	private int pendingEnd = 0;
+
+	private ContentEncoder output;
+	private boolean headerWritten = false;
+	private boolean finishing = false;
+
+	GzipContentEncoder(int bufferSize) {
+		this.deflateBuffer = new byte[bufferSize];
+		this.pending = new byte[bufferSize];
+	}
+
+	/**
+	 * Set the encoder to write compressed content to.
+	 * Must be called before writing is started and each time it's resumed,
+	 * as the encoder might change between writes.
+	 */
+	void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( finishing ) {
+			throw new IllegalStateException( "Cannot write content after complete() was called" );
+		}
+		if ( !flushPending() ) {
+			// Flow control is pushing back: don't accept more content until the output accepts ours.
+			return 0;
+		}
+		int length = src.remaining();
+		if ( length == 0 ) {
+			return 0;
+		}
+		writeHeaderIfNecessary();
+		byte[] array;
+		int offset;
+		if ( src.hasArray() ) {
+			array = src.array();
+			offset = src.arrayOffset() + src.position();
+		}
+		else {
+			array = new byte[length];
+			src.duplicate().get( array );
+			offset = 0;
+		}
+		crc.update( array, offset, length );
+		deflater.setInput( array, offset, length );
+		while ( !deflater.needsInput() ) {
+			deflate();
+		}
+		src.position( src.limit() );
+		flushPending();
+		return length;
+	}
+
+	/**
+	 * Release the native resources held by this encoder, in case {@link #complete()} was not called.
+	 */
+	void close() {
+		deflater.end();
+	}
+
+	/**
+	 * End the compressed stream, write the remaining compressed content to the output,
+	 * then complete the output.
+	 * <p>
+	 * Flow control may push back, in which case the output is not completed yet
+	 * and this method should be called again later, until {@link #isCompleted()} returns {@code true}.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} or {@link ContentEncoder#complete()} fails.
+	 */
+	@Override
+	public void complete() throws IOException {
+		if ( !finishing ) {
+			finishing = true;
+			writeHeaderIfNecessary();
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflate();
+			}
+			ensurePendingCapacity( TRAILER_SIZE );
+			writeIntLittleEndian( (int) crc.getValue() );
+			writeIntLittleEndian( (int) deflater.getBytesRead() );
+			deflater.end();
+		}
+		if ( flushPending() && !output.isCompleted() ) {
+			output.complete();
+		}
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return finishing && pendingStart == pendingEnd && output.isCompleted();
+	}
+
+	private void writeHeaderIfNecessary() {
+		if ( !headerWritten ) {
+			headerWritten = true;
+			ensurePendingCapacity( HEADER.length );
+			System.arraycopy( HEADER, 0, pending, pendingEnd, HEADER.length );
+			pendingEnd += HEADER.length;
+		}
+	}
+
+	private void deflate() {
+		int deflated = deflater.deflate( deflateBuffer );
+		if ( deflated > 0 ) {
+			ensurePendingCapacity( deflated );
+			System.arraycopy( deflateBuffer, 0, pending, pendingEnd, deflated );
+			pendingEnd += deflated;
+		}
+	}
+
+	private void writeIntLittleEndian(int value) {
+		pending[pendingEnd++] = (byte) value;
+		pending[pendingEnd++] = (byte) ( value >> 8 );
+		pending[pendingEnd++] = (byte) ( value >> 16 );
+		pending[pendingEnd++] = (byte) ( value >> 24 );
+	}
+
+	private void ensurePendingCapacity(int additionalBytes) {
+		int pendingLength = pendingEnd - pendingStart;
+		if ( pendingEnd + additionalBytes <= pending.length ) {
+			return;
+		}
+		byte[] target = pending;
+		if ( pendingLength + additionalBytes > pending.length ) {
+			target = new byte[Math.max( pending.length * 2, pendingLength + additionalBytes )];
+		}
+		System.arraycopy( pending, pendingStart, target, 0, pendingLength );
+		pending = target;
+		pendingStart = 0;
+		pendingEnd = pendingLength;
+	}
+
+	/**
+	 * @return {@code true} if all pending content was written, {@code false} if flow control pushed back.
+	 */
+	private boolean flushPending() throws IOException {
+		int toWrite = pendingEnd - pendingStart;
+		// We should never do 0-length writes, see HSEARCH-2854
+		if ( toWrite == 0 ) {
+			return true;
+		}
+		int written = output.write( ByteBuffer.wrap( pending, pendingStart, toWrite ) );
+		pendingStart += written;
+		if ( pendingStart == pendingEnd ) {
+			pendingStart = 0;
+			pendingEnd = 0;
+			return true;
+		}
+		return false;
+	}
+}
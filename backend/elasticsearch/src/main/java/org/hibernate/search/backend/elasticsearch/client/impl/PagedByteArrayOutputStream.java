@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * An output stream retaining everything written to it in memory, in fixed-size pages,
+ * so that the same bytes can later be consumed multiple times.
+ * <p>
+ * Unlike {@link java.io.ByteArrayOutputStream}, pages are never resized,
+ * which avoids copying the whole content over and over again when it grows large.
+ * <p>
+ * The content can be produced to a non-blocking {@link ContentEncoder} in multiple steps,
+ * to accommodate flow control: see {@link #produceContent(ContentEncoder)}.
+ */
+final class PagedByteArrayOutputStream extends OutputStream {
+
+	private final int pageSize;
+	private final List<byte[]> pages = new ArrayList<>();
+
+	private byte[] currentPage;
+	private int currentPageLength;
+	private long size = 0L;
+
+	/**
+	 * Index of the next page to produce in {@link #produceContent(ContentEncoder)}.
+	 */
+	private int nextPageToProduceIndex = 0;
+
+	/**
+	 * The page that flow control prevented us from producing entirely, if any.
+	 */
+	private ByteBuffer pageBeingProduced;
+
+	PagedByteArrayOutputStream(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCurrentPageHasRoom();
+		currentPage[currentPageLength++] = (byte) b;
+		++size;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		int remaining = len;
+		int offset = off;
+		while ( remaining > 0 ) {
+			ensureCurrentPageHasRoom();
+			int toCopy = Math.min( remaining, pageSize - currentPageLength );
+			System.arraycopy( b, offset, currentPage, currentPageLength, toCopy );
+			currentPageLength += toCopy;
+			offset += toCopy;
+			remaining -= toCopy;
+		}
+		size += len;
+	}
+
+	/**
+	 * @return The number of bytes written to this stream.
+	 */
+	long size() {
+		return size;
+	}
+
+	void updateDigest(MessageDigest digest) {
+		for ( int i = 0; i < pages.size(); i++ ) {
+			digest.update( pages.get( i ), 0, getPageLength( i ) );
+		}
+	}
+
+	void writeTo(OutputStream out) throws IOException {
+		for ( int i = 0; i < pages.size(); i++ ) {
+			out.write( pages.get( i ), 0, getPageLength( i ) );
+		}
+	}
+
+	/**
+	 * Write as much of the content as the encoder accepts,
+	 * resuming from where the previous call stopped.
+	 *
+	 * @param encoder The encoder to write to.
+	 * @return {@code true} if the whole content has been written,
+	 * in which case the next call will start again from the beginning;
+	 * {@code false} if flow control pushed back and this method must be called again.
+	 * @throws IOException If the encoder fails.
+	 */
+	boolean produceContent(ContentEncoder encoder) throws IOException {
+		while ( true ) {
+			if ( pageBeingProduced == null || !pageBeingProduced.hasRemaining() ) {
+				if ( nextPageToProduceIndex >= pages.size() ) {
+					rewind();
+					return true;
+				}
+				// Pages are only created when something is written to them: they are never empty.
+				// This is important, because we must never do 0-length writes, see HSEARCH-2854.
+				pageBeingProduced = ByteBuffer.wrap(
+						pages.get( nextPageToProduceIndex ), 0, getPageLength( nextPageToProduceIndex )
+				);
+				++nextPageToProduceIndex;
+			}
+			encoder.write( pageBeingProduced );
+			if ( pageBeingProduced.hasRemaining() ) {
+				// Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Make sure the next call to {@link #produceContent(ContentEncoder)} starts from the beginning.
+	 */
+	void rewind() {
+		nextPageToProduceIndex = 0;
+		pageBeingProduced = null;
+	}
+
+	private void ensureCurrentPageHasRoom() {
+		if ( currentPage == null || currentPageLength == pageSize ) {
+			currentPage = new byte[pageSize];
+			currentPageLength = 0;
+			pages.add( currentPage );
+		}
+	}
+
+	private int getPageLength(int index) {
+		return index == pages.size() - 1 ? currentPageLength : pageSize;
+	}
+
+}
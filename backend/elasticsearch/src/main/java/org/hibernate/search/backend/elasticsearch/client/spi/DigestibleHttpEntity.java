@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+
+import org.apache.http.HttpEntity;
+
+/**
+ * An {@link HttpEntity} able to feed its content to a {@link MessageDigest}
+ * without encoding that content again when it is eventually sent.
+ * <p>
+ * Useful for request interceptors that need to sign the request payload,
+ * such as the one required to connect to an AWS-hosted Elasticsearch cluster.
+ */
+public interface DigestibleHttpEntity extends HttpEntity {
+
+	/**
+	 * Update the given digest with the content of this entity.
+	 * <p>
+	 * The content is encoded at most once over the lifetime of the entity:
+	 * after this method has been called, the encoded bytes are retained
+	 * and used as-is when the content is written,
+	 * and {@link #getContentLength()} reports their exact length.
+	 *
+	 * @param digest The digest to update.
+	 * @throws IOException If encoding the content fails.
+	 */
+	void updateDigest(MessageDigest digest) throws IOException;
+
+}
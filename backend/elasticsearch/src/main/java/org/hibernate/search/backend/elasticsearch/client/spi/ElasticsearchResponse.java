@@ -6,7 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 
 public final class ElasticsearchResponse {
@@ -15,15 +23,44 @@ public final class ElasticsearchResponse {
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final Gson gson;
+
+	private final byte[] rawBody;
+
+	private final Charset rawBodyCharset;
+
+	private volatile JsonObject body;
 
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
 		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.gson = null;
+		this.rawBody = null;
+		this.rawBodyCharset = null;
 		this.body = body;
 	}
 
+	/**
+	 * Create a response whose body will only be parsed when needed,
+	 * either as a whole by {@link #getBody()} or in a streaming fashion through {@link #getBodyReader()}.
+	 *
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param gson The Gson instance to parse the body with.
+	 * @param rawBody The body, as sent by Elasticsearch.
+	 * @param rawBodyCharset The charset of {@code rawBody}.
+	 */
+	public ElasticsearchResponse(int statusCode, String statusMessage,
+			Gson gson, byte[] rawBody, Charset rawBodyCharset) {
+		super();
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+	}
+
 	public int getStatusCode() {
 		return statusCode;
 	}
@@ -32,8 +69,36 @@ public String getStatusMessage() {
 		return statusMessage;
 	}
 
+	/**
+	 * @return The body of the response as a JSON tree, or {@code null} if there is no body.
+	 * When the response was created from a raw body, the tree is built on the first call.
+	 */
 	public JsonObject getBody() {
-		return body;
+		JsonObject result = body;
+		if ( result == null && rawBody != null ) {
+			result = gson.fromJson( createRawBodyReader(), JsonObject.class );
+			body = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @return A new reader over the body of the response, or {@code null} if there is no body.
+	 * Useful to extract data from large responses without building the whole JSON tree first.
+	 */
+	public JsonReader getBodyReader() {
+		if ( rawBody != null ) {
+			return gson.newJsonReader( createRawBodyReader() );
+		}
+		JsonObject result = body;
+		if ( result != null ) {
+			return new JsonReader( new StringReader( result.toString() ) );
+		}
+		return null;
+	}
+
+	private Reader createRawBodyReader() {
+		return new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset );
 	}
 
 }
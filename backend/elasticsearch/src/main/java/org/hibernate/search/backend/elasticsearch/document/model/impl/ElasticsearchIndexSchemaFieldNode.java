@@ -6,14 +6,22 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.model.impl;
 
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
 public class ElasticsearchIndexSchemaFieldNode<F> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchIndexSchemaObjectNode parent;
 
 	private final String absolutePath;
@@ -30,12 +38,15 @@
 
 	private final ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory;
 
+	private final ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	public ElasticsearchIndexSchemaFieldNode(ElasticsearchIndexSchemaObjectNode parent, String relativeFieldName,
 			boolean multiValued,
 			ElasticsearchFieldCodec<F> codec,
 			ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory,
 			ElasticsearchFieldSortBuilderFactory sortBuilderFactory,
-			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory) {
+			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory,
+			ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory) {
 		this.parent = parent;
 		this.absolutePath = parent.getAbsolutePath( relativeFieldName );
 		this.nestedPath = parent.getNestedPath();
@@ -43,6 +54,7 @@ public ElasticsearchIndexSchemaFieldNode(ElasticsearchIndexSchemaObjectNode pare
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.multiValued = multiValued;
 	}
 
@@ -81,6 +93,13 @@ public ElasticsearchFieldProjectionBuilderFactory getProjectionBuilderFactory()
 		return projectionBuilderFactory;
 	}
 
+	public ElasticsearchFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		if ( aggregationBuilderFactory == null ) {
+			throw log.unsupportedDSLAggregations( EventContexts.fromIndexFieldAbsolutePath( absolutePath ) );
+		}
+		return aggregationBuilderFactory;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() ).append( "[" )
@@ -88,6 +107,7 @@ public String toString() {
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortBuilderFactory=" ).append( sortBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( "]" );
 		return sb.toString();
 	}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of JSON elements once serialized, without actually serializing them.
+ * <p>
+ * The estimate counts one byte per character and ignores escaping,
+ * so it is only an approximation for content with many non-ASCII or special characters,
+ * but it is much cheaper to compute than the actual serialized form.
+ */
+public final class JsonSizeEstimator {
+
+	private JsonSizeEstimator() {
+		// Private constructor, do not use.
+	}
+
+	/**
+	 * @param element A JSON element, or {@code null}.
+	 * @return An estimate of the size of the element once serialized to compact JSON, in bytes.
+	 */
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			return estimate( element.getAsJsonObject() );
+		}
+		else if ( element.isJsonArray() ) {
+			return estimate( element.getAsJsonArray() );
+		}
+		else {
+			return estimate( element.getAsJsonPrimitive() );
+		}
+	}
+
+	private static long estimate(JsonObject object) {
+		long size = 2; // {}
+		for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+			// "key": value,
+			size += entry.getKey().length() + 4 + estimate( entry.getValue() );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonArray array) {
+		long size = 2; // []
+		for ( JsonElement element : array ) {
+			// value,
+			size += 1 + estimate( element );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonPrimitive primitive) {
+		if ( primitive.isString() ) {
+			return primitive.getAsString().length() + 2; // "value"
+		}
+		else {
+			return primitive.getAsString().length();
+		}
+	}
+
+}
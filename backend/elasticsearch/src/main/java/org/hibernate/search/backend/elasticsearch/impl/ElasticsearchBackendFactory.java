@@ -37,6 +37,7 @@
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
@@ -66,6 +67,46 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_MAX_CONCURRENT_REQUESTS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_MAX_CONCURRENT_REQUESTS )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_MAX_CONCURRENT_REQUESTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> INDEXING_BULK_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_TARGET_LATENCY )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_RETRY_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_RETRY_BACKOFF )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_RETRY_BACKOFF )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends ElasticsearchClientFactory>> CLIENT_FACTORY =
 			ConfigurationProperty.forKey( ElasticsearchBackendSpiSettings.CLIENT_FACTORY )
 					.asBeanReference( ElasticsearchClientFactory.class )
@@ -128,7 +169,32 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 					typeFactoryProvider,
 					userFacingGson,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					THREAD_POOL_SIZE.get( propertySource ).orElse( Runtime.getRuntime().availableProcessors() ),
+					QUERY_MAX_CONCURRENT_REQUESTS.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					INDEXING_MAX_BULK_SIZE.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					INDEXING_MAX_BULK_BYTES.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					INDEXING_BULK_TARGET_LATENCY.getAndTransform( propertySource, optional -> {
+						optional.ifPresent( value -> Contracts.assertStrictlyPositive( value, "value" ) );
+						return optional.orElse( null );
+					} ),
+					INDEXING_MAX_RETRIES.getAndTransform( propertySource, value -> {
+						Contracts.assertPositiveOrZero( value, "value" );
+						return value;
+					} ),
+					INDEXING_RETRY_BACKOFF.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} )
 			);
 		}
 		catch (RuntimeException e) {
@@ -67,19 +67,28 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			ElasticsearchIndexFieldTypeFactoryProvider typeFactoryProvider,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int threadPoolSize, int queryMaxConcurrentRequests,
+			int maxBulkSize, long maxBulkBytes, Integer bulkTargetLatencyMs,
+			int maxRetries, int retryBackoffMs) {
 		this.link = link;
 		this.name = name;
 
 		this.orchestratorProvider = new ElasticsearchWorkOrchestratorProvider(
 				"Elasticsearch parallel work orchestrator for backend " + name,
+				"Elasticsearch work executor for backend " + name,
+				threadPoolSize,
 				link,
 				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
-				new LogErrorHandler()
+				new LogErrorHandler(),
+				maxBulkSize, maxBulkBytes, bulkTargetLatencyMs,
+				"Elasticsearch retry scheduler for backend " + name, maxRetries, retryBackoffMs
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.queryOrchestrator = orchestratorProvider.createParallelOrchestrator( "Elasticsearch query orchestrator for backend " + name );
+		this.queryOrchestrator = orchestratorProvider.createDirectOrchestrator(
+				"Elasticsearch query orchestrator for backend " + name, queryMaxConcurrentRequests
+		);
 
 		this.typeFactoryProvider = typeFactoryProvider;
 
@@ -36,11 +36,21 @@ public static String formatResponse(ElasticsearchResponse response) {
 				.append( " '" )
 				.append( response.getStatusMessage() )
 				.append( "' with body " )
-				.append( helper.toString( response.getBody() ) );
+				.append( formatBody( helper, response ) );
 
 		return sb.toString();
 	}
 
+	private static String formatBody(JsonLogHelper helper, ElasticsearchResponse response) {
+		try {
+			return helper.toString( response.getBody() );
+		}
+		catch (RuntimeException e) {
+			// Successful responses are parsed lazily: the body may turn out to be malformed
+			return "(unparseable: " + e.getMessage() + ")";
+		}
+	}
+
 	@Override
 	public String toString() {
 		return stringRepresentation;
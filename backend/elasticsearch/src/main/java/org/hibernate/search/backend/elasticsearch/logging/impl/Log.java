@@ -17,18 +17,22 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.scope.spi.IndexScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.jboss.logging.BasicLogger;
@@ -532,4 +536,49 @@ SearchException unexpectedElasticsearchVersion(ElasticsearchVersion configuredVe
 
 	@Message(id = ID_OFFSET_3 + 75, value = "Multiple conflicting nested document paths to build a projection for field '%1$s'. '%2$s' vs. '%3$s'.")
 	SearchException conflictingNestedDocumentPathsForProjection(String absoluteFieldPath, String nestedDocumentPath1, String nestedDocumentPath2, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 76, value = "Cannot fetch the next chunk of hits: this scroll was closed.")
+	SearchException searchScrollClosed();
+
+	@Message(id = ID_OFFSET_3 + 77,
+			value = "This field does not support defining aggregations with the DSL."
+					+ " Aggregations are not available for geo-point fields.")
+	SearchException unsupportedDSLAggregations(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 78,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			ElasticsearchFieldAggregationBuilderFactory component1, ElasticsearchFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 79,
+			value = "An Elasticsearch query cannot include search aggregations built using a non-Elasticsearch search scope."
+					+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixElasticsearchSearchAggregationWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_3 + 80, value = "The aggregation '%1$s' is defined on a scope targeting different indexes."
+			+ " Aggregation is targeting: '%2$s'. Current scope is targeting: '%3$s'.")
+	SearchException aggregationDefinedOnDifferentIndexes(SearchAggregation<?> aggregation,
+			Set<String> aggregationIndexes, Set<String> scopeIndexes);
+
+	@Message(id = ID_OFFSET_3 + 81,
+			value = "Aggregations are not enabled for field '%1$s'."
+					+ " Aggregations rely on doc values: make sure the field is marked as sortable.")
+	SearchException nonAggregableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 82, value = "Invalid type '%2$s' for aggregation on field '%1$s'."
+			+ " Aggregations work on index values: the expected type must be the type of the field in the index,"
+			+ " before any conversion.")
+	SearchException invalidAggregationInvalidType(String absoluteFieldPath,
+			@FormatWith(ClassFormatter.class) Class<?> type,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 83, value = "Aggregation '%1$s' is not supported by this field's type.")
+	SearchException aggregationNotSupportedByFieldType(String aggregationType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 84, value = "Query '%2$s' exceeded the timeout of %1$s.")
+	SearchTimeoutException searchTimedOut(SearchTimeout timeout, String query);
+
+	@Message(id = ID_OFFSET_3 + 85, value = "The thread was interrupted while waiting for the results of query '%1$s'.")
+	SearchException threadInterruptedWhileWaitingForSearchResults(String query);
 }
@@ -41,6 +41,12 @@ public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
 	}
 
 	interface ElasticsearchWorkSet extends BatchingExecutor.WorkSet<ElasticsearchWorkProcessor> {
+
+		/**
+		 * @return A future that will be completed when all works of this workset have been executed.
+		 */
+		CompletableFuture<?> getFuture();
+
 	}
 
 	static class ElasticsearchMultipleWorkSet implements ElasticsearchWorkSet {
@@ -61,6 +67,11 @@ public void submitTo(ElasticsearchWorkProcessor delegate) {
 		public void markAsFailed(Throwable t) {
 			future.completeExceptionally( t );
 		}
+
+		@Override
+		public CompletableFuture<?> getFuture() {
+			return future;
+		}
 	}
 
 	static class ElasticsearchSingleWorkSet<T> implements ElasticsearchWorkSet {
@@ -81,6 +92,11 @@ public void submitTo(ElasticsearchWorkProcessor delegate) {
 		public void markAsFailed(Throwable t) {
 			future.completeExceptionally( t );
 		}
+
+		@Override
+		public CompletableFuture<?> getFuture() {
+			return future;
+		}
 	}
 
 }
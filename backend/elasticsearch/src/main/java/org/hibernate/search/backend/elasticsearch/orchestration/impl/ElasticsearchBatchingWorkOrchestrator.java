@@ -7,6 +7,11 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -31,10 +36,12 @@ class ElasticsearchBatchingWorkOrchestrator extends AbstractElasticsearchWorkOrc
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final BatchingExecutor<ElasticsearchWorkSet, ElasticsearchWorkProcessor> executor;
+	private final ExecutorService workExecutor;
 
 	/**
-	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param name The name of this orchestrator when reporting errors
 	 * @param processor A work processor to use in the background thread.
+	 * @param workExecutor An executor to process batches of works with, possibly shared with other orchestrators.
 	 * @param maxWorksetsPerBatch The maximum number of worksets to
 	 * process in a single batch. Higher values mean lesser chance of transport
 	 * thread starvation, but higher heap consumption.
@@ -44,10 +51,11 @@ class ElasticsearchBatchingWorkOrchestrator extends AbstractElasticsearchWorkOrc
 	 * @param errorHandler An error handler to report failures of the background thread.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
-			String name, ElasticsearchWorkProcessor processor,
+			String name, ElasticsearchWorkProcessor processor, ExecutorService workExecutor,
 			int maxWorksetsPerBatch, boolean fair,
 			ErrorHandler errorHandler) {
 		super( name );
+		this.workExecutor = workExecutor;
 		this.executor = new BatchingExecutor<>(
 				name, processor, maxWorksetsPerBatch, fair,
 				errorHandler
@@ -56,7 +64,7 @@ public ElasticsearchBatchingWorkOrchestrator(
 
 	@Override
 	public void start() {
-		executor.start();
+		executor.start( workExecutor );
 	}
 
 	/**
@@ -66,7 +74,7 @@ public void start() {
 	 * will be executed by the same background thread.
 	 * <p>
 	 * Closing the child will not close the parent,
-	 * but will make the current thread wait for the completion of previously submitted works,
+	 * but will make the current thread wait for the completion of works previously submitted through the child,
 	 * and will prevent any more work to be submitted through the child.
 	 *
 	 * @param name The name of the child orchestrator when reporting errors
@@ -101,6 +109,13 @@ private void awaitCompletionBeforeClose() {
 	private class ElasticsearchChildBatchingWorkOrchestrator extends AbstractElasticsearchWorkOrchestrator
 			implements ElasticsearchWorkOrchestratorImplementor {
 
+		/*
+		 * Futures of worksets submitted through this child and not completed yet.
+		 * Allows to wait for the completion of this child's worksets only,
+		 * instead of waiting for the parent's executor to be idle.
+		 */
+		private final Set<CompletableFuture<?>> pendingWorkSetFutures = ConcurrentHashMap.newKeySet();
+
 		protected ElasticsearchChildBatchingWorkOrchestrator(String name) {
 			super( name );
 		}
@@ -113,15 +128,29 @@ public void start() {
 		@Override
 		protected void doSubmit(ElasticsearchWorkSet workSet) {
 			ElasticsearchBatchingWorkOrchestrator.this.submit( workSet );
+			/*
+			 * Track the workset only once it was successfully submitted.
+			 * This is executed while holding the shutdown lock of this child,
+			 * so doClose() cannot miss this workset.
+			 */
+			CompletableFuture<?> future = workSet.getFuture();
+			pendingWorkSetFutures.add( future );
+			future.whenComplete( (result, throwable) -> pendingWorkSetFutures.remove( future ) );
 		}
 
 		@Override
 		protected void doClose() {
-			/*
-			 * TODO HSEARCH-3576 this will wait for *all* tasks to finish, including tasks from other children.
-			 *  We should do better, see BatchingExecutor.awaitCompletion.
-			 */
-			ElasticsearchBatchingWorkOrchestrator.this.awaitCompletionBeforeClose();
+			CompletableFuture<?>[] futures = pendingWorkSetFutures.toArray( new CompletableFuture<?>[0] );
+			try {
+				CompletableFuture.allOf( futures ).get();
+			}
+			catch (ExecutionException e) {
+				// Failures are reported to whoever submitted the worksets: just ignore them.
+			}
+			catch (InterruptedException e) {
+				log.interruptedWhileWaitingForIndexActivity( getName(), e );
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
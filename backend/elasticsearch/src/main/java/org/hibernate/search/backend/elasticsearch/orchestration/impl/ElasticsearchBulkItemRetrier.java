@@ -0,0 +1,275 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Retries bulked works that Elasticsearch rejected because it was temporarily overloaded or unavailable
+ * (see {@link BulkResult#isItemRejected(int)}).
+ * <p>
+ * After a bulk is executed, rejected items are sent again in a new bulk containing only those items,
+ * after a delay that grows exponentially with each attempt and includes some random jitter,
+ * so that multiple bulks rejected at the same time do not overwhelm the cluster again at the same time.
+ * Items that are still rejected after the maximum number of retries are reported as failures, as usual.
+ * <p>
+ * The number of items waiting to be retried is limited across the whole backend:
+ * when that budget is exhausted, rejected items are reported as failures immediately,
+ * so that a saturated cluster does not lead to an unbounded amount of retried works.
+ * <p>
+ * Retries happen as part of the bulk execution, and thus delay the end of the current batch of works.
+ * Since orchestrators only process one batch at a time and have bounded queues,
+ * this naturally slows down submitters while the cluster is saturated.
+ */
+public class ElasticsearchBulkItemRetrier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long MAX_BACKOFF_MS = TimeUnit.SECONDS.toMillis( 30 );
+
+	private final ScheduledExecutorService scheduler;
+	private final int maxRetries;
+	private final long initialBackoffMs;
+	private final int retryBudget;
+
+	private final AtomicInteger itemsPendingRetry = new AtomicInteger( 0 );
+
+	/**
+	 * @param scheduler An executor to schedule retries with.
+	 * @param maxRetries The maximum number of times a single item will be retried. {@code 0} disables retries.
+	 * @param initialBackoffMs The delay before the first retry, in milliseconds.
+	 * Each subsequent retry waits twice as long as the previous one, up to 30 seconds.
+	 * @param retryBudget The maximum number of items waiting to be retried at any given time.
+	 */
+	public ElasticsearchBulkItemRetrier(ScheduledExecutorService scheduler,
+			int maxRetries, long initialBackoffMs, int retryBudget) {
+		this.scheduler = scheduler;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMs = initialBackoffMs;
+		this.retryBudget = retryBudget;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxRetries=" + maxRetries
+				+ ", initialBackoffMs=" + initialBackoffMs
+				+ ", retryBudget=" + retryBudget
+				+ ", itemsPendingRetry=" + itemsPendingRetry.get()
+				+ "]";
+	}
+
+	/**
+	 * @param bulkWork A bulk work about to be added to a sequence.
+	 * @param bulkedWorks The works in the bulk, in order.
+	 * @param retryBulkWorkFactory A factory for bulk works containing only some of the bulked works,
+	 * to be used for retries.
+	 * @return The work to actually execute:
+	 * either {@code bulkWork} itself, or a wrapper retrying rejected items.
+	 */
+	ElasticsearchWork<BulkResult> decorate(ElasticsearchWork<BulkResult> bulkWork,
+			List<BulkableElasticsearchWork<?>> bulkedWorks,
+			Function<List<BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> retryBulkWorkFactory) {
+		if ( maxRetries <= 0 ) {
+			return bulkWork;
+		}
+		return new RetryingBulkWork( bulkWork, new ArrayList<>( bulkedWorks ), retryBulkWorkFactory );
+	}
+
+	int getItemsPendingRetry() {
+		return itemsPendingRetry.get();
+	}
+
+	private long computeBackoffMs(int attempt) {
+		// Exponential backoff: initial, then twice, four times, ... the initial delay.
+		long backoff = initialBackoffMs << Math.min( attempt - 1, 30 );
+		if ( backoff <= 0 || backoff > MAX_BACKOFF_MS ) {
+			backoff = MAX_BACKOFF_MS;
+		}
+		// Jitter: wait between half the backoff and the full backoff.
+		long half = backoff / 2;
+		return half + ThreadLocalRandom.current().nextLong( backoff - half + 1 );
+	}
+
+	private boolean tryReserveBudget(int itemCount) {
+		while ( true ) {
+			int current = itemsPendingRetry.get();
+			if ( current + itemCount > retryBudget ) {
+				return false;
+			}
+			if ( itemsPendingRetry.compareAndSet( current, current + itemCount ) ) {
+				return true;
+			}
+		}
+	}
+
+	private CompletableFuture<Void> delay(long delayMs) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		scheduler.schedule( () -> future.complete( null ), delayMs, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	private final class RetryingBulkWork implements ElasticsearchWork<BulkResult> {
+		private final ElasticsearchWork<BulkResult> delegate;
+		private final List<BulkableElasticsearchWork<?>> bulkedWorks;
+		private final Function<List<BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> retryBulkWorkFactory;
+
+		private RetryingBulkWork(ElasticsearchWork<BulkResult> delegate,
+				List<BulkableElasticsearchWork<?>> bulkedWorks,
+				Function<List<BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> retryBulkWorkFactory) {
+			this.delegate = delegate;
+			this.bulkedWorks = bulkedWorks;
+			this.retryBulkWorkFactory = retryBulkWorkFactory;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			return delegate.execute( context )
+					.thenCompose( result -> retryRejectedItems(
+							context, new RetriedBulkResult( result, bulkedWorks.size() ), 1
+					) );
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+			return aggregator.addNonBulkable( this );
+		}
+
+		@Override
+		public Object getInfo() {
+			return delegate.getInfo();
+		}
+
+		private CompletableFuture<BulkResult> retryRejectedItems(ElasticsearchWorkExecutionContext context,
+				RetriedBulkResult result, int attempt) {
+			List<Integer> rejectedIndexes = result.getRejectedItemIndexes();
+			if ( rejectedIndexes.isEmpty() ) {
+				return CompletableFuture.completedFuture( result );
+			}
+			if ( attempt > maxRetries ) {
+				log.debugf( "Giving up on %d bulked works rejected by Elasticsearch after %d retries",
+						rejectedIndexes.size(), maxRetries );
+				return CompletableFuture.completedFuture( result );
+			}
+			int itemCount = rejectedIndexes.size();
+			if ( !tryReserveBudget( itemCount ) ) {
+				log.debugf( "Not retrying %d bulked works rejected by Elasticsearch: too many works are already waiting for a retry",
+						itemCount );
+				return CompletableFuture.completedFuture( result );
+			}
+
+			List<BulkableElasticsearchWork<?>> worksToRetry = new ArrayList<>( itemCount );
+			for ( Integer index : rejectedIndexes ) {
+				worksToRetry.add( bulkedWorks.get( index ) );
+			}
+			long delayMs = computeBackoffMs( attempt );
+			log.debugf( "Retrying %d bulked works rejected by Elasticsearch in %d ms (attempt %d out of %d)",
+					itemCount, delayMs, attempt, maxRetries );
+
+			return delay( delayMs )
+					.thenCompose( ignored -> retryBulkWorkFactory.apply( worksToRetry ).execute( context ) )
+					.handle( (retryResult, throwable) -> {
+						itemsPendingRetry.addAndGet( -itemCount );
+						if ( throwable != null ) {
+							// Keep the previous outcome: the works will be reported as rejected
+							log.debugf( throwable, "Failed to retry %d bulked works", itemCount );
+							return null;
+						}
+						result.replace( rejectedIndexes, retryResult );
+						return result;
+					} )
+					.thenCompose( updatedResult -> updatedResult == null
+							? CompletableFuture.completedFuture( result )
+							: retryRejectedItems( context, result, attempt + 1 )
+					);
+		}
+	}
+
+	/**
+	 * A bulk result combining the result of the original bulk with the result of retries.
+	 */
+	private static final class RetriedBulkResult implements BulkResult {
+		private final BulkResult[] resultByItem;
+		private final int[] indexInResultByItem;
+
+		private RetriedBulkResult(BulkResult originalResult, int itemCount) {
+			this.resultByItem = new BulkResult[itemCount];
+			this.indexInResultByItem = new int[itemCount];
+			Arrays.fill( resultByItem, originalResult );
+			for ( int i = 0; i < itemCount; i++ ) {
+				indexInResultByItem[i] = i;
+			}
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			Map<BulkResult, BulkResultItemExtractor> extractors = new IdentityHashMap<>();
+			return new BulkResultItemExtractor() {
+				@Override
+				public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+					BulkResultItemExtractor extractor = extractors.computeIfAbsent(
+							resultByItem[index], result -> result.withContext( context )
+					);
+					return Futures.create( () -> extractor.extract( work, indexInResultByItem[index] ) );
+				}
+			};
+		}
+
+		@Override
+		public boolean isItemRejected(int index) {
+			return resultByItem[index].isItemRejected( indexInResultByItem[index] );
+		}
+
+		List<Integer> getRejectedItemIndexes() {
+			List<Integer> indexes = new ArrayList<>();
+			for ( int i = 0; i < resultByItem.length; i++ ) {
+				if ( isItemRejected( i ) ) {
+					indexes.add( i );
+				}
+			}
+			return indexes;
+		}
+
+		/**
+		 * @param indexes The indexes of retried items.
+		 * @param retryResult The result of the bulk retrying these items, in the same order.
+		 */
+		void replace(List<Integer> indexes, BulkResult retryResult) {
+			for ( int i = 0; i < indexes.size(); i++ ) {
+				int index = indexes.get( i );
+				resultByItem[index] = retryResult;
+				indexInResultByItem[index] = i;
+			}
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Decides how large bulks sent by a {@link ElasticsearchDefaultWorkBulker} can get.
+ * <p>
+ * Bulks are capped both by their number of works and by the estimated size of their payload in bytes.
+ * The cap in bytes is fixed.
+ * The cap in number of works starts at the configured maximum and,
+ * if a target latency was configured, is adapted after each bulk execution:
+ * <ul>
+ *     <li>It decreases by half whenever a bulk fails, or when Elasticsearch rejects some of its items
+ *     because it is overloaded (see {@link BulkResult#isItemRejected(int)}).</li>
+ *     <li>It decreases by a quarter whenever a bulk takes longer than the target latency to execute.</li>
+ *     <li>It increases by a tenth whenever a full bulk executes faster than the target latency,
+ *     up to the configured maximum.</li>
+ * </ul>
+ * <p>
+ * Instances are thread-safe: bulks are built from a single thread,
+ * but bulk executions are reported from the threads completing the requests.
+ */
+public class ElasticsearchBulkSizeController {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The adapted number of works per bulk will never get lower than this,
+	 * so that a few slow bulks do not lead to sending works one by one.
+	 */
+	private static final int MIN_ADAPTED_BULK_SIZE = 10;
+
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final long targetLatencyNanos;
+	private final int minAdaptedBulkSize;
+
+	private final AtomicInteger currentMaxBulkSize;
+
+	/**
+	 * @param maxBulkSize The maximum number of works in a single bulk.
+	 * @param maxBulkBytes The maximum estimated size of the payload of a single bulk, in bytes.
+	 * A single work larger than this will still be sent, alone in its bulk.
+	 * @param targetLatencyMs The target execution time of a bulk, in milliseconds,
+	 * or {@code null} to never adapt the number of works per bulk.
+	 */
+	public ElasticsearchBulkSizeController(int maxBulkSize, long maxBulkBytes, Integer targetLatencyMs) {
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.targetLatencyNanos = targetLatencyMs == null ? -1L : TimeUnit.MILLISECONDS.toNanos( targetLatencyMs );
+		this.minAdaptedBulkSize = Math.min( MIN_ADAPTED_BULK_SIZE, maxBulkSize );
+		this.currentMaxBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBulkSize=" + maxBulkSize
+				+ ", maxBulkBytes=" + maxBulkBytes
+				+ ", currentMaxBulkSize=" + currentMaxBulkSize.get()
+				+ "]";
+	}
+
+	/**
+	 * @return The maximum number of works in the next bulk.
+	 */
+	int getMaxBulkSize() {
+		return currentMaxBulkSize.get();
+	}
+
+	/**
+	 * @return The maximum estimated size of the payload of the next bulk, in bytes.
+	 */
+	long getMaxBulkBytes() {
+		return maxBulkBytes;
+	}
+
+	/**
+	 * @return {@code true} if bulks must be capped by their size in bytes,
+	 * i.e. if the size of works must be estimated.
+	 */
+	boolean isCappingBytes() {
+		return maxBulkBytes < Long.MAX_VALUE;
+	}
+
+	/**
+	 * @param bulkWork A bulk work about to be added to a sequence.
+	 * @param workCount The number of works in the bulk.
+	 * @return The work to actually execute:
+	 * either {@code bulkWork} itself, or a wrapper reporting the outcome of its execution to this controller.
+	 */
+	ElasticsearchWork<BulkResult> monitor(ElasticsearchWork<BulkResult> bulkWork, int workCount) {
+		if ( targetLatencyNanos < 0 ) {
+			return bulkWork;
+		}
+		return new MonitoredBulkWork( bulkWork, workCount );
+	}
+
+	void onBulkExecuted(int workCount, long durationNanos, BulkResult result, Throwable throwable) {
+		int previous = currentMaxBulkSize.get();
+		int next;
+		if ( throwable != null || hasRejectedItems( result, workCount ) ) {
+			next = Math.max( minAdaptedBulkSize, previous / 2 );
+		}
+		else if ( durationNanos > targetLatencyNanos ) {
+			next = Math.max( minAdaptedBulkSize, previous - previous / 4 );
+		}
+		else if ( workCount >= previous ) {
+			next = Math.min( maxBulkSize, previous + Math.max( 1, previous / 10 ) );
+		}
+		else {
+			// The bulk was not full: we cannot tell whether larger bulks would be faster.
+			return;
+		}
+		/*
+		 * Don't loop until the update succeeds:
+		 * if another bulk reported its outcome concurrently, its adjustment is just as relevant.
+		 */
+		if ( next != previous && currentMaxBulkSize.compareAndSet( previous, next ) ) {
+			log.tracef( "Adapted maximum bulk size from %d to %d works after a bulk of %d works executed in %d ms",
+					previous, next, workCount, TimeUnit.NANOSECONDS.toMillis( durationNanos ) );
+		}
+	}
+
+	private static boolean hasRejectedItems(BulkResult result, int workCount) {
+		for ( int i = 0; i < workCount; i++ ) {
+			if ( result.isItemRejected( i ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private final class MonitoredBulkWork implements ElasticsearchWork<BulkResult> {
+		private final ElasticsearchWork<BulkResult> delegate;
+		private final int workCount;
+
+		private MonitoredBulkWork(ElasticsearchWork<BulkResult> delegate, int workCount) {
+			this.delegate = delegate;
+			this.workCount = workCount;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long start = System.nanoTime();
+			return delegate.execute( context )
+					.whenComplete( (result, throwable) -> onBulkExecuted(
+							workCount, System.nanoTime() - start, result, throwable
+					) );
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+			return aggregator.addNonBulkable( this );
+		}
+
+		@Override
+		public Object getInfo() {
+			return delegate.getInfo();
+		}
+	}
+}
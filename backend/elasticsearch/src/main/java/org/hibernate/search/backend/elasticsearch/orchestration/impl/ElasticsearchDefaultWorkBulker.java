@@ -24,10 +24,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
-	private final int maxBulkSize;
+	private final ElasticsearchBulkSizeController bulkSizeController;
+	private final ElasticsearchBulkItemRetrier bulkItemRetrier;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
+	private long currentBulkBytes;
 	private int currentBulkFirstNonAddedItem;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
@@ -48,13 +50,38 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
 			int minBulkSize, int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, minBulkSize,
+				new ElasticsearchBulkSizeController( maxBulkSize, Long.MAX_VALUE, null ),
+				new ElasticsearchBulkItemRetrier( null, 0, 0L, 0 ) );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param minBulkSize Minimum number of works in a single bulk.
+	 * If {@link #addWorksToSequence() adding works to the sequence} is requested before
+	 * this threshold has been reached, works will not be bulked.
+	 * @param bulkSizeController The controller deciding on the maximum number of works
+	 * and maximum size in bytes of a single bulk.
+	 * If a bulk reaches either maximum, it will be automatically
+	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
+	 * and {@link #finalizeBulkWork() finalize the bulk work}
+	 * to the underlying sequence builder.
+	 * @param bulkItemRetrier The retrier for bulked works rejected by the cluster.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			int minBulkSize, ElasticsearchBulkSizeController bulkSizeController,
+			ElasticsearchBulkItemRetrier bulkItemRetrier) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
-		this.maxBulkSize = maxBulkSize;
+		this.bulkSizeController = bulkSizeController;
+		this.bulkItemRetrier = bulkItemRetrier;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
+		this.currentBulkBytes = 0L;
 		this.currentBulkFirstNonAddedItem = 0;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -73,10 +100,21 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		if ( bulkSizeController.isCappingBytes() ) {
+			long workBytes = work.getBulkableActionSizeEstimate();
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > bulkSizeController.getMaxBulkBytes() ) {
+				// Adding this work would make the bulk too large; send the current bulk first.
+				addWorksToSequence();
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+			currentBulkBytes += workBytes;
+		}
+
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= bulkSizeController.getMaxBulkSize() ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -131,7 +169,13 @@ public void finalizeBulkWork() {
 		}
 
 		ElasticsearchWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
-		currentBulkWorkFuture.complete( bulkWork );
+		DocumentRefreshStrategy refreshStrategy = currentBulkRefreshStrategy;
+		// Only the first attempt is monitored: retries only reflect how saturated the cluster is
+		currentBulkWorkFuture.complete( bulkItemRetrier.decorate(
+				bulkSizeController.monitor( bulkWork, currentBulkItems.size() ),
+				currentBulkItems,
+				worksToRetry -> bulkWorkFactory.apply( worksToRetry, refreshStrategy )
+		) );
 		reset();
 	}
 
@@ -139,6 +183,7 @@ public void finalizeBulkWork() {
 	public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkFirstNonAddedItem = 0;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
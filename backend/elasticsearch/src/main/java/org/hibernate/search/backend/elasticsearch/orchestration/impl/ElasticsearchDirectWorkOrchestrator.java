@@ -0,0 +1,209 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An orchestrator sending works to the client directly from the submitting thread,
+ * without queuing them for a background thread and without bulking them.
+ * <p>
+ * Meant for read works (search, count, explain, scroll), whose latency matters:
+ * they must not wait behind indexing works while a batching orchestrator builds bulk requests.
+ * Works that alter the content of indexes must not be submitted to this orchestrator,
+ * since it does not support refreshing indexes.
+ * <p>
+ * The number of works executing concurrently is limited:
+ * works submitted while the limit is reached are queued, without blocking the submitting thread,
+ * and are executed as soon as another work completes.
+ */
+public class ElasticsearchDirectWorkOrchestrator
+		extends AbstractWorkOrchestrator<ElasticsearchDirectWorkOrchestrator.DirectWorkSet<?>>
+		implements ElasticsearchWorkOrchestratorImplementor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchLink link;
+	private final int maxConcurrentWorks;
+
+	private final Queue<DirectWorkSet<?>> queuedWorkSets = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger executingWorkSetCount = new AtomicInteger( 0 );
+
+	private final LongAdder executedWorkSetCount = new LongAdder();
+	private final LongAdder failedWorkSetCount = new LongAdder();
+	private final LongAdder totalExecutionTimeNanos = new LongAdder();
+
+	private volatile ElasticsearchWorkExecutionContext executionContext;
+
+	/**
+	 * @param name The name of this orchestrator when reporting errors.
+	 * @param link The link to the Elasticsearch cluster.
+	 * @param maxConcurrentWorks The maximum number of worksets executing at any given time.
+	 */
+	public ElasticsearchDirectWorkOrchestrator(String name, ElasticsearchLink link, int maxConcurrentWorks) {
+		super( name );
+		this.link = link;
+		this.maxConcurrentWorks = maxConcurrentWorks;
+	}
+
+	@Override
+	public void start() {
+		// The client is only available once the link has been started
+		executionContext = new ElasticsearchImmutableWorkExecutionContext( link.getClient(), link.getGsonProvider() );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		DirectWorkSet<T> workSet = new DirectWorkSet<>( () -> work.execute( executionContext ) );
+		submit( workSet );
+		return workSet.future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		DirectWorkSet<Object> workSet = new DirectWorkSet<>( () -> {
+			// Works in the same workset must be executed in the given order
+			CompletableFuture<?> future = CompletableFuture.completedFuture( null );
+			for ( ElasticsearchWork<?> work : works ) {
+				future = future.thenCompose( ignored -> work.execute( executionContext ) );
+			}
+			return future.thenApply( ignored -> null );
+		} );
+		submit( workSet );
+		return workSet.future;
+	}
+
+	/**
+	 * @return The number of worksets currently being executed.
+	 */
+	public int getExecutingWorkSetCount() {
+		return executingWorkSetCount.get();
+	}
+
+	/**
+	 * @return The number of worksets waiting for the execution of other worksets to complete.
+	 */
+	public int getQueuedWorkSetCount() {
+		return queuedWorkSets.size();
+	}
+
+	/**
+	 * @return The number of worksets whose execution completed, successfully or not, since this orchestrator started.
+	 */
+	public long getExecutedWorkSetCount() {
+		return executedWorkSetCount.sum();
+	}
+
+	/**
+	 * @return The number of worksets whose execution failed since this orchestrator started.
+	 */
+	public long getFailedWorkSetCount() {
+		return failedWorkSetCount.sum();
+	}
+
+	/**
+	 * @return The cumulated execution time of worksets since this orchestrator started,
+	 * excluding the time spent waiting in the queue.
+	 */
+	public Duration getTotalExecutionTime() {
+		return Duration.ofNanos( totalExecutionTimeNanos.sum() );
+	}
+
+	@Override
+	protected void doSubmit(DirectWorkSet<?> workSet) {
+		queuedWorkSets.add( workSet );
+		executeQueuedWorkSets();
+	}
+
+	@Override
+	protected void doClose() {
+		// Nothing to do: worksets being executed or queued will complete or fail on their own.
+	}
+
+	private void executeQueuedWorkSets() {
+		while ( true ) {
+			int executingCount = executingWorkSetCount.get();
+			if ( executingCount >= maxConcurrentWorks ) {
+				// The workset will be executed when another workset completes.
+				return;
+			}
+			if ( !executingWorkSetCount.compareAndSet( executingCount, executingCount + 1 ) ) {
+				// Another thread started or completed a workset concurrently: try again.
+				continue;
+			}
+			DirectWorkSet<?> workSet = queuedWorkSets.poll();
+			if ( workSet == null ) {
+				executingWorkSetCount.decrementAndGet();
+				/*
+				 * Another thread may have queued a workset after we polled the queue,
+				 * but before we released our slot, and given up because there was no slot left.
+				 * Check again to be sure.
+				 */
+				if ( queuedWorkSets.isEmpty() ) {
+					return;
+				}
+				continue;
+			}
+			workSet.execute();
+		}
+	}
+
+	final class DirectWorkSet<T> {
+		private final Supplier<CompletableFuture<T>> execution;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private DirectWorkSet(Supplier<CompletableFuture<T>> execution) {
+			this.execution = execution;
+		}
+
+		private void execute() {
+			long start = System.nanoTime();
+			Futures.create( execution ).whenComplete( (result, throwable) -> {
+				long durationNanos = System.nanoTime() - start;
+				totalExecutionTimeNanos.add( durationNanos );
+				executedWorkSetCount.increment();
+				if ( throwable != null ) {
+					failedWorkSetCount.increment();
+				}
+				if ( log.isTraceEnabled() ) {
+					log.tracef( "Orchestrator '%s' executed a workset in %d ms, %s",
+							getName(), TimeUnit.NANOSECONDS.toMillis( durationNanos ),
+							throwable == null ? "successfully" : "with a failure" );
+				}
+
+				// Release the slot before notifying the caller, which may take time to process the result
+				executingWorkSetCount.decrementAndGet();
+				executeQueuedWorkSets();
+
+				if ( throwable != null ) {
+					future.completeExceptionally( throwable );
+				}
+				else {
+					future.complete( result );
+				}
+			} );
+		}
+	}
+
+}
@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 
 /**
  * Provides access to various orchestrators.
@@ -38,7 +42,7 @@
  * </ul>
  * <p>
  * Parallel orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider} (i.e. from a single backend)
- * rely on the same resources (same queue and consumer thread).
+ * rely on the same resources (same queue and consumer).
  *
  * <h3 id="serial-orchestrators">Serial orchestrators</h3>
  *
@@ -58,11 +62,31 @@
  * </ul>
  * <p>
  * Serial orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider} (i.e. from a single backend)
- * rely on the separate resources (each has a dedicated queue and consumer thread).
+ * rely on the separate resources (each has a dedicated queue and consumer).
+ * <p>
+ * All orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider}
+ * process their queue using the same, bounded thread pool.
  * <p>
  * Note that while serial orchestrators preserve ordering as best they can,
  * they lead to a lesser throughput and can only guarantee ordering within a single JVM.
  * When multiple JVMs with multiple instances of Hibernate Search target the same index
+ *
+ * <h3 id="direct-orchestrators">Direct orchestrators</h3>
+ *
+ * Direct orchestrators send works to the client from the submitting thread,
+ * without batching nor bulking, up to a given number of concurrently executing worksets.
+ * <p>
+ * They are suitable for read works, whose latency matters more than throughput,
+ * and which must not wait for indexing works to be processed.
+ * <p>
+ * Direct orchestrators do not use the shared thread pool.
+ *
+ * <h2>Retries</h2>
+ *
+ * Bulked works rejected by the cluster because it is overloaded are retried automatically
+ * by a {@link ElasticsearchBulkItemRetrier} shared by all orchestrators of the provider.
+ * Retries happen as part of the execution of a batch,
+ * so a saturated cluster slows down the orchestrators and, through their bounded queues, the submitters.
  */
 public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 
@@ -78,12 +102,11 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
 
 	/*
-	 * Setting the following constants involves a bit of guesswork.
+	 * Setting the following multipliers involves a bit of guesswork.
 	 * Basically we want the number to be large enough for the orchestrator
-	 * to create bulks of the maximum size defined above most of the time,
+	 * to create bulks of the maximum size most of the time,
 	 * but we also want to keep the number as low as possible to avoid
 	 * consuming too much memory with pending worksets.
 	 * Here we set the number for parallel orchestrators higher than the number
@@ -91,19 +114,49 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	 * single-work worksets, and also because the parallel orchestrators rely on a single
 	 * consumer thread shared between all index managers.
 	 */
-	private static final int SERIAL_MAX_WORKSETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH = 20 * MAX_BULK_SIZE;
+	private static final int SERIAL_MAX_WORKSETS_PER_BATCH_PER_BULK_SIZE = 10;
+	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH_PER_BULK_SIZE = 20;
+
+	/*
+	 * Limit the number of works waiting for a retry to what a few full batches could hold:
+	 * beyond that, the cluster is clearly unable to keep up and retrying more works would only make matters worse.
+	 */
+	private static final int MAX_WORKS_PENDING_RETRY_PER_BULK_SIZE = PARALLEL_MAX_WORKSETS_PER_BATCH_PER_BULK_SIZE;
 
 	private final ElasticsearchLink link;
 	private final ErrorHandler errorHandler;
+	private final ExecutorService workExecutor;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final Integer bulkTargetLatencyMs;
+	private final ScheduledExecutorService retryScheduler;
+	private final ElasticsearchBulkItemRetrier bulkItemRetrier;
 
 	private final ElasticsearchBatchingWorkOrchestrator rootParallelOrchestrator;
 
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
+			String workExecutorName, int workExecutorThreadCount,
 			ElasticsearchLink link,
-			ErrorHandler errorHandler) {
+			ErrorHandler errorHandler,
+			int maxBulkSize, long maxBulkBytes, Integer bulkTargetLatencyMs,
+			String retrySchedulerName, int maxRetries, int retryBackoffMs) {
 		this.link = link;
 		this.errorHandler = errorHandler;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.bulkTargetLatencyMs = bulkTargetLatencyMs;
+		this.retryScheduler = maxRetries > 0 ? Executors.newScheduledThreadPool( retrySchedulerName ) : null;
+		this.bulkItemRetrier = new ElasticsearchBulkItemRetrier(
+				retryScheduler, maxRetries, retryBackoffMs,
+				MAX_WORKS_PENDING_RETRY_PER_BULK_SIZE * maxBulkSize
+		);
+		/*
+		 * Each orchestrator submits at most one task to this executor at any given time,
+		 * so the queue is bounded by the number of orchestrators in practice.
+		 */
+		this.workExecutor = Executors.newFixedThreadPool(
+				workExecutorThreadCount, workExecutorName, Integer.MAX_VALUE
+		);
 
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
@@ -114,14 +167,19 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
 				rootParallelOrchestratorName,
 				createParallelWorkProcessor(),
-				PARALLEL_MAX_WORKSETS_PER_BATCH,
+				PARALLEL_MAX_WORKSETS_PER_BATCH_PER_BULK_SIZE * maxBulkSize,
 				false // Do not care about ordering when queuing worksets
 		);
 	}
 
 	@Override
 	public void close() {
-		rootParallelOrchestrator.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchBatchingWorkOrchestrator::close, rootParallelOrchestrator );
+			// Shut down the executor after the orchestrators, when we're sure all works have been performed
+			closer.push( ExecutorService::shutdownNow, workExecutor );
+			closer.push( ExecutorService::shutdownNow, retryScheduler );
+		}
 	}
 
 	public void start() {
@@ -146,7 +204,7 @@ public ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String
 		return createBatchingSharedOrchestrator(
 				name,
 				processor,
-				SERIAL_MAX_WORKSETS_PER_BATCH,
+				SERIAL_MAX_WORKSETS_PER_BATCH_PER_BULK_SIZE * maxBulkSize,
 				true /* enqueue worksets in the exact order they were submitted */
 		);
 	}
@@ -159,11 +217,20 @@ public ElasticsearchWorkOrchestratorImplementor createParallelOrchestrator(Strin
 		return rootParallelOrchestrator.createChild( name );
 	}
 
+	/**
+	 * @param name The name of the orchestrator to create.
+	 * @param maxConcurrentWorks The maximum number of worksets executing at any given time.
+	 * @return A <a href="#direct-orchestrators">direct orchestrator</a>.
+	 */
+	public ElasticsearchWorkOrchestratorImplementor createDirectOrchestrator(String name, int maxConcurrentWorks) {
+		return new ElasticsearchDirectWorkOrchestrator( name, link, maxConcurrentWorks );
+	}
+
 	private ElasticsearchBatchingWorkOrchestrator createBatchingSharedOrchestrator(
 			String name, ElasticsearchWorkProcessor processor,
 			int maxWorksetsPerBatch, boolean fair) {
 		return new ElasticsearchBatchingWorkOrchestrator(
-				name, processor, maxWorksetsPerBatch, fair, errorHandler
+				name, processor, workExecutor, maxWorksetsPerBatch, fair, errorHandler
 		);
 	}
 
@@ -191,7 +258,10 @@ private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder se
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				minBulkSize,
+				// Each processor adapts its bulk size independently, as each may target indexes with different loads
+				new ElasticsearchBulkSizeController( maxBulkSize, maxBulkBytes, bulkTargetLatencyMs ),
+				bulkItemRetrier
 				);
 	}
 
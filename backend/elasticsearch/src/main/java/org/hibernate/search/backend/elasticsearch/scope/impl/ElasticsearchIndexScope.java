@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.scope.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopeModel;
@@ -25,6 +26,7 @@
 	private final ElasticsearchSearchSortBuilderFactoryImpl searchSortFactory;
 	private final ElasticsearchSearchQueryBuilderFactory searchQueryFactory;
 	private final ElasticsearchSearchProjectionBuilderFactory searchProjectionFactory;
+	private final ElasticsearchSearchAggregationBuilderFactory searchAggregationFactory;
 
 	public ElasticsearchIndexScope(
 			MappingContextImplementor mappingContext,
@@ -40,6 +42,7 @@ public ElasticsearchIndexScope(
 				backendContext.getSearchProjectionBackendContext(),
 				model
 		);
+		this.searchAggregationFactory = new ElasticsearchSearchAggregationBuilderFactory( model );
 		this.searchQueryFactory = new ElasticsearchSearchQueryBuilderFactory(
 				backendContext, searchContext,
 				this.searchProjectionFactory
@@ -74,4 +77,9 @@ public ElasticsearchSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 	public ElasticsearchSearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return searchProjectionFactory;
 	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
 }
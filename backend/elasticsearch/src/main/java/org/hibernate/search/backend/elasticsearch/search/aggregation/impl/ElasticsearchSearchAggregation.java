@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import com.google.gson.JsonObject;
+
+public interface ElasticsearchSearchAggregation<A> extends SearchAggregation<A> {
+
+	Set<String> getIndexNames();
+
+	/**
+	 * @return The JSON definition of this aggregation, to be added to the {@code aggs} property of a search request.
+	 */
+	JsonObject toJson();
+
+	/**
+	 * @param aggregationResult The JSON result of this aggregation, from the {@code aggregations} property
+	 * of a search response.
+	 * @return The result of this aggregation.
+	 */
+	A extract(JsonObject aggregationResult);
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopeModel;
+import org.hibernate.search.backend.elasticsearch.scope.model.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ElasticsearchSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<ElasticsearchSearchAggregationCollector> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final ElasticsearchScopeModel scopeModel;
+
+	public ElasticsearchSearchAggregationBuilderFactory(ElasticsearchScopeModel scopeModel) {
+		this.scopeModel = scopeModel;
+	}
+
+	@Override
+	public <A> void contribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		if ( !( aggregation instanceof ElasticsearchSearchAggregation ) ) {
+			throw log.cannotMixElasticsearchSearchAggregationWithOtherAggregations( aggregation );
+		}
+		ElasticsearchSearchAggregation<A> casted = (ElasticsearchSearchAggregation<A>) aggregation;
+		if ( !scopeModel.getHibernateSearchIndexNames().equals( casted.getIndexNames() ) ) {
+			throw log.aggregationDefinedOnDifferentIndexes( aggregation, casted.getIndexNames(),
+					scopeModel.getHibernateSearchIndexNames() );
+		}
+		collector.collectAggregation( key, casted );
+	}
+
+	@Override
+	public <F> TermsAggregationBuilder<F> createTermsAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		return scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.getComponent()
+				.createTermsAggregationBuilder( scopeModel.getHibernateSearchIndexNames(), absoluteFieldPath,
+						expectedType );
+	}
+
+	@Override
+	public <F> RangeAggregationBuilder<F> createRangeAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		return scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.getComponent()
+				.createRangeAggregationBuilder( scopeModel.getHibernateSearchIndexNames(), absoluteFieldPath,
+						expectedType );
+	}
+
+	@Override
+	public <F> DateHistogramAggregationBuilder<F> createDateHistogramAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		return scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.getComponent()
+				.createDateHistogramAggregationBuilder( scopeModel.getHibernateSearchIndexNames(), absoluteFieldPath,
+						expectedType );
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<ElasticsearchFieldAggregationBuilderFactory> {
+
+		@Override
+		public ElasticsearchFieldAggregationBuilderFactory extractComponent(ElasticsearchIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getAggregationBuilderFactory();
+		}
+
+		@Override
+		public boolean hasCompatibleCodec(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			return component1.hasCompatibleCodec( component2 );
+		}
+
+		@Override
+		public boolean hasCompatibleConverter(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			// converters are not involved in aggregations: they work on index values
+			return true;
+		}
+
+		@Override
+		public boolean hasCompatibleAnalyzer(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			// analyzers are not involved in aggregations
+			return true;
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				ElasticsearchFieldAggregationBuilderFactory component1, ElasticsearchFieldAggregationBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
+/**
+ * A collector of aggregations.
+ * <p>
+ * Used by aggregation contributors to add their aggregations to the query.
+ * <p>
+ * Implementations must allow multiple calls to {@link #collectAggregation(AggregationKey, ElasticsearchSearchAggregation)},
+ * one per aggregation.
+ */
+public interface ElasticsearchSearchAggregationCollector {
+
+	<A> void collectAggregation(AggregationKey<A> key, ElasticsearchSearchAggregation<A> aggregation);
+
+}
@@ -42,13 +42,13 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public List<Object> extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public List<Object> extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		List<Object> extractedData = new ArrayList<>( children.size() );
 
 		for ( ElasticsearchSearchProjection<?, ?> child : children ) {
 			extractedData
-					.add( child.extract( projectionHitMapper, responseBody, hit, context ) );
+					.add( child.extract( projectionHitMapper, hit, context ) );
 		}
 
 		return extractedData;
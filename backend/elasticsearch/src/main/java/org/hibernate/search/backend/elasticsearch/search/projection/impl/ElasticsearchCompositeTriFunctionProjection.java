@@ -46,12 +46,12 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		return new Object[] {
-				projection1.extract( projectionHitMapper, responseBody, hit, context ),
-				projection2.extract( projectionHitMapper, responseBody, hit, context ),
-				projection3.extract( projectionHitMapper, responseBody, hit, context )
+				projection1.extract( projectionHitMapper, hit, context ),
+				projection2.extract( projectionHitMapper, hit, context ),
+				projection3.extract( projectionHitMapper, hit, context )
 		};
 	}
 
@@ -30,7 +30,7 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 
 	@SuppressWarnings("unchecked")
 	@Override
-	public R extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public R extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		return (R) projectionHitMapper.convertReference( helper.extractDocumentReference( hit ) );
 	}
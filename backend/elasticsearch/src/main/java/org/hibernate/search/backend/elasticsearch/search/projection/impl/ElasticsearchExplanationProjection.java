@@ -35,7 +35,7 @@ public void contributeRequest(JsonObject requestBody, SearchProjectionExtractCon
 	}
 
 	@Override
-	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		// We expect the optional to always be non-empty.
 		return gson.toJson( HIT_EXPLANATION_ACCESSOR.get( hit ).get() );
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Map;
+
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
 import com.google.gson.JsonObject;
@@ -29,8 +33,10 @@
 	Elasticsearch6SearchResultExtractor(
 			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
-		super( loadingContext, rootProjection, searchProjectionExecutionContext );
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			HitSourceFilter sourceFilter,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+		super( loadingContext, rootProjection, searchProjectionExecutionContext, sourceFilter, aggregations );
 	}
 
 	@Override
@@ -38,4 +44,10 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	@Override
+	protected boolean isHitCountExact(JsonObject responseBody) {
+		// Total hits are always tracked exactly in ES6 and below
+		return true;
+	}
+
 }
@@ -6,17 +6,23 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
 public class Elasticsearch6SearchResultExtractorFactory implements ElasticsearchSearchResultExtractorFactory {
 	@Override
 	public <H> ElasticsearchSearchResultExtractor<H> createResultExtractor(LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			HitSourceFilter sourceFilter,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
 		return new Elasticsearch6SearchResultExtractor<>( loadingContext, rootProjection,
-				searchProjectionExecutionContext );
+				searchProjectionExecutionContext, sourceFilter, aggregations );
 	}
 }
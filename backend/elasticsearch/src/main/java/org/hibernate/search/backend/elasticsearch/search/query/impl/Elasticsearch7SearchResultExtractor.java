@@ -6,74 +6,187 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A search result extractor for ES7.
+ * <p>
+ * The response is read in a streaming fashion:
+ * each hit is passed to projections as soon as it has been read, then discarded,
+ * and the parts of the {@code _source} that were not requested are skipped.
+ * Only the rest of the response (hit count, aggregations, ...) is turned into a JSON tree.
+ */
 class Elasticsearch7SearchResultExtractor<H> implements ElasticsearchSearchResultExtractor<H> {
 
-	protected static final JsonObjectAccessor HITS_ACCESSOR =
-			JsonAccessor.root().property( "hits" ).asObject();
+	private static final JsonParser JSON_PARSER = new JsonParser();
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
+	private static final String HITS_PROPERTY_NAME = "hits";
+
+	private static final String HIT_SOURCE_PROPERTY_NAME = "_source";
+
+	protected static final JsonObjectAccessor HITS_ACCESSOR =
+			JsonAccessor.root().property( HITS_PROPERTY_NAME ).asObject();
 
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
+	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
+			JsonAccessor.root().property( "timed_out" ).asBoolean();
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
+			JsonAccessor.root().property( "aggregations" ).asObject();
+
 	private final LoadingContext<?, ?> loadingContext;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final SearchProjectionExtractContext searchProjectionExecutionContext;
 
+	private final HitSourceFilter sourceFilter;
+
+	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+
 	Elasticsearch7SearchResultExtractor(
 			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			HitSourceFilter sourceFilter,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
 		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
 		this.searchProjectionExecutionContext = searchProjectionExecutionContext;
+		this.sourceFilter = sourceFilter;
+		this.aggregations = aggregations;
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+	public ElasticsearchLoadableSearchResult<H> extract(JsonReader responseBodyReader) throws IOException {
 		ProjectionHitMapper<?, ?> hitMapper = loadingContext.getProjectionHitMapper();
 
+		// Hits are extracted as they are read: they are not added to this tree
+		JsonObject responseBody = new JsonObject();
+		List<Object> extractedData = new ArrayList<>();
+
+		responseBodyReader.beginObject();
+		while ( responseBodyReader.hasNext() ) {
+			String name = responseBodyReader.nextName();
+			if ( HITS_PROPERTY_NAME.equals( name ) ) {
+				responseBody.add( name, readHits( responseBodyReader, hitMapper, extractedData ) );
+			}
+			else {
+				responseBody.add( name, JSON_PARSER.parse( responseBodyReader ) );
+			}
+		}
+		responseBodyReader.endObject();
+
 		long hitCount = extractHitCount( responseBody );
+		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).orElse( false );
+		// Hits are only counted until the timeout is exceeded
+		boolean hitCountExact = !timedOut && isHitCountExact( responseBody );
 
-		final List<Object> extractedData = hitCount > 0 ? extractHits( hitMapper, responseBody ) : Collections.emptyList();
+		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty()
+				? Collections.emptyMap() : extractAggregations( responseBody );
 
-		return new ElasticsearchLoadableSearchResult<>( hitMapper, rootProjection, hitCount, extractedData );
+		// Only present when scrolling
+		String scrollId = SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
+
+		return new ElasticsearchLoadableSearchResult<>( hitMapper, rootProjection, hitCount, hitCountExact, timedOut,
+				extractedData, extractedAggregations, scrollId );
 	}
 
 	protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
-	private List<Object> extractHits(ProjectionHitMapper<?, ?> hitMapper, JsonObject responseBody) {
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+	protected boolean isHitCountExact(JsonObject responseBody) {
+		// "gte" when track_total_hits was set to a threshold and the number of hits exceeded that threshold
+		return !"gte".equals( HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).orElse( "eq" ) );
+	}
+
+	/**
+	 * @return The "hits" object, without the hits themselves.
+	 */
+	private JsonObject readHits(JsonReader reader, ProjectionHitMapper<?, ?> hitMapper,
+			List<Object> extractedData) throws IOException {
+		JsonObject hits = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( HITS_PROPERTY_NAME.equals( name ) ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					JsonObject hit = readHit( reader );
+					extractedData.add( rootProjection.extract( hitMapper, hit, searchProjectionExecutionContext ) );
+				}
+				reader.endArray();
+			}
+			else {
+				hits.add( name, JSON_PARSER.parse( reader ) );
+			}
+		}
+		reader.endObject();
+		return hits;
+	}
+
+	private JsonObject readHit(JsonReader reader) throws IOException {
+		JsonObject hit = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( HIT_SOURCE_PROPERTY_NAME.equals( name ) ) {
+				JsonElement source = sourceFilter.read( reader );
+				if ( source != null ) {
+					hit.add( name, source );
+				}
+			}
+			else {
+				hit.add( name, JSON_PARSER.parse( reader ) );
+			}
+		}
+		reader.endObject();
+		return hit;
+	}
 
-		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
+	private Map<AggregationKey<?>, ?> extractAggregations(JsonObject responseBody) {
+		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
+		Map<AggregationKey<?>, Object> extractedAggregations = new LinkedHashMap<>( aggregations.size() );
 
-			extractedData.add( rootProjection.extract( hitMapper, responseBody, hitObject,
-					searchProjectionExecutionContext ) );
+		for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			AggregationKey<?> key = entry.getKey();
+			JsonObject jsonAggregation = jsonAggregations.getAsJsonObject( key.getName() );
+			if ( jsonAggregation == null ) {
+				// Aggregations are not computed when scrolling
+				continue;
+			}
+			extractedAggregations.put( key, entry.getValue().extract( jsonAggregation ) );
 		}
 
-		return extractedData;
+		return extractedAggregations;
 	}
 }
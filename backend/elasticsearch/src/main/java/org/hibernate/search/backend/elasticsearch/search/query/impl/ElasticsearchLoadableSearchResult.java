@@ -10,13 +10,18 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,21 +39,66 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
+	private final boolean timedOut;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final String scrollId;
 
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, boolean hitCountExact, boolean timedOut, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults,
+			String scrollId) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
+		this.timedOut = timedOut;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.scrollId = scrollId;
+	}
+
+	/**
+	 * @return {@code true} if Elasticsearch stopped collecting hits because the timeout was exceeded.
+	 */
+	boolean isTimedOut() {
+		return timedOut;
+	}
+
+	/**
+	 * @return The identifier of the scroll context to fetch the next chunk of hits from,
+	 * or {@code null} if the request did not open a scroll context.
+	 */
+	String getScrollId() {
+		return scrollId;
 	}
 
 	ElasticsearchSearchResult<H> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return new ElasticsearchSearchResultImpl<>(
+				hitCount, hitCountExact, timedOut,
+				transformHits( sessionContext, projectionHitMapper.loadBlocking() ), aggregationResults
+		);
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	CompletionStage<ElasticsearchSearchResult<H>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> new ElasticsearchSearchResultImpl<>(
+						hitCount, hitCountExact, timedOut,
+						transformHits( sessionContext, loadingResult ), aggregationResults
+				) );
+	}
+
+	SearchScrollResult<H> loadChunkBlocking(SessionContextImplementor sessionContext) {
+		// Hits may be skipped during loading, so check for hits before loading
+		boolean hasHits = !extractedData.isEmpty();
+		return new SimpleSearchScrollResult<>(
+				hasHits, hitCount, transformHits( sessionContext, projectionHitMapper.loadBlocking() )
+		);
+	}
+
+	private List<H> transformHits(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -79,6 +129,6 @@ ElasticsearchSearchResult<H> loadBlocking(SessionContextImplementor sessionConte
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new ElasticsearchSearchResultImpl<>( hitCount, loadedHits );
+		return loadedHits;
 	}
 }
@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
@@ -19,9 +21,11 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -42,6 +46,9 @@
 	private final LoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
+	private Long totalHitCountThreshold;
+	private SearchTimeout timeout;
+
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
@@ -75,6 +82,16 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		this.timeout = timeout;
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -89,24 +106,47 @@ public ElasticsearchSearchQuery<H> build() {
 			payload.add( "sort", jsonSort );
 		}
 
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( !aggregations.isEmpty() ) {
+			JsonObject jsonAggregations = new JsonObject();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				jsonAggregations.add( entry.getKey().getName(), entry.getValue().toJson() );
+			}
+			payload.add( "aggs", jsonAggregations );
+		}
+
 		SearchProjectionExtractContext searchProjectionExecutionContext = elementCollector
 				.toSearchProjectionExecutionContext();
 
 		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
 
+		if ( !payload.has( "_source" ) ) {
+			/*
+			 * No projection requires the document source:
+			 * don't let Elasticsearch send it back, since it can be large
+			 * and would only be parsed and then ignored.
+			 */
+			payload.addProperty( "_source", false );
+		}
+
+		// Filter the source on our side too, so that unrequested parts are skipped while reading the response
+		HitSourceFilter sourceFilter = HitSourceFilter.fromRequestSource( payload.get( "_source" ) );
+
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
 		ElasticsearchSearchResultExtractor<H> searchResultExtractor =
 				searchResultExtractorFactory.createResultExtractor(
 						loadingContext,
-						rootProjection, searchProjectionExecutionContext
+						rootProjection, searchProjectionExecutionContext, sourceFilter, aggregations
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				totalHitCountThreshold,
+				timeout
 		);
 	}
 
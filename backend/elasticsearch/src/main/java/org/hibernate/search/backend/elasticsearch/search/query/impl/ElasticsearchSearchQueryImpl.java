@@ -9,6 +9,11 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.impl.ElasticsearchIndexNameNormalizer;
@@ -26,9 +31,12 @@
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonObject;
@@ -53,6 +61,8 @@
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchResultExtractor<H> searchResultExtractor;
+	private final Long totalHitCountThreshold;
+	private SearchTimeout timeout;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
@@ -60,7 +70,9 @@
 			SessionContextImplementor sessionContext,
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			JsonObject payload, ElasticsearchSearchResultExtractor<H> searchResultExtractor) {
+			JsonObject payload, ElasticsearchSearchResultExtractor<H> searchResultExtractor,
+			Long totalHitCountThreshold,
+			SearchTimeout timeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
@@ -69,6 +81,8 @@
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.timeout = timeout;
 	}
 
 	@Override
@@ -88,39 +102,101 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 		);
 	}
 
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		this.timeout = timeout;
+	}
+
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer limit, Integer offset) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getIndexNames() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.build();
+		ElasticsearchLoadableSearchResult<H> loadableResult = await( queryOrchestrator.submit(
+				createFetchWork( limit, offset )
+		) );
+		checkTimedOut( loadableResult );
 
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return loadableResult
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync to load entities asynchronously.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer limit, Integer offset) {
+		/*
+		 * Do not wait for the response: loading will happen in the thread that completes the request.
+		 * The timeout is only enforced by Elasticsearch in this case, not by waiting threads.
+		 */
+		return Futures.create( () -> queryOrchestrator.submit( createFetchWork( limit, offset ) ) )
+				.thenCompose( loadableResult -> {
+					checkTimedOut( loadableResult );
+					return loadableResult.loadAsync( sessionContext );
+				} );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		return await( queryOrchestrator.submit( createCountWork() ) );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork() ) );
+	}
+
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> createFetchWork(Integer limit, Integer offset) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getIndexNames() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.timeout( timeout )
+				.build();
+	}
+
+	private ElasticsearchWork<Long> createCountWork() {
+		return workFactory.count( searchContext.getIndexNames() )
+				.query( getQueryOnlyPayload() )
+				.routingKeys( routingKeys )
+				.build();
+	}
+
+	/**
+	 * @return A copy of the payload restricted to the query,
+	 * for APIs that do not accept projection-related parameters such as {@code _source}.
+	 */
+	private JsonObject getQueryOnlyPayload() {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
 			filteredPayload.add( "query", querySubTree.get() );
 		}
+		return filteredPayload;
+	}
 
-		ElasticsearchWork<Long> work = workFactory.count( searchContext.getIndexNames() )
-				.query( filteredPayload )
-				.routingKeys( routingKeys )
-				.build();
-		return queryOrchestrator.submit( work ).join();
+	private void checkTimedOut(ElasticsearchLoadableSearchResult<H> loadableResult) {
+		if ( loadableResult.isTimedOut() && timeout != null && timeout.isExceptionOnTimeout() ) {
+			throw log.searchTimedOut( timeout, getQueryString() );
+		}
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		// Aggregations are only computed when fetching: don't make Elasticsearch compute them for each chunk
+		JsonObject scrollPayload = payload;
+		if ( payload.has( "aggs" ) ) {
+			scrollPayload = payload.deepCopy();
+			scrollPayload.remove( "aggs" );
+		}
+
+		return new ElasticsearchSearchScrollImpl<>(
+				workFactory, queryOrchestrator, searchContext, sessionContext,
+				routingKeys, scrollPayload, searchResultExtractor,
+				chunkSize
+		);
 	}
 
 	@Override
@@ -169,12 +245,35 @@ private Integer defaultedLimit(Integer limit, Integer offset) {
 		}
 	}
 
+	private <T> T await(CompletableFuture<T> future) {
+		if ( timeout == null || !timeout.isExceptionOnTimeout() ) {
+			return Futures.unwrappedExceptionJoin( future );
+		}
+		/*
+		 * The timeout sent to Elasticsearch does not cover every phase of query execution,
+		 * nor network latency: bound the time we wait for the response as well.
+		 */
+		try {
+			return future.get( timeout.toMillis(), TimeUnit.MILLISECONDS );
+		}
+		catch (TimeoutException e) {
+			throw log.searchTimedOut( timeout, getQueryString() );
+		}
+		catch (ExecutionException e) {
+			throw Throwables.expectRuntimeException( e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.threadInterruptedWhileWaitingForSearchResults( getQueryString() );
+		}
+	}
+
 	private String doExplain(URLEncodedString encodedIndexName, String id) {
 		URLEncodedString elasticsearchId = URLEncodedString.fromString(
 				searchContext.toElasticsearchId( sessionContext.getTenantIdentifier(), id )
 		);
 
-		ElasticsearchWork<ExplainResult> work = workFactory.explain( encodedIndexName, elasticsearchId, payload )
+		ElasticsearchWork<ExplainResult> work = workFactory.explain( encodedIndexName, elasticsearchId, getQueryOnlyPayload() )
 				.routingKeys( routingKeys )
 				.build();
 
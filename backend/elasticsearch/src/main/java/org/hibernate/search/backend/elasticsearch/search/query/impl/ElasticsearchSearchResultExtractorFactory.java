@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
 public interface ElasticsearchSearchResultExtractorFactory {
@@ -16,6 +20,8 @@ public interface ElasticsearchSearchResultExtractorFactory {
 	<T> ElasticsearchSearchResultExtractor<T> createResultExtractor(
 			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext);
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			HitSourceFilter sourceFilter,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations);
 
 }
@@ -7,13 +7,16 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
-	ElasticsearchSearchResultImpl(long hitCount, List<H> hits) {
-		super( hitCount, hits );
+	ElasticsearchSearchResultImpl(long hitCount, boolean hitCountExact, boolean timedOut, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults) {
+		super( hitCount, hitCountExact, timedOut, hits, aggregationResults );
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API:
+ * the first chunk is fetched with a search request opening a scroll context,
+ * and subsequent chunks are fetched from that scroll context,
+ * which is cleared when the scroll is closed.
+ */
+class ElasticsearchSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * How long Elasticsearch should keep the scroll context alive between two chunks.
+	 */
+	private static final String SCROLL_TIMEOUT = "1m";
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchContext searchContext;
+	private final SessionContextImplementor sessionContext;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final ElasticsearchSearchResultExtractor<H> searchResultExtractor;
+	private final int chunkSize;
+
+	private boolean closed = false;
+	private boolean started = false;
+	private String scrollId;
+
+	ElasticsearchSearchScrollImpl(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchContext searchContext,
+			SessionContextImplementor sessionContext,
+			Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<H> searchResultExtractor,
+			int chunkSize) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.searchContext = searchContext;
+		this.sessionContext = sessionContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[payload=" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( scrollId != null ) {
+			ElasticsearchWork<?> work = workFactory.clearScroll( scrollId ).build();
+			scrollId = null;
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.searchScrollClosed();
+		}
+
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( !started ) {
+			work = workFactory.search( payload, searchResultExtractor )
+					.indexes( searchContext.getIndexNames() )
+					.scrolling( chunkSize, SCROLL_TIMEOUT )
+					.routingKeys( routingKeys )
+					.build();
+			started = true;
+		}
+		else {
+			work = workFactory.scroll( scrollId, SCROLL_TIMEOUT, searchResultExtractor ).build();
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		// The scroll identifier may change from one request to the next
+		scrollId = loadableResult.getScrollId();
+
+		// Load entities for this chunk only
+		return loadableResult.loadChunkBlocking( sessionContext );
+	}
+}
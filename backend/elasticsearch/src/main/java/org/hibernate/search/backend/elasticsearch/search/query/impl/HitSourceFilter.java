@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads the {@code _source} of a hit from a search response,
+ * only keeping the parts that were requested through source filtering in the search request
+ * and skipping everything else without building a JSON tree.
+ */
+public final class HitSourceFilter {
+
+	private static final JsonParser JSON_PARSER = new JsonParser();
+
+	private static final HitSourceFilter ALL = new HitSourceFilter( null );
+	private static final HitSourceFilter NONE = new HitSourceFilter( Collections.emptySet() );
+
+	/**
+	 * @param requestSource The value of the {@code _source} property in the search request, or {@code null}.
+	 * @return A filter keeping the same parts of the source as Elasticsearch.
+	 */
+	static HitSourceFilter fromRequestSource(JsonElement requestSource) {
+		if ( requestSource == null ) {
+			return ALL;
+		}
+		if ( requestSource.isJsonPrimitive() ) {
+			return requestSource.getAsBoolean() ? ALL : NONE;
+		}
+		if ( !requestSource.isJsonArray() ) {
+			return ALL;
+		}
+		Set<String> paths = new HashSet<>();
+		for ( JsonElement pathElement : requestSource.getAsJsonArray() ) {
+			String path = pathElement.getAsString();
+			if ( path.indexOf( '*' ) >= 0 ) {
+				// Wildcards are used for the whole source only; don't bother matching patterns
+				return ALL;
+			}
+			paths.add( path );
+		}
+		return new HitSourceFilter( paths );
+	}
+
+	/**
+	 * The paths to keep, or {@code null} to keep everything.
+	 */
+	private final Set<String> paths;
+	/**
+	 * The paths of objects containing paths to keep.
+	 */
+	private final Set<String> parentPaths;
+
+	private HitSourceFilter(Set<String> paths) {
+		this.paths = paths;
+		this.parentPaths = new HashSet<>();
+		if ( paths != null ) {
+			for ( String path : paths ) {
+				int separatorIndex = path.indexOf( '.' );
+				while ( separatorIndex >= 0 ) {
+					parentPaths.add( path.substring( 0, separatorIndex ) );
+					separatorIndex = path.indexOf( '.', separatorIndex + 1 );
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param reader A reader positioned on the value of the {@code _source} property of a hit.
+	 * @return The filtered source, or {@code null} if no part of the source was requested.
+	 * @throws IOException If the source cannot be read.
+	 */
+	JsonElement read(JsonReader reader) throws IOException {
+		if ( paths == null ) {
+			return JSON_PARSER.parse( reader );
+		}
+		else if ( paths.isEmpty() ) {
+			reader.skipValue();
+			return null;
+		}
+		return readChild( reader, null );
+	}
+
+	private JsonElement readChild(JsonReader reader, String path) throws IOException {
+		switch ( reader.peek() ) {
+			case BEGIN_OBJECT:
+				return readObject( reader, path );
+			case BEGIN_ARRAY:
+				// Arrays of objects: filter each object the same way
+				JsonArray array = new JsonArray();
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					JsonElement element = readChild( reader, path );
+					if ( element != null ) {
+						array.add( element );
+					}
+				}
+				reader.endArray();
+				return array;
+			default:
+				// A value where we expected an object: it cannot contain any of the requested paths
+				reader.skipValue();
+				return null;
+		}
+	}
+
+	private JsonObject readObject(JsonReader reader, String parentPath) throws IOException {
+		JsonObject object = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			String path = parentPath == null ? name : parentPath + "." + name;
+			if ( paths.contains( path ) ) {
+				object.add( name, JSON_PARSER.parse( reader ) );
+			}
+			else if ( parentPaths.contains( path ) ) {
+				JsonElement child = readChild( reader, path );
+				if ( child != null ) {
+					object.add( name, child );
+				}
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return object;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+abstract class AbstractElasticsearchFieldAggregation<F, A> implements ElasticsearchSearchAggregation<A> {
+
+	private static final String KEY_AS_STRING = "key_as_string";
+	private static final String KEY = "key";
+	static final String DOC_COUNT = "doc_count";
+
+	private final Set<String> indexNames;
+	final String absoluteFieldPath;
+	final ElasticsearchFieldCodec<F> codec;
+
+	AbstractElasticsearchFieldAggregation(Set<String> indexNames, String absoluteFieldPath,
+			ElasticsearchFieldCodec<F> codec) {
+		this.indexNames = indexNames;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.codec = codec;
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[absoluteFieldPath=" + absoluteFieldPath + "]";
+	}
+
+	/**
+	 * @param bucket A bucket from the result of a terms or histogram aggregation.
+	 * @return The decoded key of the bucket.
+	 */
+	F decodeBucketKey(JsonObject bucket) {
+		// Dates and booleans are returned as numbers in "key", and formatted according to the mapping in "key_as_string"
+		JsonElement key = bucket.get( KEY_AS_STRING );
+		if ( key == null ) {
+			key = bucket.get( KEY );
+		}
+		return codec.decode( key );
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchDateHistogramAggregation<F> extends AbstractElasticsearchFieldAggregation<F, Map<F, Long>> {
+
+	private final Duration interval;
+
+	private ElasticsearchDateHistogramAggregation(Builder<F> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath, builder.codec );
+		this.interval = builder.interval;
+	}
+
+	@Override
+	public JsonObject toJson() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		// A fixed interval, aligned on the epoch in UTC: same as the Lucene backend
+		innerObject.addProperty( "interval", interval.toMillis() + "ms" );
+		// Only return non-empty buckets: same as the Lucene backend
+		innerObject.addProperty( "min_doc_count", 1 );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "date_histogram", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<F, Long> extract(JsonObject aggregationResult) {
+		JsonArray buckets = aggregationResult.getAsJsonArray( "buckets" );
+		Map<F, Long> result = new LinkedHashMap<>();
+		for ( JsonElement bucketElement : buckets ) {
+			JsonObject bucket = bucketElement.getAsJsonObject();
+			// Buckets may collide if the field format is less precise than the interval (e.g. LocalDate)
+			result.merge( decodeBucketKey( bucket ), bucket.get( DOC_COUNT ).getAsLong(), Long::sum );
+		}
+		return result;
+	}
+
+	public static class Builder<F> implements DateHistogramAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+		private final ElasticsearchFieldCodec<F> codec;
+
+		private Duration interval;
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, ElasticsearchFieldCodec<F> codec) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.codec = codec;
+		}
+
+		@Override
+		public void interval(Duration interval) {
+			this.interval = interval;
+		}
+
+		@Override
+		public SearchAggregation<Map<F, Long>> build() {
+			return new ElasticsearchDateHistogramAggregation<>( this );
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.data.Range;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchRangeAggregation<F> extends AbstractElasticsearchFieldAggregation<F, Map<Range<F>, Long>> {
+
+	private final List<Range<F>> ranges;
+
+	private ElasticsearchRangeAggregation(Builder<F> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath, builder.codec );
+		this.ranges = builder.ranges;
+	}
+
+	@Override
+	public JsonObject toJson() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		// Use the index of each range as its key, so that we can match results to ranges reliably
+		innerObject.addProperty( "keyed", true );
+		JsonArray rangesJson = new JsonArray();
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			Range<F> range = ranges.get( i );
+			JsonObject rangeJson = new JsonObject();
+			rangeJson.addProperty( "key", String.valueOf( i ) );
+			F lowerBound = range.getLowerBoundIncluded();
+			if ( lowerBound != null ) {
+				rangeJson.add( "from", codec.encode( lowerBound ) );
+			}
+			F upperBound = range.getUpperBoundExcluded();
+			if ( upperBound != null ) {
+				rangeJson.add( "to", codec.encode( upperBound ) );
+			}
+			rangesJson.add( rangeJson );
+		}
+		innerObject.add( "ranges", rangesJson );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "range", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<Range<F>, Long> extract(JsonObject aggregationResult) {
+		JsonObject buckets = aggregationResult.getAsJsonObject( "buckets" );
+		Map<Range<F>, Long> result = new LinkedHashMap<>();
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			JsonObject bucket = buckets.getAsJsonObject( String.valueOf( i ) );
+			result.put( ranges.get( i ), bucket.get( DOC_COUNT ).getAsLong() );
+		}
+		return result;
+	}
+
+	public static class Builder<F> implements RangeAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+		private final ElasticsearchFieldCodec<F> codec;
+
+		private final List<Range<F>> ranges = new ArrayList<>();
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, ElasticsearchFieldCodec<F> codec) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.codec = codec;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // Range is immutable, so Range<? extends F> is also a Range<F>
+		public void range(Range<? extends F> range) {
+			ranges.add( (Range<F>) range );
+		}
+
+		@Override
+		public SearchAggregation<Map<Range<F>, Long>> build() {
+			return new ElasticsearchRangeAggregation<>( this );
+		}
+	}
+}
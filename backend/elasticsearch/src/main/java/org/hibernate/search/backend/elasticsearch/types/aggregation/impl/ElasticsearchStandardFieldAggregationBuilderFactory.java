@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class ElasticsearchStandardFieldAggregationBuilderFactory<F> implements ElasticsearchFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean aggregable;
+	private final boolean rangeSupported;
+	private final boolean dateHistogramSupported;
+
+	private final FromDocumentFieldValueConverter<? super F, F> rawConverter;
+
+	private final ElasticsearchFieldCodec<F> codec;
+
+	/**
+	 * @param aggregable Whether aggregations are enabled, i.e. whether the field is sortable and thus has doc values.
+	 * @param rangeSupported Whether range aggregations are supported by the field type.
+	 * @param dateHistogramSupported Whether date histogram aggregations are supported by the field type.
+	 * @param rawConverter The raw converter of the field, used to check the expected type of aggregation results.
+	 * @param codec The codec of the field.
+	 */
+	public ElasticsearchStandardFieldAggregationBuilderFactory(boolean aggregable,
+			boolean rangeSupported, boolean dateHistogramSupported,
+			FromDocumentFieldValueConverter<? super F, F> rawConverter,
+			ElasticsearchFieldCodec<F> codec) {
+		this.aggregable = aggregable;
+		this.rangeSupported = rangeSupported;
+		this.dateHistogramSupported = dateHistogramSupported;
+		this.rawConverter = rawConverter;
+		this.codec = codec;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <T> TermsAggregationBuilder<T> createTermsAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		checkAggregable( absoluteFieldPath );
+		checkExpectedType( absoluteFieldPath, expectedType );
+		return (TermsAggregationBuilder<T>) new ElasticsearchTermsAggregation.Builder<>(
+				indexNames, absoluteFieldPath, codec
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <T> RangeAggregationBuilder<T> createRangeAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		if ( !rangeSupported ) {
+			throw log.aggregationNotSupportedByFieldType( "range",
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+		checkAggregable( absoluteFieldPath );
+		checkExpectedType( absoluteFieldPath, expectedType );
+		return (RangeAggregationBuilder<T>) new ElasticsearchRangeAggregation.Builder<>(
+				indexNames, absoluteFieldPath, codec
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <T> DateHistogramAggregationBuilder<T> createDateHistogramAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		if ( !dateHistogramSupported ) {
+			throw log.aggregationNotSupportedByFieldType( "dateHistogram",
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+		checkAggregable( absoluteFieldPath );
+		checkExpectedType( absoluteFieldPath, expectedType );
+		return (DateHistogramAggregationBuilder<T>) new ElasticsearchDateHistogramAggregation.Builder<>(
+				indexNames, absoluteFieldPath, codec
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleCodec(ElasticsearchFieldAggregationBuilderFactory obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj.getClass() != ElasticsearchStandardFieldAggregationBuilderFactory.class ) {
+			return false;
+		}
+
+		ElasticsearchStandardFieldAggregationBuilderFactory<?> other = (ElasticsearchStandardFieldAggregationBuilderFactory<?>) obj;
+		return aggregable == other.aggregable && codec.isCompatibleWith( other.codec );
+	}
+
+	private void checkAggregable(String absoluteFieldPath) {
+		if ( !aggregable ) {
+			throw log.nonAggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+
+	private void checkExpectedType(String absoluteFieldPath, Class<?> expectedType) {
+		if ( !rawConverter.isConvertedTypeAssignableTo( expectedType ) ) {
+			throw log.invalidAggregationInvalidType( absoluteFieldPath, expectedType,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchTermsAggregation<F> extends AbstractElasticsearchFieldAggregation<F, Map<F, Long>> {
+
+	private static final int DEFAULT_MIN_DOCUMENT_COUNT = 1;
+	private static final int DEFAULT_MAX_TERM_COUNT = 100;
+
+	private final int minDocumentCount;
+	private final int maxTermCount;
+
+	private ElasticsearchTermsAggregation(Builder<F> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath, builder.codec );
+		this.minDocumentCount = builder.minDocumentCount;
+		this.maxTermCount = builder.maxTermCount;
+	}
+
+	@Override
+	public JsonObject toJson() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "size", maxTermCount );
+		innerObject.addProperty( "min_doc_count", minDocumentCount );
+
+		// Order by descending count, then ascending term: same as the Lucene backend
+		JsonArray order = new JsonArray();
+		order.add( order( "_count", "desc" ) );
+		order.add( order( "_key", "asc" ) );
+		innerObject.add( "order", order );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "terms", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<F, Long> extract(JsonObject aggregationResult) {
+		JsonArray buckets = aggregationResult.getAsJsonArray( "buckets" );
+		Map<F, Long> result = new LinkedHashMap<>();
+		for ( JsonElement bucketElement : buckets ) {
+			JsonObject bucket = bucketElement.getAsJsonObject();
+			result.put( decodeBucketKey( bucket ), bucket.get( DOC_COUNT ).getAsLong() );
+		}
+		return result;
+	}
+
+	private static JsonObject order(String property, String direction) {
+		JsonObject order = new JsonObject();
+		order.addProperty( property, direction );
+		return order;
+	}
+
+	public static class Builder<F> implements TermsAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+		private final ElasticsearchFieldCodec<F> codec;
+
+		private int minDocumentCount = DEFAULT_MIN_DOCUMENT_COUNT;
+		private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, ElasticsearchFieldCodec<F> codec) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.codec = codec;
+		}
+
+		@Override
+		public void minDocumentCount(int minDocumentCount) {
+			this.minDocumentCount = minDocumentCount;
+		}
+
+		@Override
+		public void maxTermCount(int maxTermCount) {
+			this.maxTermCount = maxTermCount;
+		}
+
+		@Override
+		public SearchAggregation<Map<F, Long>> build() {
+			return new ElasticsearchTermsAggregation<>( this );
+		}
+	}
+}
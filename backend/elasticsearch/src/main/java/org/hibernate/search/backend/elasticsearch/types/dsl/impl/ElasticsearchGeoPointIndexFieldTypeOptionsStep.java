@@ -39,6 +39,7 @@ protected ElasticsearchIndexFieldType<GeoPoint> toIndexFieldType(PropertyMapping
 				new ElasticsearchGeoPointFieldPredicateBuilderFactory( resolvedSearchable ),
 				new ElasticsearchGeoPointFieldSortBuilderFactory( resolvedSortable ),
 				new ElasticsearchGeoPointFieldProjectionBuilderFactory( resolvedProjectable, indexToProjectionConverter, createFromDocumentRawConverter(), codec ),
+				null,
 				mapping
 		);
 	}
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 
 
 public interface SearchWorkBuilder<T> extends ElasticsearchWorkBuilder<ElasticsearchWork<ElasticsearchLoadableSearchResult<T>>> {
@@ -24,4 +25,19 @@
 
 	SearchWorkBuilder<T> routingKeys(Set<String> routingKeys);
 
+	/**
+	 * @param totalHitCountThreshold The number of hits up to which the total hit count must be exact,
+	 * or {@code null} to always count hits exactly.
+	 * Ignored on Elasticsearch versions where total hits are always tracked.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchWorkBuilder<T> totalHitCountThreshold(Long totalHitCountThreshold);
+
+	/**
+	 * @param timeout The time after which Elasticsearch must stop collecting hits and return partial results,
+	 * or {@code null} for no timeout.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchWorkBuilder<T> timeout(SearchTimeout timeout);
+
 }
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonSizeEstimator;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -30,6 +31,8 @@
 
 	private final JsonObject bulkableActionMetadata;
 
+	private long bulkableActionSizeEstimate = -1L;
+
 	protected AbstractSimpleBulkableElasticsearchWork(AbstractBuilder<?> builder) {
 		super( builder );
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
@@ -59,6 +62,20 @@ public JsonObject getBulkableActionBody() {
 		}
 	}
 
+	@Override
+	public long getBulkableActionSizeEstimate() {
+		if ( bulkableActionSizeEstimate < 0L ) {
+			// One line per JSON object in bulk requests
+			long estimate = JsonSizeEstimator.estimate( bulkableActionMetadata ) + 1;
+			JsonObject body = getBulkableActionBody();
+			if ( body != null ) {
+				estimate += JsonSizeEstimator.estimate( body ) + 1;
+			}
+			bulkableActionSizeEstimate = estimate;
+		}
+		return bulkableActionSizeEstimate;
+	}
+
 	@Override
 	public CompletableFuture<R> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		return Futures.create( () -> handleResult( context, bulkResponseItem ) );
@@ -8,6 +8,8 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -28,6 +30,7 @@
 import java.lang.invoke.MethodHandles;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -37,6 +40,14 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
 
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final JsonAccessor<JsonElement> ERROR = JsonAccessor.root().property( "error" );
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+
+	private static final int SERVICE_UNAVAILABLE_STATUS_CODE = 503;
+
 	private final ElasticsearchRequest request;
 
 	private final List<BulkableElasticsearchWork<?>> works;
@@ -96,10 +107,41 @@ public Object getInfo() {
 
 	private BulkResult generateResult(ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.getBody();
-		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
+		JsonArray resultItems;
+		if ( isRejectedStatusCode( response.getStatusCode() ) ) {
+			/*
+			 * The whole bulk request was rejected.
+			 * Report each item as rejected, so that bulked works can be retried or fail individually.
+			 */
+			resultItems = new JsonArray();
+			for ( BulkableElasticsearchWork<?> work : works ) {
+				resultItems.add( createRejectedItem( work, response.getStatusCode(), parsedResponseBody ) );
+			}
+		}
+		else {
+			resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
+		}
 		return new BulkResultImpl( resultItems, refreshStrategy );
 	}
 
+	private static JsonObject createRejectedItem(BulkableElasticsearchWork<?> work, int statusCode, JsonObject responseBody) {
+		JsonObject itemContent = new JsonObject();
+		itemContent.addProperty( "status", statusCode );
+		if ( responseBody != null ) {
+			ERROR.get( responseBody ).ifPresent( error -> itemContent.add( "error", error ) );
+		}
+		JsonObject item = new JsonObject();
+		// Items are named after the action, which is the only property of the action metadata, e.g. "index"
+		for ( String action : work.getBulkableActionMetadata().keySet() ) {
+			item.add( action, itemContent );
+		}
+		return item;
+	}
+
+	private static boolean isRejectedStatusCode(int statusCode) {
+		return statusCode == TOO_MANY_REQUESTS_STATUS_CODE || statusCode == SERVICE_UNAVAILABLE_STATUS_CODE;
+	}
+
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
 
 		public NoIndexDirtyBulkExecutionContext(ElasticsearchWorkExecutionContext delegate) {
@@ -184,6 +226,21 @@ public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext con
 			}
 			return new BulkResultItemExtractorImpl( results, actualContext );
 		}
+
+		@Override
+		public boolean isItemRejected(int index) {
+			if ( index >= results.size() ) {
+				return false;
+			}
+			// Each item is an object with a single property named after the action, e.g. "index"
+			for ( Map.Entry<String, JsonElement> entry : results.get( index ).getAsJsonObject().entrySet() ) {
+				Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( entry.getValue().getAsJsonObject() );
+				if ( statusCode.isPresent() && isRejectedStatusCode( statusCode.get() ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 	private static class BulkResultItemExtractorImpl implements BulkResultItemExtractor {
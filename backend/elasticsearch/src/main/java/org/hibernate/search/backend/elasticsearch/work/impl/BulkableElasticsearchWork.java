@@ -21,6 +21,12 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return An estimate of the size of this work once serialized in a bulk request, in bytes,
+	 * metadata and body included.
+	 */
+	long getBulkableActionSizeEstimate();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
@@ -13,6 +13,7 @@
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -81,9 +82,9 @@ public String toString() {
 
 	@Override
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.getBody();
 		Optional<Integer> statusCode = Optional.of( response.getStatusCode() );
-		checkSuccess( statusCode, responseBody );
+		// Don't parse the body unless necessary: successful responses may be read in a streaming fashion later
+		checkSuccess( statusCode, response::getBody );
 	}
 
 	@Override
@@ -91,10 +92,10 @@ public void checkSuccess(JsonObject bulkResponseItem) {
 		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
 		JsonObject responseBody = bulkResponseItem == null ? null : bulkResponseItem.entrySet().iterator().next().getValue().getAsJsonObject();
 		Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( responseBody );
-		checkSuccess( statusCode, responseBody );
+		checkSuccess( statusCode, () -> responseBody );
 	}
 
-	private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
+	private void checkSuccess(Optional<Integer> statusCode, Supplier<JsonObject> responseBody) {
 		if ( !isSuccess( statusCode, responseBody ) ) {
 			if ( statusCode.filter( isEqual( TIME_OUT_HTTP_STATUS_CODE ) ).isPresent() ) {
 				throw log.elasticsearchRequestTimeout();
@@ -105,12 +106,12 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 		}
 	}
 
-	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
+	private boolean isSuccess(Optional<Integer> statusCode, Supplier<JsonObject> responseBody) {
 		return statusCode.map(
 				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
 				)
 				.orElse( false )
-				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+				|| ERROR_TYPE.get( responseBody.get() ).map( ignoredErrorTypes::contains ).orElse( false );
 	}
 
 }
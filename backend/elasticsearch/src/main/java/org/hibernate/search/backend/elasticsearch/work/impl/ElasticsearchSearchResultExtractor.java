@@ -6,12 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<H> {
 
-	ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody);
+	/**
+	 * @param responseBodyReader A reader over the body of a search response.
+	 * @return The result extracted from the response.
+	 * @throws IOException If the response body cannot be read.
+	 */
+	ElasticsearchLoadableSearchResult<H> extract(JsonReader responseBodyReader) throws IOException;
 
 }
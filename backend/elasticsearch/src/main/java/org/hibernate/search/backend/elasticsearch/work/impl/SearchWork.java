@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,14 +20,18 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 
 public class SearchWork<H> extends AbstractSimpleElasticsearchWork<ElasticsearchLoadableSearchResult<H>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<H> resultExtractor;
@@ -47,8 +53,13 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected ElasticsearchLoadableSearchResult<H> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		// Don't build the whole JSON tree: search responses can be very large
+		try ( JsonReader bodyReader = response.getBodyReader() ) {
+			return resultExtractor.extract( bodyReader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
 	}
 
 	public static class Builder<H>
@@ -61,7 +72,7 @@ public static <T> Builder<T> forElasticsearch6AndBelow(JsonObject payload, Elast
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
+			// Track total hits exactly by default; may be overridden with a threshold, see totalHitCountThreshold()
 			return new Builder<>( payload, resultExtractor, true );
 		}
 
@@ -75,6 +86,8 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private Long totalHitCountThreshold;
+		private SearchTimeout timeout;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<H> resultExtractor, Boolean trackTotalHits) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -109,6 +122,18 @@ public SearchWorkBuilder<H> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<H> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<H> timeout(SearchTimeout timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -134,8 +159,19 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( timeout != null ) {
+				// Elasticsearch returns partial results with "timed_out": true when this timeout is exceeded
+				builder.param( "timeout", timeout.toMillis() + "ms" );
+			}
+
 			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+				if ( totalHitCountThreshold != null ) {
+					// Elasticsearch only accepts integers here
+					builder.param( "track_total_hits", (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+				}
+				else {
+					builder.param( "track_total_hits", trackTotalHits );
+				}
 			}
 
 			return builder.build();
@@ -13,4 +13,11 @@ public interface BulkResult {
 
 	BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context);
 
+	/**
+	 * @param index The index of an item in the bulk.
+	 * @return {@code true} if Elasticsearch rejected this item because it was temporarily overloaded or unavailable
+	 * (HTTP status 429 "Too many requests" or 503 "Service unavailable"), meaning the item can be retried later.
+	 */
+	boolean isItemRejected(int index);
+
 }
@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void updateDigest() throws IOException {
+		List<JsonObject> bodyParts = createLargeBulk();
+		byte[] expectedContent = encode( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			MessageDigest digest = sha256();
+			entity.updateDigest( digest );
+			assertThat( digest.digest() ).isEqualTo( sha256().digest( expectedContent ) );
+			assertThat( entity.getContentLength() ).isEqualTo( expectedContent.length );
+
+			assertThat( produceContent( entity ) ).isEqualTo( expectedContent );
+			entity.close();
+			// Content must be repeatable
+			assertThat( produceContent( entity ) ).isEqualTo( expectedContent );
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo( out );
+			assertThat( out.toByteArray() ).isEqualTo( expectedContent );
+		}
+	}
+
+	@Test
+	public void updateDigest_contentEncodedOnlyOnce() throws IOException {
+		List<JsonObject> bodyParts = createLargeBulk();
+		byte[] expectedContent = encode( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			entity.updateDigest( sha256() );
+
+			// Changes to the body parts after the digest was computed must not be taken into account
+			bodyParts.get( 0 ).addProperty( "added", "afterDigest" );
+
+			MessageDigest digest = sha256();
+			entity.updateDigest( digest );
+			assertThat( digest.digest() ).isEqualTo( sha256().digest( expectedContent ) );
+			assertThat( produceContent( entity ) ).isEqualTo( expectedContent );
+		}
+	}
+
+	@Test
+	public void gzip() throws IOException {
+		List<JsonObject> bodyParts = createLargeBulk();
+		byte[] expectedContent = encode( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+			// Large content is compressed as it is produced: the length is unknown
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+
+			byte[] compressed = produceContent( entity );
+			assertThat( compressed.length ).isLessThan( expectedContent.length / 4 );
+			assertThat( gunzip( compressed ) ).isEqualTo( expectedContent );
+			entity.close();
+			// Content must be repeatable
+			assertThat( gunzip( produceContent( entity ) ) ).isEqualTo( expectedContent );
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo( out );
+			assertThat( gunzip( out.toByteArray() ) ).isEqualTo( expectedContent );
+		}
+	}
+
+	@Test
+	public void gzip_small() throws IOException {
+		JsonObject bodyPart = new JsonObject();
+		bodyPart.addProperty( "text", "Some text, with a non-ASCII character: é" );
+		List<JsonObject> bodyParts = Collections.singletonList( bodyPart );
+		byte[] expectedContent = encode( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			byte[] compressed = produceContent( entity );
+			// Small content is compressed upfront: the length is known
+			assertThat( entity.getContentLength() ).isEqualTo( compressed.length );
+			assertThat( gunzip( compressed ) ).isEqualTo( expectedContent );
+		}
+	}
+
+	@Test
+	public void gzip_updateDigest() throws IOException {
+		List<JsonObject> bodyParts = createLargeBulk();
+		byte[] expectedContent = encode( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			MessageDigest digest = sha256();
+			entity.updateDigest( digest );
+			byte[] compressed = produceContent( entity );
+			// The digest must be computed on the content actually sent, i.e. the compressed content
+			assertThat( digest.digest() ).isEqualTo( sha256().digest( compressed ) );
+			assertThat( gunzip( compressed ) ).isEqualTo( expectedContent );
+		}
+	}
+
+	@Test
+	public void gzipContentEncoder_complete() throws IOException {
+		byte[] expectedContent = encode( createLargeBulk() );
+
+		HeapContentEncoder output = new HeapContentEncoder();
+		GzipContentEncoder gzipEncoder = new GzipContentEncoder( 1024 );
+		gzipEncoder.setOutput( output );
+		ByteBuffer src = ByteBuffer.wrap( expectedContent );
+		output.nextWriteAcceptLimit = Integer.MAX_VALUE;
+		while ( src.hasRemaining() ) {
+			gzipEncoder.write( src );
+		}
+		// Used as a generic ContentEncoder: complete() must be called until the output accepted everything
+		int loopCounter = 0;
+		while ( !gzipEncoder.isCompleted() ) {
+			output.nextWriteAcceptLimit = 1 + ( loopCounter++ % 5 );
+			gzipEncoder.complete();
+		}
+		assertThat( output.isCompleted() ).isTrue();
+		assertThat( gunzip( output.content.toByteArray() ) ).isEqualTo( expectedContent );
+	}
+
+	private static byte[] gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try ( InputStream in = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = in.read( buffer ) ) >= 0 ) {
+				out.write( buffer, 0, read );
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !encoder.isCompleted() ) {
+			// Use small, varying write windows to exercise flow control
+			encoder.nextWriteAcceptLimit = 1 + ( loopCounter++ % 5 ) * 1000;
+			entity.produceContent( encoder, null );
+		}
+		return encoder.content.toByteArray();
+	}
+
+	private static List<JsonObject> createLargeBulk() {
+		List<JsonObject> bodyParts = new ArrayList<>();
+		for ( int i = 0; i < 2000; i++ ) {
+			JsonObject bodyPart = new JsonObject();
+			bodyPart.addProperty( "id", i );
+			bodyPart.addProperty( "text", "Some text, with a non-ASCII character: é" );
+			bodyParts.add( bodyPart );
+		}
+		return bodyParts;
+	}
+
+	private static byte[] encode(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			GSON.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int nextWriteAcceptLimit;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			assertThat( completed ).isFalse();
+			assertThat( src.hasRemaining() ).as( "Zero-length writes must never happen" ).isTrue();
+			int toRead = Math.min( src.remaining(), nextWriteAcceptLimit );
+			byte[] read = new byte[toRead];
+			src.get( read );
+			content.write( read, 0, toRead );
+			nextWriteAcceptLimit -= toRead;
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.util.common.impl.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchBulkItemRetrierTest extends EasyMockSupport {
+
+	private ScheduledExecutorService scheduler;
+
+	private final List<List<BulkableElasticsearchWork<?>>> retriedBulks = new ArrayList<>();
+
+	@Before
+	public void startScheduler() {
+		scheduler = Executors.newScheduledThreadPool( getClass().getSimpleName() );
+	}
+
+	@After
+	public void stopScheduler() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void disabled() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( null, 0, 1L, 100 );
+		ElasticsearchWork<BulkResult> bulkWork = new StubBulkWork( new StubBulkResult( "bulk", 0 ) );
+
+		assertThat( retrier.decorate( bulkWork, Collections.emptyList(), works -> null ) ).isSameAs( bulkWork );
+	}
+
+	@Test
+	public void retryRejectedItemsOnly() throws Exception {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 3, 1L, 100 );
+		List<BulkableElasticsearchWork<?>> works = works( 3 );
+
+		ElasticsearchWork<BulkResult> decorated = retrier.decorate(
+				new StubBulkWork( new StubBulkResult( "bulk", 1, 2 ) ),
+				works,
+				retryBulkWorkFactory(
+						new StubBulkResult( "retry1", 1 ),
+						new StubBulkResult( "retry2" )
+				)
+		);
+
+		BulkResult result = decorated.execute( null ).get( 10, TimeUnit.SECONDS );
+
+		assertThat( retriedBulks ).containsExactly(
+				Arrays.asList( works.get( 1 ), works.get( 2 ) ),
+				Collections.singletonList( works.get( 2 ) )
+		);
+		BulkResultItemExtractor extractor = result.withContext( null );
+		assertThat( extractor.extract( works.get( 0 ), 0 ).get() ).isEqualTo( "bulk#0" );
+		assertThat( extractor.extract( works.get( 1 ), 1 ).get() ).isEqualTo( "retry1#0" );
+		assertThat( extractor.extract( works.get( 2 ), 2 ).get() ).isEqualTo( "retry2#0" );
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( result.isItemRejected( i ) ).isFalse();
+		}
+		assertThat( retrier.getItemsPendingRetry() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void maxRetries() throws Exception {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 2, 1L, 100 );
+		List<BulkableElasticsearchWork<?>> works = works( 2 );
+
+		ElasticsearchWork<BulkResult> decorated = retrier.decorate(
+				new StubBulkWork( new StubBulkResult( "bulk", 0 ) ),
+				works,
+				retryBulkWorkFactory(
+						new StubBulkResult( "retry1", 0 ),
+						new StubBulkResult( "retry2", 0 ),
+						new StubBulkResult( "unexpected" )
+				)
+		);
+
+		BulkResult result = decorated.execute( null ).get( 10, TimeUnit.SECONDS );
+
+		assertThat( retriedBulks ).hasSize( 2 );
+		assertThat( result.isItemRejected( 0 ) ).isTrue();
+		assertThat( result.isItemRejected( 1 ) ).isFalse();
+		BulkResultItemExtractor extractor = result.withContext( null );
+		assertThat( extractor.extract( works.get( 0 ), 0 ).get() ).isEqualTo( "retry2#0" );
+		assertThat( extractor.extract( works.get( 1 ), 1 ).get() ).isEqualTo( "bulk#1" );
+		assertThat( retrier.getItemsPendingRetry() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void retryBudget() throws Exception {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 3, 1L, 1 );
+		List<BulkableElasticsearchWork<?>> works = works( 2 );
+
+		ElasticsearchWork<BulkResult> decorated = retrier.decorate(
+				new StubBulkWork( new StubBulkResult( "bulk", 0, 1 ) ),
+				works,
+				retryBulkWorkFactory( new StubBulkResult( "unexpected" ) )
+		);
+
+		BulkResult result = decorated.execute( null ).get( 10, TimeUnit.SECONDS );
+
+		// Retrying both items would exceed the budget: the items are not retried
+		assertThat( retriedBulks ).isEmpty();
+		assertThat( result.isItemRejected( 0 ) ).isTrue();
+		assertThat( result.isItemRejected( 1 ) ).isTrue();
+		assertThat( retrier.getItemsPendingRetry() ).isEqualTo( 0 );
+	}
+
+	private List<BulkableElasticsearchWork<?>> works(int count) {
+		List<BulkableElasticsearchWork<?>> works = new ArrayList<>();
+		for ( int i = 0; i < count; i++ ) {
+			works.add( createMock( "work" + i, BulkableElasticsearchWork.class ) );
+		}
+		return works;
+	}
+
+	private Function<List<BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> retryBulkWorkFactory(
+			BulkResult ... results) {
+		List<BulkResult> remaining = new ArrayList<>( Arrays.asList( results ) );
+		return works -> {
+			retriedBulks.add( new ArrayList<>( works ) );
+			return new StubBulkWork( remaining.remove( 0 ) );
+		};
+	}
+
+	private static class StubBulkWork implements ElasticsearchWork<BulkResult> {
+		private final BulkResult result;
+
+		private StubBulkWork(BulkResult result) {
+			this.result = result;
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			return CompletableFuture.completedFuture( result );
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object getInfo() {
+			return null;
+		}
+	}
+
+	/**
+	 * A bulk result whose items extract to "&lt;name&gt;#&lt;index&gt;".
+	 */
+	private static class StubBulkResult implements BulkResult {
+		private final String name;
+		private final Set<Integer> rejectedIndexes;
+
+		private StubBulkResult(String name, Integer ... rejectedIndexes) {
+			this.name = name;
+			this.rejectedIndexes = new HashSet<>( Arrays.asList( rejectedIndexes ) );
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			return new BulkResultItemExtractor() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+					return CompletableFuture.completedFuture( (T) ( name + "#" + index ) );
+				}
+			};
+		}
+
+		@Override
+		public boolean isItemRejected(int index) {
+			return rejectedIndexes.contains( index );
+		}
+	}
+}
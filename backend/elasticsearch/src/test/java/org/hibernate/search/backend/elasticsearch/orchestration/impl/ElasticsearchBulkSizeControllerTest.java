@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyInt;
+import static org.easymock.EasyMock.expect;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchBulkSizeControllerTest extends EasyMockSupport {
+
+	private static final int MAX_BULK_SIZE = 250;
+
+	private static final int TARGET_LATENCY_MS = 1000;
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MS / 2 );
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MS * 2 );
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fixed() {
+		ElasticsearchBulkSizeController controller =
+				new ElasticsearchBulkSizeController( MAX_BULK_SIZE, Long.MAX_VALUE, null );
+		ElasticsearchWork<BulkResult> bulkWork = createMock( ElasticsearchWork.class );
+
+		replayAll();
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( MAX_BULK_SIZE );
+		assertThat( controller.isCappingBytes() ).isFalse();
+		assertThat( controller.monitor( bulkWork, MAX_BULK_SIZE ) ).isSameAs( bulkWork );
+		verifyAll();
+	}
+
+	@Test
+	public void adaptive() {
+		ElasticsearchBulkSizeController controller =
+				new ElasticsearchBulkSizeController( MAX_BULK_SIZE, 1024L, TARGET_LATENCY_MS );
+		BulkResult successful = bulkResult( false );
+		BulkResult withRejections = bulkResult( true );
+
+		replayAll();
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( MAX_BULK_SIZE );
+		assertThat( controller.isCappingBytes() ).isTrue();
+		assertThat( controller.getMaxBulkBytes() ).isEqualTo( 1024L );
+
+		// Cannot grow beyond the maximum
+		controller.onBulkExecuted( 250, FAST, successful, null );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 250 );
+
+		// Rejections: shrink by half
+		controller.onBulkExecuted( 250, FAST, withRejections, null );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 125 );
+
+		// Slow: shrink by a quarter
+		controller.onBulkExecuted( 125, SLOW, successful, null );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 94 );
+
+		// Fast and full: grow by a tenth
+		controller.onBulkExecuted( 94, FAST, successful, null );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 103 );
+
+		// Fast but not full: no change
+		controller.onBulkExecuted( 20, FAST, successful, null );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 103 );
+
+		// Failures: shrink by half, but not below the minimum
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( 103, FAST, null, new RuntimeException() );
+		}
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 10 );
+		verifyAll();
+	}
+
+	private BulkResult bulkResult(boolean withRejections) {
+		BulkResult mock = createMock( BulkResult.class );
+		if ( withRejections ) {
+			expect( mock.isItemRejected( 2 ) ).andStubReturn( true );
+		}
+		expect( mock.isItemRejected( anyInt() ) ).andStubReturn( false );
+		return mock;
+	}
+}
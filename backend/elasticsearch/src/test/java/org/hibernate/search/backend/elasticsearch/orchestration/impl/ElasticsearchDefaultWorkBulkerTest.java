@@ -495,6 +495,59 @@ private <T> ElasticsearchWork<T> work(int index) {
 		return mock;
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void maxBulkBytes() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		ElasticsearchWork<BulkResult> bulkWork = work( 3 );
+
+		CompletableFuture<Void> work1Future;
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2Future;
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWorkFutureCapture = newCapture();
+		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						DEFAULT_MIN_BULK_SIZE,
+						new ElasticsearchBulkSizeController( DEFAULT_MAX_BULK_SIZE, 100L, null ),
+						new ElasticsearchBulkItemRetrier( null, 0, 0L, 0 ) );
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work1.getBulkableActionSizeEstimate() ).andReturn( 60L );
+		replayAll();
+		work1Future = bulker.add( work1 );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+
+		// Adding the second work would exceed the maximum size in bytes: the first bulk should be sent
+		resetAll();
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getBulkableActionSizeEstimate() ).andReturn( 60L );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWorkFutureCapture ) ) ).andReturn( bulkWorkResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work1, 0 ) ).andReturn( work1FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).andReturn( (ElasticsearchWork) bulkWork );
+		replayAll();
+		work2Future = bulker.add( work2 );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+		assertThat( bulkWorkFutureCapture.getValue() ).isSuccessful( bulkWork );
+
+		// The second work should be in a new bulk, which is not full yet
+		resetAll();
+		replayAll();
+		work1FutureFromSequenceBuilder.complete( null );
+		assertThat( work1Future ).isSuccessful( (Void) null );
+		assertThat( work2Future ).isPending();
+		verifyAll();
+	}
+
 	private <T> BulkableElasticsearchWork<T> bulkableWork(int index) {
 		BulkableElasticsearchWork<T> mock = createStrictMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
 		return mock;
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchDirectWorkOrchestratorTest extends EasyMockSupport {
+
+	private ElasticsearchLink linkMock;
+
+	private ElasticsearchDirectWorkOrchestrator orchestrator;
+
+	@Before
+	public void initMocks() {
+		linkMock = createMock( ElasticsearchLink.class );
+		expect( linkMock.getClient() ).andStubReturn( createMock( ElasticsearchClient.class ) );
+		expect( linkMock.getGsonProvider() ).andStubReturn( createMock( GsonProvider.class ) );
+	}
+
+	@After
+	public void closeOrchestrator() {
+		if ( orchestrator != null ) {
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void simple() {
+		ElasticsearchWork<Object> work1 = work( 1 );
+		CompletableFuture<Object> work1Future = new CompletableFuture<>();
+		Object work1Result = new Object();
+
+		replayAll();
+		startOrchestrator( 2 );
+		verifyAll();
+
+		resetAll();
+		expect( work1.execute( anyObject() ) ).andReturn( work1Future );
+		replayAll();
+		CompletableFuture<Object> returnedFuture = orchestrator.submit( work1 );
+		verifyAll();
+		assertThat( returnedFuture ).isPending();
+		Assertions.assertThat( orchestrator.getExecutingWorkSetCount() ).isEqualTo( 1 );
+
+		work1Future.complete( work1Result );
+		assertThat( returnedFuture ).isSuccessful( work1Result );
+		Assertions.assertThat( orchestrator.getExecutingWorkSetCount() ).isEqualTo( 0 );
+		Assertions.assertThat( orchestrator.getExecutedWorkSetCount() ).isEqualTo( 1 );
+		Assertions.assertThat( orchestrator.getFailedWorkSetCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void concurrencyLimit() {
+		ElasticsearchWork<Object> work1 = work( 1 );
+		ElasticsearchWork<Object> work2 = work( 2 );
+		ElasticsearchWork<Object> work3 = work( 3 );
+		CompletableFuture<Object> work1Future = new CompletableFuture<>();
+		CompletableFuture<Object> work2Future = new CompletableFuture<>();
+		CompletableFuture<Object> work3Future = new CompletableFuture<>();
+
+		replayAll();
+		startOrchestrator( 2 );
+		verifyAll();
+
+		resetAll();
+		expect( work1.execute( anyObject() ) ).andReturn( work1Future );
+		expect( work2.execute( anyObject() ) ).andReturn( work2Future );
+		replayAll();
+		CompletableFuture<Object> returnedFuture1 = orchestrator.submit( work1 );
+		CompletableFuture<Object> returnedFuture2 = orchestrator.submit( work2 );
+		// The limit is reached: this work must be queued, not executed
+		CompletableFuture<Object> returnedFuture3 = orchestrator.submit( work3 );
+		verifyAll();
+		Assertions.assertThat( orchestrator.getExecutingWorkSetCount() ).isEqualTo( 2 );
+		Assertions.assertThat( orchestrator.getQueuedWorkSetCount() ).isEqualTo( 1 );
+
+		resetAll();
+		expect( work3.execute( anyObject() ) ).andReturn( work3Future );
+		replayAll();
+		work2Future.complete( null );
+		verifyAll();
+		assertThat( returnedFuture1 ).isPending();
+		assertThat( returnedFuture2 ).isSuccessful( (Object) null );
+		assertThat( returnedFuture3 ).isPending();
+		Assertions.assertThat( orchestrator.getExecutingWorkSetCount() ).isEqualTo( 2 );
+		Assertions.assertThat( orchestrator.getQueuedWorkSetCount() ).isEqualTo( 0 );
+
+		work1Future.complete( null );
+		work3Future.complete( null );
+		assertThat( returnedFuture1 ).isSuccessful( (Object) null );
+		assertThat( returnedFuture3 ).isSuccessful( (Object) null );
+		Assertions.assertThat( orchestrator.getExecutingWorkSetCount() ).isEqualTo( 0 );
+		Assertions.assertThat( orchestrator.getExecutedWorkSetCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void failure() {
+		ElasticsearchWork<Object> work1 = work( 1 );
+		ElasticsearchWork<Object> work2 = work( 2 );
+		CompletableFuture<Object> work1Future = new CompletableFuture<>();
+		CompletableFuture<Object> work2Future = new CompletableFuture<>();
+		SearchException exception = new SearchException( "Some message" );
+
+		replayAll();
+		startOrchestrator( 1 );
+		verifyAll();
+
+		resetAll();
+		expect( work1.execute( anyObject() ) ).andReturn( work1Future );
+		replayAll();
+		CompletableFuture<Object> returnedFuture1 = orchestrator.submit( work1 );
+		CompletableFuture<Object> returnedFuture2 = orchestrator.submit( work2 );
+		verifyAll();
+
+		// A failure must release the slot, too
+		resetAll();
+		expect( work2.execute( anyObject() ) ).andReturn( work2Future );
+		replayAll();
+		work1Future.completeExceptionally( exception );
+		verifyAll();
+		assertThat( returnedFuture1 ).isFailed( exception );
+		assertThat( returnedFuture2 ).isPending();
+		Assertions.assertThat( orchestrator.getFailedWorkSetCount() ).isEqualTo( 1 );
+
+		work2Future.complete( null );
+		assertThat( returnedFuture2 ).isSuccessful( (Object) null );
+		Assertions.assertThat( orchestrator.getExecutedWorkSetCount() ).isEqualTo( 2 );
+		Assertions.assertThat( orchestrator.getFailedWorkSetCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void workset_sequential() {
+		ElasticsearchWork<Object> work1 = work( 1 );
+		ElasticsearchWork<Object> work2 = work( 2 );
+		List<ElasticsearchWork<?>> workset = Arrays.asList( work1, work2 );
+		CompletableFuture<Object> work1Future = new CompletableFuture<>();
+		CompletableFuture<Object> work2Future = new CompletableFuture<>();
+
+		replayAll();
+		startOrchestrator( 1 );
+		verifyAll();
+
+		resetAll();
+		expect( work1.execute( anyObject() ) ).andReturn( work1Future );
+		replayAll();
+		CompletableFuture<?> returnedFuture = orchestrator.submit( workset );
+		verifyAll();
+		assertThat( returnedFuture ).isPending();
+
+		// The second work must only be executed after the first one completed
+		resetAll();
+		expect( work2.execute( anyObject() ) ).andReturn( work2Future );
+		replayAll();
+		work1Future.complete( null );
+		verifyAll();
+		assertThat( returnedFuture ).isPending();
+
+		work2Future.complete( null );
+		assertThat( returnedFuture ).isSuccessful();
+		Assertions.assertThat( orchestrator.getExecutedWorkSetCount() ).isEqualTo( 1 );
+	}
+
+	private void startOrchestrator(int maxConcurrentWorks) {
+		orchestrator = new ElasticsearchDirectWorkOrchestrator( "orchestratorName", linkMock, maxConcurrentWorks );
+		orchestrator.start();
+	}
+
+	private <T> ElasticsearchWork<T> work(int index) {
+		return createStrictMock( "work" + index, ElasticsearchWork.class );
+	}
+
+}
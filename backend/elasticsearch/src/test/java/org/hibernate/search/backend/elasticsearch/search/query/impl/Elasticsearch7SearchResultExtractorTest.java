@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.same;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.easymock.EasyMockSupport;
+
+public class Elasticsearch7SearchResultExtractorTest extends EasyMockSupport {
+
+	private static final String RESPONSE = "{"
+			+ "'_scroll_id': 'someScrollId',"
+			+ "'took': 3,"
+			+ "'timed_out': false,"
+			+ "'hits': {"
+			+ "  'total': { 'value': 2, 'relation': 'eq' },"
+			+ "  'max_score': 1.0,"
+			+ "  'hits': ["
+			+ "    { '_id': '1', '_score': 1.0, '_source': { 'field': 'value1', 'large': { 'text': 'ignored' } } },"
+			+ "    { '_id': '2', '_score': 0.5, '_source': { 'field': 'value2' } }"
+			+ "  ]"
+			+ "},"
+			+ "'aggregations': { 'someAggregation': { 'buckets': [] } }"
+			+ "}";
+
+	private final LoadingContext<?, ?> loadingContext = createStrictMock( LoadingContext.class );
+	private final ProjectionHitMapper<?, ?> hitMapper = createStrictMock( ProjectionHitMapper.class );
+	@SuppressWarnings("unchecked")
+	private final ElasticsearchSearchProjection<Object, String> rootProjection =
+			createStrictMock( ElasticsearchSearchProjection.class );
+	@SuppressWarnings("unchecked")
+	private final ElasticsearchSearchAggregation<String> aggregation =
+			createStrictMock( ElasticsearchSearchAggregation.class );
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void extract() throws IOException {
+		SearchProjectionExtractContext context = new SearchProjectionExtractContext( null );
+		AggregationKey<String> aggregationKey = AggregationKey.of( "someAggregation" );
+		Elasticsearch7SearchResultExtractor<String> extractor = new Elasticsearch7SearchResultExtractor<>(
+				loadingContext, rootProjection, context,
+				HitSourceFilter.fromRequestSource( json( "[ 'field' ]" ) ),
+				Collections.singletonMap( aggregationKey, aggregation )
+		);
+
+		resetAll();
+		expect( (ProjectionHitMapper) loadingContext.getProjectionHitMapper() ).andReturn( hitMapper );
+		// Unrequested parts of the source must not be passed to projections
+		expect( rootProjection.extract( same( hitMapper ),
+				eq( (JsonObject) json( "{ '_id': '1', '_score': 1.0, '_source': { 'field': 'value1' } }" ) ), same( context ) ) )
+				.andReturn( "extracted1" );
+		expect( rootProjection.extract( same( hitMapper ),
+				eq( (JsonObject) json( "{ '_id': '2', '_score': 0.5, '_source': { 'field': 'value2' } }" ) ), same( context ) ) )
+				.andReturn( "extracted2" );
+		expect( aggregation.extract( (JsonObject) json( "{ 'buckets': [] }" ) ) ).andReturn( "aggregationResult" );
+		replayAll();
+		ElasticsearchLoadableSearchResult<String> result;
+		try ( JsonReader reader = new JsonReader( new StringReader( RESPONSE.replace( '\'', '"' ) ) ) ) {
+			result = extractor.extract( reader );
+		}
+		verifyAll();
+
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.getScrollId() ).isEqualTo( "someScrollId" );
+	}
+
+	private static JsonElement json(String json) {
+		return new JsonParser().parse( json.replace( '\'', '"' ) );
+	}
+}
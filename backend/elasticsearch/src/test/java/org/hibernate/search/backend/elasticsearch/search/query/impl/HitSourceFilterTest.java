@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+
+public class HitSourceFilterTest {
+
+	private static final String SOURCE = "{"
+			+ "'a': { 'b': 1, 'c': { 'd': 2 } },"
+			+ "'e': [ { 'b': 3, 'f': 4 }, 5, { 'f': 6 } ],"
+			+ "'g': 'text',"
+			+ "'h': { 'i': 7 }"
+			+ "}";
+
+	@Test
+	public void paths() throws IOException {
+		HitSourceFilter filter = HitSourceFilter.fromRequestSource( json( "[ 'a.b', 'e.b', 'g' ]" ) );
+		assertThat( read( filter, SOURCE ) )
+				.isEqualTo( json( "{ 'a': { 'b': 1 }, 'e': [ { 'b': 3 }, {} ], 'g': 'text' }" ) );
+	}
+
+	@Test
+	public void paths_objectInRequest() throws IOException {
+		HitSourceFilter filter = HitSourceFilter.fromRequestSource( json( "[ 'a' ]" ) );
+		assertThat( read( filter, SOURCE ) )
+				.isEqualTo( json( "{ 'a': { 'b': 1, 'c': { 'd': 2 } } }" ) );
+	}
+
+	@Test
+	public void paths_valueInsteadOfObject() throws IOException {
+		HitSourceFilter filter = HitSourceFilter.fromRequestSource( json( "[ 'g.b' ]" ) );
+		assertThat( read( filter, SOURCE ) ).isEqualTo( json( "{}" ) );
+	}
+
+	@Test
+	public void all() throws IOException {
+		assertThat( read( HitSourceFilter.fromRequestSource( json( "[ '*' ]" ) ), SOURCE ) )
+				.isEqualTo( json( SOURCE ) );
+		assertThat( read( HitSourceFilter.fromRequestSource( new JsonPrimitive( true ) ), SOURCE ) )
+				.isEqualTo( json( SOURCE ) );
+		assertThat( read( HitSourceFilter.fromRequestSource( null ), SOURCE ) )
+				.isEqualTo( json( SOURCE ) );
+	}
+
+	@Test
+	public void none() throws IOException {
+		HitSourceFilter filter = HitSourceFilter.fromRequestSource( new JsonPrimitive( false ) );
+		assertThat( read( filter, SOURCE ) ).isNull();
+	}
+
+	private static JsonElement read(HitSourceFilter filter, String source) throws IOException {
+		// Wrap the source to check that the reader is left right after it
+		try ( JsonReader reader = new JsonReader( new StringReader( "[" + source.replace( '\'', '"' ) + ", 42]" ) ) ) {
+			reader.beginArray();
+			JsonElement result = filter.read( reader );
+			assertThat( reader.nextInt() ).isEqualTo( 42 );
+			reader.endArray();
+			return result;
+		}
+	}
+
+	private static JsonElement json(String json) {
+		return new JsonParser().parse( json.replace( '\'', '"' ) );
+	}
+}
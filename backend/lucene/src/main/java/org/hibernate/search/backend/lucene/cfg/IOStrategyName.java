@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IOStrategyName {
+
+	/**
+	 * Index changes are committed at the end of each batch of works,
+	 * and index readers are always opened from committed data.
+	 * <p>
+	 * Changes are durable as soon as they are visible in search queries,
+	 * but each refresh requires a commit, which may be costly.
+	 */
+	COMMIT("commit"),
+
+	/**
+	 * Index readers are opened directly from the index writer ("near-real-time" readers),
+	 * which makes index changes visible to search queries without committing them,
+	 * and commits are executed periodically.
+	 * <p>
+	 * Refreshing is much cheaper than with {@link #COMMIT},
+	 * but changes that were not committed yet may be lost in the event of a crash.
+	 */
+	NEAR_REAL_TIME("near-real-time");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IOStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IOStrategyName.values(),
+				IOStrategyName::getExternalRepresentation,
+				log::invalidIOStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IOStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -113,6 +113,24 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The size of the thread pool assigned to the backend,
+	 * used in particular to apply changes to indexes.
+	 * <p>
+	 * A separate thread pool of the same size is used to execute asynchronous queries.
+	 * <p>
+	 * The thread pool is shared between all indexes (and shards) of the backend:
+	 * each index (or shard) processes at most one batch of changes at any given time,
+	 * but multiple indexes (or shards) may process changes concurrently,
+	 * up to the size of the thread pool.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String THREAD_POOL_SIZE = "thread_pool.size";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
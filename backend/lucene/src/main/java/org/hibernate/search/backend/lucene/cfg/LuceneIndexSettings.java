@@ -11,14 +11,28 @@
  * <p>
  * Constants in this class are to be appended to a prefix to form a property key;
  * see {@link org.hibernate.search.engine.cfg.IndexSettings} for details.
+ * <p>
+ * Unless mentioned otherwise, properties can also be set for a single shard of an index,
+ * by appending the constant to the {@link #SHARDS_PREFIX shard prefix} followed by the shard identifier and a dot,
+ * e.g. {@code shards.3.indexing.ram_buffer_size}.
+ * Shard-level properties override index-level properties.
  */
 public final class LuceneIndexSettings {
 
 	private LuceneIndexSettings() {
 	}
 
+	/**
+	 * The prefix for shard-level property keys.
+	 * <p>
+	 * Should be followed by a shard identifier, a dot, and a property key.
+	 */
+	public static final String SHARDS_PREFIX = "shards.";
+
 	/**
 	 * The prefix for sharding-related property keys.
+	 * <p>
+	 * Cannot be set at the shard level.
 	 */
 	public static final String SHARDING_PREFIX = "sharding.";
 
@@ -58,6 +72,284 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * The prefix for index I/O-related property keys.
+	 */
+	public static final String IO_PREFIX = "io.";
+
+	/**
+	 * How index changes are made durable and visible to search queries.
+	 * <p>
+	 * Expects an {@link IOStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_STRATEGY}.
+	 */
+	public static final String IO_STRATEGY = IO_PREFIX + IoRadicals.STRATEGY;
+
+	/**
+	 * How much time may pass after an index change until the change is visible in search queries,
+	 * in milliseconds.
+	 * <p>
+	 * Readers are shared between search queries and are only refreshed once this interval has elapsed,
+	 * so a higher value will lead to less frequent reader refreshes and thus better search performance,
+	 * at the cost of search results being slightly out-of-date.
+	 * Changes submitted with {@link org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy#FORCE}
+	 * are always visible in search queries as soon as they are applied, regardless of this setting.
+	 * <p>
+	 * With a non-zero value, readers are obtained from the index writer ("near-real-time" readers)
+	 * and thus may see changes that were not committed yet,
+	 * as with the {@link IOStrategyName#NEAR_REAL_TIME near-real-time} I/O strategy.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_INTERVAL}:
+	 * readers are checked for changes before each search query.
+	 */
+	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IoRadicals.REFRESH_INTERVAL;
+
+	/**
+	 * How much time may pass after an index change until the change is committed,
+	 * in milliseconds.
+	 * <p>
+	 * Changes are committed at most once per interval,
+	 * so a higher value will lead to less frequent commits and thus better indexing throughput,
+	 * at the cost of more changes being lost in the event of a crash.
+	 * Changes submitted with {@link org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy#FORCE}
+	 * are always committed as soon as they are applied, regardless of this setting,
+	 * and so are changes submitted with {@link org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy#FORCE}
+	 * when using the {@link IOStrategyName#COMMIT commit} I/O strategy.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} means changes are committed at the end of each batch of changes.
+	 * <p>
+	 * Defaults to {@code 0} when using the {@link IOStrategyName#COMMIT commit} I/O strategy,
+	 * and to {@link LuceneIndexSettings.Defaults#IO_COMMIT_INTERVAL} when using the
+	 * {@link IOStrategyName#NEAR_REAL_TIME near-real-time} I/O strategy.
+	 */
+	public static final String IO_COMMIT_INTERVAL = IO_PREFIX + IoRadicals.COMMIT_INTERVAL;
+
+	/**
+	 * The number of uncommitted changes above which a commit will be triggered,
+	 * regardless of the {@link #IO_COMMIT_INTERVAL commit interval}.
+	 * <p>
+	 * When the {@link #IO_COMMIT_INTERVAL commit interval} is {@code 0},
+	 * changes are no longer committed at the end of each batch of changes:
+	 * they are only committed once this many changes are pending,
+	 * when a commit is explicitly requested, or when the index is closed.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning commits are only triggered by the commit interval.
+	 */
+	public static final String IO_COMMIT_THRESHOLD = IO_PREFIX + IoRadicals.COMMIT_THRESHOLD;
+
+	/**
+	 * The number of threads used to apply changes to each index (or shard).
+	 * <p>
+	 * With more than one thread, changes affecting different documents are applied concurrently,
+	 * while changes affecting the same document are still applied in the order they were submitted.
+	 * These threads are taken from the thread pool shared by all indexes of the backend
+	 * (see {@link LuceneBackendSettings#THREAD_POOL_SIZE}), so this is an upper bound.
+	 * Commits, as well as changes affecting any number of documents (purge, ...),
+	 * are only executed once all previously submitted changes have been applied.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_THREADS}.
+	 */
+	public static final String IO_WRITER_THREADS = IO_PREFIX + IoRadicals.WRITER_THREADS;
+
+	/**
+	 * The prefix for index writer-related property keys.
+	 */
+	public static final String INDEXING_PREFIX = "indexing.";
+
+	/**
+	 * The amount of RAM that may be used for buffering added documents and deletions
+	 * before they are flushed to the directory, in megabytes.
+	 * <p>
+	 * Large values generally lead to faster indexing, at the cost of more memory being used.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 64},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. 16 megabytes.
+	 */
+	public static final String INDEXING_RAM_BUFFER_SIZE = INDEXING_PREFIX + IndexingRadicals.RAM_BUFFER_SIZE;
+
+	/**
+	 * The maximum number of documents that can be buffered in-memory before they are flushed to the directory.
+	 * <p>
+	 * Large values generally lead to faster indexing, at the cost of more memory being used.
+	 * When used together with {@link #INDEXING_RAM_BUFFER_SIZE},
+	 * a flush occurs for whichever limit is reached first.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. no limit (flushes are triggered by RAM usage only).
+	 */
+	public static final String INDEXING_MAX_BUFFERED_DOCS = INDEXING_PREFIX + IndexingRadicals.MAX_BUFFERED_DOCS;
+
+	/**
+	 * The merge policy, deciding which segments to merge together.
+	 * <p>
+	 * Expects a {@link MergePolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_MERGE_POLICY}.
+	 */
+	public static final String INDEXING_MERGE_POLICY = INDEXING_PREFIX + IndexingRadicals.MERGE_POLICY;
+
+	/**
+	 * The number of segments that are merged at once.
+	 * <p>
+	 * With the {@link MergePolicyName#TIERED tiered} merge policy,
+	 * this is also the number of segments allowed per tier.
+	 * With smaller values, more merging will happen and searches will be faster,
+	 * but indexing will be slower.
+	 * <p>
+	 * Expects an Integer value greater than or equal to 2, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. 10.
+	 */
+	public static final String INDEXING_MERGE_FACTOR = INDEXING_PREFIX + IndexingRadicals.MERGE_FACTOR;
+
+	/**
+	 * The size below which segments are considered equal when deciding which segments to merge,
+	 * in megabytes.
+	 * <p>
+	 * Small segments will be merged aggressively,
+	 * which will prevent a long tail of tiny segments from hurting search performance.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, which depends on the merge policy.
+	 */
+	public static final String INDEXING_MERGE_MIN_SIZE = INDEXING_PREFIX + IndexingRadicals.MERGE_MIN_SIZE;
+
+	/**
+	 * The maximum size of segments to be merged, or of segments resulting from a merge,
+	 * in megabytes.
+	 * <p>
+	 * With the {@link MergePolicyName#TIERED tiered} merge policy, segments resulting from a merge
+	 * will not exceed this size.
+	 * With the {@link MergePolicyName#LOG_BYTE_SIZE log-byte-size} merge policy,
+	 * segments larger than this size will never be merged.
+	 * Large values lead to fewer, larger segments.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, which depends on the merge policy.
+	 */
+	public static final String INDEXING_MERGE_MAX_SIZE = INDEXING_PREFIX + IndexingRadicals.MERGE_MAX_SIZE;
+
+	/**
+	 * The maximum size of segments to be merged during forced merges (e.g. when optimizing an index),
+	 * in megabytes.
+	 * <p>
+	 * Only available for the {@link MergePolicyName#LOG_BYTE_SIZE log-byte-size} merge policy.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. no limit.
+	 */
+	public static final String INDEXING_MERGE_MAX_FORCED_SIZE = INDEXING_PREFIX + IndexingRadicals.MERGE_MAX_FORCED_SIZE;
+
+	/**
+	 * The maximum number of documents in segments to be merged.
+	 * <p>
+	 * Only available for the {@link MergePolicyName#LOG_BYTE_SIZE log-byte-size} merge policy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. no limit.
+	 */
+	public static final String INDEXING_MERGE_MAX_DOCS = INDEXING_PREFIX + IndexingRadicals.MERGE_MAX_DOCS;
+
+	/**
+	 * Whether the number of deleted documents in a segment should be taken into account
+	 * when estimating the size of that segment.
+	 * <p>
+	 * Only available for the {@link MergePolicyName#LOG_BYTE_SIZE log-byte-size} merge policy.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. {@code true}.
+	 */
+	public static final String INDEXING_MERGE_CALIBRATE_BY_DELETES = INDEXING_PREFIX + IndexingRadicals.MERGE_CALIBRATE_BY_DELETES;
+
+	/**
+	 * The maximum percentage of deleted documents allowed in the index before segments are merged
+	 * in order to reclaim space.
+	 * <p>
+	 * Only available for the {@link MergePolicyName#TIERED tiered} merge policy.
+	 * <p>
+	 * Expects an Integer value between 20 and 50, such as {@code 33},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. 33.
+	 */
+	public static final String INDEXING_MERGE_DELETES_PCT_ALLOWED = INDEXING_PREFIX + IndexingRadicals.MERGE_DELETES_PCT_ALLOWED;
+
+	/**
+	 * The maximum number of threads used to execute merges concurrently.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default, which depends on the number of CPU cores
+	 * and on whether the index is stored on a spinning disk.
+	 */
+	public static final String INDEXING_MAX_MERGE_THREADS = INDEXING_PREFIX + IndexingRadicals.MAX_MERGE_THREADS;
+
+	/**
+	 * The maximum number of merges that may be pending, executing or not,
+	 * before indexing threads are stalled until merges complete.
+	 * <p>
+	 * Must be greater than or equal to {@link #INDEXING_MAX_MERGE_THREADS}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 9},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default if {@link #INDEXING_MAX_MERGE_THREADS} is not set,
+	 * or to the maximum number of merge threads plus 5 otherwise.
+	 */
+	public static final String INDEXING_MAX_MERGE_COUNT = INDEXING_PREFIX + IndexingRadicals.MAX_MERGE_COUNT;
+
+	/**
+	 * Whether new and merged segments should be written as compound files,
+	 * i.e. a single file per segment instead of multiple files.
+	 * <p>
+	 * Compound files require fewer file handles,
+	 * but make indexing slightly slower.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to Lucene's default, i.e. compound files are used for new segments
+	 * and for merged segments that are small compared to the index.
+	 */
+	public static final String INDEXING_USE_COMPOUND_FILE = INDEXING_PREFIX + IndexingRadicals.USE_COMPOUND_FILE;
+
+	/**
+	 * The compression mode for stored fields.
+	 * <p>
+	 * Expects a {@link StoredFieldsCompressionName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#INDEXING_STORED_FIELDS_COMPRESSION}.
+	 */
+	public static final String INDEXING_STORED_FIELDS_COMPRESSION = INDEXING_PREFIX + IndexingRadicals.STORED_FIELDS_COMPRESSION;
+
 	/**
 	 * Configuration property keys for sharding, without the {@link #SHARDING_PREFIX prefix}.
 	 */
@@ -71,6 +363,45 @@ private ShardingRadicals() {
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
 	}
 
+	/**
+	 * Configuration property keys for index I/O, without the {@link #IO_PREFIX prefix}.
+	 */
+	public static final class IoRadicals {
+
+		private IoRadicals() {
+		}
+
+		public static final String STRATEGY = "strategy";
+		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String COMMIT_INTERVAL = "commit_interval";
+		public static final String COMMIT_THRESHOLD = "commit_threshold";
+		public static final String WRITER_THREADS = "writer_threads";
+	}
+
+	/**
+	 * Configuration property keys for index writers, without the {@link #INDEXING_PREFIX prefix}.
+	 */
+	public static final class IndexingRadicals {
+
+		private IndexingRadicals() {
+		}
+
+		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
+		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
+		public static final String MERGE_POLICY = "merge_policy";
+		public static final String MERGE_FACTOR = "merge_factor";
+		public static final String MERGE_MIN_SIZE = "merge_min_size";
+		public static final String MERGE_MAX_SIZE = "merge_max_size";
+		public static final String MERGE_MAX_FORCED_SIZE = "merge_max_forced_size";
+		public static final String MERGE_MAX_DOCS = "merge_max_docs";
+		public static final String MERGE_CALIBRATE_BY_DELETES = "merge_calibrate_by_deletes";
+		public static final String MERGE_DELETES_PCT_ALLOWED = "merge_deletes_pct_allowed";
+		public static final String MAX_MERGE_THREADS = "max_merge_threads";
+		public static final String MAX_MERGE_COUNT = "max_merge_count";
+		public static final String USE_COMPOUND_FILE = "use_compound_file";
+		public static final String STORED_FIELDS_COMPRESSION = "stored_fields_compression";
+	}
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -80,5 +411,12 @@ private Defaults() {
 		}
 
 		public static final String SHARDING_STRATEGY = "none";
+		public static final IOStrategyName IO_STRATEGY = IOStrategyName.COMMIT;
+		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final int IO_COMMIT_INTERVAL = 1000;
+		public static final int IO_WRITER_THREADS = 1;
+		public static final MergePolicyName INDEXING_MERGE_POLICY = MergePolicyName.TIERED;
+		public static final StoredFieldsCompressionName INDEXING_STORED_FIELDS_COMPRESSION =
+				StoredFieldsCompressionName.BEST_SPEED;
 	}
 }
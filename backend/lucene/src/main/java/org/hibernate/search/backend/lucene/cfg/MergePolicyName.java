@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum MergePolicyName {
+
+	/**
+	 * Lucene's {@code TieredMergePolicy}, which merges segments of approximately equal size, regardless of their order.
+	 */
+	TIERED("tiered"),
+
+	/**
+	 * Lucene's {@code LogByteSizeMergePolicy}, which only merges adjacent segments, based on their size in bytes.
+	 */
+	LOG_BYTE_SIZE("log-byte-size");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static MergePolicyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				MergePolicyName.values(),
+				MergePolicyName::getExternalRepresentation,
+				log::invalidMergePolicyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	MergePolicyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum StoredFieldsCompressionName {
+
+	/**
+	 * Favor indexing and retrieval speed over index size.
+	 */
+	BEST_SPEED("best-speed"),
+
+	/**
+	 * Favor index size over indexing and retrieval speed.
+	 */
+	BEST_COMPRESSION("best-compression");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static StoredFieldsCompressionName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				StoredFieldsCompressionName.values(),
+				StoredFieldsCompressionName::getExternalRepresentation,
+				log::invalidStoredFieldsCompressionName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	StoredFieldsCompressionName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -36,7 +36,7 @@ class LuceneNestedObjectDocumentBuilder extends AbstractLuceneNonFlattenedDocume
 		TYPE_STORED_BINARY.setStored( true );
 		TYPE_STORED_BINARY.setTokenized( false );
 
-		// Using a binary type to allow doc values extraction. See LuceneChildrenCollector.FieldLeafCollector.
+		// Using a binary type to allow doc values extraction.
 		TYPE_STORED_BINARY.setDocValuesType( DocValuesType.BINARY );
 
 		TYPE_STORED_BINARY.freeze();
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -40,12 +41,15 @@
 
 	private final LuceneFieldProjectionBuilderFactory projectionBuilderFactory;
 
+	private final LuceneFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String relativeFieldName,
 			boolean multiValued,
 			LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
-			LuceneFieldProjectionBuilderFactory projectionBuilderFactory) {
+			LuceneFieldProjectionBuilderFactory projectionBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory) {
 		this.parent = parent;
 		this.relativeFieldName = relativeFieldName;
 		this.absoluteFieldPath = parent.getAbsolutePath( relativeFieldName );
@@ -55,6 +59,7 @@ public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String rel
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 	}
 
 	public LuceneIndexSchemaObjectNode getParent() {
@@ -97,6 +102,13 @@ public LuceneFieldProjectionBuilderFactory getProjectionBuilderFactory() {
 		return projectionBuilderFactory;
 	}
 
+	public LuceneFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		if ( aggregationBuilderFactory == null ) {
+			throw log.unsupportedDSLAggregations( getEventContext() );
+		}
+		return aggregationBuilderFactory;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() ).append( "[" )
@@ -106,6 +118,7 @@ public String toString() {
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortContributor=" ).append( sortBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( "]" );
 		return sb.toString();
 	}
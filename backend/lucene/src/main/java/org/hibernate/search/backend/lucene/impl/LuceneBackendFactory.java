@@ -62,6 +62,11 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -83,7 +88,8 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				directoryProviderHolder,
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				THREAD_POOL_SIZE.get( propertySource ).orElse( Runtime.getRuntime().availableProcessors() )
 		);
 	}
 
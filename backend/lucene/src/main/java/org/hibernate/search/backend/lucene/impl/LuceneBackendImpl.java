@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
@@ -31,6 +33,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
@@ -44,7 +47,10 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
+	private final ExecutorService readExecutor;
 	private final LuceneReadWorkOrchestratorImplementor readOrchestrator;
+	private final ExecutorService writeExecutor;
+	private final ScheduledExecutorService commitExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final EventContext eventContext;
@@ -53,15 +59,28 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	LuceneBackendImpl(String name, BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int threadPoolSize) {
 		this.name = name;
 		this.directoryProviderHolder = directoryProviderHolder;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
+		// Only used for asynchronous queries: threads are created lazily
+		this.readExecutor = Executors.newFixedThreadPool(
+				threadPoolSize, "Lucene read executor for backend " + name
+		);
 		this.readOrchestrator = new LuceneReadWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name, readExecutor
+		);
+		/*
+		 * Each index (or shard) submits at most one task to this executor at any given time,
+		 * so the queue is bounded by the number of indexes (and shards) in practice.
+		 */
+		this.writeExecutor = Executors.newFixedThreadPool(
+				threadPoolSize, "Lucene write executor for backend " + name, Integer.MAX_VALUE
 		);
+		this.commitExecutor = Executors.newScheduledThreadPool( "Lucene commit executor for backend " + name );
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.eventContext = EventContexts.fromBackendName( name );
@@ -71,7 +90,9 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 				analysisDefinitionRegistry,
 				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
 				new LogErrorHandler(),
-				readOrchestrator
+				readOrchestrator,
+				writeExecutor,
+				commitExecutor
 		);
 	}
 
@@ -94,6 +115,9 @@ public void start(BackendStartContext context) {
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneReadWorkOrchestratorImplementor::close, readOrchestrator );
+			closer.push( ExecutorService::shutdownNow, readExecutor );
+			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, commitExecutor );
 			closer.push( holder -> holder.get().close(), directoryProviderHolder );
 			closer.push( BeanHolder::close, directoryProviderHolder );
 		}
@@ -9,16 +9,23 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.IOStrategyName;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingWriteWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneConcurrentWriteExecutor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestratorImplementor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkProcessor;
@@ -57,6 +64,11 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * Appended to the index name to get the name of the directory used by offline rebuilds.
+	 */
+	private static final String OFFLINE_REBUILD_DIRECTORY_SUFFIX = ".rebuild";
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
@@ -65,6 +77,8 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final ErrorHandler errorHandler;
 	private final LuceneReadWorkOrchestrator readOrchestrator;
+	private final ExecutorService writeExecutor;
+	private final ScheduledExecutorService commitExecutor;
 
 	public IndexManagerBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
@@ -72,7 +86,9 @@ public IndexManagerBackendContext(EventContext eventContext,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			ErrorHandler errorHandler,
-			LuceneReadWorkOrchestrator readOrchestrator) {
+			LuceneReadWorkOrchestrator readOrchestrator,
+			ExecutorService writeExecutor,
+			ScheduledExecutorService commitExecutor) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -80,6 +96,8 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.workFactory = workFactory;
 		this.errorHandler = errorHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.writeExecutor = writeExecutor;
+		this.commitExecutor = commitExecutor;
 	}
 
 	@Override
@@ -104,15 +122,24 @@ public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
 
 	@Override
 	public LuceneWriteWorkOrchestratorImplementor createOrchestrator(String indexName, Optional<String> shardId,
-			IndexWriterDelegator indexWriterDelegator) {
+			IndexWriterDelegator indexWriterDelegator, IndexReaderProvider indexReaderProvider,
+			IOStrategyName ioStrategy, LuceneCommitPolicy commitPolicy, int writerThreads) {
+		String name = "Lucene write work orchestrator for index " + indexName
+				+ ( shardId.isPresent() ? " - shard " + shardId.get() : "" );
 		return new LuceneBatchingWriteWorkOrchestrator(
-				"Lucene write work orchestrator for index " + indexName
-						+ ( shardId.isPresent() ? " - shard " + shardId.get() : "" ),
+				name,
 				new LuceneWriteWorkProcessor(
 						EventContexts.fromIndexNameAndShardId( indexName, shardId ),
 						indexWriterDelegator,
+						indexReaderProvider,
+						IOStrategyName.NEAR_REAL_TIME.equals( ioStrategy ),
+						commitPolicy,
+						writerThreads > 1 ? new LuceneConcurrentWriteExecutor( name + " - writer", writerThreads, writeExecutor ) : null,
 						errorHandler
 				),
+				writeExecutor,
+				commitExecutor,
+				commitPolicy.getPeriodicCheckIntervalMs(),
 				errorHandler
 		);
 	}
@@ -174,7 +201,8 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	IndexAccessor createIndexAccessor(String indexName, Optional<String> shardId, Analyzer analyzer) {
+	IndexAccessor createIndexAccessor(String indexName, Optional<String> shardId, Analyzer analyzer,
+			IndexWriterSettings writerSettings, boolean nearRealTime, int refreshIntervalMs) {
 		DirectoryHolder directory;
 		DirectoryCreationContext context = new DirectoryCreationContextImpl(
 				shardId.isPresent() ? EventContexts.fromShardId( shardId.get() ) : null,
@@ -191,8 +219,15 @@ IndexAccessor createIndexAccessor(String indexName, Optional<String> shardId, An
 					e
 			);
 		}
+		// The directory used by offline rebuilds is only created when a rebuild starts
+		DirectoryCreationContext rebuildDirectoryContext = new DirectoryCreationContextImpl(
+				context.getEventContext(),
+				indexName + OFFLINE_REBUILD_DIRECTORY_SUFFIX,
+				shardId
+		);
 		try {
-			return new IndexAccessor( indexName, directory, analyzer, errorHandler );
+			return new IndexAccessor( indexName, shardId, directory, analyzer, errorHandler,
+					writerSettings, nearRealTime, refreshIntervalMs, directoryProvider, rebuildDirectoryContext );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( directory );
@@ -10,26 +10,84 @@
 import java.io.IOException;
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cfg.IOStrategyName;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIntervalCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneThresholdCommitPolicy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestratorImplementor;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 public final class Shard implements Closeable {
 
-	static Shard create(IndexManagerBackendContext backendContext, LuceneIndexModel model, Optional<String> shardId) {
+	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IoRadicals.STRATEGY )
+					.as( IOStrategyName.class, IOStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> IO_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IoRadicals.REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IoRadicals.COMMIT_INTERVAL )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_COMMIT_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IoRadicals.COMMIT_THRESHOLD )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> IO_WRITER_THREADS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IoRadicals.WRITER_THREADS )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_THREADS )
+					.build();
+
+	static Shard create(IndexManagerBackendContext backendContext, LuceneIndexModel model, Optional<String> shardId,
+			ConfigurationPropertySource propertySource) {
 		LuceneWriteWorkOrchestratorImplementor writeOrchestrator = null;
 		IndexAccessor indexAccessor = null;
 
+		// Shard-level properties override index-level properties
+		ConfigurationPropertySource shardPropertySource = shardId.isPresent()
+				? propertySource.withMask( "shards" ).withMask( shardId.get() ).withFallback( propertySource )
+				: propertySource;
+
+		ConfigurationPropertySource ioPropertySource = shardPropertySource.withMask( "io" );
+		IOStrategyName ioStrategy = IO_STRATEGY.get( ioPropertySource );
+		LuceneCommitPolicy commitPolicy = createCommitPolicy( ioStrategy, ioPropertySource );
+
+		IndexWriterSettings writerSettings = IndexWriterSettings.extractAll(
+				shardPropertySource.withMask( "indexing" ),
+				EventContexts.fromIndexNameAndShardId( model.getIndexName(), shardId )
+		);
+
 		try {
 			indexAccessor = backendContext.createIndexAccessor(
-					model.getIndexName(), shardId, model.getScopedAnalyzer()
+					model.getIndexName(), shardId, model.getScopedAnalyzer(),
+					writerSettings, IOStrategyName.NEAR_REAL_TIME.equals( ioStrategy ),
+					IO_REFRESH_INTERVAL.get( ioPropertySource )
 			);
 			writeOrchestrator = backendContext.createOrchestrator(
-					model.getIndexName(), shardId, indexAccessor.getIndexWriterDelegator()
+					model.getIndexName(), shardId,
+					indexAccessor.getIndexWriterDelegator(), indexAccessor.getIndexReaderProvider(),
+					ioStrategy, commitPolicy, IO_WRITER_THREADS.get( ioPropertySource )
 			);
 			writeOrchestrator.start();
 
@@ -43,6 +101,25 @@ static Shard create(IndexManagerBackendContext backendContext, LuceneIndexModel
 		}
 	}
 
+	private static LuceneCommitPolicy createCommitPolicy(IOStrategyName ioStrategy,
+			ConfigurationPropertySource ioPropertySource) {
+		int commitInterval = IO_COMMIT_INTERVAL.get( ioPropertySource ).orElse(
+				IOStrategyName.NEAR_REAL_TIME.equals( ioStrategy ) ? LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL : 0
+		);
+		Optional<Integer> commitThreshold = IO_COMMIT_THRESHOLD.get( ioPropertySource );
+		if ( commitInterval <= 0 ) {
+			// Without an interval, a threshold alone decides when to commit.
+			return commitThreshold.isPresent()
+					? new LuceneThresholdCommitPolicy( commitThreshold.get() )
+					: LuceneBatchCommitPolicy.INSTANCE;
+		}
+		LuceneCommitPolicy commitPolicy = new LuceneIntervalCommitPolicy( commitInterval );
+		if ( commitThreshold.isPresent() ) {
+			commitPolicy = new LuceneThresholdCommitPolicy( commitThreshold.get(), commitPolicy );
+		}
+		return commitPolicy;
+	}
+
 	private final LuceneWriteWorkOrchestratorImplementor writeOrchestrator;
 	private final IndexAccessor indexAccessor;
 
@@ -65,7 +142,7 @@ public void close() throws IOException {
 	}
 
 	IndexReaderHolder openReader() throws IOException {
-		return IndexReaderHolder.of( indexAccessor.openDirectoryIndexReader() );
+		return indexAccessor.getIndexReaderProvider().getOrCreate();
 	}
 
 	LuceneWriteWorkOrchestrator getWriteOrchestrator() {
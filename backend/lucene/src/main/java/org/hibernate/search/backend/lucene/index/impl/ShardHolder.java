@@ -56,7 +56,7 @@ void start(IndexManagerStartContext startContext) {
 							backendContext,
 							model,
 							startContext,
-							propertySource.withMask( "sharding" )
+							propertySource
 					);
 			this.shardingStrategyHolder = initializationContext.create( shards );
 
@@ -43,6 +43,7 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 	private final LuceneIndexModel model;
 	private final IndexManagerStartContext startContext;
 	private final ConfigurationPropertySource propertySource;
+	private final ConfigurationPropertySource indexPropertySource;
 
 	private Set<String> shardIdentifiers = new LinkedHashSet<>();
 
@@ -50,11 +51,12 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 			IndexManagerBackendContext backendContext,
 			LuceneIndexModel model,
 			IndexManagerStartContext startContext,
-			ConfigurationPropertySource propertySource) {
+			ConfigurationPropertySource indexPropertySource) {
 		this.backendContext = backendContext;
 		this.model = model;
 		this.startContext = startContext;
-		this.propertySource = propertySource;
+		this.propertySource = indexPropertySource.withMask( "sharding" );
+		this.indexPropertySource = indexPropertySource;
 	}
 
 	@Override
@@ -110,7 +112,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		try {
-			Shard shard = Shard.create( backendContext, model, shardId );
+			Shard shard = Shard.create( backendContext, model, shardId, indexPropertySource );
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
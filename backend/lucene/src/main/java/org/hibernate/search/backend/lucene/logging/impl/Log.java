@@ -17,16 +17,20 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.scope.spi.IndexScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.hibernate.search.util.common.logging.impl.EventContextFormatter;
@@ -515,4 +519,109 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 
 	@Message(id = ID_OFFSET_2 + 93, value = "Multiple conflicting nested document paths to build a projection for field '%1$s'. '%2$s' vs. '%3$s'.")
 	SearchException conflictingNestedDocumentPathsForProjection(String absoluteFieldPath, String nestedDocumentPath1, String nestedDocumentPath2, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 94, value = "Unable to open an index reader: the index has been closed.")
+	SearchException indexReaderProviderClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 95,
+			value = "Invalid I/O strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIOStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 96,
+			value = "Invalid merge policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidMergePolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 97,
+			value = "Invalid stored fields compression name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidStoredFieldsCompressionName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 98,
+			value = "Invalid index writer configuration: %1$s")
+	SearchException invalidIndexWriterConfiguration(String causeMessage, @Cause Exception cause,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 99,
+			value = "Cannot fetch the next chunk of hits: this scroll was closed.")
+	SearchException searchScrollClosed();
+
+	@Message(id = ID_OFFSET_2 + 100,
+			value = "This field does not support defining aggregations with the DSL."
+					+ " Aggregations are not available for native fields and geo-point fields.")
+	SearchException unsupportedDSLAggregations(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 101,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 102,
+			value = "An aggregation built with a non-Lucene backend was used with the Lucene backend: '%1$s'.")
+	SearchException cannotMixLuceneSearchAggregationWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_2 + 103, value = "The aggregation '%1$s' is defined on a scope targeting different indexes."
+			+ " Aggregation is targeting: '%2$s'. Current scope is targeting: '%3$s'.")
+	SearchException aggregationDefinedOnDifferentIndexes(SearchAggregation<?> aggregation,
+			Set<String> aggregationIndexes, Set<String> scopeIndexes);
+
+	@Message(id = ID_OFFSET_2 + 104,
+			value = "Aggregations are not enabled for field '%1$s'."
+					+ " Aggregations rely on doc values: make sure the field is marked as sortable.")
+	SearchException nonAggregableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 105, value = "Invalid type '%2$s' for aggregation on field '%1$s'."
+			+ " Aggregations work on index values: the expected type must be the type of the field in the index,"
+			+ " before any conversion.")
+	SearchException invalidAggregationInvalidType(String absoluteFieldPath,
+			@FormatWith(ClassFormatter.class) Class<?> type,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 106, value = "Aggregation '%1$s' is not supported by this field's type.")
+	SearchException aggregationNotSupportedByFieldType(String aggregationType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 107, value = "Query '%2$s' exceeded the timeout of %1$s.")
+	SearchTimeoutException searchTimedOut(SearchTimeout timeout, Query luceneQuery, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 108,
+			value = "Unable to start an offline rebuild of the index.")
+	SearchException unableToStartOfflineRebuild(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 109,
+			value = "Unable to complete the offline rebuild of the index."
+					+ " The rebuilt index was discarded and the current index was left untouched.")
+	SearchException unableToCompleteOfflineRebuild(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 110,
+			value = "Unable to abort the offline rebuild of the index.")
+	SearchException unableToAbortOfflineRebuild(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 111,
+			value = "An offline rebuild of this index is already in progress.")
+	SearchException offlineRebuildAlreadyInProgress(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 112,
+			value = "No offline rebuild of this index is in progress.")
+	SearchException noOfflineRebuildInProgress(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 113,
+			value = "The offline rebuild of this index was interrupted by an earlier failure: some changes were lost.")
+	SearchException offlineRebuildFailed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 114,
+			value = "Offline rebuilds are not supported when multi-tenancy is enabled,"
+					+ " because they would replace the documents of every tenant.")
+	SearchException offlineRebuildWithMultiTenancy(@Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 115,
+			value = "Unable to delete the files of the offline rebuild directory. %1$s")
+	void unableToCleanUpOfflineRebuildDirectory(@FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception e);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 116,
+			value = "Unable to apply a change to the offline rebuild of the index:"
+					+ " the change was applied to the current index, but the offline rebuild will fail. %1$s")
+	void unableToApplyChangeToOfflineRebuild(@FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception e);
 }
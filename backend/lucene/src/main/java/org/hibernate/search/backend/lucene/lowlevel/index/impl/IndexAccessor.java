@@ -7,16 +7,21 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
-import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProviderImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -27,47 +32,38 @@ public class IndexAccessor implements AutoCloseable {
 
 	private final IndexWriterDelegatorImpl indexWriterDelegator;
 
-	public IndexAccessor(String indexName, DirectoryHolder directoryHolder, Analyzer analyzer, ErrorHandler errorHandler) {
+	private final IndexReaderProviderImpl indexReaderProvider;
+
+	public IndexAccessor(String indexName, Optional<String> shardId, DirectoryHolder directoryHolder, Analyzer analyzer,
+			ErrorHandler errorHandler, IndexWriterSettings writerSettings, boolean nearRealTime, int refreshIntervalMs,
+			DirectoryProvider directoryProvider, DirectoryCreationContext rebuildDirectoryContext) {
+		EventContext eventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		this.directoryHolder = directoryHolder;
 		this.indexWriterDelegator = new IndexWriterDelegatorImpl(
-				indexName, directoryHolder.get(), analyzer, errorHandler
+				indexName, directoryHolder.get(), analyzer, errorHandler, writerSettings,
+				directoryProvider, rebuildDirectoryContext
+		);
+		this.indexReaderProvider = new IndexReaderProviderImpl(
+				eventContext, directoryHolder.get(), indexWriterDelegator, nearRealTime, refreshIntervalMs
 		);
 	}
 
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Release the shared reader first: it may have been opened from the index writer
+			closer.push( IndexReaderProviderImpl::close, indexReaderProvider );
 			closer.push( IndexWriterDelegatorImpl::close, indexWriterDelegator );
 			closer.push( DirectoryHolder::close, directoryHolder );
 		}
 	}
 
-	public IndexWriterDelegator getIndexWriterDelegator() {
+	public IndexWriterDelegatorImpl getIndexWriterDelegator() {
 		return indexWriterDelegator;
 	}
 
-	/**
-	 * Opens an IndexReader having visibility on uncommitted writes from
-	 * the IndexWriter, if any writer is open, or null if no IndexWriter is open.
-	 * @param applyDeletes Applying deletes is expensive, say no if you can deal with stale hits during queries
-	 * @return a new NRT IndexReader if an IndexWriter is available, or <code>null</code> otherwise
-	 */
-	public DirectoryReader openNRTIndexReader(boolean applyDeletes) throws IOException {
-		final IndexWriter indexWriter = indexWriterDelegator.getIndexWriterOrNull();
-		if ( indexWriter != null ) {
-			// TODO HSEARCH-3117 should parameter writeAllDeletes take the same value as applyDeletes?
-			return DirectoryReader.open( indexWriter, applyDeletes, applyDeletes );
-		}
-		else {
-			return null;
-		}
-	}
-
-	/**
-	 * Opens an IndexReader from the Directory (not using the IndexWriter)
-	 */
-	public DirectoryReader openDirectoryIndexReader() throws IOException {
-		return DirectoryReader.open( directoryHolder.get() );
+	public IndexReaderProvider getIndexReaderProvider() {
+		return indexReaderProvider;
 	}
 
 	public Directory getDirectoryForTests() {
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+
+/**
+ * A component providing shared, reference-counted index readers for a single index (or shard),
+ * refreshing them as needed.
+ * <p>
+ * Implementations are thread safe.
+ * <p>
+ * This interface also allows to mock the reader provider easily in unit tests.
+ */
+public interface IndexReaderProvider {
+
+	/**
+	 * @return A holder for an index reader.
+	 * The reader may be shared with other callers:
+	 * the holder must be closed as soon as the reader is no longer needed, so that the reader can be released.
+	 * @throws IOException If the reader cannot be opened or refreshed.
+	 */
+	IndexReaderHolder getOrCreate() throws IOException;
+
+	/**
+	 * Ensure the next reader returned by {@link #getOrCreate()} will reflect
+	 * all changes applied to the index so far,
+	 * regardless of the refresh interval.
+	 */
+	void refresh();
+
+}
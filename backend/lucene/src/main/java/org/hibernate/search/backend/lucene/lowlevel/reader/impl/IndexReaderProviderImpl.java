@@ -0,0 +1,339 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+
+/**
+ * An {@link IndexReaderProvider} keeping a single, shared reader open,
+ * and refreshing it periodically and/or on demand.
+ * <p>
+ * By default, readers are opened from the directory and thus only see committed changes.
+ * They are checked for new commits before each search query,
+ * without any locking: concurrent queries may each open a fresher reader,
+ * but only one of them will replace the shared reader.
+ * <p>
+ * In near-real-time mode (near-real-time I/O strategy or non-zero refresh interval),
+ * when an index writer is open, readers are obtained directly from that writer,
+ * which does not require changes to be committed in order to be visible.
+ * Since this requires flushing pending changes, such readers are only refreshed by one thread at a time,
+ * once the refresh interval has elapsed or when a refresh was requested.
+ * <p>
+ * In both cases refreshing a reader only re-opens the segments that changed,
+ * which is much cheaper than opening a new reader from scratch.
+ * <p>
+ * Readers are reference-counted:
+ * the current reader is only closed when it has been replaced with a fresher one
+ * <em>and</em> every caller of {@link #getOrCreate()} closed its holder.
+ * <p>
+ * Ported from Search 5: {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl}, in particular.
+ */
+public class IndexReaderProviderImpl implements IndexReaderProvider, Closeable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final Directory directory;
+	private final IndexWriterDelegatorImpl indexWriterDelegator;
+	private final boolean nearRealTime;
+	private final long refreshIntervalNanos;
+
+	/**
+	 * Protects from multiple refresh attempts of the current reader.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * Set to true by {@link #refresh()}, reset when we start refreshing the reader.
+	 */
+	private final AtomicBoolean refreshRequested = new AtomicBoolean( false );
+
+	/**
+	 * Current reader, or null if no reader was opened yet.
+	 */
+	private final AtomicReference<ReaderState> currentState = new AtomicReference<>();
+
+	private volatile long lastRefreshDurationNanos;
+
+	private boolean closed = false;
+
+	public IndexReaderProviderImpl(EventContext eventContext, Directory directory,
+			IndexWriterDelegatorImpl indexWriterDelegator, boolean nearRealTime, int refreshIntervalMs) {
+		this.eventContext = eventContext;
+		this.directory = directory;
+		this.indexWriterDelegator = indexWriterDelegator;
+		this.nearRealTime = nearRealTime || refreshIntervalMs > 0;
+		this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos( refreshIntervalMs );
+	}
+
+	@Override
+	public void close() throws IOException {
+		refreshLock.lock();
+		try {
+			closed = true;
+			ReaderState state = currentState.getAndSet( null );
+			if ( state != null ) {
+				state.reader.decRef();
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public IndexReaderHolder getOrCreate() throws IOException {
+		if ( !nearRealTime ) {
+			return getOrCreateFromLastCommit();
+		}
+		while ( true ) {
+			ReaderState state = currentState.get();
+			if ( state == null || isRefreshNeeded( state ) ) {
+				state = refreshIfNecessary();
+			}
+			if ( state.reader.tryIncRef() ) {
+				return new SharedIndexReaderHolder( state.reader );
+			}
+			/*
+			 * The reader was closed before we could increment its reference counter:
+			 * another thread replaced it in the meantime.
+			 * Just try again with the fresher reader.
+			 */
+		}
+	}
+
+	@Override
+	public void refresh() {
+		refreshRequested.set( true );
+	}
+
+	/**
+	 * @return The time elapsed since the current reader was opened,
+	 * or {@link Duration#ZERO} if no reader was opened yet.
+	 */
+	public Duration getCurrentReaderAge() {
+		ReaderState state = currentState.get();
+		return state == null ? Duration.ZERO : Duration.ofNanos( System.nanoTime() - state.openedAtNanos );
+	}
+
+	/**
+	 * @return The time spent checking for changes and (re-)opening the reader during the last refresh.
+	 */
+	public Duration getLastRefreshDuration() {
+		return Duration.ofNanos( lastRefreshDurationNanos );
+	}
+
+	private IndexReaderHolder getOrCreateFromLastCommit() throws IOException {
+		while ( true ) {
+			ReaderState state = currentState.get();
+			if ( state == null ) {
+				state = openInitialReader();
+			}
+			if ( !state.reader.tryIncRef() ) {
+				// The reader was replaced concurrently: try again with the fresher reader.
+				continue;
+			}
+			long start = System.nanoTime();
+			DirectoryReader newReader;
+			try {
+				newReader = DirectoryReader.openIfChanged( state.reader );
+			}
+			catch (IOException | RuntimeException e) {
+				state.reader.decRef();
+				throw e;
+			}
+			long end = System.nanoTime();
+			lastRefreshDurationNanos = end - start;
+			if ( newReader == null ) {
+				// No new commit: use the current reader, which we already incremented the reference counter of.
+				return new SharedIndexReaderHolder( state.reader );
+			}
+			state.reader.decRef();
+			// One reference for the shared state, one for the caller
+			newReader.incRef();
+			ReaderState newState = new ReaderState( newReader, null, end, end );
+			if ( currentState.compareAndSet( state, newState ) ) {
+				if ( log.isTraceEnabled() ) {
+					log.tracef( "Opened a new index reader for %s in %d ms", eventContext,
+							TimeUnit.NANOSECONDS.toMillis( lastRefreshDurationNanos ) );
+				}
+				releaseReplacedReader( state );
+				return new SharedIndexReaderHolder( newReader );
+			}
+			/*
+			 * Another thread replaced the reader (or closed this provider) in the meantime:
+			 * discard our reader and try again.
+			 */
+			newReader.decRef();
+			newReader.decRef();
+		}
+	}
+
+	private ReaderState openInitialReader() throws IOException {
+		refreshLock.lock();
+		try {
+			if ( closed ) {
+				throw log.indexReaderProviderClosed( eventContext );
+			}
+			ReaderState state = currentState.get();
+			// Double-check: another thread may just have opened the reader
+			if ( state == null ) {
+				state = doRefresh( null );
+			}
+			return state;
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private boolean isRefreshNeeded(ReaderState state) {
+		return refreshRequested.get()
+				|| System.nanoTime() - state.checkedAtNanos >= refreshIntervalNanos;
+	}
+
+	private ReaderState refreshIfNecessary() throws IOException {
+		refreshLock.lock();
+		try {
+			if ( closed ) {
+				throw log.indexReaderProviderClosed( eventContext );
+			}
+			ReaderState state = currentState.get();
+			// Double-check: another thread may just have refreshed the reader
+			if ( state == null || isRefreshNeeded( state ) ) {
+				state = doRefresh( state );
+			}
+			return state;
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private ReaderState doRefresh(ReaderState oldState) throws IOException {
+		// Reset the flag before we open the reader, so that requests submitted while we refresh are not lost
+		refreshRequested.set( false );
+
+		long start = System.nanoTime();
+		IndexWriter writer = nearRealTime ? indexWriterDelegator.getIndexWriterOrNull() : null;
+		DirectoryReader newReader;
+		try {
+			newReader = openReader( oldState, writer );
+		}
+		catch (AlreadyClosedException e) {
+			// The writer was closed concurrently, probably due to a failure: fall back to the directory.
+			log.tracef( e, "Index writer closed while refreshing index reader for %s", eventContext );
+			writer = null;
+			newReader = openReader( null, null );
+		}
+		long end = System.nanoTime();
+		lastRefreshDurationNanos = end - start;
+
+		ReaderState newState;
+		if ( newReader == null ) {
+			// No change since the last refresh: just remember we checked.
+			newState = new ReaderState( oldState.reader, oldState.writer, oldState.openedAtNanos, end );
+		}
+		else {
+			newState = new ReaderState( newReader, writer, end, end );
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "Opened a new index reader for %s in %d ms", eventContext,
+						TimeUnit.NANOSECONDS.toMillis( lastRefreshDurationNanos ) );
+			}
+		}
+		currentState.set( newState );
+
+		if ( newReader != null && oldState != null ) {
+			releaseReplacedReader( oldState );
+		}
+
+		return newState;
+	}
+
+	private void releaseReplacedReader(ReaderState oldState) {
+		try {
+			oldState.reader.decRef();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	/**
+	 * @return A new reader, or {@code null} if the old reader is still up-to-date.
+	 */
+	private DirectoryReader openReader(ReaderState oldState, IndexWriter writer) throws IOException {
+		if ( oldState == null ) {
+			return writer == null ? DirectoryReader.open( directory ) : DirectoryReader.open( writer );
+		}
+		else if ( writer != null ) {
+			return DirectoryReader.openIfChanged( oldState.reader, writer );
+		}
+		else if ( oldState.writer == null ) {
+			return DirectoryReader.openIfChanged( oldState.reader );
+		}
+		else {
+			// The writer we got our reader from has been closed: we need to open a reader from the directory.
+			return DirectoryReader.open( directory );
+		}
+	}
+
+	private static final class ReaderState {
+		private final DirectoryReader reader;
+		/**
+		 * The writer the reader was obtained from, or null if it was opened from the directory.
+		 */
+		private final IndexWriter writer;
+		private final long openedAtNanos;
+		private final long checkedAtNanos;
+
+		private ReaderState(DirectoryReader reader, IndexWriter writer, long openedAtNanos, long checkedAtNanos) {
+			this.reader = reader;
+			this.writer = writer;
+			this.openedAtNanos = openedAtNanos;
+			this.checkedAtNanos = checkedAtNanos;
+		}
+	}
+
+	private static final class SharedIndexReaderHolder implements IndexReaderHolder {
+		private final IndexReader indexReader;
+
+		private SharedIndexReaderHolder(IndexReader indexReader) {
+			this.indexReader = indexReader;
+		}
+
+		@Override
+		public IndexReader get() {
+			return indexReader;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// Don't use IndexReader#close, as it prevents further counter decrements!
+			indexReader.decRef();
+		}
+	}
+}
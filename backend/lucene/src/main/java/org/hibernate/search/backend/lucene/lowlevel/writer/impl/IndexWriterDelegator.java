@@ -43,4 +43,43 @@ public interface IndexWriterDelegator {
 	 */
 	void forceLockRelease() throws IOException;
 
+	/**
+	 * @return A delegator applying changes to the rebuilt index only if an offline rebuild is in progress,
+	 * or {@code this} otherwise.
+	 */
+	IndexWriterDelegator getOfflineRebuildDelegator();
+
+	/**
+	 * Start an offline rebuild:
+	 * until the rebuild is completed or aborted, a new, empty index is written in a separate directory
+	 * through the {@link #getOfflineRebuildDelegator() offline rebuild delegator}, and is not committed.
+	 * <p>
+	 * Changes applied through this delegator still apply to the current index as usual,
+	 * and are also applied to the rebuilt index so that they are not lost when it replaces the current index.
+	 *
+	 * @throws IOException If the directory or the index writer of the rebuild cannot be created.
+	 */
+	void startOfflineRebuild() throws IOException;
+
+	/**
+	 * Complete the offline rebuild in progress,
+	 * replacing the content of the index with the content of the rebuilt index in a single commit.
+	 * <p>
+	 * The rebuilt index is copied to the main directory first, which may take a while for large indexes.
+	 * Readers keep seeing the previous content until the copy is committed.
+	 * <p>
+	 * The rebuilt index is discarded whether this method succeeds or not.
+	 *
+	 * @throws IOException If the rebuilt index cannot be committed or copied to the main directory.
+	 * The current index is left untouched in that case.
+	 */
+	void completeOfflineRebuild() throws IOException;
+
+	/**
+	 * Abort the offline rebuild in progress, if any, discarding the rebuilt index.
+	 *
+	 * @throws IOException If the resources of the rebuild cannot be released.
+	 */
+	void abortOfflineRebuild() throws IOException;
+
 }
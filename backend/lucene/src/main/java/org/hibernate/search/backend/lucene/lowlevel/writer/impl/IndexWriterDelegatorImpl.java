@@ -13,8 +13,13 @@
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -23,12 +28,18 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
-import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 
 /**
+ * An {@link IndexWriterDelegator} for a single index (or shard).
+ * <p>
+ * While an offline rebuild is in progress, a new index is written to a separate directory
+ * through the {@link #getOfflineRebuildDelegator() offline rebuild delegator},
+ * and only replaces the content of the main directory when the rebuild completes.
+ * Other changes are applied to both indexes.
+ *
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
  */
 public class IndexWriterDelegatorImpl implements Closeable, IndexWriterDelegator {
@@ -39,11 +50,12 @@ public class IndexWriterDelegatorImpl implements Closeable, IndexWriterDelegator
 	private final Directory directory;
 	private final Analyzer analyzer;
 	private final ErrorHandler errorHandler;
+	private final IndexWriterSettings writerSettings;
+	private final DirectoryProvider directoryProvider;
+	private final DirectoryCreationContext rebuildDirectoryContext;
 
-	/* TODO HSEARCH-3117 re-allow to configure index writers
+	/* TODO HSEARCH-3117 re-allow to configure the similarity
 	private final Similarity similarity;
-	private final LuceneIndexingParameters luceneParameters;
-	private final ParameterSet indexParameters;
 	 */
 
 	/**
@@ -56,21 +68,47 @@ public class IndexWriterDelegatorImpl implements Closeable, IndexWriterDelegator
 	 */
 	private final ReentrantLock writerInitializationLock = new ReentrantLock();
 
-	public IndexWriterDelegatorImpl(String indexName, Directory directory, Analyzer analyzer, ErrorHandler errorHandler) {
+	/**
+	 * Offline rebuild in progress, or null if there is none.
+	 * Only started, completed or aborted from works, i.e. from the thread applying works.
+	 */
+	private volatile OfflineRebuild rebuild;
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param directory The directory holding the index.
+	 * @param analyzer The analyzer to use when writing documents.
+	 * @param errorHandler An error handler to report merge failures.
+	 * @param writerSettings The settings to apply to index writers.
+	 * @param directoryProvider The directory provider, to create the directory of offline rebuilds.
+	 * @param rebuildDirectoryContext The creation context for the directory of offline rebuilds.
+	 */
+	public IndexWriterDelegatorImpl(String indexName, Directory directory, Analyzer analyzer, ErrorHandler errorHandler,
+			IndexWriterSettings writerSettings, DirectoryProvider directoryProvider,
+			DirectoryCreationContext rebuildDirectoryContext) {
 		this.indexName = indexName;
 		this.indexEventContext = EventContexts.fromIndexName( indexName );
 		this.directory = directory;
 		this.analyzer = analyzer;
 		this.errorHandler = errorHandler;
-		/* TODO HSEARCH-3117 re-allow to configure index writers
-		this.luceneParameters = indexManager.getIndexingParameters();
-		this.indexParameters = luceneParameters.getIndexParameters();
+		this.writerSettings = writerSettings;
+		this.directoryProvider = directoryProvider;
+		this.rebuildDirectoryContext = rebuildDirectoryContext;
+		/* TODO HSEARCH-3117 re-allow to configure the similarity
 		this.similarity = indexManager.getSimilarity();
 		 */
 	}
 
 	@Override
 	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			// An offline rebuild still in progress at this point is incomplete: discard it
+			closer.push( IndexWriterDelegatorImpl::abortOfflineRebuild, this );
+			closer.push( IndexWriterDelegatorImpl::closeIndexWriter, this );
+		}
+	}
+
+	private void closeIndexWriter() throws IOException {
 		final IndexWriter toClose = writer.getAndSet( null );
 		if ( toClose != null ) {
 			try {
@@ -86,46 +124,73 @@ public void close() throws IOException {
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return getOrCreateIndexWriter().addDocuments( docs );
+		long sequenceNumber = getOrCreateIndexWriter().addDocuments( docs );
+		applyToOfflineRebuild( rebuildWriter -> rebuildWriter.addDocuments( docs ) );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return getOrCreateIndexWriter().updateDocuments( term, docs );
+		long sequenceNumber = getOrCreateIndexWriter().updateDocuments( term, docs );
+		applyToOfflineRebuild( rebuildWriter -> rebuildWriter.updateDocuments( term, docs ) );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
-		return getOrCreateIndexWriter().deleteDocuments( term );
+		long sequenceNumber = getOrCreateIndexWriter().deleteDocuments( term );
+		applyToOfflineRebuild( rebuildWriter -> rebuildWriter.deleteDocuments( term ) );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
-		return getOrCreateIndexWriter().deleteDocuments( query );
+		long sequenceNumber = getOrCreateIndexWriter().deleteDocuments( query );
+		applyToOfflineRebuild( rebuildWriter -> rebuildWriter.deleteDocuments( query ) );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteAll() throws IOException {
-		return getOrCreateIndexWriter().deleteAll();
+		long sequenceNumber = getOrCreateIndexWriter().deleteAll();
+		applyToOfflineRebuild( IndexWriter::deleteAll );
+		return sequenceNumber;
 	}
 
 	@Override
 	public void commit() throws IOException {
+		// The rebuilt index, if any, is only committed when the rebuild completes
 		getOrCreateIndexWriter().commit();
 	}
 
 	@Override
 	public void flush() throws IOException {
 		getOrCreateIndexWriter().flush();
+		applyToOfflineRebuild( IndexWriter::flush );
 	}
 
 	@Override
 	public void forceMerge() throws IOException {
-		getOrCreateIndexWriter().forceMerge( 1 );
+		OfflineRebuild currentRebuild = rebuild;
+		if ( currentRebuild != null ) {
+			// The current index is about to be replaced: only merge the rebuilt one
+			currentRebuild.forceMerge();
+		}
+		else {
+			getOrCreateIndexWriter().forceMerge( 1 );
+		}
 	}
 
 	@Override
 	public void forceLockRelease() throws IOException {
+		OfflineRebuild currentRebuild = rebuild;
+		if ( currentRebuild != null ) {
+			/*
+			 * Closing the rebuild writer would lose every change written since the rebuild started,
+			 * since they are not committed: only give up on the rebuild if the writer is unusable.
+			 */
+			currentRebuild.failIfWriterUnusable();
+		}
 		log.forcingReleaseIndexWriterLock( indexEventContext );
 		/*
 		 * Acquire the lock so that we're sure no writer will be created for the directory before we close the current one.
@@ -145,10 +210,74 @@ public void forceLockRelease() throws IOException {
 		}
 	}
 
+	@Override
+	public IndexWriterDelegator getOfflineRebuildDelegator() {
+		OfflineRebuild currentRebuild = rebuild;
+		return currentRebuild == null ? this : currentRebuild;
+	}
+
+	@Override
+	public void startOfflineRebuild() throws IOException {
+		if ( rebuild != null ) {
+			throw log.offlineRebuildAlreadyInProgress( indexEventContext );
+		}
+		DirectoryHolder directoryHolder = directoryProvider.createDirectory( rebuildDirectoryContext );
+		try {
+			// Leftovers from a previous, interrupted rebuild will be erased, since we use OpenMode.CREATE
+			IndexWriter rebuildWriter = new IndexWriter( directoryHolder.get(), createWriterConfig( true ) );
+			rebuild = new OfflineRebuild( directoryHolder, rebuildWriter );
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( directoryHolder );
+			throw e;
+		}
+	}
+
+	@Override
+	public void completeOfflineRebuild() throws IOException {
+		OfflineRebuild currentRebuild = rebuild;
+		if ( currentRebuild == null ) {
+			throw log.noOfflineRebuildInProgress( indexEventContext );
+		}
+		try {
+			IndexWriter rebuildWriter = currentRebuild.getIndexWriter();
+			rebuildWriter.commit();
+			rebuildWriter.close();
+			// Changes are applied to the main directory again from now on
+			rebuild = null;
+			replaceIndexWith( currentRebuild.directoryHolder.get() );
+		}
+		finally {
+			rebuild = null;
+			currentRebuild.discard();
+		}
+	}
+
+	@Override
+	public void abortOfflineRebuild() throws IOException {
+		OfflineRebuild currentRebuild = rebuild;
+		if ( currentRebuild == null ) {
+			return;
+		}
+		rebuild = null;
+		currentRebuild.discard();
+	}
+
+	/**
+	 * @return The index writer of the main directory, or {@code null} if it is not open.
+	 * Never returns the index writer of an offline rebuild.
+	 */
 	public IndexWriter getIndexWriterOrNull() {
 		return writer.get();
 	}
 
+	private void applyToOfflineRebuild(IndexWriterOperation operation) {
+		OfflineRebuild currentRebuild = rebuild;
+		if ( currentRebuild != null ) {
+			currentRebuild.apply( operation );
+		}
+	}
+
 	/**
 	 * Gets the IndexWriter, opening one if needed.
 	 *
@@ -175,24 +304,209 @@ private IndexWriter getOrCreateIndexWriter() throws IOException {
 
 	private IndexWriter createNewIndexWriter() throws IOException {
 		// Each writer config can be attached only once to an IndexWriter
-		final IndexWriterConfig indexWriterConfig = createWriterConfig();
+		final IndexWriterConfig indexWriterConfig = createWriterConfig( false );
 		return new IndexWriter( directory, indexWriterConfig );
 	}
 
-	private IndexWriterConfig createWriterConfig() {
+	/**
+	 * Replace the content of the main directory with the content of the given directory.
+	 * <p>
+	 * Directories cannot be swapped through the {@link DirectoryProvider} abstraction,
+	 * so the segments of the given directory are copied to the main directory, then referenced in a single commit.
+	 * Until that commit, copied files are not referenced by any commit, so readers keep seeing the previous content,
+	 * and on failure, changes are rolled back so that the previous content is left untouched.
+	 * <p>
+	 * This is executed as a write work, so other works on this index wait for the copy to finish regardless.
+	 *
+	 * @param source The directory to copy segments from.
+	 * @throws IOException If copying fails. The current index is left untouched in that case.
+	 */
+	private void replaceIndexWith(Directory source) throws IOException {
+		// Prevent other threads from opening a writer while we replace the index
+		writerInitializationLock.lock();
+		try {
+			// Pending changes are committed when closing the writer: a rollback will only revert the replacement.
+			// Near-real-time readers fall back to the last commit while there is no writer.
+			closeIndexWriter();
+			IndexWriterConfig replacingWriterConfig = createWriterConfig( false )
+					// Closing the writer without committing rolls back all changes
+					.setCommitOnClose( false );
+			IndexWriter replacingWriter = new IndexWriter( directory, replacingWriterConfig );
+			try {
+				replacingWriter.deleteAll();
+				replacingWriter.addIndexes( source );
+				replacingWriter.commit();
+			}
+			catch (IOException | RuntimeException e) {
+				new SuppressingCloser( e ).push( IndexWriter::rollback, replacingWriter );
+				throw e;
+			}
+			replacingWriter.close();
+		}
+		finally {
+			writerInitializationLock.unlock();
+		}
+	}
+
+	private IndexWriterConfig createWriterConfig(boolean offlineRebuild) {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
-		/* TODO HSEARCH-3117 re-allow to configure index writers
-		luceneParameters.applyToWriter( writerConfig );
+		/* TODO HSEARCH-3117 re-allow to configure the similarity
 		if ( similarity != null ) {
 			writerConfig.setSimilarity( similarity );
 		}
-		LogByteSizeMergePolicy newMergePolicy = indexParameters.getNewMergePolicy(); //TODO HSEARCH-3117 make it possible to configure a different policy?
-		writerConfig.setMergePolicy( newMergePolicy );
 		 */
-		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler( this.errorHandler, this.indexName );
+		HibernateSearchConcurrentMergeScheduler mergeScheduler =
+				new HibernateSearchConcurrentMergeScheduler( this.errorHandler, this.indexName );
 		writerConfig.setMergeScheduler( mergeScheduler );
-		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( offlineRebuild ) {
+			writerConfig.setOpenMode( OpenMode.CREATE );
+			writerSettings.applyForOfflineRebuildTo( writerConfig, mergeScheduler );
+		}
+		else {
+			writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+			writerSettings.applyTo( writerConfig, mergeScheduler );
+		}
 		return writerConfig;
 	}
 
+	private interface IndexWriterOperation {
+		void apply(IndexWriter indexWriter) throws IOException;
+	}
+
+	/**
+	 * An offline rebuild, and the delegator writing to the rebuilt index only.
+	 */
+	private final class OfflineRebuild implements IndexWriterDelegator {
+		private final DirectoryHolder directoryHolder;
+		private final IndexWriter indexWriter;
+		private volatile boolean failed = false;
+
+		private OfflineRebuild(DirectoryHolder directoryHolder, IndexWriter indexWriter) {
+			this.directoryHolder = directoryHolder;
+			this.indexWriter = indexWriter;
+		}
+
+		@Override
+		public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+			return getIndexWriter().addDocuments( docs );
+		}
+
+		@Override
+		public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs)
+				throws IOException {
+			return getIndexWriter().updateDocuments( term, docs );
+		}
+
+		@Override
+		public long deleteDocuments(Term term) throws IOException {
+			return getIndexWriter().deleteDocuments( term );
+		}
+
+		@Override
+		public long deleteDocuments(Query query) throws IOException {
+			return getIndexWriter().deleteDocuments( query );
+		}
+
+		@Override
+		public long deleteAll() throws IOException {
+			return getIndexWriter().deleteAll();
+		}
+
+		@Override
+		public void commit() throws IOException {
+			// The rebuilt index is only committed when the rebuild completes
+			IndexWriterDelegatorImpl.this.commit();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			getIndexWriter().flush();
+		}
+
+		@Override
+		public void forceMerge() throws IOException {
+			getIndexWriter().forceMerge( 1 );
+		}
+
+		@Override
+		public void forceLockRelease() throws IOException {
+			IndexWriterDelegatorImpl.this.forceLockRelease();
+		}
+
+		@Override
+		public IndexWriterDelegator getOfflineRebuildDelegator() {
+			return this;
+		}
+
+		@Override
+		public void startOfflineRebuild() throws IOException {
+			IndexWriterDelegatorImpl.this.startOfflineRebuild();
+		}
+
+		@Override
+		public void completeOfflineRebuild() throws IOException {
+			IndexWriterDelegatorImpl.this.completeOfflineRebuild();
+		}
+
+		@Override
+		public void abortOfflineRebuild() throws IOException {
+			IndexWriterDelegatorImpl.this.abortOfflineRebuild();
+		}
+
+		IndexWriter getIndexWriter() {
+			if ( failed ) {
+				throw log.offlineRebuildFailed( indexEventContext );
+			}
+			return indexWriter;
+		}
+
+		/**
+		 * Apply a change that was already applied to the current index.
+		 * <p>
+		 * Failures only affect the rebuild, which will fail to complete:
+		 * the change was successfully applied to the current index.
+		 */
+		void apply(IndexWriterOperation operation) {
+			if ( failed ) {
+				return;
+			}
+			try {
+				operation.apply( indexWriter );
+			}
+			catch (IOException | RuntimeException e) {
+				failed = true;
+				log.unableToApplyChangeToOfflineRebuild( indexEventContext, e );
+			}
+		}
+
+		void failIfWriterUnusable() throws IOException {
+			if ( indexWriter.isOpen() && indexWriter.getTragicException() == null ) {
+				return;
+			}
+			failed = true;
+			indexWriter.rollback();
+		}
+
+		void discard() throws IOException {
+			try ( Closer<IOException> closer = new Closer<>() ) {
+				// No-op if the writer was already closed
+				closer.push( IndexWriter::rollback, indexWriter );
+				closer.push( OfflineRebuild::deleteFiles, this );
+				closer.push( DirectoryHolder::close, directoryHolder );
+			}
+		}
+
+		private void deleteFiles() {
+			Directory rebuildDirectory = directoryHolder.get();
+			try {
+				for ( String fileName : rebuildDirectory.listAll() ) {
+					rebuildDirectory.deleteFile( fileName );
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToCleanUpOfflineRebuildDirectory( indexEventContext, e );
+			}
+		}
+	}
+
 }
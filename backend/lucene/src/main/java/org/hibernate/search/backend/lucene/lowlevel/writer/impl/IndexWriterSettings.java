@@ -0,0 +1,271 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.MergePolicyName;
+import org.hibernate.search.backend.lucene.cfg.StoredFieldsCompressionName;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene50.Lucene50StoredFieldsFormat;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * Settings to apply to index writers, extracted from the configuration properties of an index or shard.
+ * <p>
+ * Settings that are not set explicitly are left to Lucene's defaults.
+ * <p>
+ * Ported from Search 5: {@code org.hibernate.search.backend.configuration.impl.IndexWriterSetting}, in particular.
+ */
+public final class IndexWriterSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<MergePolicyName> MERGE_POLICY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_POLICY )
+					.as( MergePolicyName.class, MergePolicyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_MERGE_POLICY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_FACTOR =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_FACTOR )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MIN_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_MIN_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_MAX_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_FORCED_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_MAX_FORCED_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_MAX_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Boolean> MERGE_CALIBRATE_BY_DELETES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_CALIBRATE_BY_DELETES )
+					.asBoolean()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_DELETES_PCT_ALLOWED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MERGE_DELETES_PCT_ALLOWED )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_MERGE_THREADS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MAX_MERGE_THREADS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_MERGE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.MAX_MERGE_COUNT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Boolean> USE_COMPOUND_FILE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.USE_COMPOUND_FILE )
+					.asBoolean()
+					.build();
+
+	private static final ConfigurationProperty<StoredFieldsCompressionName> STORED_FIELDS_COMPRESSION =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IndexingRadicals.STORED_FIELDS_COMPRESSION )
+					.as( StoredFieldsCompressionName.class, StoredFieldsCompressionName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_STORED_FIELDS_COMPRESSION )
+					.build();
+
+	/**
+	 * The RAM buffer size, in megabytes, to use for offline rebuilds when it is not set explicitly.
+	 * <p>
+	 * Nothing reads from a rebuilt index before it is complete,
+	 * so flushing fewer, larger segments is worth the additional memory.
+	 */
+	private static final int OFFLINE_REBUILD_RAM_BUFFER_SIZE = 128;
+
+	/**
+	 * @param propertySource A property source for index writer settings, i.e. masked with "indexing".
+	 * @param eventContext The event context of the index or shard, for error reporting.
+	 * @return The extracted settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the settings are invalid.
+	 */
+	public static IndexWriterSettings extractAll(ConfigurationPropertySource propertySource, EventContext eventContext) {
+		IndexWriterSettings settings = new IndexWriterSettings( propertySource );
+		// Validate the settings upfront, since index writers are only created lazily
+		try {
+			settings.applyTo( new IndexWriterConfig(), new ConcurrentMergeScheduler() );
+		}
+		catch (IllegalArgumentException e) {
+			throw log.invalidIndexWriterConfiguration( e.getMessage(), e, eventContext );
+		}
+		return settings;
+	}
+
+	private final Optional<Integer> ramBufferSize;
+	private final Optional<Integer> maxBufferedDocs;
+	private final MergePolicyName mergePolicy;
+	private final Optional<Integer> mergeFactor;
+	private final Optional<Integer> mergeMinSize;
+	private final Optional<Integer> mergeMaxSize;
+	private final Optional<Integer> mergeMaxForcedSize;
+	private final Optional<Integer> mergeMaxDocs;
+	private final Optional<Boolean> mergeCalibrateByDeletes;
+	private final Optional<Integer> mergeDeletesPctAllowed;
+	private final Optional<Integer> maxMergeThreads;
+	private final Optional<Integer> maxMergeCount;
+	private final Optional<Boolean> useCompoundFile;
+	private final StoredFieldsCompressionName storedFieldsCompression;
+
+	private IndexWriterSettings(ConfigurationPropertySource propertySource) {
+		this.ramBufferSize = RAM_BUFFER_SIZE.get( propertySource );
+		this.maxBufferedDocs = MAX_BUFFERED_DOCS.get( propertySource );
+		this.mergePolicy = MERGE_POLICY.get( propertySource );
+		this.mergeFactor = MERGE_FACTOR.get( propertySource );
+		this.mergeMinSize = MERGE_MIN_SIZE.get( propertySource );
+		this.mergeMaxSize = MERGE_MAX_SIZE.get( propertySource );
+		this.mergeMaxForcedSize = MERGE_MAX_FORCED_SIZE.get( propertySource );
+		this.mergeMaxDocs = MERGE_MAX_DOCS.get( propertySource );
+		this.mergeCalibrateByDeletes = MERGE_CALIBRATE_BY_DELETES.get( propertySource );
+		this.mergeDeletesPctAllowed = MERGE_DELETES_PCT_ALLOWED.get( propertySource );
+		this.maxMergeThreads = MAX_MERGE_THREADS.get( propertySource );
+		this.maxMergeCount = MAX_MERGE_COUNT.get( propertySource );
+		this.useCompoundFile = USE_COMPOUND_FILE.get( propertySource );
+		this.storedFieldsCompression = STORED_FIELDS_COMPRESSION.get( propertySource );
+	}
+
+	/**
+	 * @param writerConfig The writer configuration to alter.
+	 * @param mergeScheduler The merge scheduler set on the writer configuration.
+	 * @throws IllegalArgumentException If Lucene rejects a setting.
+	 */
+	void applyTo(IndexWriterConfig writerConfig, ConcurrentMergeScheduler mergeScheduler) {
+		ramBufferSize.ifPresent( writerConfig::setRAMBufferSizeMB );
+		maxBufferedDocs.ifPresent( writerConfig::setMaxBufferedDocs );
+		useCompoundFile.ifPresent( writerConfig::setUseCompoundFile );
+
+		MergePolicy luceneMergePolicy = createMergePolicy();
+		useCompoundFile.ifPresent( value -> luceneMergePolicy.setNoCFSRatio( value ? 1.0 : 0.0 ) );
+		writerConfig.setMergePolicy( luceneMergePolicy );
+
+		if ( maxMergeThreads.isPresent() || maxMergeCount.isPresent() ) {
+			int threads = maxMergeThreads.orElseGet( () -> defaultMaxMergeThreads( maxMergeCount.get() ) );
+			int count = maxMergeCount.orElse( threads + 5 );
+			mergeScheduler.setMaxMergesAndThreads( count, threads );
+		}
+
+		if ( !StoredFieldsCompressionName.BEST_SPEED.equals( storedFieldsCompression ) ) {
+			writerConfig.setCodec( new BestCompressionCodec( Codec.getDefault() ) );
+		}
+	}
+
+	/**
+	 * Same as {@link #applyTo(IndexWriterConfig, ConcurrentMergeScheduler)},
+	 * but tuned for writing a whole index in bulk, before making it visible all at once.
+	 *
+	 * @param writerConfig The writer configuration to alter.
+	 * @param mergeScheduler The merge scheduler set on the writer configuration.
+	 * @throws IllegalArgumentException If Lucene rejects a setting.
+	 */
+	void applyForOfflineRebuildTo(IndexWriterConfig writerConfig, ConcurrentMergeScheduler mergeScheduler) {
+		applyTo( writerConfig, mergeScheduler );
+		if ( !ramBufferSize.isPresent() && !maxBufferedDocs.isPresent() ) {
+			writerConfig.setRAMBufferSizeMB( OFFLINE_REBUILD_RAM_BUFFER_SIZE );
+		}
+		if ( !useCompoundFile.isPresent() ) {
+			// Most segments written during a rebuild are transient: don't pay for packing them into compound files
+			writerConfig.setUseCompoundFile( false );
+		}
+		// Changes are committed once, at the very end of the rebuild
+		writerConfig.setCommitOnClose( false );
+	}
+
+	private MergePolicy createMergePolicy() {
+		switch ( mergePolicy ) {
+			case LOG_BYTE_SIZE:
+				LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
+				mergeFactor.ifPresent( logByteSizeMergePolicy::setMergeFactor );
+				mergeMinSize.ifPresent( logByteSizeMergePolicy::setMinMergeMB );
+				mergeMaxSize.ifPresent( logByteSizeMergePolicy::setMaxMergeMB );
+				mergeMaxForcedSize.ifPresent( logByteSizeMergePolicy::setMaxMergeMBForForcedMerge );
+				mergeMaxDocs.ifPresent( logByteSizeMergePolicy::setMaxMergeDocs );
+				mergeCalibrateByDeletes.ifPresent( logByteSizeMergePolicy::setCalibrateSizeByDeletes );
+				return logByteSizeMergePolicy;
+			case TIERED:
+			default:
+				TieredMergePolicy tieredMergePolicy = new TieredMergePolicy();
+				mergeFactor.ifPresent( value -> {
+					tieredMergePolicy.setMaxMergeAtOnce( value );
+					tieredMergePolicy.setSegmentsPerTier( value );
+				} );
+				mergeMinSize.ifPresent( tieredMergePolicy::setFloorSegmentMB );
+				mergeMaxSize.ifPresent( tieredMergePolicy::setMaxMergedSegmentMB );
+				mergeDeletesPctAllowed.ifPresent( tieredMergePolicy::setDeletesPctAllowed );
+				return tieredMergePolicy;
+		}
+	}
+
+	/**
+	 * The default codec, with stored fields compressed for the best compression ratio.
+	 * <p>
+	 * This codec uses the name of the default codec, so that indexes can be read without it:
+	 * the stored fields format records its compression mode in each segment and reads it back from there.
+	 */
+	private static final class BestCompressionCodec extends FilterCodec {
+
+		private final StoredFieldsFormat storedFieldsFormat =
+				new Lucene50StoredFieldsFormat( Lucene50StoredFieldsFormat.Mode.BEST_COMPRESSION );
+
+		BestCompressionCodec(Codec delegate) {
+			super( delegate.getName(), delegate );
+		}
+
+		@Override
+		public StoredFieldsFormat storedFieldsFormat() {
+			return storedFieldsFormat;
+		}
+	}
+
+	private static int defaultMaxMergeThreads(int maxMergeCount) {
+		// Same as Lucene's default for non-spinning disks, but never more than the max merge count
+		int defaultThreads = Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+		return Math.min( maxMergeCount, defaultThreads );
+	}
+
+}
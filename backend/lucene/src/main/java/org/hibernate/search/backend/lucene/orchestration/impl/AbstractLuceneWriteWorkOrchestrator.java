@@ -92,7 +92,7 @@ public void markAsFailed(Throwable t) {
 		@Override
 		public void submitTo(LuceneWriteWorkProcessor processor) {
 			processor.beforeWorkSet( commitStrategy, refreshStrategy );
-			T result = processor.submit( work );
+			CompletableFuture<T> result = processor.submit( work );
 			processor.afterWorkSet( future, result );
 		}
 
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A commit policy that commits at the end of each batch of worksets.
+ * <p>
+ * Changes are durable shortly after they have been applied,
+ * but each batch requires a commit, which may be costly
+ * when worksets are submitted in a trickle.
+ */
+public final class LuceneBatchCommitPolicy implements LuceneCommitPolicy {
+
+	public static final LuceneBatchCommitPolicy INSTANCE = new LuceneBatchCommitPolicy();
+
+	private LuceneBatchCommitPolicy() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public boolean shouldCommit(int uncommittedWorkCount, long nanosSinceLastCommit) {
+		return true;
+	}
+
+	@Override
+	public int getPeriodicCheckIntervalMs() {
+		return 0;
+	}
+
+}
@@ -7,6 +7,10 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -21,6 +25,10 @@
  * in a separate thread.
  * This allows to process multiple worksets and only commit once,
  * potentially reducing the frequency of commits.
+ * <p>
+ * When the processor's commit policy may decide not to commit at the end of a batch,
+ * the policy is also checked periodically, so that the last changes are eventually committed.
+ * All pending changes are committed when the orchestrator is closed.
  */
 public class LuceneBatchingWriteWorkOrchestrator extends AbstractLuceneWriteWorkOrchestrator
 		implements LuceneWriteWorkOrchestratorImplementor {
@@ -30,17 +38,35 @@ public class LuceneBatchingWriteWorkOrchestrator extends AbstractLuceneWriteWork
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final LuceneWriteWorkProcessor processor;
 	private final BatchingExecutor<LuceneWorkSet, LuceneWriteWorkProcessor> executor;
+	private final ExecutorService writeExecutor;
+	private final ScheduledExecutorService commitExecutor;
+	private final int commitCheckIntervalMs;
+	private final ErrorHandler errorHandler;
+
+	private ScheduledFuture<?> scheduledCommitCheck;
 
 	/**
-	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param name The name of this orchestrator when reporting errors
 	 * @param processor A processor to use in the background thread.
+	 * @param writeExecutor An executor to process batches of works with, possibly shared with other orchestrators.
+	 * @param commitExecutor An executor to schedule periodic checks of the commit policy.
+	 * @param commitCheckIntervalMs The interval between two periodic checks of the commit policy, in milliseconds,
+	 * or {@code 0} to disable periodic checks.
+	 * See {@link LuceneCommitPolicy#getPeriodicCheckIntervalMs()}.
 	 * @param errorHandler An error handler to report failures of the background thread.
 	 */
 	public LuceneBatchingWriteWorkOrchestrator(
 			String name, LuceneWriteWorkProcessor processor,
+			ExecutorService writeExecutor, ScheduledExecutorService commitExecutor, int commitCheckIntervalMs,
 			ErrorHandler errorHandler) {
 		super( name );
+		this.processor = processor;
+		this.writeExecutor = writeExecutor;
+		this.commitExecutor = commitExecutor;
+		this.commitCheckIntervalMs = commitCheckIntervalMs;
+		this.errorHandler = errorHandler;
 		this.executor = new BatchingExecutor<>(
 				name,
 				processor,
@@ -51,8 +77,14 @@ public LuceneBatchingWriteWorkOrchestrator(
 	}
 
 	@Override
-	public void start() {
-		executor.start();
+	public synchronized void start() {
+		processor.start();
+		executor.start( writeExecutor );
+		if ( commitCheckIntervalMs > 0 && scheduledCommitCheck == null ) {
+			scheduledCommitCheck = commitExecutor.scheduleWithFixedDelay(
+					this::submitCommitCheck, commitCheckIntervalMs, commitCheckIntervalMs, TimeUnit.MILLISECONDS
+			);
+		}
 	}
 
 	@Override
@@ -63,8 +95,44 @@ protected void doSubmit(LuceneWorkSet workSet) throws InterruptedException {
 	@Override
 	protected void doClose() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( LuceneBatchingWriteWorkOrchestrator::cancelCommitCheck, this );
+			closer.push( LuceneBatchingWriteWorkOrchestrator::forceCommitBeforeClose, this );
 			closer.push( LuceneBatchingWriteWorkOrchestrator::awaitCompletionBeforeClose, this );
 			closer.push( BatchingExecutor::stop, executor );
+			closer.push( LuceneWriteWorkProcessor::stop, processor );
+		}
+	}
+
+	private void submitCommitCheck() {
+		if ( !processor.hasUncommittedWorks() ) {
+			// Nothing to commit: don't bother waking up the processing thread.
+			return;
+		}
+		try {
+			executor.submit( LuceneCommitWorkSet.CHECK_POLICY );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			errorHandler.handleException( "Error while scheduling a commit in executor '" + getName() + "'", e );
+		}
+	}
+
+	private synchronized void cancelCommitCheck() {
+		if ( scheduledCommitCheck != null ) {
+			scheduledCommitCheck.cancel( false );
+			scheduledCommitCheck = null;
+		}
+	}
+
+	private void forceCommitBeforeClose() {
+		try {
+			executor.submit( LuceneCommitWorkSet.FORCE );
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForIndexActivity( getName(), e );
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -78,4 +146,28 @@ private void awaitCompletionBeforeClose() {
 		}
 	}
 
+	private static final class LuceneCommitWorkSet implements LuceneWorkSet {
+		private static final LuceneCommitWorkSet CHECK_POLICY = new LuceneCommitWorkSet( false );
+		private static final LuceneCommitWorkSet FORCE = new LuceneCommitWorkSet( true );
+
+		private final boolean force;
+
+		private LuceneCommitWorkSet(boolean force) {
+			this.force = force;
+		}
+
+		@Override
+		public void submitTo(LuceneWriteWorkProcessor processor) {
+			if ( force ) {
+				processor.forceCommit();
+			}
+			// Otherwise, nothing to do: the commit policy will be checked at the end of the batch.
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			// Nothing to do: commit failures are reported by the processor.
+		}
+	}
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A policy deciding when changes applied by a {@link LuceneWriteWorkProcessor} should be committed.
+ * <p>
+ * Commits are expensive, as they involve synchronizing files to disk,
+ * so committing less often can greatly improve indexing throughput,
+ * at the cost of more changes being lost in the event of a crash.
+ * <p>
+ * Regardless of the policy, changes are always committed immediately when a workset requests it
+ * through {@link org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy#FORCE},
+ * and when the orchestrator is closed.
+ * <p>
+ * Implementations must be immutable.
+ */
+public interface LuceneCommitPolicy {
+
+	/**
+	 * @param uncommittedWorkCount The number of works applied since the last commit. Always strictly positive.
+	 * @param nanosSinceLastCommit The time elapsed since the last commit, in nanoseconds.
+	 * @return {@code true} if pending changes should be committed now, {@code false} otherwise.
+	 */
+	boolean shouldCommit(int uncommittedWorkCount, long nanosSinceLastCommit);
+
+	/**
+	 * @return The interval between two checks of this policy when no work is being submitted, in milliseconds,
+	 * or {@code 0} if this policy only needs to be checked at the end of each batch.
+	 * Periodic checks are necessary for policies that may decide not to commit at the end of a batch,
+	 * so that the last changes are eventually committed.
+	 */
+	int getPeriodicCheckIntervalMs();
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * An executor applying write works to an index writer from multiple threads,
+ * while preserving the order of works affecting the same document.
+ * <p>
+ * Works are assigned to a partition based on the identifier of the document they affect,
+ * and works within the same partition are executed sequentially, in the order they were submitted.
+ * Works from different partitions are executed concurrently,
+ * which allows to take advantage of the index writer's ability to index documents from multiple threads.
+ * <p>
+ * Partitions do not own any thread: they are executed by the thread pool shared by all indexes of the backend.
+ * Since the thread waiting for completion may itself be a thread of that pool,
+ * it applies the works of partitions that are not currently being executed
+ * instead of just blocking, so that waiting never requires an additional thread from the pool.
+ * <p>
+ * Works must be submitted from a single thread (the orchestrator's thread),
+ * which is also the only thread allowed to wait for completion.
+ */
+public class LuceneConcurrentWriteExecutor {
+
+	private final String name;
+	private final int partitionCount;
+	private final Executor executor;
+
+	private Partition[] partitions;
+
+	/**
+	 * @param name The name of this executor, for error reporting.
+	 * @param partitionCount The number of partitions, i.e. the maximum number of works applied concurrently;
+	 * must be strictly positive.
+	 * @param executor The executor to execute partitions with, possibly shared with other indexes.
+	 */
+	public LuceneConcurrentWriteExecutor(String name, int partitionCount, Executor executor) {
+		this.name = name;
+		this.partitionCount = partitionCount;
+		this.executor = executor;
+	}
+
+	public synchronized void start() {
+		if ( partitions != null ) {
+			// Already started
+			return;
+		}
+		partitions = new Partition[partitionCount];
+		for ( int i = 0; i < partitionCount; i++ ) {
+			partitions[i] = new Partition();
+		}
+	}
+
+	public synchronized void stop() {
+		if ( partitions != null ) {
+			for ( Partition partition : partitions ) {
+				partition.clear();
+			}
+			partitions = null;
+		}
+	}
+
+	/**
+	 * @param documentId The identifier of the document affected by the work.
+	 * @param work The work to execute. Should not throw exceptions.
+	 * @param <T> The type of the work's result.
+	 * @return A future completing when the work has been executed.
+	 */
+	<T> CompletableFuture<T> submit(String documentId, Supplier<T> work) {
+		if ( partitions == null ) {
+			throw new AssertionFailure(
+					"Attempt to submit a work to executor '" + name + "', which is stopped."
+					+ " There is probably a bug in Hibernate Search, please report it."
+			);
+		}
+		Partition partition = partitions[Math.floorMod( documentId.hashCode(), partitions.length )];
+		CompletableFuture<T> future = new CompletableFuture<>();
+		partition.submit( () -> {
+			try {
+				future.complete( work.get() );
+			}
+			catch (Throwable e) {
+				future.completeExceptionally( e );
+			}
+		} );
+		return future;
+	}
+
+	/**
+	 * Block the current thread until all works submitted so far have been executed.
+	 */
+	void awaitCompletion() {
+		if ( partitions == null ) {
+			return;
+		}
+		for ( Partition partition : partitions ) {
+			// Failures are reported through the futures returned by submit(): ignore them here.
+			partition.drainOrAwait();
+		}
+	}
+
+	private final class Partition {
+
+		private final Deque<Runnable> queue = new ArrayDeque<>();
+		/**
+		 * Whether a task draining this partition was submitted to the executor and has not started yet.
+		 */
+		private boolean drainScheduled = false;
+		/**
+		 * Whether a thread is currently executing the works of this partition.
+		 */
+		private boolean draining = false;
+
+		synchronized void submit(Runnable task) {
+			queue.addLast( task );
+			if ( !draining && !drainScheduled ) {
+				drainScheduled = true;
+				executor.execute( this::drainScheduled );
+			}
+		}
+
+		synchronized void clear() {
+			queue.clear();
+		}
+
+		/**
+		 * Execute the works of this partition in the calling thread,
+		 * or wait for the thread currently executing them to be done,
+		 * until no work is left in this partition.
+		 */
+		void drainOrAwait() {
+			synchronized ( this ) {
+				while ( draining ) {
+					try {
+						wait();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new AssertionFailure(
+								"Interrupted while waiting for the completion of works in executor '" + name + "'", e
+						);
+					}
+				}
+				if ( queue.isEmpty() ) {
+					return;
+				}
+				draining = true;
+			}
+			drain();
+		}
+
+		private void drainScheduled() {
+			synchronized ( this ) {
+				drainScheduled = false;
+				if ( draining || queue.isEmpty() ) {
+					// Another thread took care of the works while this task was waiting for a thread
+					return;
+				}
+				draining = true;
+			}
+			drain();
+		}
+
+		/**
+		 * Must only be called after setting {@link #draining} to {@code true}.
+		 */
+		private void drain() {
+			while ( true ) {
+				Runnable task;
+				synchronized ( this ) {
+					task = queue.pollFirst();
+					if ( task == null ) {
+						draining = false;
+						notifyAll();
+						return;
+					}
+				}
+				task.run();
+			}
+		}
+	}
+
+}
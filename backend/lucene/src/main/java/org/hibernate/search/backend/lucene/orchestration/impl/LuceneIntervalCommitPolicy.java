@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A commit policy that commits at most once every given interval,
+ * amortizing the cost of commits across batches.
+ * <p>
+ * Changes that were not committed at the end of a batch will be committed
+ * by a periodic check, at most twice the interval after they have been applied.
+ */
+public final class LuceneIntervalCommitPolicy implements LuceneCommitPolicy {
+
+	private final int intervalMs;
+	private final long intervalNanos;
+
+	public LuceneIntervalCommitPolicy(int intervalMs) {
+		this.intervalMs = intervalMs;
+		this.intervalNanos = TimeUnit.MILLISECONDS.toNanos( intervalMs );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[intervalMs=" + intervalMs + "]";
+	}
+
+	@Override
+	public boolean shouldCommit(int uncommittedWorkCount, long nanosSinceLastCommit) {
+		return nanosSinceLastCommit >= intervalNanos;
+	}
+
+	@Override
+	public int getPeriodicCheckIntervalMs() {
+		return intervalMs;
+	}
+
+}
@@ -7,14 +7,44 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 
+import org.apache.lucene.index.IndexReader;
+
 
 public interface LuceneReadWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work);
 
+	/**
+	 * Execute a work in a background thread, without blocking the current thread.
+	 *
+	 * @param indexNames The names of the targeted indexes.
+	 * @param indexManagerContexts The targeted index managers.
+	 * @param routingKeys The routing keys, to select shards.
+	 * @param work The work to execute.
+	 * @param <T> The type of the work result.
+	 * @return A future that will complete with the work result.
+	 */
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, LuceneReadWork<T> work);
+
+	/**
+	 * Execute a work against an index reader opened by the caller,
+	 * for instance a reader kept open for the whole duration of a scroll.
+	 * <p>
+	 * The reader will not be closed after the work is executed.
+	 *
+	 * @param indexNames The names of the indexes the reader was opened on.
+	 * @param indexReader The index reader.
+	 * @param work The work to execute.
+	 * @param <T> The type of the work result.
+	 * @return The work result.
+	 */
+	<T> T submit(Set<String> indexNames, IndexReader indexReader, LuceneReadWork<T> work);
+
 }
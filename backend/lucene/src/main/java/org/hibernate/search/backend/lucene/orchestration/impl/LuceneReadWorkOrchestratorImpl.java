@@ -9,6 +9,8 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
@@ -24,11 +26,8 @@
 import org.apache.lucene.index.IndexReader;
 
 /**
- * An orchestrator that executes read works synchronously in the current thread.
- * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * An orchestrator that executes read works synchronously in the current thread,
+ * or asynchronously in the given executor when requested.
  */
 public class LuceneReadWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneReadWorkOrchestratorImpl.ReadTask<?>>
@@ -36,14 +35,47 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneReadWorkOrchestratorImpl(String name) {
+	private final Executor asyncExecutor;
+
+	public LuceneReadWorkOrchestratorImpl(String name, Executor asyncExecutor) {
 		super( name );
+		this.asyncExecutor = asyncExecutor;
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work) {
-		ReadTask<T> task = new ReadTask<>( indexNames, indexManagerContexts, routingKeys, work );
+		HolderMultiReader indexReader = HolderMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+		return submitTask( new ReadTask<>( indexNames, indexReader, true, work ) );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, LuceneReadWork<T> work) {
+		// Open the reader in the executor too: it may involve I/O
+		return CompletableFuture.supplyAsync(
+				() -> submit( indexNames, indexManagerContexts, routingKeys, work ),
+				asyncExecutor
+		);
+	}
+
+	@Override
+	public <T> T submit(Set<String> indexNames, IndexReader indexReader, LuceneReadWork<T> work) {
+		return submitTask( new ReadTask<>( indexNames, indexReader, false, work ) );
+	}
+
+	@Override
+	protected void doSubmit(ReadTask<?> task) {
+		task.execute();
+	}
+
+	@Override
+	protected void doClose() {
+		// Nothing to do
+	}
+
+	private <T> T submitTask(ReadTask<T> task) {
 		Throwable throwable = null;
 		try {
 			submit( task );
@@ -67,27 +99,19 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 	}
 
-	@Override
-	protected void doSubmit(ReadTask<?> task) {
-		task.execute();
-	}
-
-	@Override
-	protected void doClose() {
-		// Nothing to do
-	}
-
 	static class ReadTask<T> implements AutoCloseable, LuceneReadWorkExecutionContext {
 		private final Set<String> indexNames;
-		private final HolderMultiReader indexReader;
+		private final IndexReader indexReader;
+		private final boolean closeIndexReader;
 		private final LuceneReadWork<T> work;
 
 		private T result;
 
-		ReadTask(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, LuceneReadWork<T> work) {
+		ReadTask(Set<String> indexNames, IndexReader indexReader, boolean closeIndexReader,
+				LuceneReadWork<T> work) {
 			this.indexNames = indexNames;
-			this.indexReader = HolderMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = indexReader;
+			this.closeIndexReader = closeIndexReader;
 			this.work = work;
 		}
 
@@ -111,6 +135,10 @@ public T getResult() {
 
 		@Override
 		public void close() {
+			if ( !closeIndexReader ) {
+				// The reader is managed by the caller
+				return;
+			}
 			try {
 				indexReader.close();
 			}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A commit policy that commits as soon as a given number of works have been applied since the last commit,
+ * or when another policy, if any, decides to commit.
+ * <p>
+ * Useful to bound the amount of changes that may be lost in the event of a crash,
+ * or the amount of memory used by uncommitted changes, under heavy indexing load.
+ */
+public final class LuceneThresholdCommitPolicy implements LuceneCommitPolicy {
+
+	private final int threshold;
+	private final LuceneCommitPolicy delegate;
+
+	/**
+	 * @param threshold The number of uncommitted works above which a commit must be executed.
+	 * Changes below the threshold are only committed when a workset requests it or when the orchestrator is closed.
+	 */
+	public LuceneThresholdCommitPolicy(int threshold) {
+		this( threshold, null );
+	}
+
+	/**
+	 * @param threshold The number of uncommitted works above which a commit must be executed.
+	 * @param delegate The policy to fall back to when the threshold is not reached.
+	 */
+	public LuceneThresholdCommitPolicy(int threshold, LuceneCommitPolicy delegate) {
+		this.threshold = threshold;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[threshold=" + threshold + ", delegate=" + delegate + "]";
+	}
+
+	@Override
+	public boolean shouldCommit(int uncommittedWorkCount, long nanosSinceLastCommit) {
+		return uncommittedWorkCount >= threshold
+				|| delegate != null && delegate.shouldCommit( uncommittedWorkCount, nanosSinceLastCommit );
+	}
+
+	@Override
+	public int getPeriodicCheckIntervalMs() {
+		// Without a delegate, the number of uncommitted works cannot grow between batches: no need to check
+		return delegate == null ? 0 : delegate.getPeriodicCheckIntervalMs();
+	}
+
+}
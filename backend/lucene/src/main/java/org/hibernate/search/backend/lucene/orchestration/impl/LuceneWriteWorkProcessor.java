@@ -8,9 +8,12 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
@@ -24,6 +27,12 @@
 /**
  * A thread-unsafe component responsible for applying write works to an index writer.
  * <p>
+ * By default, works are applied sequentially in the processing thread.
+ * When a {@link LuceneConcurrentWriteExecutor} is provided,
+ * works affecting a single document are applied concurrently instead,
+ * and commits (as well as works affecting any number of documents) act as barriers:
+ * they are only executed once all previously submitted works have been applied.
+ * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
 public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor {
@@ -32,23 +41,78 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 
 	private final EventContext indexEventContext;
 	private final IndexWriterDelegator indexWriterDelegator;
+	private final IndexReaderProvider indexReaderProvider;
+	private final boolean nearRealTime;
+	private final LuceneCommitPolicy commitPolicy;
 	private final LuceneWriteWorkExecutionContextImpl context;
+	/*
+	 * Null unless in concurrent mode, where works affecting a single document
+	 * are submitted to this executor and executed asynchronously.
+	 */
+	private final LuceneConcurrentWriteExecutor concurrentWriteExecutor;
 	private final ErrorHandler errorHandler;
 
-	private boolean hasUncommittedWorks;
+	private int uncommittedWorkCount;
+	private long lastCommitNanos;
+	/*
+	 * Same as uncommittedWorkCount > 0, but volatile,
+	 * so that other threads can check whether a commit is needed.
+	 */
+	private volatile boolean hasUncommittedWorks;
+
+	// Only used in concurrent mode
+	private final List<CompletableFuture<?>> pendingWorkSetCompletions = new ArrayList<>();
+	/*
+	 * Set from the concurrent executor's threads when a workset failed:
+	 * cleaning up requires all concurrent works to be completed.
+	 */
+	private volatile boolean cleanUpAfterErrorRequired;
 
-	private Throwable workSetFailure;
-	private ContextualErrorHandler workSetContextualErrorHandler;
-	private boolean workSetForcesCommit;
+	private WorkSetState workSet;
 
+	/**
+	 * @param indexEventContext The event context of the index, for error reporting.
+	 * @param indexWriterDelegator The index writer to apply works to.
+	 * @param indexReaderProvider The index reader provider, to refresh when requested.
+	 * @param nearRealTime {@code true} if changes can be made visible to readers without committing,
+	 * {@code false} if refreshing requires a commit.
+	 * @param commitPolicy The policy deciding when to commit changes, at the end of a batch.
+	 * @param concurrentWriteExecutor An executor to apply works affecting a single document concurrently,
+	 * or {@code null} to apply all works sequentially, in the processing thread.
+	 * @param errorHandler An error handler to report failures.
+	 */
 	public LuceneWriteWorkProcessor(EventContext indexEventContext, IndexWriterDelegator indexWriterDelegator,
-			ErrorHandler errorHandler) {
+			IndexReaderProvider indexReaderProvider, boolean nearRealTime, LuceneCommitPolicy commitPolicy,
+			LuceneConcurrentWriteExecutor concurrentWriteExecutor, ErrorHandler errorHandler) {
 		this.indexEventContext = indexEventContext;
 		this.indexWriterDelegator = indexWriterDelegator;
+		this.indexReaderProvider = indexReaderProvider;
+		this.nearRealTime = nearRealTime;
+		this.commitPolicy = commitPolicy;
+		this.lastCommitNanos = System.nanoTime();
 		this.context = new LuceneWriteWorkExecutionContextImpl( indexEventContext, indexWriterDelegator );
+		this.concurrentWriteExecutor = concurrentWriteExecutor;
 		this.errorHandler = errorHandler;
 	}
 
+	/**
+	 * Start any resource necessary to process works.
+	 */
+	void start() {
+		if ( concurrentWriteExecutor != null ) {
+			concurrentWriteExecutor.start();
+		}
+	}
+
+	/**
+	 * Stop the resources started in {@link #start()}.
+	 */
+	void stop() {
+		if ( concurrentWriteExecutor != null ) {
+			concurrentWriteExecutor.stop();
+		}
+	}
+
 	@Override
 	public void beginBatch() {
 		// Nothing to do
@@ -56,81 +120,217 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
-		try {
-			commitIfNecessary();
-		}
-		catch (RuntimeException e) {
-			try {
-				cleanUpAfterError();
-			}
-			catch (RuntimeException e2) {
-				e.addSuppressed( e2 );
-			}
-			errorHandler.handleException( e.getMessage(), e );
+		// The commit is a barrier: all works of this batch must be applied before we commit.
+		awaitConcurrentWorks();
+		if ( uncommittedWorkCount > 0
+				&& commitPolicy.shouldCommit( uncommittedWorkCount, System.nanoTime() - lastCommitNanos ) ) {
+			commitOrHandleFailure();
 		}
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
 
+	/**
+	 * @return {@code true} if some works were applied to the index writer, but not committed yet.
+	 * Can be called from any thread.
+	 */
+	boolean hasUncommittedWorks() {
+		return hasUncommittedWorks;
+	}
+
+	/**
+	 * Commit any pending change, regardless of the commit policy.
+	 * <p>
+	 * Used to make sure all changes are committed before the index is closed.
+	 */
+	void forceCommit() {
+		awaitConcurrentWorks();
+		commitOrHandleFailure();
+	}
+
 	void beforeWorkSet(DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
-		workSetFailure = null;
-		workSetContextualErrorHandler = null;
-		workSetForcesCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy )
-				// We need to commit in order to make the changes visible
-				// TODO HSEARCH-3117 this may not be true with the NRT implementation from Search 5
-				|| DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
+		boolean forcesRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
+		boolean forcesCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy )
+				// Without near-real-time readers, we need to commit in order to make the changes visible
+				|| !nearRealTime && forcesRefresh;
+		workSet = new WorkSetState( forcesCommit, forcesRefresh );
+	}
+
+	/**
+	 * @param work The work to execute.
+	 * @param <T> The type of the work's result.
+	 * @return A future completing with the result of the work,
+	 * or with {@code null} if the work failed or was skipped.
+	 * In concurrent mode, the future may complete after this method returns.
+	 */
+	<T> CompletableFuture<T> submit(LuceneWriteWork<T> work) {
+		WorkSetState currentWorkSet = workSet;
+		if ( currentWorkSet.failure != null ) {
+			currentWorkSet.markAsSkipped( work.getInfo() );
+			return CompletableFuture.completedFuture( null );
+		}
+
+		if ( uncommittedWorkCount++ == 0 ) {
+			hasUncommittedWorks = true;
+		}
+
+		if ( concurrentWriteExecutor == null ) {
+			return CompletableFuture.completedFuture( execute( currentWorkSet, work ) );
+		}
+
+		String documentId = work.getDocumentId();
+		if ( documentId == null ) {
+			// This work may affect any document: wait for previous works to be applied first.
+			awaitConcurrentWorks();
+			return CompletableFuture.completedFuture( execute( currentWorkSet, work ) );
+		}
+		else {
+			CompletableFuture<T> future = concurrentWriteExecutor.submit(
+					documentId, () -> execute( currentWorkSet, work )
+			);
+			currentWorkSet.pendingWorks.add( future );
+			return future;
+		}
 	}
 
-	<T> T submit(LuceneWriteWork<T> work) {
-		if ( workSetFailure == null ) {
+	/**
+	 * @param future The future to complete when the workset completes.
+	 * @param result The result to complete the future with on success, or {@code null}.
+	 * @param <T> The type of the result.
+	 */
+	<T> void afterWorkSet(CompletableFuture<T> future, CompletableFuture<T> result) {
+		WorkSetState currentWorkSet = workSet;
+		workSet = null;
+
+		if ( concurrentWriteExecutor != null ) {
+			if ( currentWorkSet.forcesCommit ) {
+				// The commit is a barrier: all works of this workset must be applied before we commit.
+				awaitConcurrentWorks();
+			}
+			else {
+				completeWorkSetAsynchronously( currentWorkSet, future, result );
+				return;
+			}
+		}
+
+		if ( currentWorkSet.failure == null && currentWorkSet.forcesCommit ) {
+			try {
+				commitIfNecessary();
+			}
+			catch (RuntimeException e) {
+				currentWorkSet.addThrowable( e );
+			}
+		}
+		if ( currentWorkSet.failure != null ) {
 			try {
-				hasUncommittedWorks = true;
-				return work.execute( context );
+				cleanUpAfterError();
 			}
 			catch (RuntimeException e) {
-				workSetFailure = e;
-				// TODO HSEARCH-1375 report the index name?
-				//workSetContextualErrorHandler.indexManager( resources.getIndexManager() );
-				getWorkSetContextualErrorHandler().markAsFailed( work.getInfo(), e );
-				return null;
+				currentWorkSet.failure.addSuppressed( e );
 			}
+			future.completeExceptionally( currentWorkSet.failure );
+			currentWorkSet.handle();
 		}
 		else {
-			getWorkSetContextualErrorHandler().markAsSkipped( work.getInfo() );
+			if ( currentWorkSet.forcesRefresh ) {
+				// Make sure the next search queries will not use a stale, shared reader
+				indexReaderProvider.refresh();
+			}
+			future.complete( result == null ? null : result.join() );
+		}
+	}
+
+	private <T> T execute(WorkSetState currentWorkSet, LuceneWriteWork<T> work) {
+		if ( currentWorkSet.failure != null ) {
+			// A previous work of the same workset failed concurrently
+			currentWorkSet.markAsSkipped( work.getInfo() );
+			return null;
+		}
+		try {
+			return work.execute( context );
+		}
+		catch (RuntimeException e) {
+			// TODO HSEARCH-1375 report the index name?
+			currentWorkSet.markAsFailed( work.getInfo(), e );
 			return null;
 		}
 	}
 
-	<T> void afterWorkSet(CompletableFuture<T> future, T resultIfSuccess) {
-		if ( workSetFailure == null && workSetForcesCommit ) {
+	private <T> void completeWorkSetAsynchronously(WorkSetState currentWorkSet, CompletableFuture<T> future,
+			CompletableFuture<T> result) {
+		CompletableFuture<?> completion = CompletableFuture.allOf(
+				currentWorkSet.pendingWorks.toArray( new CompletableFuture<?>[0] )
+		)
+				.handle( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						// Unexpected exception (not a RuntimeException thrown by a work)
+						currentWorkSet.addThrowable( throwable );
+					}
+					if ( currentWorkSet.failure != null ) {
+						// Closing the index writer while other works are being applied would be unsafe:
+						// we will clean up after all concurrent works complete.
+						cleanUpAfterErrorRequired = true;
+						future.completeExceptionally( currentWorkSet.failure );
+						currentWorkSet.handle();
+					}
+					else {
+						if ( currentWorkSet.forcesRefresh ) {
+							// Make sure the next search queries will not use a stale, shared reader
+							indexReaderProvider.refresh();
+						}
+						future.complete( result == null ? null : result.join() );
+					}
+					return null;
+				} );
+		pendingWorkSetCompletions.add( completion );
+	}
+
+	/**
+	 * In concurrent mode, block until all works submitted so far have been applied
+	 * and the corresponding worksets have been completed,
+	 * then clean up after failures if necessary.
+	 */
+	private void awaitConcurrentWorks() {
+		if ( concurrentWriteExecutor == null ) {
+			return;
+		}
+		concurrentWriteExecutor.awaitCompletion();
+		for ( CompletableFuture<?> completion : pendingWorkSetCompletions ) {
+			completion.join();
+		}
+		pendingWorkSetCompletions.clear();
+		if ( cleanUpAfterErrorRequired ) {
+			cleanUpAfterErrorRequired = false;
 			try {
-				commitIfNecessary();
+				cleanUpAfterError();
 			}
 			catch (RuntimeException e) {
-				workSetFailure = e;
-				getWorkSetContextualErrorHandler().addThrowable( e );
+				errorHandler.handleException( e.getMessage(), e );
 			}
 		}
-		if ( workSetFailure != null ) {
+	}
+
+	private void commitOrHandleFailure() {
+		try {
+			commitIfNecessary();
+		}
+		catch (RuntimeException e) {
 			try {
 				cleanUpAfterError();
 			}
-			catch (RuntimeException e) {
-				workSetFailure.addSuppressed( e );
+			catch (RuntimeException e2) {
+				e.addSuppressed( e2 );
 			}
-			future.completeExceptionally( workSetFailure );
-			getWorkSetContextualErrorHandler().handle();
-		}
-		else {
-			future.complete( resultIfSuccess );
+			errorHandler.handleException( e.getMessage(), e );
 		}
 	}
 
 	private void commitIfNecessary() {
-		if ( hasUncommittedWorks ) {
+		if ( uncommittedWorkCount > 0 ) {
 			try {
-				// TODO HSEARCH-3117 restore the commit policy feature to allow scheduled commits?
+				uncommittedWorkCount = 0;
 				hasUncommittedWorks = false;
+				lastCommitNanos = System.nanoTime();
 				indexWriterDelegator.commit();
 			}
 			catch (RuntimeException | IOException e) {
@@ -141,6 +341,7 @@ private void commitIfNecessary() {
 
 	private void cleanUpAfterError() {
 		try {
+			uncommittedWorkCount = 0;
 			hasUncommittedWorks = false;
 			/*
 			 * Note this will close the index writer,
@@ -153,10 +354,52 @@ private void cleanUpAfterError() {
 		}
 	}
 
-	private ContextualErrorHandler getWorkSetContextualErrorHandler() {
-		if ( workSetContextualErrorHandler == null ) {
-			workSetContextualErrorHandler = errorHandler.createContextualHandler();
+	/**
+	 * The state of the workset being processed.
+	 * <p>
+	 * In concurrent mode, works of the same workset may be executed from multiple threads,
+	 * hence the synchronization.
+	 */
+	private final class WorkSetState {
+		private final boolean forcesCommit;
+		private final boolean forcesRefresh;
+		private final List<CompletableFuture<?>> pendingWorks = new ArrayList<>();
+
+		private volatile Throwable failure;
+		private ContextualErrorHandler contextualErrorHandler;
+
+		private WorkSetState(boolean forcesCommit, boolean forcesRefresh) {
+			this.forcesCommit = forcesCommit;
+			this.forcesRefresh = forcesRefresh;
+		}
+
+		synchronized void markAsFailed(Object workInfo, Throwable throwable) {
+			if ( failure == null ) {
+				failure = throwable;
+			}
+			getContextualErrorHandler().markAsFailed( workInfo, throwable );
+		}
+
+		synchronized void markAsSkipped(Object workInfo) {
+			getContextualErrorHandler().markAsSkipped( workInfo );
+		}
+
+		synchronized void addThrowable(Throwable throwable) {
+			if ( failure == null ) {
+				failure = throwable;
+			}
+			getContextualErrorHandler().addThrowable( throwable );
+		}
+
+		synchronized void handle() {
+			getContextualErrorHandler().handle();
+		}
+
+		private ContextualErrorHandler getContextualErrorHandler() {
+			if ( contextualErrorHandler == null ) {
+				contextualErrorHandler = errorHandler.createContextualHandler();
+			}
+			return contextualErrorHandler;
 		}
-		return workSetContextualErrorHandler;
 	}
 }
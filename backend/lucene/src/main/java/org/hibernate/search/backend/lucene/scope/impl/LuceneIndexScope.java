@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateBuilderFactoryImpl;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilderFactory;
@@ -26,6 +27,7 @@
 	private final LuceneSearchSortBuilderFactoryImpl searchSortFactory;
 	private final LuceneSearchQueryBuilderFactory searchQueryFactory;
 	private final LuceneSearchProjectionBuilderFactory searchProjectionFactory;
+	private final LuceneSearchAggregationBuilderFactory searchAggregationFactory;
 
 	public LuceneIndexScope(SearchBackendContext backendContext,
 			MappingContextImplementor mappingContext,
@@ -35,6 +37,7 @@ public LuceneIndexScope(SearchBackendContext backendContext,
 		this.searchPredicateFactory = new LuceneSearchPredicateBuilderFactoryImpl( searchContext, model );
 		this.searchSortFactory = new LuceneSearchSortBuilderFactoryImpl( searchContext, model );
 		this.searchProjectionFactory = new LuceneSearchProjectionBuilderFactory( model );
+		this.searchAggregationFactory = new LuceneSearchAggregationBuilderFactory( model );
 		this.searchQueryFactory = new LuceneSearchQueryBuilderFactory( backendContext, searchContext, this.searchProjectionFactory );
 	}
 
@@ -66,4 +69,9 @@ public LuceneSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 	public LuceneSearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return searchProjectionFactory;
 	}
+
+	@Override
+	public LuceneSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A collector computing an aggregation over all matching documents.
+ * <p>
+ * Aggregations are computed from doc values and never need scores.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public abstract class LuceneAggregationCollector<A> extends SimpleCollector {
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @return The result of the aggregation.
+	 * Must only be called after all documents have been collected.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public abstract A getResult() throws IOException;
+
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+public interface LuceneSearchAggregation<A> extends SearchAggregation<A> {
+
+	Set<String> getIndexNames();
+
+	/**
+	 * @return A new collector computing this aggregation.
+	 * Collectors are stateful and must not be shared between query executions.
+	 */
+	LuceneAggregationCollector<A> createCollector();
+
+}
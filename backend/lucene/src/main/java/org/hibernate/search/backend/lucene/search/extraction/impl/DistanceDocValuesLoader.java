@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.engine.spatial.GeoPoint;
+
+import org.apache.lucene.geo.GeoEncodingUtils;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.util.SloppyMath;
+
+/**
+ * A loader of the distance, in meters, between a center and the value of a geo-point field,
+ * computed from the doc values of that field.
+ */
+public final class DistanceDocValuesLoader implements LuceneDocValuesLoader<Double> {
+
+	private final String absoluteFieldPath;
+	private final GeoPoint center;
+
+	public DistanceDocValuesLoader(String absoluteFieldPath, GeoPoint center) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.center = center;
+	}
+
+	@Override
+	public SegmentLoader<Double> forSegment(LeafReader reader) throws IOException {
+		SortedNumericDocValues geoPointValues = DocValues.getSortedNumeric( reader, absoluteFieldPath );
+		return docId -> {
+			if ( !geoPointValues.advanceExact( docId ) ) {
+				return null;
+			}
+			long encodedValue = geoPointValues.nextValue();
+			double latitude = GeoEncodingUtils.decodeLatitude( (int) ( encodedValue >> 32 ) );
+			double longitude = GeoEncodingUtils.decodeLongitude( (int) encodedValue );
+			return SloppyMath.haversinMeters( center.getLatitude(), center.getLongitude(), latitude, longitude );
+		};
+	}
+
+	@Override
+	public Double fromSortValue(Object sortValue) {
+		double distance = (Double) sortValue;
+		// Distance sorts use an infinite distance for documents without a value
+		return Double.isInfinite( distance ) ? null : distance;
+	}
+}
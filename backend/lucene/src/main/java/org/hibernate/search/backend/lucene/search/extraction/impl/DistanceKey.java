@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Objects;
+
+import org.hibernate.search.engine.spatial.GeoPoint;
+
+/**
+ * The key of distances from a given center to the values of a given field,
+ * used to share distances between distance projections and distance sorts.
+ */
+public final class DistanceKey {
+
+	private final String absoluteFieldPath;
+	private final GeoPoint center;
+
+	public DistanceKey(String absoluteFieldPath, GeoPoint center) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.center = center;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( !( obj instanceof DistanceKey ) ) {
+			return false;
+		}
+
+		DistanceKey other = (DistanceKey) obj;
+
+		return Objects.equals( this.absoluteFieldPath, other.absoluteFieldPath )
+				&& Objects.equals( this.center, other.center );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( absoluteFieldPath, center );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[absoluteFieldPath=" + absoluteFieldPath + ", center=" + center + "]";
+	}
+}
@@ -7,48 +7,65 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext.DistanceCollectorKey;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
 	private final TopDocsCollector<?> topDocsCollector;
 
+	/**
+	 * The collector counting hits, or {@code null} if hits are counted by the top docs collector.
+	 */
 	private final TotalHitCountCollector totalHitCountCollector;
 
 	private final Collector compositeCollector;
 
-	private final Map<DistanceCollectorKey, DistanceCollector> distanceCollectors;
+	private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
+	private boolean timedOut = false;
 	private TopDocs topDocs = null;
+	private Map<AggregationKey<?>, Object> aggregationResults = Collections.emptyMap();
 
 	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector, Map<DistanceCollectorKey, DistanceCollector> distanceCollectors,
+			Collector compositeCollector,
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring) {
 		this.topDocsCollector = topDocsCollector;
 		this.totalHitCountCollector = totalHitCountCollector;
 		this.compositeCollector = compositeCollector;
-		this.distanceCollectors = distanceCollectors;
+		this.aggregationCollectors = aggregationCollectors;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
 	}
 
 	public void collect(IndexSearcher indexSearcher, Query luceneQuery, int offset, Integer limit) throws IOException {
-		indexSearcher.search( luceneQuery, compositeCollector );
+		try {
+			indexSearcher.search( luceneQuery, compositeCollector );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			// The collectors are still usable: results will simply be partial.
+			timedOut = true;
+		}
 
 		if ( topDocsCollector != null ) {
 			if ( limit == null ) {
@@ -76,17 +93,46 @@ public void collect(IndexSearcher indexSearcher, Query luceneQuery, int offset,
 		else {
 			topDocs = null;
 		}
+
+		if ( !aggregationCollectors.isEmpty() ) {
+			aggregationResults = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, LuceneAggregationCollector<?>> entry : aggregationCollectors.entrySet() ) {
+				aggregationResults.put( entry.getKey(), entry.getValue().getResult() );
+			}
+		}
 	}
 
-	public Map<DistanceCollectorKey, DistanceCollector> getDistanceCollectors() {
-		return distanceCollectors;
+	/**
+	 * @return {@code true} if collection was stopped early because the timeout was exceeded.
+	 */
+	public boolean isTimedOut() {
+		return timedOut;
 	}
 
-	public long getTotalHits() {
-		return totalHitCountCollector.getTotalHits();
+	/**
+	 * @return The total hit count, which may only be a lower bound
+	 * if hits were counted by the top docs collector with a threshold,
+	 * or if collection timed out.
+	 */
+	public TotalHits getTotalHits() {
+		TotalHits totalHits;
+		if ( totalHitCountCollector != null ) {
+			totalHits = new TotalHits( totalHitCountCollector.getTotalHits(), TotalHits.Relation.EQUAL_TO );
+		}
+		else {
+			totalHits = topDocs.totalHits;
+		}
+		if ( timedOut ) {
+			totalHits = new TotalHits( totalHits.value, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO );
+		}
+		return totalHits;
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
+
+	public Map<AggregationKey<?>, Object> getAggregationResults() {
+		return aggregationResults;
+	}
 }
@@ -7,17 +7,20 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext.DistanceCollectorKey;
-import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
@@ -28,21 +31,34 @@ public class LuceneCollectorsBuilder {
 	private final Sort sort;
 
 	private final int maxDocs;
-
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final ScoreDoc after;
+	private final Long totalHitCountThreshold;
+	private final Long timeoutMillis;
 
 	private boolean requireTopDocs;
 	private boolean requireScore;
 
 	private final List<Collector> luceneCollectors = new ArrayList<>();
-	private final Map<DistanceCollectorKey, DistanceCollector> distanceCollectors = new HashMap<>();
-
-	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+	private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors = new LinkedHashMap<>();
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top documents to collect.
+	 * @param after The last hit of the previous chunk when scrolling, or {@code null}:
+	 * if non-null, only hits sorted after this one will be collected as top documents.
+	 * Must be a {@link FieldDoc} if {@code sort} is non-null.
+	 * @param totalHitCountThreshold The number of hits up to which the total hit count must be exact,
+	 * or {@code null} to always count hits exactly.
+	 * @param timeoutMillis The time after which collection must stop, in milliseconds,
+	 * or {@code null} to never stop collection early.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after, Long totalHitCountThreshold,
+			Long timeoutMillis) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
-
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.add( this.totalHitCountCollector );
+		this.after = after;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.timeoutMillis = timeoutMillis;
 	}
 
 	public void requireScore() {
@@ -54,12 +70,9 @@ public void requireTopDocsCollector() {
 		this.requireTopDocs = true;
 	}
 
-	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
-		this.requireTopDocs = true; // We can't collect distances if we don't know from which documents it should be collected
-		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, maxDocs );
-		luceneCollectors.add( distanceCollector );
-		distanceCollectors.put( new DistanceCollectorKey( absoluteFieldPath, center ), distanceCollector );
-		return distanceCollector;
+	public void addAggregationCollector(AggregationKey<?> key, LuceneAggregationCollector<?> aggregationCollector) {
+		luceneCollectors.add( aggregationCollector );
+		aggregationCollectors.put( key, aggregationCollector );
 	}
 
 	public LuceneCollectors build() {
@@ -67,15 +80,26 @@ public LuceneCollectors build() {
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
-		if ( requireTopDocs && maxDocs > 0 ) {
+		boolean requireTopDocsCollector = requireTopDocs && maxDocs > 0;
+
+		/*
+		 * Only stop counting hits when the top docs collector is the only collector:
+		 * other collectors visit all matching documents anyway,
+		 * and MultiCollector ignores the minimum competitive score that allows Lucene to skip documents.
+		 */
+		int totalHitsThreshold = Integer.MAX_VALUE;
+		TotalHitCountCollector totalHitCountCollector = null;
+		if ( totalHitCountThreshold != null && requireTopDocsCollector && luceneCollectors.isEmpty() ) {
+			totalHitsThreshold = (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE );
+		}
+		else {
+			totalHitCountCollector = new TotalHitCountCollector();
+			luceneCollectors.add( totalHitCountCollector );
+		}
+
+		if ( requireTopDocsCollector ) {
 			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				topDocsCollector = TopScoreDocCollector.create( maxDocs, after, totalHitsThreshold );
 			}
 			else {
 				if ( requireScore ) {
@@ -94,14 +118,7 @@ public LuceneCollectors build() {
 						}
 					}
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				topDocsCollector = TopFieldCollector.create( sort, maxDocs, (FieldDoc) after, totalHitsThreshold );
 			}
 			luceneCollectors.add( topDocsCollector );
 		}
@@ -114,8 +131,22 @@ public LuceneCollectors build() {
 			compositeCollector = MultiCollector.wrap( luceneCollectors );
 		}
 
+		if ( timeoutMillis != null ) {
+			/*
+			 * The global counter is updated by a single daemon thread shared by the whole JVM,
+			 * so checking the timeout for each collected document is cheap.
+			 * The counter is expressed in milliseconds.
+			 */
+			TimeLimitingCollector timeLimitingCollector = new TimeLimitingCollector(
+					compositeCollector, TimeLimitingCollector.getGlobalCounter(), timeoutMillis
+			);
+			// Start counting now rather than when the first segment is collected, to include query rewriting
+			timeLimitingCollector.setBaseline();
+			compositeCollector = timeLimitingCollector;
+		}
+
 		return new LuceneCollectors(
-				topDocsCollector, totalHitCountCollector, compositeCollector, distanceCollectors,
+				topDocsCollector, totalHitCountCollector, compositeCollector, aggregationCollectors,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring
 		);
 	}
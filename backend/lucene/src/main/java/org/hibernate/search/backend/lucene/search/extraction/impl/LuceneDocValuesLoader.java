@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReader;
+
+/**
+ * A loader of the value of a single-valued field from doc values,
+ * used in projections as a cheaper alternative to stored fields.
+ *
+ * @param <F> The type of loaded values.
+ */
+public interface LuceneDocValuesLoader<F> {
+
+	/**
+	 * @param reader The reader of a segment.
+	 * @return A loader for the documents of that segment.
+	 * @throws IOException If the doc values cannot be read.
+	 */
+	SegmentLoader<F> forSegment(LeafReader reader) throws IOException;
+
+	/**
+	 * @param sortValue The value of a sort field whose values are derived from the same doc values,
+	 * see {@link org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector#collectSortField(org.apache.lucene.search.SortField, Object)}.
+	 * @return The corresponding loaded value.
+	 */
+	@SuppressWarnings("unchecked")
+	default F fromSortValue(Object sortValue) {
+		return (F) sortValue;
+	}
+
+	interface SegmentLoader<F> {
+
+		/**
+		 * @param docId The identifier of a document, relative to the segment.
+		 * Documents must be passed in increasing identifier order.
+		 * @return The value of the field for the given document, or {@code null} if it has no value.
+		 * @throws IOException If the doc values cannot be read.
+		 */
+		F load(int docId) throws IOException;
+
+	}
+}
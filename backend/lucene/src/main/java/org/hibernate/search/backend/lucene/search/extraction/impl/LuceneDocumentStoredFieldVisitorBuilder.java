@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class LuceneDocumentStoredFieldVisitorBuilder {
@@ -15,6 +17,8 @@ public class LuceneDocumentStoredFieldVisitorBuilder {
 
 	private final Set<String> explicitlyRequired = new HashSet<>();
 	private final Set<String> nestedDocumentPaths = new HashSet<>();
+	private final Map<Object, LuceneDocValuesLoader<?>> docValuesLoaders = new LinkedHashMap<>();
+	private final Set<Object> nestedDocValuesKeys = new HashSet<>();
 
 	public void addEntireDocument() {
 		entireDocumentRequired = true;
@@ -33,12 +37,30 @@ public void addNestedDocumentPath(String nestedDocumentPath) {
 		}
 	}
 
+	/**
+	 * Require a value to be loaded from doc values instead of stored fields.
+	 *
+	 * @param key The key of the loaded value, e.g. the absolute path of the field.
+	 * @param nestedDocumentPath The path of the nested document holding the doc values,
+	 * or {@code null} if they are held by the root document.
+	 * For nested documents, the first value found in the nested documents of each hit is retained.
+	 * @param loader The loader for the value.
+	 */
+	public void addDocValues(Object key, String nestedDocumentPath, LuceneDocValuesLoader<?> loader) {
+		docValuesLoaders.putIfAbsent( key, loader );
+		if ( nestedDocumentPath != null ) {
+			addNestedDocumentPath( nestedDocumentPath );
+			nestedDocValuesKeys.add( key );
+		}
+	}
+
 	public ReusableDocumentStoredFieldVisitor build() {
 		if ( entireDocumentRequired ) {
-			return new ReusableDocumentStoredFieldVisitor();
+			return new ReusableDocumentStoredFieldVisitor( docValuesLoaders, nestedDocValuesKeys );
 		}
 		else {
-			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired, nestedDocumentPaths );
+			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired, nestedDocumentPaths,
+					docValuesLoaders, nestedDocValuesKeys );
 		}
 	}
 
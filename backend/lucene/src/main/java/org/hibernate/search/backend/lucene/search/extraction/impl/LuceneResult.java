@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.util.Map;
+
 import org.apache.lucene.document.Document;
 
 public class LuceneResult {
@@ -16,16 +18,38 @@ public class LuceneResult {
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	private final Map<Object, Object[]> docValues;
+
+	private final int hitIndex;
+
+	/**
+	 * @param document The stored fields of the hit.
+	 * @param docId The identifier of the hit's document.
+	 * @param score The score of the hit.
+	 * @param docValues The values loaded from doc values for all hits, indexed by key, then by hit index.
+	 * @param hitIndex The index of the hit in the top docs.
+	 */
+	public LuceneResult(Document document, int docId, float score, Map<Object, Object[]> docValues, int hitIndex) {
 		this.document = document;
 		this.docId = docId;
 		this.score = score;
+		this.docValues = docValues;
+		this.hitIndex = hitIndex;
 	}
 
 	public String getStringValue(String fieldName) {
 		return document.get( fieldName );
 	}
 
+	/**
+	 * @param key The key of a value
+	 * registered through {@link LuceneDocumentStoredFieldVisitorBuilder#addDocValues(Object, String, LuceneDocValuesLoader)}.
+	 * @return The value for this hit, loaded from doc values.
+	 */
+	public Object getDocValue(Object key) {
+		return docValues.get( key )[hitIndex];
+	}
+
 	public Document getDocument() {
 		return document;
 	}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Arrays;
+
+/**
+ * The nested documents of a set of parent documents,
+ * stored in primitive arrays.
+ */
+public final class NestedDocs {
+
+	private static final int[] NO_DOC = new int[0];
+
+	public static final NestedDocs EMPTY = new NestedDocs( NO_DOC, new int[0][] );
+
+	private final int[] sortedParentDocIds;
+	private final int[][] childDocIds;
+
+	/**
+	 * @param sortedParentDocIds The identifiers of parent documents, in increasing order.
+	 * @param childDocIds The identifiers of nested documents, in increasing order,
+	 * for each parent document in {@code sortedParentDocIds}.
+	 */
+	public NestedDocs(int[] sortedParentDocIds, int[][] childDocIds) {
+		this.sortedParentDocIds = sortedParentDocIds;
+		this.childDocIds = childDocIds;
+	}
+
+	/**
+	 * @param parentDocId The identifier of a parent document.
+	 * @return The identifiers of the nested documents of this parent document, in increasing order.
+	 */
+	public int[] getChildren(int parentDocId) {
+		int index = Arrays.binarySearch( sortedParentDocIds, parentDocId );
+		return index < 0 ? NO_DOC : childDocIds[index];
+	}
+
+}
@@ -8,6 +8,7 @@
 
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
@@ -37,6 +38,8 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 	private final FieldAcceptor rootAcceptor;
 	private final int totalFields;
 	private final Set<String> nestedDocumentPaths;
+	private final Map<Object, LuceneDocValuesLoader<?>> docValuesLoaders;
+	private final Set<Object> nestedDocValuesKeys;
 
 	//The Lucene Document which will be returned. Lazily initialized.
 	private Document doc = null;
@@ -48,17 +51,21 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 	/**
 	 * Create a visitor that collects all fields.
 	 */
-	public ReusableDocumentStoredFieldVisitor() {
+	public ReusableDocumentStoredFieldVisitor(Map<Object, LuceneDocValuesLoader<?>> docValuesLoaders,
+			Set<Object> nestedDocValuesKeys) {
 		this.rootAcceptor = null;
 		this.totalFields = 0; // Shouldn't be used
 		this.missingFields = totalFields;
 		this.nestedDocumentPaths = new HashSet<>();
+		this.docValuesLoaders = docValuesLoaders;
+		this.nestedDocValuesKeys = nestedDocValuesKeys;
 	}
 
 	/**
 	 * Create a visitor that collects only some specified fields.
 	 */
-	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String> nestedDocumentPaths) {
+	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String> nestedDocumentPaths,
+			Map<Object, LuceneDocValuesLoader<?>> docValuesLoaders, Set<Object> nestedDocValuesKeys) {
 		FieldAcceptor previous = NOT_ACCEPT;
 		for ( String fieldName : fieldsToLoad ) {
 			previous = new ChainedFieldAcceptor( previous, fieldName );
@@ -67,6 +74,8 @@ public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String>
 		this.totalFields = fieldsToLoad.size();
 		this.missingFields = totalFields;
 		this.nestedDocumentPaths = nestedDocumentPaths;
+		this.docValuesLoaders = docValuesLoaders;
+		this.nestedDocValuesKeys = nestedDocValuesKeys;
 	}
 
 	@Override
@@ -151,6 +160,30 @@ public Set<String> getNestedDocumentPaths() {
 		return nestedDocumentPaths;
 	}
 
+	/**
+	 * @return {@code true} if at least one stored field must be loaded for each hit,
+	 * {@code false} if every required field can be loaded from doc values.
+	 */
+	public boolean isStoredFieldLoadingRequired() {
+		return rootAcceptor == null || totalFields > 0;
+	}
+
+	/**
+	 * @return The loaders of values that must be loaded from doc values, indexed by key.
+	 */
+	public Map<Object, LuceneDocValuesLoader<?>> getDocValuesLoaders() {
+		return docValuesLoaders;
+	}
+
+	/**
+	 * @param docValuesKey The key of a loader returned by {@link #getDocValuesLoaders()}.
+	 * @return {@code true} if the loader must be applied to the nested documents of each hit,
+	 * {@code false} if it must be applied to the hit itself.
+	 */
+	public boolean isNestedDocValues(Object docValuesKey) {
+		return nestedDocValuesKeys.contains( docValuesKey );
+	}
+
 	/* The structure below shapes a chain of accepted field names:
 	 * you could think of it as a linked list. */
 
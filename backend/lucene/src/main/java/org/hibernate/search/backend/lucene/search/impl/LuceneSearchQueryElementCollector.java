@@ -8,20 +8,28 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateCollector;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 
 public class LuceneSearchQueryElementCollector
-		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector {
+		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector, LuceneSearchAggregationCollector {
 
 	private Query luceneQueryPredicate;
 	private List<SortField> sortFields;
+	private Map<Object, Integer> sortFieldIndexesByDocValuesKey;
+	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 
 	@Override
 	public void collectPredicate(Query luceneQuery) {
@@ -36,6 +44,15 @@ public void collectSortField(SortField sortField) {
 		sortFields.add( sortField );
 	}
 
+	@Override
+	public void collectSortField(SortField sortField, Object docValuesKey) {
+		if ( sortFieldIndexesByDocValuesKey == null ) {
+			sortFieldIndexesByDocValuesKey = new HashMap<>();
+		}
+		sortFieldIndexesByDocValuesKey.putIfAbsent( docValuesKey, sortFields == null ? 0 : sortFields.size() );
+		collectSortField( sortField );
+	}
+
 	@Override
 	public void collectSortFields(SortField[] sortFields) {
 		if ( sortFields == null || sortFields.length == 0 ) {
@@ -48,6 +65,14 @@ public void collectSortFields(SortField[] sortFields) {
 		Collections.addAll( this.sortFields, sortFields );
 	}
 
+	@Override
+	public <A> void collectAggregation(AggregationKey<A> key, LuceneSearchAggregation<A> aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new LinkedHashMap<>();
+		}
+		aggregations.put( key, aggregation );
+	}
+
 	public Query toLuceneQueryPredicate() {
 		return luceneQueryPredicate;
 	}
@@ -59,4 +84,16 @@ public Sort toLuceneSort() {
 
 		return new Sort( sortFields.toArray( new SortField[0] ) );
 	}
+
+	/**
+	 * @return The index of sort fields whose values can be reused as values loaded from doc values,
+	 * indexed by the key of these doc values.
+	 */
+	public Map<Object, Integer> getSortFieldIndexesByDocValuesKey() {
+		return sortFieldIndexesByDocValuesKey == null ? Collections.emptyMap() : sortFieldIndexesByDocValuesKey;
+	}
+
+	public Map<AggregationKey<?>, LuceneSearchAggregation<?>> getAggregations() {
+		return aggregations == null ? Collections.emptyMap() : aggregations;
+	}
 }
@@ -8,7 +8,8 @@
 
 import java.util.Set;
 
-import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceDocValuesLoader;
+import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceKey;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
@@ -27,31 +28,34 @@ class LuceneDistanceToFieldProjection implements LuceneSearchProjection<Double,
 
 	private final DistanceUnit unit;
 
+	private final DistanceKey distanceKey;
+
 	LuceneDistanceToFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath, GeoPoint center, DistanceUnit unit) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.center = center;
 		this.unit = unit;
+		this.distanceKey = new DistanceKey( absoluteFieldPath, center );
 	}
 
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
-		luceneCollectorBuilder.addDistanceCollector( absoluteFieldPath, center );
+		luceneCollectorBuilder.requireTopDocsCollector();
 	}
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( absoluteFieldPath );
-		builder.addNestedDocumentPath( nestedDocumentPath );
+		// Distances are only computed for top hits, after collection,
+		// and are taken from the sort values instead if the query is sorted by the same distance.
+		builder.addDocValues( distanceKey, nestedDocumentPath,
+				new DistanceDocValuesLoader( absoluteFieldPath, center ) );
 	}
 
 	@Override
 	public Double extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-
-		DistanceCollector distanceCollector = context.getDistanceCollector( absoluteFieldPath, center );
-		return unit.fromMeters( distanceCollector.getDistance( documentResult.getDocId() ) );
+		return unit.fromMeters( (Double) documentResult.getDocValue( distanceKey ) );
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
@@ -27,6 +28,13 @@
 
 	private final FromDocumentFieldValueConverter<? super F, V> converter;
 
+	/**
+	 * The loader for doc values if the value can be loaded from there,
+	 * which is cheaper than loading stored fields.
+	 * Values of fields from nested documents are always loaded from stored fields.
+	 */
+	private final LuceneDocValuesLoader<F> docValuesLoader;
+
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			LuceneFieldCodec<F> codec, FromDocumentFieldValueConverter<? super F, V> converter) {
 		this.indexNames = indexNames;
@@ -34,6 +42,7 @@
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
 		this.converter = converter;
+		this.docValuesLoader = nestedDocumentPath == null ? codec.createDocValuesLoader( absoluteFieldPath ) : null;
 	}
 
 	@Override
@@ -43,13 +52,22 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		codec.contributeStoredFields( absoluteFieldPath, builder::add );
-		builder.addNestedDocumentPath( nestedDocumentPath );
+		if ( docValuesLoader != null ) {
+			builder.addDocValues( absoluteFieldPath, null, docValuesLoader );
+		}
+		else {
+			codec.contributeStoredFields( absoluteFieldPath, builder::add );
+			builder.addNestedDocumentPath( nestedDocumentPath );
+		}
 	}
 
 	@Override
+	@SuppressWarnings("unchecked") // The value was loaded by our own docValuesLoader
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
+		if ( docValuesLoader != null ) {
+			return (F) documentResult.getDocValue( absoluteFieldPath );
+		}
 		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
 	}
 
@@ -10,13 +10,21 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TotalHits;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,25 +42,63 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
+	private final boolean timedOut;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final ScoreDoc lastScoreDoc;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			TotalHits totalHits, boolean timedOut, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults,
+			ScoreDoc lastScoreDoc) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
-		this.hitCount = hitCount;
+		this.hitCount = totalHits.value;
+		this.hitCountExact = totalHits.relation == TotalHits.Relation.EQUAL_TO;
+		this.timedOut = timedOut;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.lastScoreDoc = lastScoreDoc;
 	}
 
 	long getHitCount() {
 		return hitCount;
 	}
 
+	/**
+	 * @return The last top document, to collect the next chunk of hits from when scrolling,
+	 * or {@code null} if there were no top documents.
+	 */
+	ScoreDoc getLastScoreDoc() {
+		return lastScoreDoc;
+	}
+
 	LuceneSearchResult<H> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return new LuceneSearchResultImpl<>(
+				hitCount, hitCountExact, timedOut,
+				transformHits( sessionContext, projectionHitMapper.loadBlocking() ), aggregationResults
+		);
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	CompletionStage<LuceneSearchResult<H>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> new LuceneSearchResultImpl<>(
+						hitCount, hitCountExact, timedOut,
+						transformHits( sessionContext, loadingResult ), aggregationResults
+				) );
+	}
+
+	SearchScrollResult<H> loadChunkBlocking(SessionContextImplementor sessionContext) {
+		// Hits may be skipped during loading, so check for hits before loading
+		boolean hasHits = !extractedData.isEmpty();
+		return new SimpleSearchScrollResult<>(
+				hasHits, hitCount, transformHits( sessionContext, projectionHitMapper.loadBlocking() )
+		);
+	}
+
+	private List<H> transformHits(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -83,6 +129,6 @@ LuceneSearchResult<H> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits );
+		return loadedHits;
 	}
 }
@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 
 public class LuceneSearchQueryBuilder<H> implements SearchQueryBuilder<H, LuceneSearchQueryElementCollector> {
 
@@ -38,6 +39,9 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
 
+	private Long totalHitCountThreshold;
+	private SearchTimeout timeout;
+
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneReadWorkOrchestrator queryOrchestrator,
@@ -69,12 +73,22 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		this.timeout = timeout;
+	}
+
 	@Override
 	public LuceneSearchQuery<H> build() {
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
 		LuceneSearchResultExtractor<H> searchResultExtractor = new LuceneSearchResultExtractorImpl<>(
-				storedFieldVisitor, rootProjection, loadingContext
+				storedFieldVisitor, elementCollector.getSortFieldIndexesByDocValuesKey(), rootProjection, loadingContext
 		);
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
@@ -89,7 +103,11 @@ public LuceneSearchQuery<H> build() {
 				routingKeys,
 				searchContext.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
-				rootProjection, searchResultExtractor
+				rootProjection,
+				elementCollector.getAggregations(),
+				searchResultExtractor,
+				totalHitCountThreshold,
+				timeout
 		);
 	}
 }
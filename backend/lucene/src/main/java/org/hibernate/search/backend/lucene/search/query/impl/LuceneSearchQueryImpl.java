@@ -7,10 +7,14 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
@@ -20,9 +24,12 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -50,7 +57,10 @@
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 	private final LuceneCollectorProvider luceneCollectorProvider;
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final LuceneSearchResultExtractor<H> searchResultExtractor;
+	private final Long totalHitCountThreshold;
+	private SearchTimeout timeout;
 
 	LuceneSearchQueryImpl(LuceneReadWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
@@ -58,7 +68,11 @@
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
 			Query luceneQuery, Sort luceneSort,
-			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<H> searchResultExtractor) {
+			LuceneCollectorProvider luceneCollectorProvider,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
+			LuceneSearchResultExtractor<H> searchResultExtractor,
+			Long totalHitCountThreshold,
+			SearchTimeout timeout) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
@@ -68,7 +82,10 @@
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.luceneCollectorProvider = luceneCollectorProvider;
+		this.aggregations = aggregations;
 		this.searchResultExtractor = searchResultExtractor;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.timeout = timeout;
 	}
 
 	@Override
@@ -88,34 +105,53 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 		);
 	}
 
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		this.timeout = timeout;
+	}
+
 	@Override
 	public LuceneSearchResult<H> fetch(Integer limit, Integer offset) {
-		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search(
-				luceneQuery, luceneSort,
-				offset, limit,
-				luceneCollectorProvider, searchResultExtractor
-		);
-		return doSubmit( work )
+		return doSubmit( createFetchWork( limit, offset ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync to load entities asynchronously.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer limit, Integer offset) {
+		return doSubmitAsync( createFetchWork( limit, offset ) )
+				.thenCompose( loadableResult -> loadableResult.loadAsync( sessionContext ) );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
-		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search(
+		return doSubmit( createCountWork() ).getHitCount();
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return doSubmitAsync( createCountWork() ).thenApply( LuceneLoadableSearchResult::getHitCount );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		HolderMultiReader indexReader = HolderMultiReader.open(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				routingKeys
+		);
+		return new LuceneSearchScrollImpl<>(
+				queryOrchestrator, workFactory, searchContext.getIndexNames(),
+				indexReader, sessionContext,
 				luceneQuery, luceneSort,
-				0, 0,
-				// do not add any TopDocs collector
-				( luceneCollectorBuilder -> { } ),
-				searchResultExtractor
+				luceneCollectorProvider, searchResultExtractor,
+				chunkSize
 		);
-		return doSubmit( work ).getHitCount();
 	}
 
 	@Override
@@ -143,6 +179,42 @@ public Explanation explain(String indexName, String id) {
 		return doExplain( indexName, id );
 	}
 
+	private LuceneReadWork<LuceneLoadableSearchResult<H>> createFetchWork(Integer limit, Integer offset) {
+		return workFactory.search(
+				luceneQuery, luceneSort,
+				offset, limit, totalHitCountThreshold, timeout,
+				createFetchCollectorProvider(), searchResultExtractor
+		);
+	}
+
+	private LuceneReadWork<LuceneLoadableSearchResult<H>> createCountWork() {
+		return workFactory.search(
+				luceneQuery, luceneSort,
+				0, 0, null, timeout,
+				// do not add any TopDocs collector
+				( luceneCollectorBuilder -> { } ),
+				searchResultExtractor
+		);
+	}
+
+	/**
+	 * @return A collector provider for {@link #fetch(Integer, Integer)},
+	 * contributing aggregation collectors in addition to the collectors required by projections.
+	 * Aggregations are only computed when fetching: counting hits and scrolling ignore them.
+	 */
+	private LuceneCollectorProvider createFetchCollectorProvider() {
+		if ( aggregations.isEmpty() ) {
+			return luceneCollectorProvider;
+		}
+		return luceneCollectorBuilder -> {
+			luceneCollectorProvider.contributeCollectors( luceneCollectorBuilder );
+			for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				// Aggregation collectors are stateful: create new ones for each execution
+				luceneCollectorBuilder.addAggregationCollector( entry.getKey(), entry.getValue().createCollector() );
+			}
+		};
+	}
+
 	private <T> T doSubmit(LuceneReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.getIndexNames(),
@@ -152,6 +224,15 @@ private <T> T doSubmit(LuceneReadWork<T> work) {
 		);
 	}
 
+	private <T> CompletionStage<T> doSubmitAsync(LuceneReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				routingKeys,
+				work
+		);
+	}
+
 	private Explanation doExplain(String indexName, String id) {
 		Query explainedDocumentQuery = new BooleanQuery.Builder()
 				.add( new TermQuery( new Term( LuceneFields.indexFieldName(), indexName ) ), BooleanClause.Occur.MUST )
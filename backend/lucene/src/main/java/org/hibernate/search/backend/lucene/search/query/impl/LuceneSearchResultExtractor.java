@@ -7,15 +7,20 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public interface LuceneSearchResultExtractor<H> {
 
-	LuceneLoadableSearchResult<H> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+	LuceneLoadableSearchResult<H> extract(IndexSearcher indexSearcher, TotalHits totalHits, TopDocs topDocs,
+			boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException;
 
 }
@@ -9,56 +9,72 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.backend.lucene.search.extraction.impl.NestedDocs;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
-import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.QueryBitSetProducer;
-import org.apache.lucene.search.join.ToChildBlockJoinQuery;
+import org.apache.lucene.util.BitSet;
 
 class LuceneSearchResultExtractorImpl<H> implements LuceneSearchResultExtractor<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final Set<String> ID_FIELD_SET = Collections.singleton( LuceneFields.idFieldName() );
-
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final Map<Object, Integer> sortFieldIndexesByDocValuesKey;
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final LoadingContext<?, ?> loadingContext;
 
+	private final QueryBitSetProducer parentsFilter = new QueryBitSetProducer( LuceneQueries.mainDocumentQuery() );
+
 	LuceneSearchResultExtractorImpl(
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			Map<Object, Integer> sortFieldIndexesByDocValuesKey,
 			LuceneSearchProjection<?, H> rootProjection,
 			LoadingContext<?, ?> loadingContext) {
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.sortFieldIndexesByDocValuesKey = sortFieldIndexesByDocValuesKey;
 		this.rootProjection = rootProjection;
 		this.loadingContext = loadingContext;
 	}
 
 	@Override
-	public LuceneLoadableSearchResult<H> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+	public LuceneLoadableSearchResult<H> extract(IndexSearcher indexSearcher, TotalHits totalHits, TopDocs topDocs,
+			boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		ProjectionHitMapper<?, ?> projectionHitMapper = loadingContext.getProjectionHitMapper();
 
@@ -66,9 +82,12 @@ public LuceneLoadableSearchResult<H> extract(IndexSearcher indexSearcher, long t
 				projectionHitMapper, indexSearcher, topDocs, projectionExecutionContext
 		);
 
+		ScoreDoc lastScoreDoc = topDocs == null || topDocs.scoreDocs.length == 0
+				? null : topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, timedOut, extractedData, aggregationResults, lastScoreDoc
 		);
 	}
 
@@ -79,20 +98,25 @@ private List<Object> extractHits(ProjectionHitMapper<?, ?> projectionHitMapper,
 			return Collections.emptyList();
 		}
 
-		List<Object> extractedData = new ArrayList<>( topDocs.scoreDocs.length );
-		Map<Integer, Set<Integer>> nestedDocs = fetchNestedDocs( indexSearcher, topDocs.scoreDocs, projectionExecutionContext );
+		ScoreDoc[] hits = topDocs.scoreDocs;
+		List<Object> extractedData = new ArrayList<>( hits.length );
+		NestedDocs nestedDocs = fetchNestedDocs( indexSearcher, hits );
+		Map<Object, Object[]> docValues = loadDocValues( indexSearcher, hits, nestedDocs );
+		// Skip stored fields entirely if every required field was loaded from doc values
+		boolean storedFieldLoadingRequired = storedFieldVisitor.isStoredFieldLoadingRequired();
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			// add root object contribution
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			if ( nestedDocs.containsKey( hit.doc ) ) {
-				for ( Integer child : nestedDocs.get( hit.doc ) ) {
+		for ( int i = 0; i < hits.length; i++ ) {
+			ScoreDoc hit = hits[i];
+			if ( storedFieldLoadingRequired ) {
+				// add root object contribution
+				indexSearcher.doc( hit.doc, storedFieldVisitor );
+				for ( int child : nestedDocs.getChildren( hit.doc ) ) {
 					indexSearcher.doc( child, storedFieldVisitor );
 				}
 			}
 
 			Document document = storedFieldVisitor.getDocumentAndReset();
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score, docValues, i );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExecutionContext ) );
 		}
@@ -100,59 +124,140 @@ private List<Object> extractHits(ProjectionHitMapper<?, ?> projectionHitMapper,
 		return extractedData;
 	}
 
-	private Map<Integer, Set<Integer>> fetchNestedDocs(IndexSearcher indexSearcher, ScoreDoc[] scoreDocs, SearchProjectionExtractContext projectionExecutionContext)
+	private Map<Object, Object[]> loadDocValues(IndexSearcher indexSearcher, ScoreDoc[] hits, NestedDocs nestedDocs)
 			throws IOException {
-		// if the projection does not need any nested object skip their fetching
-		if ( storedFieldVisitor.getNestedDocumentPaths().isEmpty() ) {
-			return new HashMap<>();
+		Map<Object, LuceneDocValuesLoader<?>> loaders = storedFieldVisitor.getDocValuesLoaders();
+		if ( loaders.isEmpty() || hits.length == 0 ) {
+			return Collections.emptyMap();
 		}
 
-		// TODO HSEARCH-3657 this could be avoided
-		Map<String, Integer> parentIds = new HashMap<>();
-		for ( ScoreDoc hit : scoreDocs ) {
-			Document doc = indexSearcher.doc( hit.doc, ID_FIELD_SET );
-			String parentId = doc.getField( LuceneFields.idFieldName() ).stringValue();
-			if ( parentId == null ) {
-				continue;
+		Map<Object, Object[]> result = new HashMap<>();
+		Map<Object, LuceneDocValuesLoader<?>> loadersToExecute = new LinkedHashMap<>();
+		for ( Map.Entry<Object, LuceneDocValuesLoader<?>> entry : loaders.entrySet() ) {
+			Object key = entry.getKey();
+			Integer sortFieldIndex = sortFieldIndexesByDocValuesKey.get( key );
+			if ( sortFieldIndex != null && !storedFieldVisitor.isNestedDocValues( key ) ) {
+				// The values were already computed when sorting: hits are field docs holding sort values
+				LuceneDocValuesLoader<?> loader = entry.getValue();
+				Object[] values = new Object[hits.length];
+				for ( int i = 0; i < hits.length; i++ ) {
+					values[i] = loader.fromSortValue( ( (FieldDoc) hits[i] ).fields[sortFieldIndex] );
+				}
+				result.put( key, values );
+			}
+			else {
+				loadersToExecute.put( key, entry.getValue() );
 			}
-			parentIds.put( parentId, hit.doc );
+		}
+		if ( loadersToExecute.isEmpty() ) {
+			return result;
 		}
 
-		Map<String, Set<Integer>> stringSetMap = fetchChildren( indexSearcher, storedFieldVisitor.getNestedDocumentPaths(), projectionExecutionContext );
-		HashMap<Integer, Set<Integer>> result = new HashMap<>();
-		for ( Map.Entry<String, Set<Integer>> entry : stringSetMap.entrySet() ) {
-			result.put( parentIds.get( entry.getKey() ), entry.getValue() );
+		// Doc values must be read segment by segment, in increasing doc ID order
+		Integer[] hitIndexesInDocIdOrder = new Integer[hits.length];
+		for ( int i = 0; i < hits.length; i++ ) {
+			hitIndexesInDocIdOrder[i] = i;
 		}
-		for ( DistanceCollector distanceCollector : projectionExecutionContext.getDistanceCollectors() ) {
-			distanceCollector.setNestedDocs( result );
+		Arrays.sort( hitIndexesInDocIdOrder, Comparator.comparingInt( i -> hits[i].doc ) );
+
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+		for ( Map.Entry<Object, LuceneDocValuesLoader<?>> entry : loadersToExecute.entrySet() ) {
+			LuceneDocValuesLoader<?> loader = entry.getValue();
+			boolean nested = storedFieldVisitor.isNestedDocValues( entry.getKey() );
+			Object[] values = new Object[hits.length];
+			LeafReaderContext leaf = null;
+			LuceneDocValuesLoader.SegmentLoader<?> segmentLoader = null;
+			for ( int hitIndex : hitIndexesInDocIdOrder ) {
+				int docId = hits[hitIndex].doc;
+				if ( leaf == null || docId >= leaf.docBase + leaf.reader().maxDoc() ) {
+					leaf = leaves.get( ReaderUtil.subIndex( docId, leaves ) );
+					segmentLoader = loader.forSegment( leaf.reader() );
+				}
+				if ( nested ) {
+					// Nested documents are in the same segment as their parent, right before it
+					for ( int childDocId : nestedDocs.getChildren( docId ) ) {
+						Object value = segmentLoader.load( childDocId - leaf.docBase );
+						if ( value != null ) {
+							values[hitIndex] = value;
+							break;
+						}
+					}
+				}
+				else {
+					values[hitIndex] = segmentLoader.load( docId - leaf.docBase );
+				}
+			}
+			result.put( entry.getKey(), values );
 		}
 		return result;
 	}
 
-	private Map<String, Set<Integer>> fetchChildren(IndexSearcher indexSearcher, Set<String> nestedDocumentPaths,
-			SearchProjectionExtractContext projectionExecutionContext) {
-		BooleanQuery booleanQuery = getChildQuery( nestedDocumentPaths, projectionExecutionContext );
+	private NestedDocs fetchNestedDocs(IndexSearcher indexSearcher, ScoreDoc[] hits) {
+		// if the projection does not need any nested object skip their fetching
+		if ( storedFieldVisitor.getNestedDocumentPaths().isEmpty() || hits.length == 0 ) {
+			return NestedDocs.EMPTY;
+		}
 
+		BooleanQuery childQuery = getChildQuery( storedFieldVisitor.getNestedDocumentPaths() );
 		try {
-			ArrayList<Collector> luceneCollectors = new ArrayList<>();
-			LuceneChildrenCollector childrenCollector = new LuceneChildrenCollector();
-			luceneCollectors.add( childrenCollector );
-			luceneCollectors.addAll( projectionExecutionContext.getDistanceCollectors() );
-
-			indexSearcher.search( booleanQuery, MultiCollector.wrap( luceneCollectors ) );
-			return childrenCollector.getChildren();
+			return fetchChildren( indexSearcher, hits, childQuery );
 		}
 		catch (IOException e) {
-			throw log.errorFetchingNestedDocuments( booleanQuery, e );
+			throw log.errorFetchingNestedDocuments( childQuery, e );
 		}
 	}
 
-	private BooleanQuery getChildQuery(Set<String> nestedDocumentPaths, SearchProjectionExtractContext projectionExecutionContext) {
-		QueryBitSetProducer parentsFilter = new QueryBitSetProducer( LuceneQueries.mainDocumentQuery() );
-		ToChildBlockJoinQuery parentQuery = new ToChildBlockJoinQuery( projectionExecutionContext.getLuceneQuery(), parentsFilter );
+	/*
+	 * Nested documents are indexed in the same block as their parent document, right before it:
+	 * the children of a parent are the documents between the previous parent in the segment and this parent.
+	 * Thus we only need to walk the blocks of the hits, segment by segment, in doc ID order.
+	 */
+	private NestedDocs fetchChildren(IndexSearcher indexSearcher, ScoreDoc[] hits, Query childQuery)
+			throws IOException {
+		int[] parentDocIds = new int[hits.length];
+		for ( int i = 0; i < hits.length; i++ ) {
+			parentDocIds[i] = hits[i].doc;
+		}
+		Arrays.sort( parentDocIds );
+		int[][] childDocIds = new int[parentDocIds.length][];
+
+		Weight childWeight = indexSearcher.createWeight(
+				indexSearcher.rewrite( childQuery ), ScoreMode.COMPLETE_NO_SCORES, 1.0f
+		);
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+
+		int i = 0;
+		while ( i < parentDocIds.length ) {
+			LeafReaderContext leaf = leaves.get( ReaderUtil.subIndex( parentDocIds[i], leaves ) );
+			int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+			BitSet parents = parentsFilter.getBitSet( leaf );
+			Scorer childScorer = childWeight.scorer( leaf );
+			DocIdSetIterator childIterator = childScorer == null ? DocIdSetIterator.empty() : childScorer.iterator();
+
+			for ( ; i < parentDocIds.length && parentDocIds[i] < leafEnd; i++ ) {
+				int parentDoc = parentDocIds[i] - leaf.docBase;
+				int firstChildDoc = parentDoc == 0 ? 0 : parents.prevSetBit( parentDoc - 1 ) + 1;
+				int[] children = new int[parentDoc - firstChildDoc];
+				int childCount = 0;
+
+				int childDoc = childIterator.docID();
+				if ( childDoc < firstChildDoc ) {
+					childDoc = childIterator.advance( firstChildDoc );
+				}
+				while ( childDoc < parentDoc ) {
+					children[childCount++] = leaf.docBase + childDoc;
+					childDoc = childIterator.nextDoc();
+				}
+
+				childDocIds[i] = childCount == children.length ? children : Arrays.copyOf( children, childCount );
+			}
+		}
+
+		return new NestedDocs( parentDocIds, childDocIds );
+	}
 
+	private BooleanQuery getChildQuery(Set<String> nestedDocumentPaths) {
 		return new BooleanQuery.Builder()
-				.add( parentQuery, BooleanClause.Occur.MUST )
 				.add( createNestedDocumentPathSubQuery( nestedDocumentPaths ), BooleanClause.Occur.FILTER )
 				.add( LuceneQueries.childDocumentQuery(), BooleanClause.Occur.FILTER )
 				.build();
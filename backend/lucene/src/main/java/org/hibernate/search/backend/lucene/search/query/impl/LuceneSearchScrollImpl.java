@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+
+/**
+ * A scroll collecting hits chunk by chunk using "search after",
+ * i.e. collecting the top documents sorted after the last hit of the previous chunk.
+ * <p>
+ * The index reader is opened when the scroll is created and kept open until the scroll is closed,
+ * so that all chunks are collected from the same, consistent view of the index,
+ * and document identifiers of previous hits remain valid.
+ */
+class LuceneSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneReadWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final Set<String> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Query luceneQuery;
+	private final Sort luceneSort;
+	private final LuceneCollectorProvider luceneCollectorProvider;
+	private final LuceneSearchResultExtractor<H> searchResultExtractor;
+	private final int chunkSize;
+
+	private HolderMultiReader indexReader;
+	private ScoreDoc lastScoreDoc;
+	private boolean exhausted = false;
+
+	LuceneSearchScrollImpl(LuceneReadWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, Set<String> indexNames,
+			HolderMultiReader indexReader,
+			SessionContextImplementor sessionContext,
+			Query luceneQuery, Sort luceneSort,
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<H> searchResultExtractor,
+			int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.indexNames = indexNames;
+		this.indexReader = indexReader;
+		this.sessionContext = sessionContext;
+		this.luceneQuery = luceneQuery;
+		this.luceneSort = luceneSort;
+		this.luceneCollectorProvider = luceneCollectorProvider;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + luceneQuery + ", sort=" + luceneSort
+				+ ", chunkSize=" + chunkSize + "]";
+	}
+
+	@Override
+	public void close() {
+		if ( indexReader == null ) {
+			return;
+		}
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+		finally {
+			indexReader = null;
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( indexReader == null ) {
+			throw log.searchScrollClosed();
+		}
+
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.searchAfter(
+				luceneQuery, luceneSort,
+				lastScoreDoc, exhausted ? 0 : chunkSize,
+				luceneCollectorProvider, searchResultExtractor
+		);
+		LuceneLoadableSearchResult<H> loadableResult = queryOrchestrator.submit( indexNames, indexReader, work );
+
+		ScoreDoc newLastScoreDoc = loadableResult.getLastScoreDoc();
+		if ( newLastScoreDoc == null ) {
+			// No more hits: don't bother collecting top documents for subsequent calls
+			exhausted = true;
+		}
+		else {
+			lastScoreDoc = newLastScoreDoc;
+		}
+
+		// Load entities for this chunk only
+		return loadableResult.loadChunkBlocking( sessionContext );
+	}
+}
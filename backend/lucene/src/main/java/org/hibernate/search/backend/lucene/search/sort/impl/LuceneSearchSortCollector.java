@@ -23,6 +23,16 @@ public interface LuceneSearchSortCollector {
 
 	void collectSortField(SortField sortField);
 
+	/**
+	 * Collect a sort field whose values can be reused as values loaded from doc values,
+	 * so as to avoid loading them again for top hits.
+	 *
+	 * @param sortField The sort field.
+	 * @param docValuesKey The key of the equivalent doc values, see
+	 * {@link org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder#addDocValues(Object, String, org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader)}.
+	 */
+	void collectSortField(SortField sortField, Object docValuesKey);
+
 	void collectSortFields(SortField[] sortFields);
 
 }
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+
+abstract class AbstractLuceneFieldAggregation<A> implements LuceneSearchAggregation<A> {
+
+	private final Set<String> indexNames;
+	final String absoluteFieldPath;
+
+	AbstractLuceneFieldAggregation(Set<String> indexNames, String absoluteFieldPath) {
+		this.indexNames = indexNames;
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[absoluteFieldPath=" + absoluteFieldPath + "]";
+	}
+}
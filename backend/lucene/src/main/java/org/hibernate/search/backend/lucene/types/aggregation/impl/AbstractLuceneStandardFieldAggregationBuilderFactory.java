@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+abstract class AbstractLuceneStandardFieldAggregationBuilderFactory<F, C extends LuceneStandardFieldCodec<F, ?>>
+		implements LuceneFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean aggregable;
+
+	private final FromDocumentFieldValueConverter<? super F, F> rawConverter;
+
+	protected final C codec;
+
+	/**
+	 * @param aggregable Whether aggregations are enabled,
+	 * i.e. whether the field is sortable and thus has doc values.
+	 * @param rawConverter The raw converter of the field, used to check the expected type of aggregation results.
+	 * @param codec The codec of the field.
+	 */
+	AbstractLuceneStandardFieldAggregationBuilderFactory(boolean aggregable,
+			FromDocumentFieldValueConverter<? super F, F> rawConverter, C codec) {
+		this.aggregable = aggregable;
+		this.rawConverter = rawConverter;
+		this.codec = codec;
+	}
+
+	@Override
+	public <T> RangeAggregationBuilder<T> createRangeAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		throw log.aggregationNotSupportedByFieldType( "range",
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public <T> DateHistogramAggregationBuilder<T> createDateHistogramAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		throw log.aggregationNotSupportedByFieldType( "dateHistogram",
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public boolean hasCompatibleCodec(LuceneFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?> otherFactory =
+				(AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?>) other;
+		return aggregable == otherFactory.aggregable && codec.isCompatibleWith( otherFactory.codec );
+	}
+
+	protected void checkAggregable(String absoluteFieldPath) {
+		if ( !aggregable ) {
+			throw log.nonAggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+
+	protected void checkExpectedType(String absoluteFieldPath, Class<?> expectedType) {
+		if ( !rawConverter.isConvertedTypeAssignableTo( expectedType ) ) {
+			throw log.invalidAggregationInvalidType( absoluteFieldPath, expectedType,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * A base class for terms aggregations, i.e. aggregations counting documents per distinct value of a field.
+ *
+ * @param <F> The type of terms.
+ */
+abstract class AbstractLuceneTermsAggregation<F> extends AbstractLuceneFieldAggregation<Map<F, Long>> {
+
+	private static final int DEFAULT_MIN_DOCUMENT_COUNT = 1;
+	private static final int DEFAULT_MAX_TERM_COUNT = 100;
+
+	private final int minDocumentCount;
+	private final int maxTermCount;
+
+	AbstractLuceneTermsAggregation(AbstractBuilder<F> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath );
+		this.minDocumentCount = builder.minDocumentCount;
+		this.maxTermCount = builder.maxTermCount;
+	}
+
+	/**
+	 * @param counts The document count for each term, in an arbitrary order. Keys are terms as read from doc values.
+	 * @param termOrder The order of terms as read from doc values, used to order terms with the same document count.
+	 * @param decoder A function turning terms as read from doc values into the type of terms exposed to users.
+	 * @param <K> The type of terms as read from doc values.
+	 * @return The terms with at least {@code minDocumentCount} documents,
+	 * ordered by descending document count then ascending term,
+	 * limited to the first {@code maxTermCount} terms.
+	 */
+	<K> Map<F, Long> toResult(Map<K, long[]> counts, Comparator<? super K> termOrder, Function<K, F> decoder) {
+		List<Map.Entry<K, long[]>> buckets = new ArrayList<>( counts.size() );
+		for ( Map.Entry<K, long[]> entry : counts.entrySet() ) {
+			if ( entry.getValue()[0] >= minDocumentCount ) {
+				buckets.add( entry );
+			}
+		}
+		buckets.sort(
+				Comparator.<Map.Entry<K, long[]>>comparingLong( entry -> entry.getValue()[0] ).reversed()
+						.thenComparing( Map.Entry::getKey, termOrder )
+		);
+
+		int size = Math.min( buckets.size(), maxTermCount );
+		Map<F, Long> result = new LinkedHashMap<>();
+		for ( Map.Entry<K, long[]> bucket : buckets.subList( 0, size ) ) {
+			result.put( decoder.apply( bucket.getKey() ), bucket.getValue()[0] );
+		}
+		return result;
+	}
+
+	abstract static class AbstractBuilder<F> implements TermsAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+
+		private int minDocumentCount = DEFAULT_MIN_DOCUMENT_COUNT;
+		private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+
+		AbstractBuilder(Set<String> indexNames, String absoluteFieldPath) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public void minDocumentCount(int minDocumentCount) {
+			this.minDocumentCount = minDocumentCount;
+		}
+
+		@Override
+		public void maxTermCount(int maxTermCount) {
+			this.maxTermCount = maxTermCount;
+		}
+	}
+}
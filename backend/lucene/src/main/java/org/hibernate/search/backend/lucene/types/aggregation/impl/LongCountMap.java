@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map from {@code long} keys to {@code long} counts, backed by primitive arrays.
+ * <p>
+ * Used to count documents per doc value without boxing keys or allocating anything for each collected document.
+ * Open addressing with linear probing; a slot is free when its count is zero,
+ * which works because counts only ever increase from one.
+ */
+final class LongCountMap {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long[] keys = new long[INITIAL_CAPACITY];
+	private long[] counts = new long[INITIAL_CAPACITY];
+	private int mask = INITIAL_CAPACITY - 1;
+	private int size = 0;
+
+	void increment(long key) {
+		int slot = slot( key );
+		while ( counts[slot] != 0L ) {
+			if ( keys[slot] == key ) {
+				++counts[slot];
+				return;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		keys[slot] = key;
+		counts[slot] = 1L;
+		if ( ++size > keys.length / 2 ) {
+			grow();
+		}
+	}
+
+	/**
+	 * @return The counts as a map, boxing each distinct key exactly once.
+	 */
+	Map<Long, long[]> toMap() {
+		Map<Long, long[]> result = new HashMap<>( size * 2 );
+		for ( int slot = 0; slot < counts.length; slot++ ) {
+			long count = counts[slot];
+			if ( count != 0L ) {
+				result.put( keys[slot], new long[] { count } );
+			}
+		}
+		return result;
+	}
+
+	private int slot(long key) {
+		// Fibonacci hashing: spreads sequential and power-of-two-spaced values over the table.
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) ( hash ^ ( hash >>> 32 ) ) & mask;
+	}
+
+	private void grow() {
+		long[] oldKeys = keys;
+		long[] oldCounts = counts;
+		int capacity = oldKeys.length * 2;
+		keys = new long[capacity];
+		counts = new long[capacity];
+		mask = capacity - 1;
+		for ( int oldSlot = 0; oldSlot < oldCounts.length; oldSlot++ ) {
+			if ( oldCounts[oldSlot] != 0L ) {
+				int slot = slot( oldKeys[oldSlot] );
+				while ( counts[slot] != 0L ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				keys[slot] = oldKeys[oldSlot];
+				counts[slot] = oldCounts[oldSlot];
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTimelineFieldCodec;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+
+/**
+ * A date histogram aggregation on a field representing points on the timeline.
+ * <p>
+ * Buckets are aligned on the epoch, in UTC.
+ *
+ * @param <F> The type of field values.
+ * @param <C> The type of the field codec.
+ */
+public class LuceneDateHistogramAggregation<F, C extends AbstractLuceneNumericFieldCodec<F, Long> & LuceneTimelineFieldCodec>
+		extends AbstractLuceneFieldAggregation<Map<F, Long>> {
+
+	private final C codec;
+	private final long intervalMillis;
+
+	private LuceneDateHistogramAggregation(Builder<F, C> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath );
+		this.codec = builder.codec;
+		this.intervalMillis = builder.interval.toMillis();
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<F, Long>> createCollector() {
+		return new Collector();
+	}
+
+	private class Collector extends LuceneAggregationCollector<Map<F, Long>> {
+
+		// Sorted by bucket start
+		private final Map<Long, long[]> counts = new TreeMap<>();
+
+		private NumericDocValues segmentDocValues;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			segmentDocValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( segmentDocValues.advanceExact( doc ) ) {
+				long epochMilli = codec.toEpochMilli( segmentDocValues.longValue() );
+				long bucketStart = Math.floorDiv( epochMilli, intervalMillis ) * intervalMillis;
+				++counts.computeIfAbsent( bucketStart, ignored -> new long[1] )[0];
+			}
+		}
+
+		@Override
+		public Map<F, Long> getResult() {
+			Map<F, Long> result = new LinkedHashMap<>();
+			for ( Map.Entry<Long, long[]> entry : counts.entrySet() ) {
+				F bucketKey = codec.decode( codec.fromEpochMilli( entry.getKey() ) );
+				// Buckets may collide if the field type is less precise than the interval (e.g. LocalDate)
+				result.merge( bucketKey, entry.getValue()[0], Long::sum );
+			}
+			return result;
+		}
+	}
+
+	public static class Builder<F, C extends AbstractLuceneNumericFieldCodec<F, Long> & LuceneTimelineFieldCodec>
+			implements DateHistogramAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+		private final C codec;
+
+		private Duration interval;
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, C codec) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.codec = codec;
+		}
+
+		@Override
+		public void interval(Duration interval) {
+			this.interval = interval;
+		}
+
+		@Override
+		public SearchAggregation<Map<F, Long>> build() {
+			return new LuceneDateHistogramAggregation<>( this );
+		}
+	}
+}
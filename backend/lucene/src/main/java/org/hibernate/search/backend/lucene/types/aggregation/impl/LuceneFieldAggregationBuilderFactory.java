@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * An aggregation factory for fields in the Lucene backend.
+ * <p>
+ * Allows to introduce aggregations that do not depend on the type of the field
+ * (for example aggregations computed on the document count),
+ * and to check the compatibility of fields targeted by an aggregation across multiple indexes.
+ */
+public interface LuceneFieldAggregationBuilderFactory {
+
+	<T> TermsAggregationBuilder<T> createTermsAggregationBuilder(Set<String> indexNames, String absoluteFieldPath,
+			Class<T> expectedType);
+
+	<T> RangeAggregationBuilder<T> createRangeAggregationBuilder(Set<String> indexNames, String absoluteFieldPath,
+			Class<T> expectedType);
+
+	<T> DateHistogramAggregationBuilder<T> createDateHistogramAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType);
+
+	boolean hasCompatibleCodec(LuceneFieldAggregationBuilderFactory other);
+
+}
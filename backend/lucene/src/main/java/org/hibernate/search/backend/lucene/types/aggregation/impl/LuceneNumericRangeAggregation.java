@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.data.Range;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+
+/**
+ * A range aggregation on a numeric field.
+ * <p>
+ * Range bounds are encoded once, when the aggregation is built,
+ * so that each document only requires comparing encoded values.
+ *
+ * @param <F> The type of field values.
+ * @param <E> The type of encoded field values.
+ */
+public class LuceneNumericRangeAggregation<F, E extends Number>
+		extends AbstractLuceneFieldAggregation<Map<Range<F>, Long>> {
+
+	private final LuceneNumericDomain<E> domain;
+
+	private final List<Range<F>> ranges;
+	private final List<E> encodedLowerBounds;
+	private final List<E> encodedUpperBounds;
+
+	private LuceneNumericRangeAggregation(Builder<F, E> builder) {
+		super( builder.indexNames, builder.absoluteFieldPath );
+		this.domain = builder.codec.getDomain();
+		this.ranges = builder.ranges;
+		this.encodedLowerBounds = new ArrayList<>( ranges.size() );
+		this.encodedUpperBounds = new ArrayList<>( ranges.size() );
+		for ( Range<F> range : ranges ) {
+			F lowerBound = range.getLowerBoundIncluded();
+			F upperBound = range.getUpperBoundExcluded();
+			encodedLowerBounds.add( lowerBound == null ? null : builder.codec.encode( lowerBound ) );
+			encodedUpperBounds.add( upperBound == null ? null : builder.codec.encode( upperBound ) );
+		}
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<Range<F>, Long>> createCollector() {
+		return new Collector();
+	}
+
+	private boolean contains(int rangeIndex, E value) {
+		E lowerBound = encodedLowerBounds.get( rangeIndex );
+		if ( lowerBound != null && domain.compare( value, lowerBound ) < 0 ) {
+			return false;
+		}
+		E upperBound = encodedUpperBounds.get( rangeIndex );
+		return upperBound == null || domain.compare( value, upperBound ) < 0;
+	}
+
+	private class Collector extends LuceneAggregationCollector<Map<Range<F>, Long>> {
+
+		private final long[] counts = new long[ranges.size()];
+
+		private NumericDocValues segmentDocValues;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			segmentDocValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( segmentDocValues.advanceExact( doc ) ) {
+				E value = domain.fromDocValue( segmentDocValues.longValue() );
+				for ( int i = 0; i < counts.length; i++ ) {
+					if ( contains( i, value ) ) {
+						++counts[i];
+					}
+				}
+			}
+		}
+
+		@Override
+		public Map<Range<F>, Long> getResult() {
+			Map<Range<F>, Long> result = new LinkedHashMap<>();
+			for ( int i = 0; i < counts.length; i++ ) {
+				result.put( ranges.get( i ), counts[i] );
+			}
+			return result;
+		}
+	}
+
+	public static class Builder<F, E extends Number> implements RangeAggregationBuilder<F> {
+
+		private final Set<String> indexNames;
+		private final String absoluteFieldPath;
+		private final AbstractLuceneNumericFieldCodec<F, E> codec;
+
+		private final List<Range<F>> ranges = new ArrayList<>();
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, AbstractLuceneNumericFieldCodec<F, E> codec) {
+			this.indexNames = indexNames;
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.codec = codec;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // Range is immutable, so Range<? extends F> is also a Range<F>
+		public void range(Range<? extends F> range) {
+			ranges.add( (Range<F>) range );
+		}
+
+		@Override
+		public SearchAggregation<Map<Range<F>, Long>> build() {
+			return new LuceneNumericRangeAggregation<>( this );
+		}
+	}
+}
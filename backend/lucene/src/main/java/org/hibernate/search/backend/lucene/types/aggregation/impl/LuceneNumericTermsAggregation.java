@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+
+/**
+ * A terms aggregation on a numeric field.
+ * <p>
+ * Documents are counted per raw doc value in a primitive map;
+ * doc values are only boxed once per distinct term, and only decoded for the terms included in the result.
+ *
+ * @param <F> The type of field values.
+ * @param <E> The type of encoded field values.
+ */
+public class LuceneNumericTermsAggregation<F, E extends Number> extends AbstractLuceneTermsAggregation<F> {
+
+	private final AbstractLuceneNumericFieldCodec<F, E> codec;
+
+	private LuceneNumericTermsAggregation(Builder<F, E> builder) {
+		super( builder );
+		this.codec = builder.codec;
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<F, Long>> createCollector() {
+		return new Collector();
+	}
+
+	private class Collector extends LuceneAggregationCollector<Map<F, Long>> {
+
+		private final LongCountMap counts = new LongCountMap();
+
+		private NumericDocValues segmentDocValues;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			segmentDocValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( segmentDocValues.advanceExact( doc ) ) {
+				counts.increment( segmentDocValues.longValue() );
+			}
+		}
+
+		@Override
+		public Map<F, Long> getResult() {
+			LuceneNumericDomain<E> domain = codec.getDomain();
+			return toResult(
+					counts.toMap(),
+					( docValue1, docValue2 ) -> domain.compare(
+							domain.fromDocValue( docValue1 ), domain.fromDocValue( docValue2 )
+					),
+					docValue -> codec.decode( domain.fromDocValue( docValue ) )
+			);
+		}
+	}
+
+	public static class Builder<F, E extends Number> extends AbstractBuilder<F> {
+
+		private final AbstractLuceneNumericFieldCodec<F, E> codec;
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath, AbstractLuceneNumericFieldCodec<F, E> codec) {
+			super( indexNames, absoluteFieldPath );
+			this.codec = codec;
+		}
+
+		@Override
+		public SearchAggregation<Map<F, Long>> build() {
+			return new LuceneNumericTermsAggregation<>( this );
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+public class LuceneTextFieldAggregationBuilderFactory
+		extends AbstractLuceneStandardFieldAggregationBuilderFactory<String, LuceneTextFieldCodec<String>> {
+
+	public LuceneTextFieldAggregationBuilderFactory(boolean aggregable,
+			FromDocumentFieldValueConverter<? super String, String> rawConverter,
+			LuceneTextFieldCodec<String> codec) {
+		super( aggregable, rawConverter, codec );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <T> TermsAggregationBuilder<T> createTermsAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		checkAggregable( absoluteFieldPath );
+		checkExpectedType( absoluteFieldPath, expectedType );
+		return (TermsAggregationBuilder<T>) new LuceneTextTermsAggregation.Builder( indexNames, absoluteFieldPath );
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+
+/**
+ * A terms aggregation on a text field.
+ * <p>
+ * Documents are counted per ordinal within each segment, which only requires incrementing an array element per document;
+ * ordinals are resolved to terms once per segment, when moving to the next segment.
+ */
+public class LuceneTextTermsAggregation extends AbstractLuceneTermsAggregation<String> {
+
+	private LuceneTextTermsAggregation(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<String, Long>> createCollector() {
+		return new Collector();
+	}
+
+	private class Collector extends LuceneAggregationCollector<Map<String, Long>> {
+
+		private final Map<String, long[]> counts = new HashMap<>();
+
+		private SortedDocValues segmentDocValues;
+		private int[] segmentCounts;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			flushSegmentCounts();
+			segmentDocValues = DocValues.getSorted( context.reader(), absoluteFieldPath );
+			segmentCounts = new int[segmentDocValues.getValueCount()];
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( segmentDocValues.advanceExact( doc ) ) {
+				++segmentCounts[segmentDocValues.ordValue()];
+			}
+		}
+
+		@Override
+		public Map<String, Long> getResult() throws IOException {
+			flushSegmentCounts();
+			return toResult( counts, Comparator.naturalOrder(), term -> term );
+		}
+
+		private void flushSegmentCounts() throws IOException {
+			if ( segmentDocValues == null ) {
+				return;
+			}
+			for ( int ord = 0; ord < segmentCounts.length; ord++ ) {
+				int count = segmentCounts[ord];
+				if ( count > 0 ) {
+					String term = segmentDocValues.lookupOrd( ord ).utf8ToString();
+					counts.computeIfAbsent( term, ignored -> new long[1] )[0] += count;
+				}
+			}
+			segmentDocValues = null;
+			segmentCounts = null;
+		}
+	}
+
+	public static class Builder extends AbstractBuilder<String> {
+
+		public Builder(Set<String> indexNames, String absoluteFieldPath) {
+			super( indexNames, absoluteFieldPath );
+		}
+
+		@Override
+		public SearchAggregation<Map<String, Long>> build() {
+			return new LuceneTextTermsAggregation( this );
+		}
+	}
+}
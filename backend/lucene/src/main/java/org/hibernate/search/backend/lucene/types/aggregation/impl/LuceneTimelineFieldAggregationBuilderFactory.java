@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTimelineFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+
+/**
+ * An aggregation factory for fields representing points on the timeline,
+ * which support date histograms in addition to the aggregations supported by other numeric fields.
+ *
+ * @param <F> The field type.
+ * @param <C> The codec type.
+ */
+public class LuceneTimelineFieldAggregationBuilderFactory<F, C extends AbstractLuceneNumericFieldCodec<F, Long> & LuceneTimelineFieldCodec>
+		extends LuceneNumericFieldAggregationBuilderFactory<F, Long> {
+
+	private final C timelineCodec;
+
+	public LuceneTimelineFieldAggregationBuilderFactory(boolean aggregable,
+			FromDocumentFieldValueConverter<? super F, F> rawConverter,
+			C codec) {
+		super( aggregable, rawConverter, codec );
+		this.timelineCodec = codec;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <T> DateHistogramAggregationBuilder<T> createDateHistogramAggregationBuilder(Set<String> indexNames,
+			String absoluteFieldPath, Class<T> expectedType) {
+		checkAggregable( absoluteFieldPath );
+		checkExpectedType( absoluteFieldPath, expectedType );
+		return (DateHistogramAggregationBuilder<T>) new LuceneDateHistogramAggregation.Builder<>(
+				indexNames, absoluteFieldPath, timelineCodec
+		);
+	}
+}
@@ -7,8 +7,11 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.Query;
@@ -60,6 +63,18 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 	}
 
+	@Override
+	public LuceneDocValuesLoader<F> createDocValuesLoader(String absoluteFieldPath) {
+		if ( !sortable || !isDocValueDecodingExact() ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		return reader -> {
+			NumericDocValues docValues = DocValues.getNumeric( reader, absoluteFieldPath );
+			return docId -> docValues.advanceExact( docId ) ? decode( domain.fromDocValue( docValues.longValue() ) ) : null;
+		};
+	}
+
 	@Override
 	public Query createExistsQuery(String absoluteFieldPath) {
 		if ( sortable ) {
@@ -87,6 +102,25 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * Decode the given encoded value.
+	 * <p>
+	 * Useful for aggregations in particular, which read encoded values from doc values.
+	 * Values whose time zone or offset is not encoded are decoded in UTC.
+	 *
+	 * @param encoded The encoded value.
+	 * @return The decoded value.
+	 */
+	public abstract F decode(E encoded);
+
+	/**
+	 * @return {@code true} if {@link #decode(Number)} returns values equal to those stored for projections,
+	 * {@code false} if the encoding loses information (precision, time zone, ...).
+	 */
+	boolean isDocValueDecodingExact() {
+		return true;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
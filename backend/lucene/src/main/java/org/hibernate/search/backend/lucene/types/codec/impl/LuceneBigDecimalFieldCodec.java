@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -60,6 +61,17 @@ public Long encode(BigDecimal value) {
 		return unscale( value );
 	}
 
+	@Override
+	public BigDecimal decode(Long encoded) {
+		return new BigDecimal( BigInteger.valueOf( encoded ), decimalScale );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// The value is rounded to the decimal scale
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
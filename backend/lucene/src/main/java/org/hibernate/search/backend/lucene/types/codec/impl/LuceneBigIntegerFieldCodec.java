@@ -62,6 +62,17 @@ public Long encode(BigInteger value) {
 		return unscale( decimal );
 	}
 
+	@Override
+	public BigInteger decode(Long encoded) {
+		return new BigDecimal( BigInteger.valueOf( encoded ), decimalScale ).toBigInteger();
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// The value is rounded to the decimal scale
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
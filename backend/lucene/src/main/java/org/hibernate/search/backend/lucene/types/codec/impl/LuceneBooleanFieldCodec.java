@@ -41,6 +41,11 @@ public Integer encode(Boolean value) {
 		return value ? 1 : 0;
 	}
 
+	@Override
+	public Boolean decode(Integer encoded) {
+		return encoded != 0;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
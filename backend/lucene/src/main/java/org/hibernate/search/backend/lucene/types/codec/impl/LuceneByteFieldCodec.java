@@ -41,6 +41,11 @@ public Integer encode(Byte value) {
 		return (int) value;
 	}
 
+	@Override
+	public Byte decode(Integer encoded) {
+		return encoded.byteValue();
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
@@ -40,6 +40,11 @@ public Double encode(Double value) {
 		return value;
 	}
 
+	@Override
+	public Double decode(Double encoded) {
+		return encoded;
+	}
+
 	@Override
 	public LuceneNumericDomain<Double> getDomain() {
 		return LuceneNumericDomain.DOUBLE;
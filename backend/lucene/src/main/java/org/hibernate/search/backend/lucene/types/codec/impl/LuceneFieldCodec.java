@@ -9,6 +9,7 @@
 import java.util.function.Consumer;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
@@ -56,6 +57,18 @@ default void contributeNestedDocumentPath(String nestedDocumentPath, Consumer<St
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * Create a loader extracting the value from doc values, typically used in projections
+	 * as a cheaper alternative to {@link #decode(Document, String)}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A loader, or {@code null} if the field has no doc values,
+	 * or if its value cannot be decoded from doc values exactly as it would be from stored fields.
+	 */
+	default LuceneDocValuesLoader<F> createDocValuesLoader(String absoluteFieldPath) {
+		return null;
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
@@ -40,6 +40,11 @@ public Float encode(Float value) {
 		return value;
 	}
 
+	@Override
+	public Float decode(Float encoded) {
+		return encoded;
+	}
+
 	@Override
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneNumericDomain.FLOAT;
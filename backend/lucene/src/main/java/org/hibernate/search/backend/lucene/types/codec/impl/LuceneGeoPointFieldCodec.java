@@ -59,7 +59,7 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 
 		if ( sortable || projectable ) {
 			// The projectable term here is present only to support distance projections.
-			// Since distances are derived from a DocValuesField, see DistanceCollector.
+			// Since distances are derived from a DocValuesField, see DistanceDocValuesLoader.
 			documentBuilder.addField( new LatLonDocValuesField( absoluteFieldPath, value.getLatitude(), value.getLongitude() ) );
 		}
 		else {
@@ -15,7 +15,8 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
-public final class LuceneInstantFieldCodec extends AbstractLuceneNumericFieldCodec<Instant, Long> {
+public final class LuceneInstantFieldCodec extends AbstractLuceneNumericFieldCodec<Instant, Long>
+		implements LuceneTimelineFieldCodec {
 
 	static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
@@ -51,8 +52,29 @@ public Long encode(Instant value) {
 		return value == null ? null : value.toEpochMilli();
 	}
 
+	@Override
+	public Instant decode(Long encoded) {
+		return Instant.ofEpochMilli( encoded );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// Only milliseconds are encoded
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
 	}
+
+	@Override
+	public long toEpochMilli(long encoded) {
+		return encoded;
+	}
+
+	@Override
+	public long fromEpochMilli(long epochMilli) {
+		return epochMilli;
+	}
 }
@@ -39,6 +39,11 @@ public Integer encode(Integer value) {
 		return value;
 	}
 
+	@Override
+	public Integer decode(Integer encoded) {
+		return encoded;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
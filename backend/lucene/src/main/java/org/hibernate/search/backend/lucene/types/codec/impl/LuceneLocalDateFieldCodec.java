@@ -19,7 +19,10 @@
 import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
-public final class LuceneLocalDateFieldCodec extends AbstractLuceneNumericFieldCodec<LocalDate, Long> {
+public final class LuceneLocalDateFieldCodec extends AbstractLuceneNumericFieldCodec<LocalDate, Long>
+		implements LuceneTimelineFieldCodec {
+
+	private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
 
 	static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
 			.append( LuceneYearMonthFieldCodec.FORMATTER )
@@ -60,8 +63,23 @@ public Long encode(LocalDate value) {
 		return value == null ? null : value.toEpochDay();
 	}
 
+	@Override
+	public LocalDate decode(Long encoded) {
+		return LocalDate.ofEpochDay( encoded );
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
 	}
+
+	@Override
+	public long toEpochMilli(long encoded) {
+		return encoded * MILLIS_PER_DAY;
+	}
+
+	@Override
+	public long fromEpochMilli(long epochMilli) {
+		return Math.floorDiv( epochMilli, MILLIS_PER_DAY );
+	}
 }
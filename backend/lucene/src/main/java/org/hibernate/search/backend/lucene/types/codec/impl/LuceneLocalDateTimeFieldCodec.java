@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -19,7 +20,8 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
-public final class LuceneLocalDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<LocalDateTime, Long> {
+public final class LuceneLocalDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<LocalDateTime, Long>
+		implements LuceneTimelineFieldCodec {
 
 	static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
 			.append( LuceneLocalDateFieldCodec.FORMATTER )
@@ -60,8 +62,29 @@ public Long encode(LocalDateTime value) {
 		return value == null ? null : value.toInstant( ZoneOffset.UTC ).toEpochMilli();
 	}
 
+	@Override
+	public LocalDateTime decode(Long encoded) {
+		return LocalDateTime.ofInstant( Instant.ofEpochMilli( encoded ), ZoneOffset.UTC );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// Only milliseconds are encoded
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
 	}
+
+	@Override
+	public long toEpochMilli(long encoded) {
+		return encoded;
+	}
+
+	@Override
+	public long fromEpochMilli(long epochMilli) {
+		return epochMilli;
+	}
 }
@@ -69,6 +69,11 @@ public Long encode(LocalTime value) {
 		return value == null ? null : value.toNanoOfDay();
 	}
 
+	@Override
+	public LocalTime decode(Long encoded) {
+		return LocalTime.ofNanoOfDay( encoded );
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
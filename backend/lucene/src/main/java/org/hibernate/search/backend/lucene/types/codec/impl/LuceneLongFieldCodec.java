@@ -40,6 +40,11 @@ public Long encode(Long value) {
 		return value;
 	}
 
+	@Override
+	public Long decode(Long encoded) {
+		return encoded;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
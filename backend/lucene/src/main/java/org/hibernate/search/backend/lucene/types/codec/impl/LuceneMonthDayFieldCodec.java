@@ -67,6 +67,11 @@ public Integer encode(MonthDay value) {
 		return 100 * value.getMonthValue() + value.getDayOfMonth();
 	}
 
+	@Override
+	public MonthDay decode(Integer encoded) {
+		return MonthDay.of( encoded / 100, encoded % 100 );
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
@@ -33,6 +33,14 @@
 
 	public abstract SortField.Type getSortFieldType();
 
+	/**
+	 * @param docValue A value read from the doc values of a field.
+	 * @return The corresponding encoded value.
+	 */
+	public abstract E fromDocValue(long docValue);
+
+	public abstract int compare(E value1, E value2);
+
 	abstract IndexableField createIndexField(String absoluteFieldPath, E numericValue);
 
 	abstract IndexableField createDocValuesField(String absoluteFieldPath, E numericValue);
@@ -75,6 +83,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.INT;
 		}
 
+		@Override
+		public Integer fromDocValue(long docValue) {
+			return (int) docValue;
+		}
+
+		@Override
+		public int compare(Integer value1, Integer value2) {
+			return Integer.compare( value1, value2 );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Integer numericValue) {
 			return new IntPoint( absoluteFieldPath, numericValue );
@@ -124,6 +142,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.LONG;
 		}
 
+		@Override
+		public Long fromDocValue(long docValue) {
+			return docValue;
+		}
+
+		@Override
+		public int compare(Long value1, Long value2) {
+			return Long.compare( value1, value2 );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Long numericValue) {
 			return new LongPoint( absoluteFieldPath, numericValue );
@@ -173,6 +201,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.FLOAT;
 		}
 
+		@Override
+		public Float fromDocValue(long docValue) {
+			return Float.intBitsToFloat( (int) docValue );
+		}
+
+		@Override
+		public int compare(Float value1, Float value2) {
+			return Float.compare( value1, value2 );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Float numericValue) {
 			return new FloatPoint( absoluteFieldPath, numericValue );
@@ -222,6 +260,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.DOUBLE;
 		}
 
+		@Override
+		public Double fromDocValue(long docValue) {
+			return Double.longBitsToDouble( docValue );
+		}
+
+		@Override
+		public int compare(Double value1, Double value2) {
+			return Double.compare( value1, value2 );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Double numericValue) {
 			return new DoublePoint( absoluteFieldPath, numericValue );
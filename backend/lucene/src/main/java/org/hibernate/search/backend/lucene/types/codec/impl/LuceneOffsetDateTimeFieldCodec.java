@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
@@ -18,7 +20,8 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
-public final class LuceneOffsetDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<OffsetDateTime, Long> {
+public final class LuceneOffsetDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<OffsetDateTime, Long>
+		implements LuceneTimelineFieldCodec {
 
 	static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
 			.append( LuceneLocalDateTimeFieldCodec.FORMATTER )
@@ -59,8 +62,30 @@ public Long encode(OffsetDateTime value) {
 		return value == null ? null : value.toInstant().toEpochMilli();
 	}
 
+	@Override
+	public OffsetDateTime decode(Long encoded) {
+		// The offset is not encoded: use UTC
+		return OffsetDateTime.ofInstant( Instant.ofEpochMilli( encoded ), ZoneOffset.UTC );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// The offset is not encoded, and only milliseconds are
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
 	}
+
+	@Override
+	public long toEpochMilli(long encoded) {
+		return encoded;
+	}
+
+	@Override
+	public long fromEpochMilli(long epochMilli) {
+		return epochMilli;
+	}
 }
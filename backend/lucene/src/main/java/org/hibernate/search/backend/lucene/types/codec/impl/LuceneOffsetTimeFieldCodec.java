@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.time.LocalTime;
 import java.time.OffsetTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
@@ -20,6 +22,8 @@
 
 public final class LuceneOffsetTimeFieldCodec extends AbstractLuceneNumericFieldCodec<OffsetTime, Long> {
 
+	private static final long NANOS_PER_DAY = 24L * 60L * 60L * 1000_000_000L;
+
 	private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
 			.append( LuceneLocalTimeFieldCodec.FORMATTER )
 			// OffsetId is mandatory
@@ -66,6 +70,18 @@ public Long encode(OffsetTime value) {
 		return nod - offsetNanos;
 	}
 
+	@Override
+	public OffsetTime decode(Long encoded) {
+		// The offset is not encoded: use UTC
+		return OffsetTime.of( LocalTime.ofNanoOfDay( Math.floorMod( encoded, NANOS_PER_DAY ) ), ZoneOffset.UTC );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// The offset is not encoded
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
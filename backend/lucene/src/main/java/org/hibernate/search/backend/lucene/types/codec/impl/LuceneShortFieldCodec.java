@@ -41,6 +41,11 @@ public Integer encode(Short value) {
 		return (int) value;
 	}
 
+	@Override
+	public Short decode(Integer encoded) {
+		return encoded.shortValue();
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
@@ -13,6 +13,8 @@
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.NormsFieldExistsQuery;
@@ -20,6 +22,7 @@
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 public final class LuceneStringFieldCodec implements LuceneTextFieldCodec<String> {
@@ -72,6 +75,18 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public LuceneDocValuesLoader<String> createDocValuesLoader(String absoluteFieldPath) {
+		if ( !sortable || analyzerOrNormalizer != null ) {
+			// Doc values hold the normalized value, which may differ from the original one
+			return null;
+		}
+		return reader -> {
+			SortedDocValues docValues = DocValues.getSorted( reader, absoluteFieldPath );
+			return docId -> docValues.advanceExact( docId ) ? docValues.binaryValue().utf8ToString() : null;
+		};
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+/**
+ * A codec for fields whose values represent points on the timeline,
+ * and whose encoded values can be converted to and from a number of milliseconds since the epoch.
+ * <p>
+ * Useful for date histograms in particular.
+ */
+public interface LuceneTimelineFieldCodec {
+
+	/**
+	 * @param encoded An encoded value.
+	 * @return The number of milliseconds since the epoch of the point on the timeline represented by this value.
+	 */
+	long toEpochMilli(long encoded);
+
+	/**
+	 * @param epochMilli A number of milliseconds since the epoch.
+	 * @return The encoded value representing the point on the timeline at {@code epochMilli},
+	 * or, if the field type does not have such precision, the closest preceding point on the timeline.
+	 */
+	long fromEpochMilli(long epochMilli);
+
+}
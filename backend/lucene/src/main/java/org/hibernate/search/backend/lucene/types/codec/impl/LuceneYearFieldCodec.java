@@ -43,6 +43,11 @@ public Integer encode(Year value) {
 		return value.getValue();
 	}
 
+	@Override
+	public Year decode(Integer encoded) {
+		return Year.of( encoded );
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneNumericDomain.INTEGER;
@@ -64,6 +64,11 @@ public Long encode(YearMonth value) {
 		return value == null ? null : value.getLong( ChronoField.PROLEPTIC_MONTH );
 	}
 
+	@Override
+	public YearMonth decode(Long encoded) {
+		return YearMonth.of( (int) Math.floorDiv( encoded, 12L ), (int) Math.floorMod( encoded, 12L ) + 1 );
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
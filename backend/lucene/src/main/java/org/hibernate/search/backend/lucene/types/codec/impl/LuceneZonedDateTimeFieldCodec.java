@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -19,7 +21,8 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
-public final class LuceneZonedDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<ZonedDateTime, Long> {
+public final class LuceneZonedDateTimeFieldCodec extends AbstractLuceneNumericFieldCodec<ZonedDateTime, Long>
+		implements LuceneTimelineFieldCodec {
 
 	private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
 			.append( LuceneOffsetDateTimeFieldCodec.FORMATTER )
@@ -65,8 +68,30 @@ public Long encode(ZonedDateTime value) {
 		return value == null ? null : value.toInstant().toEpochMilli();
 	}
 
+	@Override
+	public ZonedDateTime decode(Long encoded) {
+		// The zone is not encoded: use UTC
+		return ZonedDateTime.ofInstant( Instant.ofEpochMilli( encoded ), ZoneOffset.UTC );
+	}
+
+	@Override
+	boolean isDocValueDecodingExact() {
+		// The time zone is not encoded, and only milliseconds are
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneNumericDomain.LONG;
 	}
+
+	@Override
+	public long toEpochMilli(long encoded) {
+		return encoded;
+	}
+
+	@Override
+	public long fromEpochMilli(long epochMilli) {
+		return epochMilli;
+	}
 }
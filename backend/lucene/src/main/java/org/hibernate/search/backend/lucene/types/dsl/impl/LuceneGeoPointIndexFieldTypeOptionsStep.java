@@ -50,7 +50,8 @@ public LuceneIndexFieldType<GeoPoint> toIndexFieldType() {
 				codec,
 				new LuceneGeoPointFieldPredicateBuilderFactory( resolvedSearchable, dslToIndexConverter, codec ),
 				new LuceneGeoPointFieldSortBuilderFactory( resolvedSortable ),
-				new LuceneGeoPointFieldProjectionBuilderFactory( resolvedProjectable, codec, indexToProjectionConverter, createFromDocumentRawConverter() )
+				new LuceneGeoPointFieldProjectionBuilderFactory( resolvedProjectable, codec, indexToProjectionConverter, createFromDocumentRawConverter() ),
+				null
 		);
 	}
 
@@ -39,7 +39,8 @@ public IndexFieldType<F> toIndexFieldType() {
 				codec,
 				null,
 				null,
-				new LuceneStandardFieldProjectionBuilderFactory<>( fieldValueExtractor != null, indexToProjectionConverter, indexToProjectionConverter, codec )
+				new LuceneStandardFieldProjectionBuilderFactory<>( fieldValueExtractor != null, indexToProjectionConverter, indexToProjectionConverter, codec ),
+				null
 		);
 	}
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -22,25 +23,29 @@
 	private final LuceneFieldPredicateBuilderFactory predicateBuilderFactory;
 	private final LuceneFieldSortBuilderFactory sortBuilderFactory;
 	private final LuceneFieldProjectionBuilderFactory projectionBuilderFactory;
+	private final LuceneFieldAggregationBuilderFactory aggregationBuilderFactory;
 	private final Analyzer analyzerOrNormalizer;
 
 	public LuceneIndexFieldType(
 			LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
-			LuceneFieldProjectionBuilderFactory projectionBuilderFactory) {
-		this( codec, predicateBuilderFactory, sortBuilderFactory, projectionBuilderFactory, null );
+			LuceneFieldProjectionBuilderFactory projectionBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory) {
+		this( codec, predicateBuilderFactory, sortBuilderFactory, projectionBuilderFactory, aggregationBuilderFactory, null );
 	}
 
 	public LuceneIndexFieldType(LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
 			LuceneFieldProjectionBuilderFactory projectionBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory,
 			Analyzer analyzerOrNormalizer) {
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.analyzerOrNormalizer = analyzerOrNormalizer;
 	}
 
@@ -53,7 +58,8 @@ public LuceneIndexSchemaFieldNode<F> addField(LuceneIndexSchemaNodeCollector col
 				codec,
 				predicateBuilderFactory,
 				sortBuilderFactory,
-				projectionBuilderFactory
+				projectionBuilderFactory,
+				aggregationBuilderFactory
 		);
 
 		collector.collectFieldNode( schemaNode.getAbsoluteFieldPath(), schemaNode );
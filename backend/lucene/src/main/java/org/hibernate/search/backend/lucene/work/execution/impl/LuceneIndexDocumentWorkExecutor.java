@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
@@ -43,6 +44,16 @@ public LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancySt
 
 	@Override
 	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		return submit( referenceProvider, documentContributor, false );
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider referenceProvider, DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		return submit( referenceProvider, documentContributor, true );
+	}
+
+	private CompletableFuture<?> submit(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<LuceneRootDocumentBuilder> documentContributor, boolean update) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
@@ -53,8 +64,12 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		// Route the work to the appropriate shard
 		LuceneWriteWorkOrchestrator orchestrator = indexManagerContext.getWriteOrchestrator( id, routingKey );
 
+		LuceneWriteWork<?> work = update
+				? factory.update( tenantId, id, indexEntry )
+				: factory.add( tenantId, id, indexEntry );
+		// Documents are submitted here by mass indexing: during an offline rebuild, they belong to the rebuilt index
 		return orchestrator.submit(
-				factory.add( tenantId, id, indexEntry ),
+				factory.forOfflineRebuild( work ),
 				commitStrategy,
 				DocumentRefreshStrategy.NONE
 		);
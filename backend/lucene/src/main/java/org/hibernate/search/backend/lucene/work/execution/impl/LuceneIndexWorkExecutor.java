@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
@@ -16,9 +18,13 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.mapper.session.context.spi.DetachedSessionContextImplementor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class LuceneIndexWorkExecutor implements IndexWorkExecutor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneWorkFactory factory;
 	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final DetachedSessionContextImplementor sessionContext;
@@ -46,7 +52,33 @@ public CompletableFuture<?> flush() {
 		return doSubmit( factory.flush() );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		if ( sessionContext.getTenantIdentifier() != null ) {
+			// The rebuilt index replaces the whole index, not just the documents of the current tenant
+			throw log.offlineRebuildWithMultiTenancy(
+					EventContexts.fromIndexName( indexManagerContext.getIndexName() )
+			);
+		}
+		return doSubmit( factory.startOfflineRebuild() );
+	}
+
+	@Override
+	public CompletableFuture<?> completeRebuild() {
+		// Make sure the next search queries will use the rebuilt index
+		return doSubmit( factory.completeOfflineRebuild(), DocumentRefreshStrategy.FORCE );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return doSubmit( factory.abortOfflineRebuild() );
+	}
+
 	private CompletableFuture<?> doSubmit(LuceneWriteWork<?> work) {
+		return doSubmit( work, DocumentRefreshStrategy.NONE );
+	}
+
+	private CompletableFuture<?> doSubmit(LuceneWriteWork<?> work, DocumentRefreshStrategy refreshStrategy) {
 		Collection<LuceneWriteWorkOrchestrator> orchestrators = indexManagerContext.getAllWriteOrchestrators();
 		CompletableFuture<?>[] futures = new CompletableFuture[orchestrators.size()];
 		int i = 0;
@@ -54,7 +86,7 @@ private CompletableFuture<?> doSubmit(LuceneWriteWork<?> work) {
 			futures[i] = orchestrator.submit(
 					work,
 					DocumentCommitStrategy.FORCE,
-					DocumentRefreshStrategy.NONE
+					refreshStrategy
 			);
 			++i;
 		}
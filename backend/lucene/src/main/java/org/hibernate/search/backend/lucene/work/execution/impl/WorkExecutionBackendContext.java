@@ -8,8 +8,11 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cfg.IOStrategyName;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestratorImplementor;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -37,7 +40,8 @@ IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
 
 	LuceneWriteWorkOrchestratorImplementor createOrchestrator(String indexName, Optional<String> shardId,
-			IndexWriterDelegator indexWriterDelegator);
+			IndexWriterDelegator indexWriterDelegator, IndexReaderProvider indexReaderProvider,
+			IOStrategyName ioStrategy, LuceneCommitPolicy commitPolicy, int writerThreads);
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
 			WorkExecutionIndexManagerContext indexManagerContext,
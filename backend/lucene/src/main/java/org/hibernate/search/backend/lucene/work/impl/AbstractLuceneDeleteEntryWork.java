@@ -42,6 +42,11 @@ public Long execute(LuceneWriteWorkExecutionContext context) {
 	protected abstract long doDeleteDocuments(IndexWriterDelegator indexWriterDelegator, String tenantId, String id)
 			throws IOException;
 
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -46,6 +46,11 @@ public Long execute(LuceneWriteWorkExecutionContext context) {
 	protected abstract long doUpdateEntry(IndexWriterDelegator indexWriterDelegator, String tenantId, String id,
 			LuceneIndexEntry indexEntry) throws IOException;
 
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -19,4 +19,9 @@ public Object getInfo() {
 		// TODO extract immutable work relevant info. We need to think about it. See HSEARCH-3110.
 		return this;
 	}
+
+	@Override
+	public String getDocumentId() {
+		return null;
+	}
 }
@@ -43,6 +43,11 @@ public Long execute(LuceneWriteWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * A document work that, while an offline rebuild is in progress,
+ * only applies to the rebuilt index instead of the current one.
+ *
+ * @param <T> The type of the work's result.
+ */
+public class LuceneOfflineRebuildDocumentWork<T> implements LuceneWriteWork<T> {
+
+	private final LuceneWriteWork<T> delegate;
+
+	LuceneOfflineRebuildDocumentWork(LuceneWriteWork<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public T execute(LuceneWriteWorkExecutionContext context) {
+		return delegate.execute( new LuceneWriteWorkExecutionContext() {
+			@Override
+			public EventContext getEventContext() {
+				return context.getEventContext();
+			}
+
+			@Override
+			public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
+				return context.getIndexWriterDelegator().getOfflineRebuildDelegator();
+			}
+		} );
+	}
+
+	@Override
+	public Object getInfo() {
+		return delegate.getInfo();
+	}
+
+	@Override
+	public String getDocumentId() {
+		return delegate.getDocumentId();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "delegate=" ).append( delegate )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -16,11 +16,13 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneLoadableSearchResult;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultExtractor;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 
@@ -31,22 +33,31 @@
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 
+	private final ScoreDoc after;
 	private final int offset;
 	private final Integer limit;
+	private final Long totalHitCountThreshold;
+	private final SearchTimeout timeout;
 
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<H> searchResultExtractor;
 
 	LuceneSearchWork(Query luceneQuery,
 			Sort luceneSort,
+			ScoreDoc after,
 			Integer offset,
 			Integer limit,
+			Long totalHitCountThreshold,
+			SearchTimeout timeout,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<H> searchResultExtractor) {
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.after = after;
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.timeout = timeout;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
@@ -56,19 +67,27 @@ public LuceneLoadableSearchResult<H> execute(LuceneReadWorkExecutionContext cont
 		try {
 			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
 
-			// TODO HSEARCH-3352 implement timeout handling by wrapping the collector with the timeout limiting one
-			LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs( context ) );
+			LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder(
+					luceneSort, getMaxDocs( context ), after, totalHitCountThreshold,
+					timeout == null ? null : timeout.toMillis()
+			);
 			luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
 			LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
 			luceneCollectors.collect( indexSearcher, luceneQuery, offset, limit );
 
+			if ( luceneCollectors.isTimedOut() && timeout.isExceptionOnTimeout() ) {
+				throw log.searchTimedOut( timeout, luceneQuery, context.getEventContext() );
+			}
+
 			SearchProjectionExtractContext projectionExecutionContext =
-					new SearchProjectionExtractContext( indexSearcher, luceneQuery, luceneCollectors.getDistanceCollectors() );
+					new SearchProjectionExtractContext( indexSearcher, luceneQuery );
 
 			return searchResultExtractor.extract(
 					indexSearcher, luceneCollectors.getTotalHits(),
 					luceneCollectors.getTopDocs(),
+					luceneCollectors.isTimedOut(),
+					luceneCollectors.getAggregationResults(),
 					projectionExecutionContext
 			);
 		}
@@ -79,9 +98,8 @@ public LuceneLoadableSearchResult<H> execute(LuceneReadWorkExecutionContext cont
 
 	private int getMaxDocs(LuceneReadWorkExecutionContext context) {
 		IndexReader reader = context.getIndexReader();
-		// FIXME HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
-		//  as it is done in Search 5.
-		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Users fetching very large numbers of hits are expected to scroll instead, with a reasonable limit per chunk.
 		if ( limit == null ) {
 			return reader.maxDoc();
 		}
@@ -99,8 +117,11 @@ public String toString() {
 				.append( "[" )
 				.append( "luceneQuery=" ).append( luceneQuery )
 				.append( ", luceneSort=" ).append( luceneSort )
+				.append( ", after=" ).append( after )
 				.append( ", offset=" ).append( offset )
 				.append( ", limit=" ).append( limit )
+				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
+				.append( ", timeout=" ).append( timeout )
 				.append( "]" );
 		return sb.toString();
 	}
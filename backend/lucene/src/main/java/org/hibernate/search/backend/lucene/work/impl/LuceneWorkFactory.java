@@ -10,8 +10,10 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneLoadableSearchResult;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultExtractor;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.Explanation;
 
@@ -30,9 +32,29 @@ public interface LuceneWorkFactory {
 
 	LuceneWriteWork<?> optimize();
 
+	LuceneWriteWork<?> startOfflineRebuild();
+
+	LuceneWriteWork<?> completeOfflineRebuild();
+
+	LuceneWriteWork<?> abortOfflineRebuild();
+
+	/**
+	 * @param work A document work.
+	 * @param <T> The type of the work's result.
+	 * @return A work applying the given work to the rebuilt index only while an offline rebuild is in progress,
+	 * and to the current index otherwise.
+	 */
+	<T> LuceneWriteWork<T> forOfflineRebuild(LuceneWriteWork<T> work);
+
 	<H> LuceneReadWork<LuceneLoadableSearchResult<H>> search(
 			Query luceneQuery, Sort luceneSort,
-			Integer offset, Integer limit,
+			Integer offset, Integer limit, Long totalHitCountThreshold, SearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<H> searchResultExtractor);
+
+	<H> LuceneReadWork<LuceneLoadableSearchResult<H>> searchAfter(
+			Query luceneQuery, Sort luceneSort,
+			ScoreDoc after, int limit,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<H> searchResultExtractor);
 
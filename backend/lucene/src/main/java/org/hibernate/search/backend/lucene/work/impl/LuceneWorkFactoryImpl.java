@@ -11,8 +11,10 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneLoadableSearchResult;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultExtractor;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.Explanation;
 
@@ -58,15 +60,49 @@ public LuceneWriteWork<?> optimize() {
 		return new LuceneOptimizeWork();
 	}
 
+	@Override
+	public LuceneWriteWork<?> startOfflineRebuild() {
+		return new LuceneStartOfflineRebuildWork();
+	}
+
+	@Override
+	public LuceneWriteWork<?> completeOfflineRebuild() {
+		return new LuceneCompleteOfflineRebuildWork();
+	}
+
+	@Override
+	public LuceneWriteWork<?> abortOfflineRebuild() {
+		return new LuceneAbortOfflineRebuildWork();
+	}
+
+	@Override
+	public <T> LuceneWriteWork<T> forOfflineRebuild(LuceneWriteWork<T> work) {
+		return new LuceneOfflineRebuildDocumentWork<>( work );
+	}
+
 	@Override
 	public <H> LuceneReadWork<LuceneLoadableSearchResult<H>> search(
 			Query luceneQuery, Sort luceneSort,
-			Integer offset, Integer limit,
+			Integer offset, Integer limit, Long totalHitCountThreshold, SearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<H> searchResultExtractor) {
+		return new LuceneSearchWork<>(
+				luceneQuery, luceneSort,
+				null, offset, limit, totalHitCountThreshold, timeout,
+				luceneCollectorProvider,
+				searchResultExtractor
+		);
+	}
+
+	@Override
+	public <H> LuceneReadWork<LuceneLoadableSearchResult<H>> searchAfter(
+			Query luceneQuery, Sort luceneSort,
+			ScoreDoc after, int limit,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<H> searchResultExtractor) {
 		return new LuceneSearchWork<>(
 				luceneQuery, luceneSort,
-				offset, limit,
+				after, null, limit, null, null,
 				luceneCollectorProvider,
 				searchResultExtractor
 		);
@@ -13,4 +13,11 @@
 
 	Object getInfo();
 
+	/**
+	 * @return The identifier of the only document affected by this work,
+	 * or {@code null} if this work may affect any number of documents.
+	 * Works affecting different documents may be executed concurrently.
+	 */
+	String getDocumentId();
+
 }
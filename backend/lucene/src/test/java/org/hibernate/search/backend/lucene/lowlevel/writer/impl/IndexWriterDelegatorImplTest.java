@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+
+public class IndexWriterDelegatorImplTest extends EasyMockSupport {
+
+	private static final String INDEX_NAME = "indexName";
+	private static final String ID_FIELD = "id";
+
+	private final ErrorHandler errorHandlerMock = createStrictMock( ErrorHandler.class );
+	private final FailingDirectory directory = new FailingDirectory( new ByteBuffersDirectory() );
+
+	private IndexWriterDelegatorImpl delegator;
+
+	@Before
+	public void setup() throws IOException {
+		DirectoryProvider rebuildDirectoryProvider = new DirectoryProvider() {
+			@Override
+			public void initialize(DirectoryProviderInitializationContext context) {
+			}
+
+			@Override
+			public DirectoryHolder createDirectory(DirectoryCreationContext context) {
+				return DirectoryHolder.of( new ByteBuffersDirectory() );
+			}
+		};
+		// No merge failure is expected
+		replayAll();
+		delegator = new IndexWriterDelegatorImpl(
+				INDEX_NAME, directory, new StandardAnalyzer(), errorHandlerMock,
+				IndexWriterSettings.extractAll( ConfigurationPropertySource.empty(), EventContexts.fromIndexName( INDEX_NAME ) ),
+				rebuildDirectoryProvider,
+				new DirectoryCreationContextImpl( EventContexts.fromIndexName( INDEX_NAME ), INDEX_NAME, Optional.empty() )
+		);
+
+		delegator.addDocuments( document( "1" ) );
+		delegator.addDocuments( document( "2" ) );
+		delegator.commit();
+	}
+
+	@After
+	public void cleanUp() throws IOException {
+		delegator.close();
+		directory.close();
+		verifyAll();
+	}
+
+	@Test
+	public void completeOfflineRebuild() throws IOException {
+		delegator.startOfflineRebuild();
+		delegator.getOfflineRebuildDelegator().addDocuments( document( "3" ) );
+		delegator.addDocuments( document( "4" ) );
+		delegator.commit();
+		// The rebuilt index is only committed when the rebuild completes
+		assertThat( committedIds() ).containsExactlyInAnyOrder( "1", "2", "4" );
+
+		delegator.completeOfflineRebuild();
+		assertThat( committedIds() ).containsExactlyInAnyOrder( "3", "4" );
+	}
+
+	@Test
+	public void completeOfflineRebuild_copyFailure() throws IOException {
+		delegator.startOfflineRebuild();
+		delegator.getOfflineRebuildDelegator().addDocuments( document( "3" ) );
+		// Not committed explicitly: this change must survive the failure anyway
+		delegator.addDocuments( document( "4" ) );
+
+		directory.failCopies = true;
+		SubTest.expectException( () -> {
+			delegator.completeOfflineRebuild();
+			return null;
+		} )
+				.assertThrown()
+				.isInstanceOf( IOException.class )
+				.hasMessageContaining( "Simulated failure" );
+		directory.failCopies = false;
+
+		// The current index is left untouched, and can still be written to
+		assertThat( committedIds() ).containsExactlyInAnyOrder( "1", "2", "4" );
+		delegator.addDocuments( document( "5" ) );
+		delegator.commit();
+		assertThat( committedIds() ).containsExactlyInAnyOrder( "1", "2", "4", "5" );
+	}
+
+	private static List<Document> document(String id) {
+		Document document = new Document();
+		document.add( new StringField( ID_FIELD, id, Field.Store.YES ) );
+		return Collections.singletonList( document );
+	}
+
+	private List<String> committedIds() throws IOException {
+		List<String> ids = new ArrayList<>();
+		// Opening a reader from the directory means we will only see committed changes
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			for ( int i = 0; i < reader.maxDoc(); i++ ) {
+				ids.add( reader.document( i ).get( ID_FIELD ) );
+			}
+		}
+		return ids;
+	}
+
+	private static class FailingDirectory extends FilterDirectory {
+		private volatile boolean failCopies = false;
+
+		FailingDirectory(Directory in) {
+			super( in );
+		}
+
+		@Override
+		public void copyFrom(Directory from, String src, String dest, IOContext context) throws IOException {
+			if ( failCopies ) {
+				throw new IOException( "Simulated failure" );
+			}
+			super.copyFrom( from, src, dest, context );
+		}
+	}
+}
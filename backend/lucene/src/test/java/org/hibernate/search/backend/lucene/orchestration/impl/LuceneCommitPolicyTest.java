@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LuceneCommitPolicyTest {
+
+	@Test
+	public void batch() {
+		LuceneCommitPolicy policy = LuceneBatchCommitPolicy.INSTANCE;
+		assertThat( policy.shouldCommit( 1, 0L ) ).isTrue();
+		assertThat( policy.getPeriodicCheckIntervalMs() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void interval() {
+		LuceneCommitPolicy policy = new LuceneIntervalCommitPolicy( 1000 );
+		assertThat( policy.shouldCommit( 1000, TimeUnit.MILLISECONDS.toNanos( 999 ) ) ).isFalse();
+		assertThat( policy.shouldCommit( 1, TimeUnit.MILLISECONDS.toNanos( 1000 ) ) ).isTrue();
+		assertThat( policy.getPeriodicCheckIntervalMs() ).isEqualTo( 1000 );
+	}
+
+	@Test
+	public void threshold() {
+		LuceneCommitPolicy policy = new LuceneThresholdCommitPolicy( 100, new LuceneIntervalCommitPolicy( 1000 ) );
+		assertThat( policy.shouldCommit( 99, TimeUnit.MILLISECONDS.toNanos( 999 ) ) ).isFalse();
+		assertThat( policy.shouldCommit( 100, 0L ) ).isTrue();
+		assertThat( policy.shouldCommit( 1, TimeUnit.MILLISECONDS.toNanos( 1000 ) ) ).isTrue();
+		assertThat( policy.getPeriodicCheckIntervalMs() ).isEqualTo( 1000 );
+	}
+
+	@Test
+	public void threshold_withoutDelegate() {
+		LuceneCommitPolicy policy = new LuceneThresholdCommitPolicy( 100 );
+		assertThat( policy.shouldCommit( 99, TimeUnit.HOURS.toNanos( 1 ) ) ).isFalse();
+		assertThat( policy.shouldCommit( 100, 0L ) ).isTrue();
+		assertThat( policy.getPeriodicCheckIntervalMs() ).isEqualTo( 0 );
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LuceneConcurrentWriteExecutorTest {
+
+	private final ExecutorService sharedExecutor = Executors.newFixedThreadPool( 2 );
+
+	@After
+	public void shutdownExecutor() {
+		sharedExecutor.shutdownNow();
+	}
+
+	@Test
+	public void sameDocument_order() {
+		LuceneConcurrentWriteExecutor executor = new LuceneConcurrentWriteExecutor( "test", 4, sharedExecutor );
+		executor.start();
+		List<Integer> applied = Collections.synchronizedList( new ArrayList<>() );
+		for ( int i = 0; i < 1000; i++ ) {
+			int value = i;
+			executor.submit( "sameDocument", () -> applied.add( value ) );
+		}
+		executor.awaitCompletion();
+		assertThat( applied ).hasSize( 1000 ).isSorted();
+		executor.stop();
+	}
+
+	@Test
+	public void awaitCompletion_fromSharedExecutorThread() throws Exception {
+		LuceneConcurrentWriteExecutor executor = new LuceneConcurrentWriteExecutor( "test", 4, sharedExecutor );
+		executor.start();
+		List<String> applied = Collections.synchronizedList( new ArrayList<>() );
+		// Keep every thread of the shared executor busy waiting for completion:
+		// the waiting threads must apply the works themselves, or this would never complete.
+		List<Future<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			futures.add( sharedExecutor.submit( () -> {
+				synchronized ( executor ) {
+					for ( int j = 0; j < 100; j++ ) {
+						String documentId = String.valueOf( j );
+						executor.submit( documentId, () -> applied.add( documentId ) );
+					}
+					executor.awaitCompletion();
+				}
+			} ) );
+		}
+		for ( Future<?> future : futures ) {
+			future.get( 10, TimeUnit.SECONDS );
+		}
+		assertThat( applied ).hasSize( 200 );
+		executor.stop();
+	}
+
+}
@@ -7,13 +7,16 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyLong;
 import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWorkExecutionContext;
@@ -37,11 +40,13 @@ public class LuceneWriteWorkProcessorTest extends EasyMockSupport {
 
 	private EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
 	private IndexWriterDelegator indexWriterDelegatorMock = createStrictMock( IndexWriterDelegator.class );
+	private IndexReaderProvider indexReaderProviderMock = createStrictMock( IndexReaderProvider.class );
 	private ErrorHandler errorHandlerMock = createStrictMock( ErrorHandler.class );
 	private ContextualErrorHandler contextualErrorHandlerMock = createMock( ContextualErrorHandler.class );
 
 	private LuceneWriteWorkProcessor processor =
-			new LuceneWriteWorkProcessor( indexEventContext, indexWriterDelegatorMock, errorHandlerMock );
+			new LuceneWriteWorkProcessor( indexEventContext, indexWriterDelegatorMock, indexReaderProviderMock,
+					false, LuceneBatchCommitPolicy.INSTANCE, null, errorHandlerMock );
 
 	@Test
 	public void simple() throws IOException {
@@ -84,6 +89,104 @@ public void simple() throws IOException {
 		verifyAll();
 	}
 
+	@Test
+	public void nearRealTime() throws IOException {
+		processor = new LuceneWriteWorkProcessor( indexEventContext, indexWriterDelegatorMock, indexReaderProviderMock,
+				true, LuceneBatchCommitPolicy.INSTANCE, null, errorHandlerMock );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+		// Refreshing must not require a commit
+		testSuccessfulWorkSet( 5, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, false );
+		// ... but an explicit commit request must still be honored
+		testSuccessfulWorkSet( 4, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE, true );
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, false );
+
+		resetAll();
+		// The commit policy still applies at the end of the batch
+		indexWriterDelegatorMock.commit();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+	}
+
+	@Test
+	public void commitPolicy() throws IOException {
+		LuceneCommitPolicy commitPolicyMock = createStrictMock( LuceneCommitPolicy.class );
+		processor = new LuceneWriteWorkProcessor( indexEventContext, indexWriterDelegatorMock, indexReaderProviderMock,
+				false, commitPolicyMock, null, errorHandlerMock );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+		testSuccessfulWorkSet( 5, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		// The policy decides not to commit
+		expect( commitPolicyMock.shouldCommit( eq( 8 ), anyLong() ) ).andReturn( false );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasUncommittedWorks() ).isTrue();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		// The policy decides to commit
+		expect( commitPolicyMock.shouldCommit( eq( 10 ), anyLong() ) ).andReturn( true );
+		indexWriterDelegatorMock.commit();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasUncommittedWorks() ).isFalse();
+
+		resetAll();
+		// Nothing to commit: the policy must not even be consulted
+		replayAll();
+		processor.beginBatch();
+		processor.endBatch();
+		verifyAll();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		// Forced commits and refreshes must be honored regardless of the policy
+		testSuccessfulWorkSet( 4, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE, true );
+		testSuccessfulWorkSet( 1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, true );
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		// The uncommitted work count must have been reset by the last forced commit
+		expect( commitPolicyMock.shouldCommit( eq( 2 ), anyLong() ) ).andReturn( false );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		resetAll();
+		// Forced commit when closing
+		indexWriterDelegatorMock.commit();
+		replayAll();
+		processor.beginBatch();
+		processor.forceCommit();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasUncommittedWorks() ).isFalse();
+	}
+
 	@Test
 	public void error_workExecute_commitNone() throws IOException {
 		resetAll();
@@ -168,7 +271,7 @@ public void error_workExecuteAndForceLockRelease() throws IOException {
 		expectLastCall().andThrow( forceLockReleaseException );
 		contextualErrorHandlerMock.handle();
 		replayAll();
-		processor.afterWorkSet( workSetFuture, workSetResult );
+		processor.afterWorkSet( workSetFuture, CompletableFuture.completedFuture( workSetResult ) );
 		verifyAll();
 
 		FutureAssert.assertThat( workSetFuture ).isFailed( workException );
@@ -231,7 +334,7 @@ public void error_workSetCommit() throws IOException {
 		contextualErrorHandlerMock.handle();
 		// We don't expect any commit when a workset fails
 		replayAll();
-		processor.afterWorkSet( workSetFuture, workSetResult );
+		processor.afterWorkSet( workSetFuture, CompletableFuture.completedFuture( workSetResult ) );
 		verifyAll();
 
 		assertThat( exceptionCapture.getValue() )
@@ -285,7 +388,7 @@ public void error_workSetCommitAndForceLockRelease() throws IOException {
 		contextualErrorHandlerMock.handle();
 		// We don't expect any commit when a workset fails
 		replayAll();
-		processor.afterWorkSet( workSetFuture, workSetResult );
+		processor.afterWorkSet( workSetFuture, CompletableFuture.completedFuture( workSetResult ) );
 		verifyAll();
 
 		assertThat( exceptionCapture.getValue() )
@@ -422,8 +525,11 @@ private void testSuccessfulWorkSet(int workCount,
 		if ( expectCommit ) {
 			indexWriterDelegatorMock.commit();
 		}
+		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
+			indexReaderProviderMock.refresh();
+		}
 		replayAll();
-		processor.afterWorkSet( workSetFuture, workSetResult );
+		processor.afterWorkSet( workSetFuture, CompletableFuture.completedFuture( workSetResult ) );
 		verifyAll();
 		FutureAssert.assertThat( workSetFuture ).isSuccessful( workSetResult );
 	}
@@ -440,7 +546,7 @@ private void testFailingWork(RuntimeException workException) throws IOException
 		expect( errorHandlerMock.createContextualHandler() ).andReturn( contextualErrorHandlerMock );
 		contextualErrorHandlerMock.markAsFailed( failingWorkInfo, workException );
 		replayAll();
-		assertThat( processor.submit( failingWork ) ).isNull();
+		FutureAssert.assertThat( processor.submit( failingWork ) ).isSuccessful( result -> assertThat( result ).isNull() );
 		verifyAll();
 		testContext( contextCapture.getValue() );
 	}
@@ -461,7 +567,7 @@ private void testWorkSetBeginning(int workCount,
 			resetAll();
 			expect( work.execute( capture( contextCapture ) ) ).andReturn( workResult );
 			replayAll();
-			assertThat( processor.submit( work ) ).isEqualTo( workResult );
+			FutureAssert.assertThat( processor.submit( work ) ).isSuccessful( workResult );
 			verifyAll();
 
 			testContext( contextCapture.getValue() );
@@ -477,7 +583,7 @@ private void testSkippedWorks(int workCount) throws IOException {
 			expect( work.getInfo() ).andReturn( workInfo );
 			contextualErrorHandlerMock.markAsSkipped( workInfo );
 			replayAll();
-			assertThat( processor.submit( work ) ).isNull();
+			FutureAssert.assertThat( processor.submit( work ) ).isSuccessful( result -> assertThat( result ).isNull() );
 			verifyAll();
 		}
 	}
@@ -489,7 +595,7 @@ private void testWorkSetEndingAfterWorkFailure(Throwable workException) throws I
 		indexWriterDelegatorMock.forceLockRelease();
 		contextualErrorHandlerMock.handle();
 		replayAll();
-		processor.afterWorkSet( workSetFuture, workSetResult );
+		processor.afterWorkSet( workSetFuture, CompletableFuture.completedFuture( workSetResult ) );
 		verifyAll();
 		FutureAssert.assertThat( workSetFuture ).isFailed( workException );
 	}
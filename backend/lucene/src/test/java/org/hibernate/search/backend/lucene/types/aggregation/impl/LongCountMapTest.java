@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LongCountMapTest {
+
+	@Test
+	public void increment() {
+		LongCountMap map = new LongCountMap();
+		map.increment( 0L );
+		map.increment( -1L );
+		map.increment( Long.MIN_VALUE );
+		map.increment( 0L );
+
+		Map<Long, long[]> result = map.toMap();
+		assertThat( result ).hasSize( 3 );
+		assertThat( result.get( 0L ) ).containsExactly( 2L );
+		assertThat( result.get( -1L ) ).containsExactly( 1L );
+		assertThat( result.get( Long.MIN_VALUE ) ).containsExactly( 1L );
+	}
+
+	@Test
+	public void grow() {
+		LongCountMap map = new LongCountMap();
+		for ( long key = 0; key < 10_000; key++ ) {
+			for ( long i = 0; i <= key % 3; i++ ) {
+				// Spaced keys, as produced by encoded dates, must not all land in the same slot
+				map.increment( key << 32 );
+			}
+		}
+
+		Map<Long, long[]> result = map.toMap();
+		assertThat( result ).hasSize( 10_000 );
+		for ( long key = 0; key < 10_000; key++ ) {
+			assertThat( result.get( key << 32 ) ).containsExactly( key % 3 + 1 );
+		}
+	}
+}
@@ -18,11 +18,16 @@
 import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
-import org.hibernate.search.util.common.impl.Executors;
 
 /**
  * An executor of works that accepts works from multiple threads, puts them in a queue,
- * and processes them in batches in a single background thread.
+ * and processes them in batches in a background thread.
+ * <p>
+ * Batches are processed by a thread from an executor service provided when starting,
+ * which may be shared between multiple batching executors.
+ * Regardless of the number of threads in that executor service,
+ * each batching executor has at most one batch in flight at any given time:
+ * processing of the next batch only starts after the previous batch completed.
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
@@ -39,7 +44,7 @@
 	private final List<W> workBuffer;
 	private final AtomicBoolean processingScheduled;
 
-	private ExecutorService executorService;
+	private volatile ExecutorService executorService;
 
 	private final Phaser phaser = new Phaser() {
 		@Override
@@ -50,7 +55,7 @@ protected boolean onAdvance(int phase, int registeredParties) {
 	};
 
 	/**
-	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param name The name of this executor when reporting errors
 	 * @param processor A task processor. May not be thread-safe.
 	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
 	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
@@ -73,21 +78,25 @@ public BatchingExecutor(String name, P processor, int maxTasksPerBatch, boolean
 	/**
 	 * Start the executor, allowing works to be submitted
 	 * through {@link #submit(WorkSet)}.
+	 *
+	 * @param executorService An executor service to process batches with.
+	 * May be shared with other batching executors; will not be shut down when this executor is stopped.
+	 * Each batching executor submits at most one task to this executor service at any given time.
 	 */
-	public synchronized void start() {
-		executorService = Executors.newFixedThreadPool( 1, name );
+	public synchronized void start(ExecutorService executorService) {
+		this.executorService = executorService;
 	}
 
 	/**
 	 * Stop the executor, no longer allowing works to be submitted
 	 * through {@link #submit(WorkSet)}.
 	 * <p>
-	 * This will attempt to forcibly terminate currently executing works,
-	 * and will remove pending works from the queue.
+	 * This will remove pending works from the queue,
+	 * and release threads waiting in {@link #awaitCompletion()}.
+	 * Works currently being executed will not be interrupted.
 	 */
 	public synchronized void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.push( ExecutorService::shutdownNow, executorService );
 			executorService = null;
 			workQueue.clear();
 			//It's possible that processing was successfully scheduled in the executor service but had no chance to run,
@@ -119,12 +128,9 @@ public void submit(W workset) throws InterruptedException {
 	 * <p>
 	 * Tasks submitted to the executor after entering this method
 	 * may delay the wait.
-	 *
-	 * TODO HSEARCH-3576 we should use child executors, sharing the same execution service but each with its own child phaser,
-	 *  allowing each child executor to only wait until all of its *own* worksets are completed.
-	 *  That would however require to register/deregister the phaser for each single workset,
-	 *  instead of for each scheduling of the processing like we do now.
-	 *  Phaser only support up to 65535 parties, so we would may need to use multiple phasers per child executor...
+	 * <p>
+	 * Only worksets submitted to this executor are taken into account,
+	 * even if the underlying executor service is shared with other batching executors.
 	 *
 	 * @throws InterruptedException If the current thread is interrupted while waiting.
 	 */
@@ -136,6 +142,11 @@ public void awaitCompletion() throws InterruptedException {
 	}
 
 	private void ensureProcessingScheduled() {
+		ExecutorService currentExecutorService = executorService;
+		if ( currentExecutorService == null ) {
+			// Stopped: pending works were discarded anyway.
+			return;
+		}
 		// Set up worker if needed
 		if ( !processingScheduled.get() ) {
 			/*
@@ -153,7 +164,7 @@ private void ensureProcessingScheduled() {
 			try {
 				if ( processingScheduled.compareAndSet( false, true ) ) {
 					try {
-						executorService.submit( this::processBatch );
+						currentExecutorService.submit( this::processBatch );
 					}
 					catch (Throwable e) {
 						/*
@@ -201,86 +212,93 @@ private void ensureProcessingScheduled() {
 	 * Takes a batch of worksets from the queue and processes them.
 	 */
 	private void processBatch() {
+		CompletableFuture<?> future;
 		try {
-			CompletableFuture<?> future;
-			try {
-				synchronized (processor) {
-					processor.beginBatch();
-					workBuffer.clear();
+			synchronized (processor) {
+				processor.beginBatch();
+				workBuffer.clear();
 
-					workQueue.drainTo( workBuffer, maxTasksPerBatch );
+				workQueue.drainTo( workBuffer, maxTasksPerBatch );
 
-					for ( W workset : workBuffer ) {
-						try {
-							workset.submitTo( processor );
-						}
-						catch (Throwable e) {
-							workset.markAsFailed( e );
-							throw e;
-						}
+				for ( W workset : workBuffer ) {
+					try {
+						workset.submitTo( processor );
 					}
-
-					// Nothing more to do, end the batch and terminate
-					future = processor.endBatch();
-				}
-			}
-			finally {
-				try {
-					/*
-					 * Allow processing to be scheduled immediately,
-					 * even if we didn't finish executing yet (see the join below).
-					 * This won't lead to concurrent processing,
-					 * since there's only one thread in the pool,
-					 * but it will make sure the processing delay runs from one
-					 * queue drain to the next, instead of from one batch to
-					 * the next, allowing higher throughput when batches take more
-					 * than 100ms to process.
-					 */
-					processingScheduled.set( false );
-
-					/*
-					 * Just in case works were added to the queue between
-					 * when we drained the queue and the resetting of
-					 * processingScheduled above.
-					 * This must be executed before we arrive at the phaser to ensure that
-					 * threads calling submit(), then awaitCompletion() will not be unblocked
-					 * before we called ensureProcessingScheduled() below.
-					 */
-					if ( !workQueue.isEmpty() ) {
-						ensureProcessingScheduled();
+					catch (Throwable e) {
+						workset.markAsFailed( e );
+						throw e;
 					}
 				}
-				catch (Throwable e) {
-					// This will only happen if there is a bug in this class, but we don't want to fail silently
-					errorHandler.handleException(
-							"Error while ensuring the next work submitted to executor '" + name + "' will be processed",
-							e
-					);
-				}
-			}
 
-			// Note: timeout is handled by the client, so this "join" will not last forever
-			future.join();
+				// Nothing more to do, end the batch and terminate
+				future = processor.endBatch();
+			}
 		}
 		catch (Throwable e) {
-			// This will only happen if there is a bug in the processor
-			errorHandler.handleException(
-					"Error while processing works in executor '" + name + "'",
-					e
-			);
+			future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+		}
+
+		/*
+		 * Do not block the current thread until the batch completes:
+		 * the executor service may be shared with other batching executors.
+		 * Note: timeout is handled by the client, so the future will complete eventually.
+		 */
+		future.whenComplete( (ignored, throwable) -> afterBatch( throwable ) );
+	}
+
+	private void afterBatch(Throwable throwable) {
+		try {
+			if ( throwable != null ) {
+				// This will only happen if there is a bug in the processor
+				errorHandler.handleException(
+						"Error while processing works in executor '" + name + "'",
+						throwable
+				);
+			}
 		}
 		finally {
-			/*
-			 * Regardless of the outcome (exception or not),
-			 * arrive at the phaser after all the works completed.
-			 * Note that all works have a timeout, so this will be executed eventually.
-			 *
-			 * Also note this must be executed *after* the finally block above,
-			 * so we are sure we won't arrive at the phaser before ensuring we're not
-			 * in a situation where no processing is scheduled even though
-			 * the queue is not empty.
-			 */
-			phaser.arriveAndDeregister();
+			try {
+				/*
+				 * Allow processing to be scheduled again, now that the batch completed.
+				 * Resetting this flag only now, and not as soon as we drained the queue,
+				 * ensures at most one batch is in flight for this executor,
+				 * even if the executor service has multiple threads.
+				 */
+				processingScheduled.set( false );
+
+				/*
+				 * Just in case works were added to the queue between
+				 * when we drained the queue and the resetting of
+				 * processingScheduled above.
+				 * This must be executed before we arrive at the phaser to ensure that
+				 * threads calling submit(), then awaitCompletion() will not be unblocked
+				 * before we called ensureProcessingScheduled() below.
+				 */
+				if ( !workQueue.isEmpty() ) {
+					ensureProcessingScheduled();
+				}
+			}
+			catch (Throwable e) {
+				// This will only happen if there is a bug in this class, but we don't want to fail silently
+				errorHandler.handleException(
+						"Error while ensuring the next work submitted to executor '" + name + "' will be processed",
+						e
+				);
+			}
+			finally {
+				/*
+				 * Regardless of the outcome (exception or not),
+				 * arrive at the phaser after all the works completed.
+				 * Note that all works have a timeout, so this will be executed eventually.
+				 *
+				 * Also note this must be executed *after* the block above,
+				 * so we are sure we won't arrive at the phaser before ensuring we're not
+				 * in a situation where no processing is scheduled even though
+				 * the queue is not empty.
+				 */
+				phaser.arriveAndDeregister();
+			}
 		}
 	}
 
@@ -10,6 +10,22 @@
 
 public interface IndexDocumentWorkExecutor<D> {
 
+	/**
+	 * Add a document to the index, assuming that the document is absent from the index.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to add.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A future completing when the document has been added.
+	 */
 	CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
 
+	/**
+	 * Update a document in the index, or add it if it's absent from the index.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A future completing when the document has been updated.
+	 */
+	CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
+
 }
@@ -16,4 +16,41 @@ public interface IndexWorkExecutor {
 
 	CompletableFuture<?> flush();
 
+	/**
+	 * Start rebuilding the index from scratch, offline.
+	 * <p>
+	 * Backends supporting offline rebuilds will write subsequent changes to a separate index,
+	 * so that search queries keep targeting the current index until {@link #completeRebuild()} is called.
+	 * By default, this simply purges the index, like {@link #purge()}.
+	 *
+	 * @return A future completing when the rebuild has started.
+	 */
+	default CompletableFuture<?> startRebuild() {
+		return purge();
+	}
+
+	/**
+	 * Complete an offline rebuild started with {@link #startRebuild()},
+	 * replacing the current index with the rebuilt one.
+	 * <p>
+	 * By default, this simply flushes the index, like {@link #flush()}.
+	 *
+	 * @return A future completing when the rebuilt index is visible to search queries.
+	 */
+	default CompletableFuture<?> completeRebuild() {
+		return flush();
+	}
+
+	/**
+	 * Abort an offline rebuild started with {@link #startRebuild()},
+	 * discarding the rebuilt index and leaving the current index untouched.
+	 * <p>
+	 * By default, this simply flushes the index, like {@link #flush()}.
+	 *
+	 * @return A future completing when the rebuild has been aborted.
+	 */
+	default CompletableFuture<?> abortRebuild() {
+		return flush();
+	}
+
 }
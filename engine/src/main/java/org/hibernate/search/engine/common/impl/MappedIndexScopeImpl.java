@@ -8,6 +8,8 @@
 
 import org.hibernate.search.engine.mapper.scope.spi.MappedIndexScope;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.predicate.impl.DefaultSearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactory;
@@ -56,6 +58,11 @@ public SearchSortFactory sort() {
 		);
 	}
 
+	@Override
+	public SearchAggregationFactory aggregation() {
+		return new DefaultSearchAggregationFactory( delegate.getSearchAggregationBuilderFactory() );
+	}
+
 	@Override
 	public SearchProjectionFactory<R, E> projection() {
 		return new DefaultSearchProjectionFactory<>( delegate.getSearchProjectionFactory() );
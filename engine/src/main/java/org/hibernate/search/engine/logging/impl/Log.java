@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.logging.impl;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
@@ -286,4 +287,16 @@ SearchException unableToParseTemporal(@FormatWith(SimpleNameClassFormatter.class
 
 	@Message(id = ID_OFFSET_2 + 64, value = "Unable to parse the provided geo-point value: '%1$s'. The expected format is latitude, longitude.")
 	SearchException unableToParseGeoPoint(String value);
+
+	@Message(id = ID_OFFSET_2 + 65,
+			value = "Invalid date histogram interval: '%1$s'. The interval must be at least one millisecond.")
+	SearchException invalidDateHistogramInterval(Duration interval);
+
+	@Message(id = ID_OFFSET_2 + 66,
+			value = "Multiple aggregations with the same key: '%1$s'. Aggregation keys must be unique within a query.")
+	SearchException duplicateAggregationKey(String keyName);
+
+	@Message(id = ID_OFFSET_2 + 67,
+			value = "Unknown aggregation key: '%1$s'. Only keys of aggregations added to the query can be retrieved from the result.")
+	SearchException unknownAggregationKey(String keyName);
 }
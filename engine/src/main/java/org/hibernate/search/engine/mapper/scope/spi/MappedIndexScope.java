@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.mapper.scope.spi;
 
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactory;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryHitTypeStep;
@@ -37,6 +38,8 @@
 
 	SearchSortFactory sort();
 
+	SearchAggregationFactory aggregation();
+
 	/*
 	 * IMPLEMENTATION NOTE: we *must* return a factory with the same R/E type arguments as this class,
 	 * otherwise some casts in EntityProjectionOptionsStepImpl and EntityReferenceProjectionOptionsStepImpl
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation;
+
+import java.util.Objects;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A key allowing to retrieve an aggregation from the search result.
+ * <p>
+ * Keys are compared using their name only:
+ * two keys with the same name, but different result types, are considered equal.
+ *
+ * @param <A> The type of the aggregation result.
+ * @see SearchResult#getAggregation(AggregationKey)
+ */
+public final class AggregationKey<A> {
+
+	/**
+	 * @param name The name of the aggregation. Must be unique within a given query.
+	 * @param <A> The type of the aggregation result.
+	 * @return A new aggregation key.
+	 */
+	public static <A> AggregationKey<A> of(String name) {
+		Contracts.assertNotNullNorEmpty( name, "name" );
+		return new AggregationKey<>( name );
+	}
+
+	private final String name;
+
+	private AggregationKey(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( !( obj instanceof AggregationKey ) ) {
+			return false;
+		}
+		AggregationKey<?> other = (AggregationKey<?>) obj;
+		return name.equals( other.name );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( name );
+	}
+
+	/**
+	 * @return The name of this key.
+	 */
+	public String getName() {
+		return name;
+	}
+}
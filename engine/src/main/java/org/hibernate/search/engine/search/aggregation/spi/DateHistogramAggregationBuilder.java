@@ -0,0 +1,19 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param <F> The type of the field values.
+ */
+public interface DateHistogramAggregationBuilder<F> extends SearchAggregationBuilder<Map<F, Long>> {
+
+	void interval(Duration interval);
+
+}
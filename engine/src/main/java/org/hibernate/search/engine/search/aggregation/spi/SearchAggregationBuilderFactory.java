@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * A factory for search aggregation builders.
+ * <p>
+ * This is the main entry point for the engine
+ * to ask the backend to build search aggregations.
+ *
+ * @param <C> The type of query element collector
+ */
+public interface SearchAggregationBuilderFactory<C> {
+
+	/**
+	 * Contribute an aggregation to a collector.
+	 * <p>
+	 * May be called multiple times per collector, if there are multiple aggregations.
+	 *
+	 * @param collector The query element collector.
+	 * @param key The key that will be used to retrieve the aggregation result from the search result.
+	 * @param aggregation The aggregation to contribute.
+	 * @param <A> The type of the aggregation result.
+	 * @throws SearchException If the aggregation was created by a different backend or for different indexes,
+	 * or if another aggregation was already contributed with the same key.
+	 */
+	<A> void contribute(C collector, AggregationKey<A> key, SearchAggregation<A> aggregation);
+
+	<F> TermsAggregationBuilder<F> createTermsAggregationBuilder(String absoluteFieldPath, Class<F> expectedType);
+
+	<F> RangeAggregationBuilder<F> createRangeAggregationBuilder(String absoluteFieldPath, Class<F> expectedType);
+
+	<F> DateHistogramAggregationBuilder<F> createDateHistogramAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType);
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.time.Duration;
+
+/**
+ * The step in a "date histogram" aggregation definition where the interval can be set.
+ *
+ * @param <F> The type of field values.
+ */
+public interface DateHistogramAggregationIntervalStep<F> {
+
+	/**
+	 * Set the length of each bucket in the histogram.
+	 * <p>
+	 * Buckets are aligned on the epoch (1970-01-01T00:00:00Z), in the UTC time zone.
+	 *
+	 * @param interval The length of each bucket. Must be at least one millisecond.
+	 * @return The next step.
+	 */
+	DateHistogramAggregationOptionsStep<F> interval(Duration interval);
+
+}
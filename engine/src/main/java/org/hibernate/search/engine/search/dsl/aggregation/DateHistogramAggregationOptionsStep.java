@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The final step in a "date histogram" aggregation definition.
+ * <p>
+ * The aggregation result is a map from the start of each non-empty bucket
+ * to the number of matching documents in that bucket, in ascending order.
+ *
+ * @param <F> The type of field values.
+ */
+public interface DateHistogramAggregationOptionsStep<F> extends AggregationFinalStep<Map<F, Long>> {
+
+}
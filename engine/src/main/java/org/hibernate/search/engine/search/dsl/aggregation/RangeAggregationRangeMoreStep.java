@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * The step in a "range" aggregation definition where more ranges can be added,
+ * or the aggregation can be retrieved.
+ * <p>
+ * The aggregation result is a map from each range to the number of matching documents within that range,
+ * in the order ranges were added.
+ * Ranges may overlap, in which case a document may be counted in multiple ranges.
+ *
+ * @param <F> The type of field values.
+ */
+public interface RangeAggregationRangeMoreStep<F>
+		extends RangeAggregationRangeStep<F>, AggregationFinalStep<Map<Range<F>, Long>> {
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * The step in a "range" aggregation definition where ranges can be added.
+ *
+ * @param <F> The type of field values.
+ */
+public interface RangeAggregationRangeStep<F> {
+
+	/**
+	 * Add a bucket for the range {@code [lowerBoundIncluded, upperBoundExcluded)}.
+	 *
+	 * @param lowerBoundIncluded The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBoundExcluded The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @return The next step.
+	 */
+	default RangeAggregationRangeMoreStep<F> range(F lowerBoundIncluded, F upperBoundExcluded) {
+		return range( Range.of( lowerBoundIncluded, upperBoundExcluded ) );
+	}
+
+	/**
+	 * Add a bucket for the given range.
+	 *
+	 * @param range The range.
+	 * @return The next step.
+	 */
+	RangeAggregationRangeMoreStep<F> range(Range<? extends F> range);
+
+}
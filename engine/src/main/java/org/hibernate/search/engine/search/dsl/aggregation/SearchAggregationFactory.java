@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * A factory for search aggregations.
+ * <p>
+ * Aggregations are computed from the field values of all documents matching the query,
+ * regardless of pagination settings.
+ * They operate on values as stored in the index, i.e. before any projection converter is applied,
+ * and require the targeted fields to be sortable.
+ */
+public interface SearchAggregationFactory {
+
+	/**
+	 * Count documents for each distinct value of a field ("terms" aggregation, a.k.a. faceting).
+	 *
+	 * @return The next step.
+	 */
+	TermsAggregationFieldStep terms();
+
+	/**
+	 * Count documents whose field value falls within each of the given ranges.
+	 *
+	 * @return The next step.
+	 */
+	RangeAggregationFieldStep range();
+
+	/**
+	 * Count documents whose date/time field value falls within each fixed-length interval on the timeline.
+	 *
+	 * @return The next step.
+	 */
+	DateHistogramAggregationFieldStep dateHistogram();
+
+}
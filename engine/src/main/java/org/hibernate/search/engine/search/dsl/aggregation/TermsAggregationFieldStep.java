@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * The initial step in a "terms" aggregation definition, where the target field can be set.
+ */
+public interface TermsAggregationFieldStep {
+
+	/**
+	 * Target the given field in the terms aggregation.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param type The type of field values.
+	 * @param <F> The type of field values.
+	 * @return The next step.
+	 * @throws SearchException If the field doesn't exist, is not sortable,
+	 * or if its values cannot be assigned to {@code type}.
+	 */
+	<F> TermsAggregationOptionsStep<F> field(String absoluteFieldPath, Class<F> type);
+
+}
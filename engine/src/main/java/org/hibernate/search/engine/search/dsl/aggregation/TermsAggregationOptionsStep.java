@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The final step in a "terms" aggregation definition, where optional parameters can be set.
+ * <p>
+ * The aggregation result is a map from each term to the number of matching documents with that term,
+ * ordered by descending count, then by ascending term.
+ *
+ * @param <F> The type of field values.
+ */
+public interface TermsAggregationOptionsStep<F> extends AggregationFinalStep<Map<F, Long>> {
+
+	/**
+	 * Only include in the result terms that appear in at least the given number of matching documents.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param minDocumentCount The minimum document count for a term to be included in the result.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationOptionsStep<F> minDocumentCount(int minDocumentCount);
+
+	/**
+	 * Only include in the result the given number of terms with the highest document count.
+	 * <p>
+	 * Defaults to {@code 100}.
+	 *
+	 * @param maxTermCount The maximum number of terms in the result.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationOptionsStep<F> maxTermCount(int maxTermCount);
+
+}
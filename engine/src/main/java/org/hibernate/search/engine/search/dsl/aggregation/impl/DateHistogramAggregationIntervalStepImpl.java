@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.DateHistogramAggregationIntervalStep;
+import org.hibernate.search.engine.search.dsl.aggregation.DateHistogramAggregationOptionsStep;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+class DateHistogramAggregationIntervalStepImpl<F>
+		implements DateHistogramAggregationIntervalStep<F>, DateHistogramAggregationOptionsStep<F> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final DateHistogramAggregationBuilder<F> builder;
+
+	DateHistogramAggregationIntervalStepImpl(DateHistogramAggregationBuilder<F> builder) {
+		this.builder = builder;
+	}
+
+	@Override
+	public DateHistogramAggregationOptionsStep<F> interval(Duration interval) {
+		Contracts.assertNotNull( interval, "interval" );
+		if ( interval.toMillis() < 1L ) {
+			throw log.invalidDateHistogramInterval( interval );
+		}
+		builder.interval( interval );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<Map<F, Long>> toAggregation() {
+		return builder.build();
+	}
+}
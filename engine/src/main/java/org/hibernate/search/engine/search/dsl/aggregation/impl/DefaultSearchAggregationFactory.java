@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.DateHistogramAggregationFieldStep;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationFieldStep;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationFieldStep;
+
+public class DefaultSearchAggregationFactory implements SearchAggregationFactory {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	public DefaultSearchAggregationFactory(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TermsAggregationFieldStep terms() {
+		return new TermsAggregationFieldStepImpl( factory );
+	}
+
+	@Override
+	public RangeAggregationFieldStep range() {
+		return new RangeAggregationFieldStepImpl( factory );
+	}
+
+	@Override
+	public DateHistogramAggregationFieldStep dateHistogram() {
+		return new DateHistogramAggregationFieldStepImpl( factory );
+	}
+}
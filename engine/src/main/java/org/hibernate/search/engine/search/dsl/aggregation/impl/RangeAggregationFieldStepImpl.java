@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationFieldStep;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationRangeStep;
+import org.hibernate.search.util.common.impl.Contracts;
+
+class RangeAggregationFieldStepImpl implements RangeAggregationFieldStep {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	RangeAggregationFieldStepImpl(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public <F> RangeAggregationRangeStep<F> field(String absoluteFieldPath, Class<F> type) {
+		Contracts.assertNotNull( absoluteFieldPath, "absoluteFieldPath" );
+		Contracts.assertNotNull( type, "type" );
+		return new RangeAggregationRangeStepImpl<>(
+				factory.createRangeAggregationBuilder( absoluteFieldPath, type )
+		);
+	}
+}
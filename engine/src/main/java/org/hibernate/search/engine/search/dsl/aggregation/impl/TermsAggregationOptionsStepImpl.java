@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationOptionsStep;
+import org.hibernate.search.util.common.impl.Contracts;
+
+class TermsAggregationOptionsStepImpl<F> implements TermsAggregationOptionsStep<F> {
+
+	private final TermsAggregationBuilder<F> builder;
+
+	TermsAggregationOptionsStepImpl(TermsAggregationBuilder<F> builder) {
+		this.builder = builder;
+	}
+
+	@Override
+	public TermsAggregationOptionsStep<F> minDocumentCount(int minDocumentCount) {
+		Contracts.assertStrictlyPositive( minDocumentCount, "minDocumentCount" );
+		builder.minDocumentCount( minDocumentCount );
+		return this;
+	}
+
+	@Override
+	public TermsAggregationOptionsStep<F> maxTermCount(int maxTermCount) {
+		Contracts.assertStrictlyPositive( maxTermCount, "maxTermCount" );
+		builder.maxTermCount( maxTermCount );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<Map<F, Long>> toAggregation() {
+		return builder.build();
+	}
+}
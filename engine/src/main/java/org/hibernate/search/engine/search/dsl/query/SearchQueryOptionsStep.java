@@ -8,12 +8,18 @@
 
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.AggregationFinalStep;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortFactory;
 import org.hibernate.search.engine.search.dsl.sort.SortFinalStep;
 import org.hibernate.search.engine.search.query.SearchFetchable;
+import org.hibernate.search.engine.search.query.SearchResult;
 
 /**
  * The final step in a query definition, where optional parameters such as {@link #sort(Function) sorts} can be set,
@@ -56,6 +62,68 @@
 	 */
 	S routing(Collection<String> routingKeys);
 
+	/**
+	 * Allow the total hit count to be computed approximately past a given number of hits.
+	 * <p>
+	 * Counting all matching documents requires visiting all of them,
+	 * which prevents backends from skipping documents that cannot make it into the top hits.
+	 * When a threshold is set, the total hit count will be exact up to that threshold,
+	 * but past that threshold it may only be a lower bound:
+	 * see {@link SearchResult#isTotalHitCountExact()}.
+	 * <p>
+	 * This only affects the total hit count returned along with hits, not {@link #fetchTotalHitCount()}.
+	 * <p>
+	 * By default, the total hit count is always exact.
+	 *
+	 * @param totalHitCountThreshold The number of hits up to which the total hit count must be exact.
+	 * Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
+	/**
+	 * Fail the query if it takes longer than the given timeout to execute.
+	 * <p>
+	 * When the timeout is exceeded, the backend will stop executing the query as soon as possible
+	 * and fetching methods will throw a {@link org.hibernate.search.util.common.SearchTimeoutException}.
+	 * <p>
+	 * The timeout is enforced on a best-effort basis:
+	 * some phases of the query execution cannot be interrupted,
+	 * so the query may run slightly longer than the given timeout.
+	 * <p>
+	 * This method and {@link #truncateAfter(long, TimeUnit)} override each other:
+	 * only the last call is taken into account.
+	 * By default, queries do not time out.
+	 *
+	 * @param timeout The timeout value. Must be strictly positive.
+	 * @param timeUnit The timeout unit.
+	 * @return {@code this}, for method chaining.
+	 */
+	S timeout(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop collecting hits if the query takes longer than the given timeout to execute,
+	 * and return partial results.
+	 * <p>
+	 * When the timeout is exceeded, the backend will stop collecting hits as soon as possible
+	 * and return the hits collected so far:
+	 * {@link SearchResult#isTimedOut()} will return {@code true},
+	 * and the total hit count will only be a lower bound.
+	 * <p>
+	 * The timeout is enforced on a best-effort basis:
+	 * some phases of the query execution cannot be interrupted,
+	 * so the query may run slightly longer than the given timeout.
+	 * <p>
+	 * This method and {@link #timeout(long, TimeUnit)} override each other:
+	 * only the last call is taken into account.
+	 * By default, queries do not time out.
+	 *
+	 * @param timeout The timeout value. Must be strictly positive.
+	 * @param timeUnit The timeout unit.
+	 * @return {@code this}, for method chaining.
+	 */
+	S truncateAfter(long timeout, TimeUnit timeUnit);
+
 	/**
 	 * Add a sort to this query.
 	 * @param sort A {@link SearchSort} object obtained from the search scope.
@@ -72,4 +140,35 @@
 	 */
 	S sort(Function<? super SF, ? extends SortFinalStep> sortContributor);
 
+	/**
+	 * Add an aggregation to this query.
+	 * <p>
+	 * The aggregation will be computed along with the hits, in the same query execution,
+	 * and can be retrieved from the search result using its key.
+	 *
+	 * @param key The key that will be used to {@link SearchResult#getAggregation(AggregationKey) retrieve the aggregation}
+	 * from the {@link SearchResult}.
+	 * @param aggregation A {@link SearchAggregation} object obtained from the search scope.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> S aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation);
+
+	/**
+	 * Add an aggregation to this query.
+	 * <p>
+	 * The aggregation will be computed along with the hits, in the same query execution,
+	 * and can be retrieved from the search result using its key.
+	 *
+	 * @param key The key that will be used to {@link SearchResult#getAggregation(AggregationKey) retrieve the aggregation}
+	 * from the {@link SearchResult}.
+	 * @param aggregationContributor A function that will use the factory passed in parameter to create an aggregation,
+	 * returning the final step in the aggregation DSL.
+	 * Should generally be a lambda expression.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> S aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactory, ? extends AggregationFinalStep<A>> aggregationContributor);
+
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.dsl.query.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortFactory;
@@ -47,4 +49,19 @@ public R fetch(Integer limit, Integer offset) {
 		return toQuery().fetch( limit, offset );
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync() {
+		return toQuery().fetchAsync();
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit, Integer offset) {
+		return toQuery().fetchAsync( limit, offset );
+	}
+
 }
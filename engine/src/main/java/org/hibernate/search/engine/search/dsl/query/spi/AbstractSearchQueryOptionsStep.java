@@ -6,13 +6,25 @@
  */
 package org.hibernate.search.engine.search.dsl.query.spi;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.AggregationFinalStep;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.predicate.PredicateFinalStep;
 import org.hibernate.search.engine.search.dsl.predicate.impl.DefaultSearchPredicateFactory;
@@ -26,8 +38,12 @@
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.engine.search.sort.spi.SearchSortBuilderFactory;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public abstract class AbstractSearchQueryOptionsStep<
 				S extends SearchQueryOptionsStep<S, H, SF>,
@@ -38,8 +54,11 @@
 		>
 		implements SearchQueryPredicateStep<S, H, PDF>, SearchQueryOptionsStep<S, H, SF> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexScope<C> indexScope;
 	private final SearchQueryBuilder<H, C> searchQueryBuilder;
+	private final Set<AggregationKey<?>> aggregationKeys = new HashSet<>();
 
 	public AbstractSearchQueryOptionsStep(IndexScope<C> indexScope,
 			SearchQueryBuilder<H, C> searchQueryBuilder) {
@@ -75,6 +94,29 @@ public S routing(Collection<String> routingKeys) {
 		return thisAsS();
 	}
 
+	@Override
+	public S totalHitCountThreshold(long totalHitCountThreshold) {
+		Contracts.assertPositiveOrZero( totalHitCountThreshold, "totalHitCountThreshold" );
+		searchQueryBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		return thisAsS();
+	}
+
+	@Override
+	public S timeout(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.timeout( SearchTimeout.failAfter( timeout, timeUnit ) );
+		return thisAsS();
+	}
+
+	@Override
+	public S truncateAfter(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.timeout( SearchTimeout.truncateAfter( timeout, timeUnit ) );
+		return thisAsS();
+	}
+
 	@Override
 	public S sort(SearchSort sort) {
 		SearchSortBuilderFactory<? super C, ?> factory = indexScope.getSearchSortBuilderFactory();
@@ -93,6 +135,23 @@ public S sort(Function<? super SF, ? extends SortFinalStep> sortContributor) {
 		return thisAsS();
 	}
 
+	@Override
+	public <A> S aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation) {
+		SearchAggregationBuilderFactory<? super C> factory = indexScope.getSearchAggregationBuilderFactory();
+		contribute( factory, key, aggregation );
+		return thisAsS();
+	}
+
+	@Override
+	public <A> S aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactory, ? extends AggregationFinalStep<A>> aggregationContributor) {
+		SearchAggregationBuilderFactory<? super C> builderFactory = indexScope.getSearchAggregationBuilderFactory();
+		SearchAggregationFactory factory = new DefaultSearchAggregationFactory( builderFactory );
+		SearchAggregation<A> aggregation = aggregationContributor.apply( factory ).toAggregation();
+		contribute( builderFactory, key, aggregation );
+		return thisAsS();
+	}
+
 	@Override
 	public SearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -138,6 +197,46 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return toQuery().scroll( chunkSize );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync() {
+		return toQuery().fetchAsync();
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit, Integer offset) {
+		return toQuery().fetchAsync( limit, offset );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync() {
+		return toQuery().fetchHitsAsync();
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Integer offset) {
+		return toQuery().fetchHitsAsync( limit, offset );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	private <B> void contribute(SearchPredicateBuilderFactory<? super C, B> factory, SearchPredicate predicate) {
 		factory.contribute( searchQueryBuilder.getQueryElementCollector(), factory.toImplementation( predicate ) );
 	}
@@ -146,6 +245,14 @@ private <B> void contribute(SearchSortBuilderFactory<? super C, B> factory, Sear
 		factory.contribute( searchQueryBuilder.getQueryElementCollector(), factory.toImplementation( sort ) );
 	}
 
+	private <A> void contribute(SearchAggregationBuilderFactory<? super C> factory,
+			AggregationKey<A> key, SearchAggregation<A> aggregation) {
+		if ( !aggregationKeys.add( key ) ) {
+			throw log.duplicateAggregationKey( key.getName() );
+		}
+		factory.contribute( searchQueryBuilder.getQueryElementCollector(), key, aggregation );
+	}
+
 	protected abstract S thisAsS();
 
 	protected abstract PDF extendPredicateFactory(SearchPredicateFactory predicateFactory);
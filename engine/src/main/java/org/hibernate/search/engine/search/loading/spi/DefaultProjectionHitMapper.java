@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.util.common.impl.CollectionHelper;
@@ -17,7 +18,7 @@
 	private final ReferenceHitMapper<R> referenceHitMapper;
 	private final EntityLoader<R, ? extends E> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(ReferenceHitMapper<R> referenceHitMapper,
 			EntityLoader<R, ? extends E> objectLoader) {
@@ -38,7 +39,21 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<E> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		return new DefaultLoadingResult<>( objectLoader.loadBlocking( takeReferencesToLoad() ) );
+	}
+
+	@Override
+	public CompletionStage<LoadingResult<E>> loadAsync() {
+		return objectLoader.loadAsync( takeReferencesToLoad() )
+				.thenApply( DefaultLoadingResult::new );
+	}
+
+	private List<R> takeReferencesToLoad() {
+		List<R> references = referencesToLoad;
+		// Start afresh for the next fetch (or the next chunk, when scrolling): keys are only valid for one load.
+		// Do not clear the list: loaders may return a view of the list they were passed.
+		referencesToLoad = new ArrayList<>();
+		return references;
 	}
 
 	private static class DefaultLoadingResult<E> implements LoadingResult<E> {
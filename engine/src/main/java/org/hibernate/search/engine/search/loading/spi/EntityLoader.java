@@ -7,6 +7,8 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +27,21 @@
 	 */
 	List<E> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references asynchronously.
+	 * <p>
+	 * The default implementation simply calls {@link #loadBlocking(List)},
+	 * blocking the current thread; loaders able to load entities without blocking should override it.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A {@link CompletionStage} that will complete with a list of entities,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	default CompletionStage<List<E>> loadAsync(List<R> references) {
+		return CompletableFuture.completedFuture( loadBlocking( references ) );
+	}
+
 	static <T> EntityLoader<T, T> identity() {
 		return IdentityEntityLoader.get();
 	}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.DocumentReference;
 
 /**
@@ -39,4 +42,15 @@
 	 */
 	LoadingResult<E> loadBlocking();
 
+	/**
+	 * Loads the entities planned for loading in one go, asynchronously.
+	 * <p>
+	 * The default implementation simply calls {@link #loadBlocking()}, blocking the current thread.
+	 *
+	 * @return A {@link CompletionStage} that will complete with the loaded entities.
+	 */
+	default CompletionStage<LoadingResult<E>> loadAsync() {
+		return CompletableFuture.completedFuture( loadBlocking() );
+	}
+
 }
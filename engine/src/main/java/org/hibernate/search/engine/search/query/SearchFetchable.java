@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.util.common.SearchException;
 
@@ -103,4 +104,96 @@
 	 */
 	long fetchTotalHitCount();
 
+	/**
+	 * Execute the query and return a {@link SearchScroll},
+	 * allowing to fetch hits in successive chunks of bounded size.
+	 * <p>
+	 * Contrary to paging with {@link #fetch(Integer, Integer)},
+	 * fetching the next chunk of a scroll does not require to collect all the previous hits again,
+	 * and entities are only loaded for the current chunk,
+	 * making scrolls suitable for going through very large numbers of hits.
+	 *
+	 * @param chunkSize The maximum number of hits to be included in each chunk. Must be strictly positive.
+	 * @return The {@link SearchScroll}. Must be closed once no longer needed.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the {@link SearchResult}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync();
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the {@link SearchResult}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the {@link SearchResult}.
+	 * <p>
+	 * This method does not wait for the query to be executed:
+	 * the Elasticsearch backend sends the request without blocking,
+	 * while the Lucene backend executes the query in a thread pool.
+	 * Entities are then loaded in the thread that completed the query execution,
+	 * which may block that thread, depending on the mapper.
+	 * <p>
+	 * Failures are reported by completing the returned {@link CompletionStage} exceptionally:
+	 * see {@link #fetch(Integer, Integer)} for the possible exceptions.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit, Integer offset);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the hits as a {@link List}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will complete with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync();
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the hits as a {@link List}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will complete with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the hits as a {@link List}.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @return A {@link CompletionStage} that will complete with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit, Integer offset);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will complete with the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
@@ -8,6 +8,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
 /**
  * @param <H> The type of hits.
  */
@@ -18,9 +20,34 @@
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return {@code true} if the {@link #getTotalHitCount() total hit count} is exact,
+	 * {@code false} if it is only a lower bound of the actual count.
+	 * The total hit count is always exact unless
+	 * a {@link org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep#totalHitCountThreshold(long) threshold}
+	 * was set on the query and the number of matching documents exceeded that threshold.
+	 */
+	boolean isTotalHitCountExact();
+
+	/**
+	 * @return {@code true} if the query timed out and the hits, total hit count and aggregations are partial,
+	 * {@code false} otherwise.
+	 * Queries can only return partial results when a timeout was set using
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep#truncateAfter(long, java.util.concurrent.TimeUnit)}.
+	 */
+	boolean isTimedOut();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
 	List<H> getHits();
 
+	/**
+	 * @param key The key of an aggregation added to the query.
+	 * @param <A> The type of the aggregation result.
+	 * @return The result of the aggregation with the given key.
+	 * @throws org.hibernate.search.util.common.SearchException If no aggregation was defined with that key.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
+
 }
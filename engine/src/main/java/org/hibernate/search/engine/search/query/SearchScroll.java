@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * An ongoing scroll through the hits of a search query,
+ * fetching hits in chunks of bounded size.
+ * <p>
+ * Scrolls hold resources (index readers, server-side contexts, ...)
+ * and must be closed as soon as they are no longer needed.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Release the resources held by this scroll.
+	 * <p>
+	 * Calling {@link #next()} after this method was called will result in an exception.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Fetch the next chunk of hits.
+	 *
+	 * @return The next {@link SearchScrollResult}.
+	 * Once all hits have been returned, the result will contain no hits: see {@link SearchScrollResult#hasHits()}.
+	 * @throws SearchException If something goes wrong while executing the query, or if this scroll is closed.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchScrollResult<H> next();
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.List;
+
+/**
+ * A chunk of hits returned by a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains at least one hit,
+	 * {@code false} if the end of the scroll was reached.
+	 * Note this may return {@code true} even if {@link #getHits()} is empty,
+	 * for instance when none of the entities of this chunk could be loaded.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> getHits();
+
+	/**
+	 * @return The total number of matching entities, ignoring chunking.
+	 */
+	long getTotalHitCount();
+
+}
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -21,7 +22,7 @@
  * @param <H> The type of query hits.
  * @param <R> The result type (extending {@link SearchResult}).
  */
-public abstract class AbstractSearchQuery<H, R extends SearchResult<H>> implements SearchQuery<H> {
+public abstract class AbstractSearchQuery<H, R extends SearchResult<H>> implements SearchQueryImplementor<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -58,6 +59,34 @@ public List<H> fetchHits(Integer limit, Integer offset) {
 		return fetch( limit, offset ).getHits();
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync() {
+		return fetchAsync( null, null );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return fetchAsync( limit, null );
+	}
+
+	@Override
+	public abstract CompletionStage<R> fetchAsync(Integer limit, Integer offset);
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync() {
+		return fetchHitsAsync( null, null );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( limit, null );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Integer offset) {
+		return fetchAsync( limit, offset ).thenApply( SearchResult::getHits );
+	}
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
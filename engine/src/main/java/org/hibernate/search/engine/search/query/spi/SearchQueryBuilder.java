@@ -20,6 +20,17 @@
 
 	void addRoutingKey(String routingKey);
 
+	/**
+	 * @param totalHitCountThreshold The number of hits up to which the total hit count must be exact;
+	 * past that number of hits, the backend may stop counting and return a lower bound.
+	 */
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
+	/**
+	 * @param timeout The timeout of the query, and what to do when it is exceeded.
+	 */
+	void timeout(SearchTimeout timeout);
+
 	SearchQuery<H> build();
 
 }
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.query.SearchQuery;
+
+/**
+ * The SPI view of a {@link SearchQuery}, for use by mappers.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchQueryImplementor<H> extends SearchQuery<H> {
+
+	/**
+	 * Change the timeout of this query after it was built.
+	 * <p>
+	 * Useful for mappers that expose APIs where the timeout is set on the query itself,
+	 * such as JPA's {@code javax.persistence.query.timeout} hint.
+	 *
+	 * @param timeout The timeout of the query, and what to do when it is exceeded,
+	 * or {@code null} for no timeout.
+	 */
+	void timeout(SearchTimeout timeout);
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timeout of a search query, and what to do when it is exceeded.
+ */
+public final class SearchTimeout {
+
+	/**
+	 * @param timeout The timeout value.
+	 * @param timeUnit The timeout unit.
+	 * @return A timeout that should make the query fail when exceeded.
+	 */
+	public static SearchTimeout failAfter(long timeout, TimeUnit timeUnit) {
+		return new SearchTimeout( timeout, timeUnit, true );
+	}
+
+	/**
+	 * @param timeout The timeout value.
+	 * @param timeUnit The timeout unit.
+	 * @return A timeout that should make the query stop collecting hits when exceeded,
+	 * and return partial results.
+	 */
+	public static SearchTimeout truncateAfter(long timeout, TimeUnit timeUnit) {
+		return new SearchTimeout( timeout, timeUnit, false );
+	}
+
+	private final long timeout;
+	private final TimeUnit timeUnit;
+	private final boolean exceptionOnTimeout;
+
+	private SearchTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( !( obj instanceof SearchTimeout ) ) {
+			return false;
+		}
+		SearchTimeout other = (SearchTimeout) obj;
+		return timeout == other.timeout
+				&& timeUnit == other.timeUnit
+				&& exceptionOnTimeout == other.exceptionOnTimeout;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( timeout, timeUnit, exceptionOnTimeout );
+	}
+
+	@Override
+	public String toString() {
+		return timeout + " " + timeUnit + ( exceptionOnTimeout ? "" : " (truncate)" );
+	}
+
+	/**
+	 * @return The timeout in milliseconds, rounded up so that very short timeouts do not become zero.
+	 */
+	public long toMillis() {
+		long millis = timeUnit.toMillis( timeout );
+		if ( timeUnit.convert( millis, TimeUnit.MILLISECONDS ) < timeout ) {
+			++millis;
+		}
+		return millis;
+	}
+
+	/**
+	 * @return {@code true} if the query should fail when the timeout is exceeded,
+	 * {@code false} if it should return partial results.
+	 */
+	public boolean isExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
+}
@@ -6,17 +6,41 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class SimpleSearchResult<H> implements SearchResult<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final long hitCount;
+	private final boolean hitCountExact;
+	private final boolean timedOut;
 	private final List<H> hits;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	public SimpleSearchResult(long hitCount, List<H> hits) {
+		this( hitCount, hits, Collections.emptyMap() );
+	}
+
+	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults) {
+		this( hitCount, true, false, hits, aggregationResults );
+	}
+
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, boolean timedOut, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults) {
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
+		this.timedOut = timedOut;
 		this.hits = hits;
+		this.aggregationResults = aggregationResults;
 	}
 
 	@Override
@@ -24,16 +48,39 @@ public long getTotalHitCount() {
 		return hitCount;
 	}
 
+	@Override
+	public boolean isTotalHitCountExact() {
+		return hitCountExact;
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
 	@Override
 	public List<H> getHits() {
 		return hits;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // The type of the aggregation result is guaranteed by the key, which was used to register it
+	public <A> A getAggregation(AggregationKey<A> key) {
+		Object result = aggregationResults.get( key );
+		if ( result == null && !aggregationResults.containsKey( key ) ) {
+			throw log.unknownAggregationKey( key.getName() );
+		}
+		return (A) result;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
+				+ ", hitCountExact=" + hitCountExact
+				+ ", timedOut=" + timedOut
 				+ ", hits=" + hits
+				+ ", aggregationResults=" + aggregationResults
 				+ "]";
 	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+
+public class SimpleSearchScrollResult<H> implements SearchScrollResult<H> {
+	private final boolean hasHits;
+	private final long hitCount;
+	private final List<H> hits;
+
+	/**
+	 * @param hasHits Whether the chunk contained hits before entity loading.
+	 * Hits whose entity could not be loaded are omitted from {@code hits},
+	 * but should not be mistaken for the end of the scroll.
+	 * @param hitCount The total hit count.
+	 * @param hits The loaded hits.
+	 */
+	public SimpleSearchScrollResult(boolean hasHits, long hitCount, List<H> hits) {
+		this.hasHits = hasHits;
+		this.hitCount = hitCount;
+		this.hits = hits;
+	}
+
+	@Override
+	public boolean hasHits() {
+		return hasHits;
+	}
+
+	@Override
+	public List<H> getHits() {
+		return hits;
+	}
+
+	@Override
+	public long getTotalHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "hasHits=" + hasHits
+				+ ", hitCount=" + hitCount
+				+ ", hits=" + hits
+				+ "]";
+	}
+}
@@ -82,6 +82,26 @@ public void projection_sourceFiltering() {
 		query.fetch();
 	}
 
+	@Test
+	public void projection_noSource() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<?> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':false}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetch();
+	}
+
 	@Test
 	public void routing() {
 		StubMappingScope scope = indexManager.createScope();
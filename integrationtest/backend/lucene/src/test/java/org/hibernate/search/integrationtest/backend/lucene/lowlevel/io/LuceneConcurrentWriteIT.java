@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.io;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test applying changes to an index from multiple threads.
+ */
+public class LuceneConcurrentWriteIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int WRITER_THREADS = 4;
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int ROUND_COUNT = 10;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_WRITER_THREADS, WRITER_THREADS
+				)
+				.setup();
+	}
+
+	@Test
+	public void updatesOfSameDocument_preserveOrder() {
+		// Submit multiple rounds of updates without waiting: the last round must win for every document
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int round = 0; round < ROUND_COUNT; round++ ) {
+			futures.add( update( round, DocumentRefreshStrategy.NONE ) );
+		}
+		futures.add( update( ROUND_COUNT, DocumentRefreshStrategy.FORCE ) );
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		assertRoundHitCount( ROUND_COUNT, DOCUMENT_COUNT );
+		assertRoundHitCount( ROUND_COUNT - 1, 0 );
+	}
+
+	@Test
+	public void deleteAfterAdd() {
+		CompletableFuture<?> addFuture = update( 0, DocumentRefreshStrategy.NONE );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan(
+				new StubSessionContext(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE
+		);
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			workPlan.delete( referenceProvider( String.valueOf( i ) ) );
+		}
+		CompletableFuture<?> deleteFuture = workPlan.execute();
+
+		CompletableFuture.allOf( addFuture, deleteFuture ).join();
+
+		assertRoundHitCount( 0, DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void purge() {
+		CompletableFuture<?> addFuture = update( 0, DocumentRefreshStrategy.NONE );
+		// Purging must wait for all previous changes to be applied
+		CompletableFuture<?> purgeFuture = indexManager.createWorkExecutor().purge();
+		CompletableFuture.allOf( addFuture, purgeFuture ).join();
+
+		update( 1, DocumentRefreshStrategy.FORCE ).join();
+
+		assertRoundHitCount( 0, 0 );
+		assertRoundHitCount( 1, DOCUMENT_COUNT );
+	}
+
+	private CompletableFuture<?> update(int round, DocumentRefreshStrategy refreshStrategy) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan(
+				new StubSessionContext(), DocumentCommitStrategy.NONE, refreshStrategy
+		);
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			workPlan.update( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.string, roundValue( round ) );
+			} );
+		}
+		return workPlan.execute();
+	}
+
+	private void assertRoundHitCount(int round, int expectedCount) {
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.predicate( f -> f.match().onField( "string" ).matching( roundValue( round ) ) )
+				.toQuery()
+		)
+				.hasTotalHitCount( expectedCount );
+	}
+
+	private static String roundValue(int round) {
+		return "round " + round;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.IOStrategyName;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+
+public class LuceneIOStrategyIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void commit_refreshCommits() throws IOException {
+		setup( IOStrategyName.COMMIT, 0 );
+
+		index( DocumentRefreshStrategy.FORCE );
+
+		assertSearchable();
+		assertThat( countCommittedDocuments() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void commit_uncommittedChangesNotVisible() throws IOException {
+		// Make sure no commit will happen during the test
+		setup( IOStrategyName.COMMIT, (int) TimeUnit.HOURS.toMillis( 1 ) );
+
+		index( DocumentRefreshStrategy.NONE );
+
+		// Readers are opened from the last commit: uncommitted changes must not be visible
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+		)
+				.hasTotalHitCount( 0 );
+		assertThat( countCommittedDocuments() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void nearRealTime_refreshDoesNotCommit() throws IOException {
+		// Make sure no commit will happen during the test
+		setup( IOStrategyName.NEAR_REAL_TIME, (int) TimeUnit.HOURS.toMillis( 1 ) );
+
+		index( DocumentRefreshStrategy.FORCE );
+
+		// The documents must be visible, even though they were not committed
+		assertSearchable();
+		assertThat( countCommittedDocuments() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void nearRealTime_periodicCommit() throws IOException, InterruptedException {
+		setup( IOStrategyName.NEAR_REAL_TIME, 100 );
+
+		index( DocumentRefreshStrategy.FORCE );
+
+		assertSearchable();
+		awaitCommittedDocuments( 3 );
+	}
+
+	@Test
+	public void commit_periodicCommit() throws IOException, InterruptedException {
+		setup( IOStrategyName.COMMIT, 100 );
+
+		index( DocumentRefreshStrategy.NONE );
+
+		// The documents must eventually be committed, even though no other change is submitted
+		awaitCommittedDocuments( 3 );
+		assertSearchable();
+	}
+
+	@Test
+	public void commit_thresholdWithoutInterval() throws IOException, InterruptedException {
+		setupWithCommitThreshold( IOStrategyName.COMMIT, 3 );
+
+		index( DocumentRefreshStrategy.NONE );
+
+		// The threshold was reached: changes must be committed at the end of the batch
+		awaitCommittedDocuments( 3 );
+		assertSearchable();
+	}
+
+	@Test
+	public void commit_thresholdWithoutInterval_notReached() throws IOException {
+		setupWithCommitThreshold( IOStrategyName.COMMIT, 4 );
+
+		index( DocumentRefreshStrategy.NONE );
+
+		// The threshold was not reached: changes must not have been committed at the end of the batch
+		assertThat( countCommittedDocuments() ).isEqualTo( 0 );
+	}
+
+	private void index(DocumentRefreshStrategy refreshStrategy) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan(
+				new StubSessionContext(), DocumentCommitStrategy.NONE, refreshStrategy
+		);
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.string, "text 1" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.string, "text 2" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			document.addValue( indexMapping.string, "text 3" );
+		} );
+		workPlan.execute().join();
+	}
+
+	private void assertSearchable() {
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+		)
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private void awaitCommittedDocuments(int expectedCount) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( countCommittedDocuments() < expectedCount && System.nanoTime() < deadline ) {
+			Thread.sleep( 50 );
+		}
+		assertThat( countCommittedDocuments() ).isEqualTo( expectedCount );
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		LuceneIndexManagerImpl luceneIndexManager = indexManager.unwrapForTests( LuceneIndexManagerImpl.class );
+		int count = 0;
+		for ( Shard shard : luceneIndexManager.getShardsForTests() ) {
+			Directory directory = shard.getIndexAccessorForTests().getDirectoryForTests();
+			if ( !DirectoryReader.indexExists( directory ) ) {
+				continue;
+			}
+			// Opening a reader from the directory means we will only see committed changes
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				count += reader.numDocs();
+			}
+		}
+		return count;
+	}
+
+	private void setup(IOStrategyName ioStrategy, int commitInterval) {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_STRATEGY, ioStrategy
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval
+				)
+				.setup();
+	}
+
+	private void setupWithCommitThreshold(IOStrategyName ioStrategy, int commitThreshold) {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_STRATEGY, ioStrategy
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_COMMIT_THRESHOLD, commitThreshold
+				)
+				.setup();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
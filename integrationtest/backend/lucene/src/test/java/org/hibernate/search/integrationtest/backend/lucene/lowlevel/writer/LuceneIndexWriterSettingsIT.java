@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.MergePolicyName;
+import org.hibernate.search.backend.lucene.cfg.StoredFieldsCompressionName;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+public class LuceneIndexWriterSettingsIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String SHARD_ID_1 = "first";
+	private static final String SHARD_ID_2 = "second";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void defaults() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		List<LiveIndexWriterConfig> configs = indexAndGetWriterConfigs( "1" );
+		assertThat( configs ).hasSize( 1 );
+		LiveIndexWriterConfig config = configs.get( 0 );
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+		assertThat( config.getMergePolicy() ).isInstanceOf( TieredMergePolicy.class );
+	}
+
+	@Test
+	public void indexAndShardLevel() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "explicit"
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS, SHARD_ID_1 + "," + SHARD_ID_2
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_RAM_BUFFER_SIZE, 32
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_MERGE_POLICY, MergePolicyName.LOG_BYTE_SIZE
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_MERGE_FACTOR, 20
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_MAX_MERGE_THREADS, 2
+				)
+				// Override some settings for the second shard only
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.SHARDS_PREFIX + SHARD_ID_2 + "."
+								+ LuceneIndexSettings.INDEXING_RAM_BUFFER_SIZE,
+						64
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.SHARDS_PREFIX + SHARD_ID_2 + "."
+								+ LuceneIndexSettings.INDEXING_MERGE_POLICY,
+						"tiered"
+				)
+				.setup();
+
+		// Route documents to each shard; the routing keys are the shard IDs
+		List<LiveIndexWriterConfig> configs = indexAndGetWriterConfigs( SHARD_ID_1, SHARD_ID_2 );
+		assertThat( configs ).hasSize( 2 );
+
+		LiveIndexWriterConfig firstShardConfig = configs.get( 0 );
+		assertThat( firstShardConfig.getRAMBufferSizeMB() ).isEqualTo( 32.0 );
+		assertThat( firstShardConfig.getMergePolicy() ).isInstanceOfSatisfying( LogByteSizeMergePolicy.class,
+				mergePolicy -> assertThat( mergePolicy.getMergeFactor() ).isEqualTo( 20 ) );
+		assertThat( firstShardConfig.getMergeScheduler() ).isInstanceOfSatisfying( ConcurrentMergeScheduler.class,
+				mergeScheduler -> {
+					assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 2 );
+					assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 7 );
+				} );
+
+		LiveIndexWriterConfig secondShardConfig = configs.get( 1 );
+		assertThat( secondShardConfig.getRAMBufferSizeMB() ).isEqualTo( 64.0 );
+		assertThat( secondShardConfig.getMergePolicy() ).isInstanceOfSatisfying( TieredMergePolicy.class,
+				mergePolicy -> assertThat( mergePolicy.getSegmentsPerTier() ).isEqualTo( 20.0 ) );
+	}
+
+	@Test
+	public void storedFieldsCompression() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_STORED_FIELDS_COMPRESSION,
+						StoredFieldsCompressionName.BEST_COMPRESSION
+				)
+				.setup();
+
+		List<LiveIndexWriterConfig> configs = indexAndGetWriterConfigs( "1" );
+		assertThat( configs ).hasSize( 1 );
+		Codec codec = configs.get( 0 ).getCodec();
+		// The default codec is used, except for stored fields
+		assertThat( codec.getName() ).isEqualTo( Codec.getDefault().getName() );
+		assertThat( codec.postingsFormat() ).isSameAs( Codec.getDefault().postingsFormat() );
+		assertThat( codec.storedFieldsFormat() ).isNotSameAs( Codec.getDefault().storedFieldsFormat() );
+	}
+
+	@Test
+	public void invalid() {
+		SubTest.expectException( () -> setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_MAX_MERGE_THREADS, 5
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.INDEXING_MAX_MERGE_COUNT, 2
+				)
+				.setup()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( INDEX_NAME )
+						.failure( "Invalid index writer configuration" )
+						.build()
+				);
+	}
+
+	private List<LiveIndexWriterConfig> indexAndGetWriterConfigs(String ... documentIds) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( String documentId : documentIds ) {
+			workPlan.add( referenceProvider( documentId, documentId ), document -> {
+				document.addValue( indexMapping.string, "text " + documentId );
+			} );
+		}
+		workPlan.execute().join();
+
+		LuceneIndexManagerImpl luceneIndexManager = indexManager.unwrapForTests( LuceneIndexManagerImpl.class );
+		return luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::getIndexAccessorForTests )
+				.map( accessor -> accessor.getIndexWriterDelegator().getIndexWriterOrNull() )
+				.map( IndexWriter::getConfig )
+				.collect( Collectors.toList() );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
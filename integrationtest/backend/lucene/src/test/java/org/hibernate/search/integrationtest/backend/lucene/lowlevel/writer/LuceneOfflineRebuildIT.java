@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkExecutor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Test rebuilding an index offline, i.e. in a separate directory, before swapping it in.
+ */
+public class LuceneOfflineRebuildIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		index( "1", "2" );
+		assertIndexContains( "1", "2" );
+	}
+
+	@Test
+	public void complete() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+
+		rebuild( "3", "4" );
+		// Search queries still target the previous index
+		assertIndexContains( "1", "2" );
+
+		workExecutor.completeRebuild().join();
+		assertIndexContains( "3", "4" );
+
+		// Changes are applied to the rebuilt index from now on
+		index( "5" );
+		assertIndexContains( "3", "4", "5" );
+	}
+
+	@Test
+	public void complete_changesDuringRebuild() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+
+		rebuild( "3", "4" );
+		// Changes are applied to the previous index immediately...
+		index( "5" );
+		assertIndexContains( "1", "2", "5" );
+
+		// ... and to the rebuilt index, so that they are not lost when it replaces the previous one
+		workExecutor.completeRebuild().join();
+		assertIndexContains( "3", "4", "5" );
+	}
+
+	@Test
+	public void commitDuringRebuild() throws IOException {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+
+		rebuild( "3" );
+		index( DocumentCommitStrategy.FORCE, "4" );
+		// Commits still apply to the previous index; the rebuilt index is only committed when the rebuild completes
+		assertThat( countCommittedDocuments() ).isEqualTo( 3 );
+
+		workExecutor.completeRebuild().join();
+		assertThat( countCommittedDocuments() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void complete_empty() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+		workExecutor.completeRebuild().join();
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+		)
+				.hasNoHits();
+	}
+
+	@Test
+	public void abort() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+
+		rebuild( "3" );
+		// Changes applied during the rebuild are not lost
+		index( "4" );
+		workExecutor.abortRebuild().join();
+		assertIndexContains( "1", "2", "4" );
+
+		// Changes are applied to the previous index only from now on
+		index( "5" );
+		assertIndexContains( "1", "2", "4", "5" );
+	}
+
+	@Test
+	public void restartAfterComplete() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+		rebuild( "3" );
+		workExecutor.completeRebuild().join();
+
+		// The directory of the rebuild must not contain leftovers from the first rebuild
+		workExecutor.startRebuild().join();
+		rebuild( "4" );
+		workExecutor.completeRebuild().join();
+		assertIndexContains( "4" );
+	}
+
+	@Test
+	public void startTwice() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.startRebuild().join();
+
+		SubTest.expectException( () -> workExecutor.startRebuild().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class )
+				.extracting( Throwable::getCause ).asString()
+				.contains( "An offline rebuild of this index is already in progress" );
+
+		// The rebuild in progress is not affected
+		rebuild( "3" );
+		workExecutor.completeRebuild().join();
+		assertIndexContains( "3" );
+	}
+
+	@Test
+	public void completeWithoutStart() {
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+
+		SubTest.expectException( () -> workExecutor.completeRebuild().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class )
+				.extracting( Throwable::getCause ).asString()
+				.contains( "No offline rebuild of this index is in progress" );
+
+		assertIndexContains( "1", "2" );
+	}
+
+	/**
+	 * Index documents as mass indexing would: during a rebuild, they only go to the rebuilt index.
+	 */
+	private void rebuild(String ... documentIds) {
+		IndexDocumentWorkExecutor<? extends DocumentElement> documentWorkExecutor =
+				indexManager.createDocumentWorkExecutor( DocumentCommitStrategy.NONE );
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[documentIds.length];
+		for ( int i = 0; i < documentIds.length; i++ ) {
+			String documentId = documentIds[i];
+			futures[i] = documentWorkExecutor.add( referenceProvider( documentId ), document -> {
+				document.addValue( indexMapping.string, "text " + documentId );
+			} );
+		}
+		CompletableFuture.allOf( futures ).join();
+	}
+
+	private void index(String ... documentIds) {
+		index( DocumentCommitStrategy.NONE, documentIds );
+	}
+
+	private void index(DocumentCommitStrategy commitStrategy, String ... documentIds) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan(
+				new StubSessionContext(), commitStrategy, DocumentRefreshStrategy.FORCE
+		);
+		for ( String documentId : documentIds ) {
+			workPlan.add( referenceProvider( documentId ), document -> {
+				document.addValue( indexMapping.string, "text " + documentId );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private void assertIndexContains(String firstId, String ... otherIds) {
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+		)
+				.hasDocRefHitsAnyOrder( INDEX_NAME, firstId, otherIds );
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		LuceneIndexManagerImpl luceneIndexManager = indexManager.unwrapForTests( LuceneIndexManagerImpl.class );
+		int count = 0;
+		for ( Shard shard : luceneIndexManager.getShardsForTests() ) {
+			Directory directory = shard.getIndexAccessorForTests().getDirectoryForTests();
+			// Opening a reader from the directory means we will only see committed changes
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				count += reader.numDocs();
+			}
+		}
+		return count;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+
+/**
+ * Test distance projections, whose distances are computed for top hits only, or taken from a distance sort.
+ */
+public class LuceneDistanceProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final GeoPoint CENTER = GeoPoint.of( 45.7705687, 4.835233 );
+	private static final GeoPoint OTHER_CENTER = GeoPoint.of( 45.7541719, 4.8386221 );
+
+	private static final Offset<Double> OFFSET = Offset.offset( 10d );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void distanceSort_sameCenter() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchResult<Double> result = scope.query()
+				.asProjection( f -> f.distance( "geoPoint", CENTER ) )
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byDistance( "geoPoint", CENTER ) )
+				.fetch();
+
+		List<Double> hits = result.getHits();
+		Assertions.assertThat( hits ).hasSize( 4 );
+		Assertions.assertThat( hits.get( 0 ) ).isCloseTo( 0d, OFFSET );
+		Assertions.assertThat( hits.get( 1 ) ).isCloseTo( 389d, OFFSET );
+		Assertions.assertThat( hits.get( 2 ) ).isCloseTo( 1842d, OFFSET );
+		// Documents without a value are sorted last, with an infinite distance
+		Assertions.assertThat( hits.get( 3 ) ).isNull();
+	}
+
+	@Test
+	public void distanceSort_otherCenter() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchResult<Double> result = scope.query()
+				.asProjection( f -> f.distance( "geoPoint", OTHER_CENTER ) )
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byDistance( "geoPoint", CENTER ) )
+				.fetch( 2, 1 );
+
+		List<Double> hits = result.getHits();
+		Assertions.assertThat( hits ).hasSize( 2 );
+		Assertions.assertThat( hits.get( 0 ) ).isCloseTo( 2227d, OFFSET );
+		Assertions.assertThat( hits.get( 1 ) ).isCloseTo( 0d, OFFSET );
+	}
+
+	private void initData() {
+		// Execute multiple work plans to get multiple segments
+		index( "1", GeoPoint.of( 45.7541719, 4.8386221 ) );
+		index( "2", CENTER );
+		index( "3", null );
+		index( "4", GeoPoint.of( 45.7740673, 4.8353124 ) );
+	}
+
+	private void index(String id, GeoPoint value) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.geoPoint, value );
+		} );
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<GeoPoint> geoPoint;
+
+		IndexMapping(IndexSchemaElement root) {
+			geoPoint = root.field( "geoPoint", f -> f.asGeoPoint().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
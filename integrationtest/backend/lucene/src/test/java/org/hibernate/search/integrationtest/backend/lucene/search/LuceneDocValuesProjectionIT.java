@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that projections on sortable fields, whose values are loaded from doc values rather than stored fields,
+ * return the same values as projections on other fields.
+ */
+public class LuceneDocValuesProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void docValuesOnly() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// Hits are not in doc ID order, and come from different segments
+		SearchQuery<List<?>> query = scope.query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.field( "integer", Integer.class ),
+								f.field( "localDate", LocalDate.class )
+						)
+				)
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byField( "integer" ).desc().onMissingValue().sortLast() )
+				.toQuery();
+
+		assertThat( query ).hasListHitsExactOrder( b -> {
+			b.list( "text 3", 3, LocalDate.of( 2019, 3, 3 ) );
+			b.list( "text 2", 2, LocalDate.of( 2019, 2, 2 ) );
+			b.list( "text 1", 1, LocalDate.of( 2019, 1, 1 ) );
+			b.list( null, null, null );
+		} );
+	}
+
+	@Test
+	public void mixed() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "integer", Integer.class ),
+								f.documentReference(),
+								f.field( "notSortable", String.class ),
+								// Doc values only hold milliseconds: the value must be loaded from stored fields
+								f.field( "instant", Instant.class )
+						)
+				)
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byField( "integer" ).desc().onMissingValue().sortLast() )
+				.toQuery();
+
+		assertThat( query ).hasListHitsExactOrder( b -> {
+			b.list( 3, reference( INDEX_NAME, DOCUMENT_3 ), "stored 3", instant( 3 ) );
+			b.list( 2, reference( INDEX_NAME, DOCUMENT_2 ), "stored 2", instant( 2 ) );
+			b.list( 1, reference( INDEX_NAME, DOCUMENT_1 ), "stored 1", instant( 1 ) );
+			b.list( null, reference( INDEX_NAME, EMPTY ), null, null );
+		} );
+	}
+
+	private void initData() {
+		// Execute multiple work plans to get multiple segments
+		index( DOCUMENT_2, 2 );
+		index( DOCUMENT_1, 1 );
+		index( DOCUMENT_3, 3 );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( EMPTY ), document -> { } );
+		workPlan.execute().join();
+	}
+
+	private void index(String id, int i) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.string, "text " + i );
+			document.addValue( indexMapping.integer, i );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, i, i ) );
+			document.addValue( indexMapping.instant, instant( i ) );
+			document.addValue( indexMapping.notSortable, "stored " + i );
+		} );
+		workPlan.execute().join();
+	}
+
+	private static Instant instant(int i) {
+		return Instant.parse( "2019-01-01T00:00:00.000000001Z" ).plusSeconds( i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<String> notSortable;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			instant = root.field( "instant", f -> f.asInstant().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			notSortable = root.field( "notSortable", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test that projections on fields of nested documents return the values of the right nested documents,
+ * when the hits span multiple segments and are not in doc ID order.
+ */
+public class LuceneNestedProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void page() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchResult<List<?>> result = scope.query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "integer", Integer.class ),
+								f.field( "nested.text", String.class ),
+								f.field( "nested.nested.text", String.class )
+						)
+				)
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byField( "integer" ).desc() )
+				.fetch( 4, 2 );
+
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).containsExactly(
+				Arrays.asList( 17, "nested 17", "nested nested 17" ),
+				Arrays.asList( 16, "nested 16", "nested nested 16" ),
+				// Every third document has no nested document
+				Arrays.asList( 15, null, null ),
+				Arrays.asList( 14, "nested 14", "nested nested 14" )
+		);
+	}
+
+	private void initData() {
+		// Execute multiple work plans to get multiple segments
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 5 ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int j = i; j < i + 5; j++ ) {
+				int value = j;
+				workPlan.add( referenceProvider( String.valueOf( value ) ), document -> {
+					document.addValue( indexMapping.integer, value );
+					if ( value % 3 != 0 ) {
+						DocumentElement nested = document.addObject( indexMapping.nested );
+						nested.addValue( indexMapping.nestedText, "nested " + value );
+						DocumentElement nestedNested = nested.addObject( indexMapping.nestedNested );
+						nestedNested.addValue( indexMapping.nestedNestedText, "nested nested " + value );
+					}
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+		final IndexObjectFieldReference nestedNested;
+		final IndexFieldReference<String> nestedNestedText;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectFieldStorage.NESTED );
+			nested = nestedField.toReference();
+			nestedText = nestedField.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedNestedField = nestedField.objectField( "nested", ObjectFieldStorage.NESTED );
+			nestedNested = nestedNestedField.toReference();
+			nestedNestedText = nestedNestedField.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.assertj.core.api.Assertions;
+
+public class LuceneQueryTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 200;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void truncateAfter_exceeded() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// Visiting all documents takes at least 2 seconds
+		SearchResult<DocumentReference> result = scope.query().extension( LuceneExtension.get() )
+				.predicate( f -> f.fromLuceneQuery( new SlowQuery( new MatchAllDocsQuery(), 10 ) ) )
+				.truncateAfter( 200, TimeUnit.MILLISECONDS )
+				.fetch( 10 );
+
+		Assertions.assertThat( result.isTimedOut() ).isTrue();
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+		Assertions.assertThat( result.getTotalHitCount() ).isLessThan( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).hasSize( (int) Math.min( 10, result.getTotalHitCount() ) );
+	}
+
+	@Test
+	public void timeout_exceeded() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.predicate( f -> f.fromLuceneQuery( new SlowQuery( new MatchAllDocsQuery(), 10 ) ) )
+				.timeout( 200, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "exceeded the timeout of 200 MILLISECONDS" );
+
+		SubTest.expectException( () -> query.fetchTotalHitCount() )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class );
+	}
+
+	@Test
+	public void timeout_exceeded_async() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.predicate( f -> f.fromLuceneQuery( new SlowQuery( new MatchAllDocsQuery(), 10 ) ) )
+				.timeout( 200, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		// Failures must be reported through the future, not thrown in the calling thread
+		SubTest.expectException( () -> query.fetchAsync( 10 ).toCompletableFuture().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchTimeoutException.class );
+
+		SubTest.expectException( () -> query.fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchTimeoutException.class );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+
+	/**
+	 * A query that sleeps before moving to each matching document,
+	 * to simulate a query that is expensive to execute.
+	 */
+	private static class SlowQuery extends Query {
+		private final Query delegate;
+		private final long sleepMillisPerDocument;
+
+		SlowQuery(Query delegate, long sleepMillisPerDocument) {
+			this.delegate = delegate;
+			this.sleepMillisPerDocument = sleepMillisPerDocument;
+		}
+
+		@Override
+		public Query rewrite(IndexReader reader) throws IOException {
+			Query rewritten = delegate.rewrite( reader );
+			return rewritten == delegate ? this : new SlowQuery( rewritten, sleepMillisPerDocument );
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			return new FilterWeight( this, delegate.createWeight( searcher, scoreMode, boost ) ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) throws IOException {
+					Scorer scorer = in.scorer( context );
+					return scorer == null ? null : new SlowScorer( this, scorer );
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return "SlowQuery(" + delegate.toString( field ) + ")";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return sameClassAs( obj ) && delegate.equals( ( (SlowQuery) obj ).delegate );
+		}
+
+		@Override
+		public int hashCode() {
+			return classHash() ^ delegate.hashCode();
+		}
+
+		private class SlowScorer extends Scorer {
+			private final Scorer delegateScorer;
+
+			SlowScorer(Weight weight, Scorer delegateScorer) {
+				super( weight );
+				this.delegateScorer = delegateScorer;
+			}
+
+			@Override
+			public int docID() {
+				return delegateScorer.docID();
+			}
+
+			@Override
+			public float score() throws IOException {
+				return delegateScorer.score();
+			}
+
+			@Override
+			public float getMaxScore(int upTo) throws IOException {
+				return delegateScorer.getMaxScore( upTo );
+			}
+
+			@Override
+			public DocIdSetIterator iterator() {
+				DocIdSetIterator delegateIterator = delegateScorer.iterator();
+				return new DocIdSetIterator() {
+					@Override
+					public int docID() {
+						return delegateIterator.docID();
+					}
+
+					@Override
+					public int nextDoc() throws IOException {
+						sleep();
+						return delegateIterator.nextDoc();
+					}
+
+					@Override
+					public int advance(int target) throws IOException {
+						sleep();
+						return delegateIterator.advance( target );
+					}
+
+					@Override
+					public long cost() {
+						return delegateIterator.cost();
+					}
+				};
+			}
+
+			private void sleep() {
+				try {
+					Thread.sleep( sleepMillisPerDocument );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneTotalHitCountThresholdIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 500;
+	private static final int THRESHOLD = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void lowerBound() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 10 );
+
+		Assertions.assertThat( result.getHits() ).hasSize( 10 );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+		Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) THRESHOLD, (long) DOCUMENT_COUNT - 1 );
+	}
+
+	@Test
+	public void exact_otherCollectors() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<Integer, Long>> key = AggregationKey.of( "integers" );
+
+		// Aggregations require visiting all matching documents anyway: hits are counted exactly
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.aggregation( key, f -> f.terms().field( "integer", Integer.class ) )
+				.fetch( 10 );
+
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getAggregation( key ) ).hasSize( 10 );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			workPlan.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue % 10 );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms_string() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<String, Long>> key = AggregationKey.of( "colors" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.terms().field( "string", String.class ) )
+				.fetch();
+
+		assertThat( result ).hasTotalHitCount( 5 );
+		// Ordered by descending count, then by ascending term
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly(
+						Assertions.entry( "red", 2L ),
+						Assertions.entry( "blue", 1L ),
+						Assertions.entry( "green", 1L )
+				);
+	}
+
+	@Test
+	public void terms_integer() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<Integer, Long>> key = AggregationKey.of( "integers" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.terms().field( "integer", Integer.class ) )
+				.fetch();
+
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly(
+						Assertions.entry( 1, 2L ),
+						Assertions.entry( 2, 1L ),
+						Assertions.entry( 3, 1L )
+				);
+	}
+
+	@Test
+	public void terms_options() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<String, Long>> key = AggregationKey.of( "colors" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.terms().field( "string", String.class ).maxTermCount( 2 ) )
+				.fetch();
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly(
+						Assertions.entry( "red", 2L ),
+						Assertions.entry( "blue", 1L )
+				);
+
+		result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.terms().field( "string", String.class ).minDocumentCount( 2 ) )
+				.fetch();
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly( Assertions.entry( "red", 2L ) );
+	}
+
+	@Test
+	public void terms_onlyMatchingDocuments() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<Integer, Long>> key = AggregationKey.of( "integers" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.match().onField( "string" ).matching( "red" ) )
+				.aggregation( key, f -> f.terms().field( "integer", Integer.class ) )
+				.fetch();
+
+		assertThat( result ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_3 );
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly( Assertions.entry( 1, 2L ) );
+	}
+
+	@Test
+	public void range() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<Range<Integer>, Long>> key = AggregationKey.of( "integerRanges" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.range().field( "integer", Integer.class )
+						.range( Range.lessThan( 2 ) )
+						.range( 2, 3 )
+						.range( Range.atLeast( 3 ) )
+						.range( Range.atLeast( 10 ) )
+				)
+				.fetch();
+
+		// Ranges are returned in the order they were defined, even when empty
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly(
+						Assertions.entry( Range.lessThan( 2 ), 2L ),
+						Assertions.entry( Range.of( 2, 3 ), 1L ),
+						Assertions.entry( Range.atLeast( 3 ), 1L ),
+						Assertions.entry( Range.atLeast( 10 ), 0L )
+				);
+	}
+
+	@Test
+	public void dateHistogram() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<LocalDate, Long>> key = AggregationKey.of( "dates" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( key, f -> f.dateHistogram().field( "localDate", LocalDate.class )
+						.interval( Duration.ofDays( 1 ) ) )
+				.fetch();
+
+		Assertions.assertThat( result.getAggregation( key ) )
+				.containsExactly(
+						Assertions.entry( LocalDate.of( 2019, 1, 1 ), 2L ),
+						Assertions.entry( LocalDate.of( 2019, 1, 2 ), 1L ),
+						Assertions.entry( LocalDate.of( 2019, 1, 10 ), 1L )
+				);
+	}
+
+	@Test
+	public void multipleAggregations_preBuilt() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<String, Long>> colorsKey = AggregationKey.of( "colors" );
+		AggregationKey<Map<Integer, Long>> integersKey = AggregationKey.of( "integers" );
+
+		SearchAggregation<Map<String, Long>> colors = scope.aggregation().terms()
+				.field( "string", String.class )
+				.toAggregation();
+
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.aggregation( colorsKey, colors )
+				.aggregation( integersKey, f -> f.terms().field( "integer", Integer.class ) )
+				.toQuery();
+
+		SearchResult<DocumentReference> result = query.fetch();
+		Assertions.assertThat( result.getAggregation( colorsKey ) ).hasSize( 3 );
+		Assertions.assertThat( result.getAggregation( integersKey ) ).hasSize( 3 );
+	}
+
+	@Test
+	public void error_unsortable() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SubTest.expectException( () -> scope.aggregation().terms().field( "unsortable", String.class ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Aggregations are not enabled for field" )
+				.hasMessageContaining( "unsortable" );
+	}
+
+	@Test
+	public void error_invalidType() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SubTest.expectException( () -> scope.aggregation().terms().field( "string", Integer.class ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid type" )
+				.hasMessageContaining( "string" );
+	}
+
+	@Test
+	public void error_unsupportedAggregation() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SubTest.expectException( () -> scope.aggregation().dateHistogram().field( "integer", Integer.class ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Aggregation 'dateHistogram' is not supported by this field's type" )
+				.hasMessageContaining( "integer" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.string, "red" );
+			document.addValue( indexMapping.integer, 1 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, 1, 1 ) );
+			document.addValue( indexMapping.unsortable, "red" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.string, "blue" );
+			document.addValue( indexMapping.integer, 2 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, 1, 2 ) );
+			document.addValue( indexMapping.unsortable, "blue" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			document.addValue( indexMapping.string, "red" );
+			document.addValue( indexMapping.integer, 1 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, 1, 1 ) );
+			document.addValue( indexMapping.unsortable, "red" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_4 ), document -> {
+			document.addValue( indexMapping.string, "green" );
+			document.addValue( indexMapping.integer, 3 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, 1, 10 ) );
+			document.addValue( indexMapping.unsortable, "green" );
+		} );
+		workPlan.add( referenceProvider( EMPTY ), document -> { } );
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, EMPTY );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<String> unsortable;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().sortable( Sortable.YES ) )
+					.toReference();
+			unsortable = root.field( "unsortable", f -> f.asString().sortable( Sortable.NO ) )
+					.toReference();
+		}
+	}
+}
@@ -16,6 +16,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -26,6 +27,7 @@
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
@@ -200,6 +202,43 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 2, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+
+		assertThat( matchAllQuery().fetchAsync().toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		assertThat( matchNoneQuery().fetchAsync().toCompletableFuture().join() )
+				.hasTotalHitCount( 0 )
+				.hasNoHits();
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		List<DocumentReference> hits = matchAllQuery().fetchHitsAsync( 2, 1 ).toCompletableFuture().join();
+		assertThat( hits ).hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+
+		hits = matchAllQuery().fetchHitsAsync( 1 ).toCompletableFuture().join();
+		assertThat( hits ).hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( (long) DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( (long) DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -261,6 +300,97 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void totalHitCountThreshold_notExceeded() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( DOCUMENT_COUNT * 2 )
+				.fetch( 10 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < 10; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void totalHitCountThreshold_exceeded() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.totalHitCountThreshold( 50 )
+				.toQuery();
+
+		SearchResult<DocumentReference> result = query.fetch( 10 );
+		Assertions.assertThat( result.getHits() ).hasSize( 10 );
+		if ( result.isTotalHitCountExact() ) {
+			// Backends are free to count hits exactly anyway
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			Assertions.assertThat( result.getTotalHitCount() ).isBetween( 50L, (long) DOCUMENT_COUNT );
+		}
+
+		// The threshold does not affect explicit hit counts
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_invalid() {
+		SubTest.expectException( () -> matchAllQuery().totalHitCountThreshold( -1 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold'" );
+	}
+
+	@Test
+	public void timeout_notExceeded() {
+		SearchQuery<DocumentReference> query = matchAllQuery()
+				.timeout( 1, TimeUnit.MINUTES )
+				.toQuery();
+
+		SearchResult<DocumentReference> result = query.fetch( 10 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < 10; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void truncateAfter_notExceeded() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.truncateAfter( 1, TimeUnit.MINUTES )
+				.fetch( 10 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < 10; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void timeout_invalid() {
+		SubTest.expectException( () -> matchAllQuery().timeout( 0, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout'" );
+		SubTest.expectException( () -> matchAllQuery().truncateAfter( -1, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout'" );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?> matchAllQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
@@ -31,6 +31,7 @@
 import org.hibernate.search.engine.search.loading.spi.EntityLoader;
 import org.hibernate.search.engine.search.loading.spi.ReferenceHitMapper;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.stub.StubReferenceHitMapper;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.stub.StubEntityLoader;
@@ -245,6 +246,47 @@ public void entities_referencesTransformer_entityLoading() {
 		verifyAll();
 	}
 
+	@Test
+	public void entities_referencesTransformer_entityLoading_async() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		LoadingContext<StubTransformedReference, StubLoadedObject> loadingContextMock =
+				createMock( LoadingContext.class );
+		ReferenceHitMapper<StubTransformedReference> referenceHitMapperMock =
+				createMock( StubReferenceHitMapper.class );
+		EntityLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				createMock( StubEntityLoader.class );
+
+		resetAll();
+		// No calls expected on the mocks
+		replayAll();
+		GenericStubMappingScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createGenericScope();
+		SearchQuery<StubLoadedObject> objectsQuery = scope.query( loadingContextMock )
+				.asEntity()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		verifyAll();
+
+		resetAll();
+		// Asynchronous fetching must load entities through the asynchronous method
+		StubMapperUtils.expectHitMappingAsync(
+				loadingContextMock, referenceHitMapperMock, objectLoaderMock,
+				c -> c
+						.load( mainReference, mainTransformedReference, mainLoadedObject )
+						.load( emptyReference, emptyTransformedReference, emptyLoadedObject )
+		);
+		replayAll();
+		SearchResult<StubLoadedObject> result = objectsQuery.fetchAsync().toCompletableFuture().join();
+		verifyAll();
+		assertThat( result ).hasHitsExactOrder( mainLoadedObject, emptyLoadedObject );
+	}
+
 	@Test
 	public void projection_referencesTransformer_entityLoading() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
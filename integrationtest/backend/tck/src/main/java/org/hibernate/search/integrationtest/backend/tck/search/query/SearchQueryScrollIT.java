@@ -0,0 +1,224 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sorted() {
+		List<DocumentReference> hits = scrollAll( matchAllQuery(), DOCUMENT_COUNT );
+
+		assertThat( hits ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( INDEX_NAME, docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void sortedByScore() {
+		StubMappingScope scope = indexManager.createScope();
+		List<DocumentReference> hits = scrollAll( scope.query().predicate( f -> f.matchAll() ), DOCUMENT_COUNT );
+
+		// All documents have the same score: just check that each document is returned exactly once
+		assertThat( hits ).hasDocRefHitsAnyOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( INDEX_NAME, docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void someHits() {
+		List<DocumentReference> hits = scrollAll( matchFirstHalfQuery(), DOCUMENT_COUNT / 2 );
+
+		assertThat( hits ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+				builder.doc( INDEX_NAME, docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void noHits() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.match().onField( "integer" ).matching( DOCUMENT_COUNT + 2 ) )
+				.toQuery();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.getHits() ).isEmpty();
+			Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( 0L );
+		}
+	}
+
+	@Test
+	public void chunkSizeGreaterThanHitCount() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().toQuery().scroll( DOCUMENT_COUNT * 2 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isTrue();
+			Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			hits.addAll( chunk.getHits() );
+
+			chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.getHits() ).isEmpty();
+		}
+
+		assertThat( hits ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( INDEX_NAME, docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void closed() {
+		SearchScroll<DocumentReference> scroll = matchAllQuery().toQuery().scroll( CHUNK_SIZE );
+		Assertions.assertThat( scroll.next().getHits() ).hasSize( CHUNK_SIZE );
+		scroll.close();
+
+		SubTest.expectException( scroll::next )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "this scroll was closed" );
+
+		// Closing twice should not fail
+		scroll.close();
+	}
+
+	@Test
+	public void invalidChunkSize() {
+		SearchQuery<DocumentReference> query = matchAllQuery().toQuery();
+
+		SubTest.expectException( () -> query.scroll( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'chunkSize' must be strictly positive" );
+	}
+
+	private List<DocumentReference> scrollAll(SearchQueryOptionsStep<?, DocumentReference, ?> query,
+			long expectedTotalHitCount) {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( expectedTotalHitCount );
+				Assertions.assertThat( chunk.getHits() ).hasSize(
+						(int) Math.min( CHUNK_SIZE, expectedTotalHitCount - hits.size() )
+				);
+				hits.addAll( chunk.getHits() );
+			}
+		}
+		return hits;
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?> matchAllQuery() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.byField( "integer" ).asc() );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?> matchFirstHalfQuery() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.predicate( f -> f.range().onField( "integer" ).below( DOCUMENT_COUNT / 2 ).excludeLimit() )
+				.sort( f -> f.byField( "integer" ).asc() );
+	}
+
+	private void initData() {
+		IndexDocumentWorkExecutor<? extends DocumentElement> executor =
+				indexManager.createDocumentWorkExecutor( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			futures.add( executor.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkExecutor().flush().join();
+
+		// Check that all documents are searchable
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
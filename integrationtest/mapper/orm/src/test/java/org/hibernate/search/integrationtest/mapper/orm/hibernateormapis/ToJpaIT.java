@@ -11,6 +11,7 @@
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.Id;
@@ -23,6 +24,7 @@
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
@@ -235,6 +237,26 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void timeoutHint() {
+		OrmUtils.withinEntityManager( sessionFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			TypedQuery<IndexedEntity> query = Search.toJpaQuery( createSimpleQuery( searchSession ) );
+
+			query.setHint( "javax.persistence.query.timeout", 200 );
+
+			assertThat( query.getHints() ).containsEntry( "javax.persistence.query.timeout", 200 );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.INDEX ),
+					b -> b.timeout( SearchTimeout.failAfter( 200, TimeUnit.MILLISECONDS ) ),
+					StubSearchWorkBehavior.empty()
+			);
+			query.getResultList();
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
 	@Test
 	@TestForIssue( jiraKey = "HSEARCH-1857" )
 	public void reuseSearchSessionAfterEntityManagerIsClosed_noMatching() {
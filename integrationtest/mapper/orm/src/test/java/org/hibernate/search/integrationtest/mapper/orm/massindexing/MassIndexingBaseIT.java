@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.integrationtest.mapper.orm.massindexing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -21,6 +25,7 @@
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.util.common.SearchException;
@@ -32,6 +37,7 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Very basic test to probe an use of {@link MassIndexer} api.
@@ -45,6 +51,9 @@ public class MassIndexingBaseIT {
 	public static final String TITLE_3 = "Frankenstein";
 	public static final String AUTHOR_3 = "Mary Shelley";
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Rule
 	public BackendMock backendMock = new BackendMock( "stubBackend" );
 
@@ -111,6 +120,243 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void idProducerThreads() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			// identifiers will be split into ranges loaded by different threads
+			MassIndexer indexer = searchSession.massIndexer()
+					.idProducerThreads( 2 );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			backendMock.expectIndexScopeWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.optimize()
+					.optimize()
+					.flush();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void offlineRebuild() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.offlineRebuild( true );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			// There is no purge, since the rebuilt index is initially empty.
+			backendMock.expectIndexScopeWorks( Book.INDEX, session.getTenantIdentifier() )
+					.startRebuild()
+					.optimize()
+					.flush()
+					.completeRebuild();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void offlineRebuild_failure() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.offlineRebuild( true );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.preparedThenExecuted();
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new RuntimeException( "Simulated failure" ) );
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted( failingFuture );
+
+			// Indexing failed for one entity: the rebuilt index is discarded and the current one is kept.
+			backendMock.expectIndexScopeWorks( Book.INDEX, session.getTenantIdentifier() )
+					.startRebuild()
+					.abortRebuild();
+
+			SubTest.expectException( () -> {
+				indexer.startAndWait();
+				return null;
+			} )
+					.assertThrown()
+					.hasCauseInstanceOf( SearchException.class )
+					.satisfies( e -> assertThat( e.getCause() )
+							.hasMessageContaining( "The offline rebuild was aborted and the current indexes were left unchanged" )
+					);
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void checkpoint_resumeAfterFailure() {
+		Path checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint" );
+		MassIndexingCheckpointStore checkpointStore = MassIndexingCheckpointStore.ofFile( checkpointFile );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			// Load entities one by one, in order, so that the checkpoint is predictable
+			MassIndexer indexer = searchSession.massIndexer()
+					.batchSizeToLoadObjects( 1 )
+					.threadsToLoadObjects( 1 )
+					.checkpointTo( checkpointStore );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.preparedThenExecuted();
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new RuntimeException( "Simulated failure" ) );
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted( failingFuture );
+
+			// Indexing failed for one entity: the checkpoint is saved after a flush instead of being cleared.
+			backendMock.expectIndexScopeWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.optimize()
+					.optimize()
+					.flush()
+					.flush();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointFile ).exists();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.resumeFrom( checkpointStore );
+
+			// Only the entity that failed is indexed again, as an update since it may already be indexed
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.update( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			// No purge when resuming
+			backendMock.expectIndexScopeWorks( Book.INDEX, session.getTenantIdentifier() )
+					.optimize()
+					.flush();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void checkpoint_offlineRebuild() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.offlineRebuild( true )
+					.checkpointTo( MassIndexingCheckpointStore.ofFile(
+							temporaryFolder.getRoot().toPath().resolve( "checkpoint" )
+					) );
+
+			SubTest.expectException( indexer::start )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Cannot save mass indexing checkpoints when rebuilding indexes offline" );
+		} );
+	}
+
 	@Test
 	public void reuseSearchSessionAfterOrmSessionIsClosed_createMassIndexer() {
 		Session session = sessionFactory.openSession();
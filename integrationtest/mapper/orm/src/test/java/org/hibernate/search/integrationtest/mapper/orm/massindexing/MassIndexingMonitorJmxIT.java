@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmAutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMetricsMBean;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the JMX exposure of mass indexing metrics.
+ */
+public class MassIndexingMonitorJmxIT {
+
+	private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis( 30 );
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, HibernateOrmAutomaticIndexingStrategyName.NONE )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.MASS_INDEXING_JMX_ENABLED, true )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "text1" ) );
+			session.persist( new IndexedEntity( 2, "text2" ) );
+		} );
+	}
+
+	@Test
+	public void metricsExposedWhileIndexing() throws Exception {
+		// Keep the backend from acknowledging documents, so that indexing is still in progress when we check MBeans
+		CompletableFuture<?> backendFuture = new CompletableFuture<>();
+
+		backendMock.expectWorksAnyOrder(
+				IndexedEntity.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b.field( "text", "text1" ) )
+				.add( "2", b -> b.field( "text", "text2" ) )
+				.preparedThenExecuted( backendFuture );
+		backendMock.expectIndexScopeWorks( IndexedEntity.INDEX )
+				.purge()
+				.optimize()
+				.optimize()
+				.flush();
+
+		CompletableFuture<?> indexingFuture;
+		try ( Session session = sessionFactory.openSession() ) {
+			indexingFuture = Search.session( session ).massIndexer().start();
+		}
+
+		// One MBean for the whole process, one for the entity type
+		ObjectName globalName = awaitMBean( null );
+		ObjectName entityName = awaitMBean( ObjectName.quote( IndexedEntity.class.getName() ) );
+		awaitAttribute( entityName, "DocumentsBuiltCount", 2L );
+
+		assertThat( mBeanServer.getAttribute( entityName, "EntitiesToIndexCount" ) ).isEqualTo( 2L );
+		assertThat( mBeanServer.getAttribute( entityName, "EntitiesLoadedCount" ) ).isEqualTo( 2L );
+		assertThat( mBeanServer.getAttribute( entityName, "DocumentsAddedCount" ) ).isEqualTo( 0L );
+		assertThat( mBeanServer.getAttribute( globalName, "EntitiesToIndexCount" ) ).isEqualTo( 2L );
+		assertThat( (Long) mBeanServer.getAttribute( globalName, "EstimatedRemainingTimeSeconds" ) ).isEqualTo( -1L );
+
+		backendFuture.complete( null );
+		indexingFuture.get( TIMEOUT_MS, TimeUnit.MILLISECONDS );
+
+		backendMock.verifyExpectationsMet();
+		// MBeans are unregistered when indexing completes
+		assertThat( queryMassIndexingMBeans() ).isEmpty();
+	}
+
+	private Set<ObjectName> queryMassIndexingMBeans() throws JMException {
+		String pattern = MassIndexingMetricsMBean.OBJECT_NAME_DOMAIN
+				+ ":type=" + MassIndexingMetricsMBean.OBJECT_NAME_TYPE + ",*";
+		return mBeanServer.queryNames( new ObjectName( pattern ), null );
+	}
+
+	/**
+	 * @param entity The quoted name of an entity type, or {@code null} for the global MBean.
+	 */
+	private ObjectName awaitMBean(String entity) throws JMException, InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while ( System.currentTimeMillis() < deadline ) {
+			Set<ObjectName> names = queryMassIndexingMBeans();
+			names.removeIf( name -> !Objects.equals( entity, name.getKeyProperty( "entity" ) ) );
+			if ( !names.isEmpty() ) {
+				assertThat( names ).hasSize( 1 );
+				return names.iterator().next();
+			}
+			Thread.sleep( 50 );
+		}
+		return fail( "MBean for entity '" + entity + "' was not registered in time" );
+	}
+
+	private void awaitAttribute(ObjectName name, String attribute, Object expectedValue)
+			throws JMException, InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while ( System.currentTimeMillis() < deadline ) {
+			if ( expectedValue.equals( mBeanServer.getAttribute( name, attribute ) ) ) {
+				return;
+			}
+			Thread.sleep( 50 );
+		}
+		fail( "Attribute '" + attribute + "' of MBean '" + name + "' did not reach the value " + expectedValue + " in time" );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
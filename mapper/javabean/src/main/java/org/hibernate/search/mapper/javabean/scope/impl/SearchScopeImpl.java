@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.javabean.scope.impl;
 
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactory;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryHitTypeStep;
@@ -42,6 +43,11 @@ public SearchSortFactory sort() {
 		return delegate.sort();
 	}
 
+	@Override
+	public SearchAggregationFactory aggregation() {
+		return delegate.aggregation();
+	}
+
 	@Override
 	public SearchProjectionFactory<EntityReference, ?> projection() {
 		return delegate.projection();
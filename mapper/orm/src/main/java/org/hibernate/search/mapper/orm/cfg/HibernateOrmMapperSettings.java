@@ -129,6 +129,24 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * Whether the progress and performance metrics of mass indexing should be exposed as JMX MBeans,
+	 * in addition to being logged.
+	 * <p>
+	 * When enabled, each running mass indexer registers MBeans on the platform MBean server
+	 * under the domain {@code org.hibernate.search.mapper.orm}:
+	 * one for the whole mass indexing process and one per indexed entity type.
+	 * MBeans are unregistered when mass indexing completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MASS_INDEXING_JMX_ENABLED}.
+	 *
+	 * @see org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMetricsMBean
+	 */
+	public static final String MASS_INDEXING_JMX_ENABLED = PREFIX + Radicals.MASS_INDEXING_JMX_ENABLED;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -146,6 +164,7 @@ private Radicals() {
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String MASS_INDEXING_JMX_ENABLED = "mass_indexing.jmx_enabled";
 	}
 
 	/**
@@ -167,6 +186,7 @@ private Defaults() {
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
+		public static final boolean MASS_INDEXING_JMX_ENABLED = false;
 	}
 
 }
@@ -203,4 +203,42 @@ void skippingSecondLevelCacheLookupsForNonCachedEntityTypeEntityLoader(
 
 	@Message(id = ID_OFFSET_2 + 21, value = "Hibernate Search event listener not found.")
 	SearchException hibernateSearchEventListenerNotFound();
+
+	@Message(id = ID_OFFSET_2 + 22, value = "Unable to load the mass indexing checkpoint: %1$s")
+	SearchException unableToLoadMassIndexingCheckpoint(String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 23,
+			value = "Unable to save the mass indexing checkpoint: %1$s."
+					+ " Mass indexing will proceed, but may resume from an earlier checkpoint if it fails.")
+	void unableToSaveMassIndexingCheckpoint(String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 24,
+			value = "Unable to clear the mass indexing checkpoint: %1$s."
+					+ " Resuming from this checkpoint will not reindex entities that were already indexed.")
+	void unableToClearMassIndexingCheckpoint(String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Cannot save mass indexing checkpoints when rebuilding indexes offline:"
+					+ " rebuilt indexes are discarded when mass indexing fails, so there is nothing to resume from.")
+	SearchException massIndexingCheckpointWithOfflineRebuild();
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Unable to register the mass indexing MBean '%1$s': %2$s. Mass indexing will proceed without it.")
+	void unableToRegisterMassIndexingMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 27, value = "Unable to unregister the mass indexing MBean '%1$s': %2$s")
+	void unableToUnregisterMassIndexingMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 28,
+			value = "Invalid or unsupported mass indexing checkpoint: missing or invalid value for key '%1$s'.")
+	SearchException invalidMassIndexingCheckpoint(String key);
+
+	@Message(id = ID_OFFSET_2 + 29,
+			value = "Some entities could not be indexed: %1$s."
+					+ " The offline rebuild was aborted and the current indexes were left unchanged.")
+	SearchException offlineRebuildAbortedOnFailure(String causeMessage, @Cause Throwable cause);
 }
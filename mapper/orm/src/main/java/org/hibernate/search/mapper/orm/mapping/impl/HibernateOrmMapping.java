@@ -56,6 +56,12 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_FETCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MASS_INDEXING_JMX_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MASS_INDEXING_JMX_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MASS_INDEXING_JMX_ENABLED )
+					.build();
+
 	public static MappingImplementor<HibernateOrmMapping> create(
 			PojoMappingDelegate mappingDelegate, HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory, ConfigurationPropertySource propertySource) {
@@ -83,10 +89,13 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 		int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
+		boolean massIndexingJmxEnabled = MASS_INDEXING_JMX_ENABLED.get( propertySource );
+
 		return new HibernateOrmMapping(
 				mappingDelegate, typeContextContainer, sessionFactory,
 				synchronizationStrategy,
-				cacheLookupStrategy, fetchSize
+				cacheLookupStrategy, fetchSize,
+				massIndexingJmxEnabled
 		);
 	}
 
@@ -95,19 +104,22 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final AutomaticIndexingSynchronizationStrategy synchronizationStrategy;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final boolean massIndexingJmxEnabled;
 
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			AutomaticIndexingSynchronizationStrategy synchronizationStrategy,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
-			int fetchSize) {
+			int fetchSize,
+			boolean massIndexingJmxEnabled) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.mappingContext = new HibernateOrmMappingContextImpl( sessionFactory );
 		this.synchronizationStrategy = synchronizationStrategy;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.massIndexingJmxEnabled = massIndexingJmxEnabled;
 	}
 
 	@Override
@@ -121,6 +133,11 @@ public PojoSessionWorkExecutor createSessionWorkExecutor(SessionImplementor sess
 		return HibernateOrmSearchSession.get( this, sessionImplementor ).createSessionWorkExecutor( commitStrategy );
 	}
 
+	@Override
+	public boolean isMassIndexingJmxEnabled() {
+		return massIndexingJmxEnabled;
+	}
+
 	@Override
 	public AutomaticIndexingSynchronizationStrategy getSynchronizationStrategy() {
 		return synchronizationStrategy;
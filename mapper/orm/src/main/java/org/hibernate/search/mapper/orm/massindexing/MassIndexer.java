@@ -37,6 +37,25 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of the root entities, for each entity type.
+	 * <p>
+	 * With more than one thread, the identifiers of each type are split into disjoint ranges
+	 * that are loaded in parallel, each in its own transaction:
+	 * this is useful when loading identifiers is the bottleneck, e.g. for very large tables.
+	 * Integral identifiers are split into ranges of equal width between the minimum and maximum identifier,
+	 * so ranges may contain very different numbers of entities if identifiers are unevenly distributed;
+	 * other comparable identifiers are split into ranges containing approximately the same number of entities.
+	 * Identifiers that are not comparable, e.g. embedded identifiers, are always loaded by a single thread.
+	 * <p>
+	 * Has no effect if {@link #limitIndexedObjectsTo(long) a limit} is set.
+	 * Defaults to 1.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer idProducerThreads(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -44,6 +63,19 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches of root entities, per loading thread,
+	 * that may still be being indexed while the thread loads the next batch.
+	 * <p>
+	 * Higher values allow loading entities from the database while previous batches are being indexed,
+	 * at the cost of holding more documents in memory.
+	 * {@code 0} means each thread waits for a batch to be fully indexed before loading the next one.
+	 * Defaults to 2.
+	 * @param pendingBatches the maximum number of pending batches per thread
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer pendingBatchesPerThread(int pendingBatches);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * Defaults to {@code CacheMode.IGNORE}.
@@ -78,6 +110,59 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * If indexes should be rebuilt offline, i.e. written from scratch separately from the current indexes,
+	 * which are only replaced with the rebuilt ones at the end of the indexing process.
+	 * <p>
+	 * Search queries keep targeting the current indexes, complete, until the end of the indexing process.
+	 * Changes applied to entities while indexing are applied to both the current and the rebuilt indexes,
+	 * so they are visible immediately and are not lost when the rebuilt indexes replace the current ones.
+	 * If any entity cannot be indexed, the rebuilt indexes are discarded
+	 * and the indexing process fails, leaving the current indexes unchanged.
+	 * When enabled, {@link #purgeAllOnStart(boolean)} and {@link #optimizeAfterPurge(boolean)} have no effect,
+	 * since rebuilt indexes are always empty initially.
+	 * <p>
+	 * Only backends supporting offline rebuilds, such as the Lucene backend, will rebuild indexes offline;
+	 * other backends will simply purge indexes when starting.
+	 * Offline rebuilds cannot be used in conjunction with multi-tenancy.
+	 * Defaults to {@code false}.
+	 * @param offlineRebuild {@code true} to rebuild indexes offline
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer offlineRebuild(boolean offlineRebuild);
+
+	/**
+	 * Save checkpoints periodically while indexing, so that indexing can be resumed from the last checkpoint
+	 * using {@link #resumeFrom(MassIndexingCheckpointStore)} if it fails or is interrupted.
+	 * <p>
+	 * A checkpoint records, for each indexed type, the entities that were indexed and committed to the index;
+	 * it is saved about every 30 seconds, as well as when indexing ends,
+	 * and cleared when indexing completes without any failure.
+	 * Entity identifiers are best {@link Comparable} so that checkpoints can record
+	 * the last indexed identifier; otherwise a checkpoint only records which types were completely indexed.
+	 * Checkpoints are saved in a text format, with identifiers converted to strings through their Hibernate ORM type.
+	 * <p>
+	 * Checkpoints cannot be used in conjunction with {@link #offlineRebuild(boolean) offline rebuilds},
+	 * and are disabled when {@link #limitIndexedObjectsTo(long) limiting the number of indexed objects}.
+	 * @param store the store to save checkpoints to, for example {@link MassIndexingCheckpointStore#ofFile(java.nio.file.Path)}
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer checkpointTo(MassIndexingCheckpointStore store);
+
+	/**
+	 * Resume indexing from the last checkpoint saved to the given store, if any,
+	 * and save further checkpoints to the same store, as with {@link #checkpointTo(MassIndexingCheckpointStore)}.
+	 * <p>
+	 * When resuming, types and ranges of identifiers that were completely indexed before the checkpoint are skipped,
+	 * and indexes are not purged regardless of {@link #purgeAllOnStart(boolean)}.
+	 * Entities indexed after the checkpoint was saved may be indexed again:
+	 * they are updated in the index, so that they do not end up duplicated.
+	 * If the store does not contain any checkpoint, indexing starts from the beginning.
+	 * @param store the store to load checkpoints from and save checkpoints to
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer resumeFrom(MassIndexingCheckpointStore store);
+
 	/**
 	 * EXPERIMENTAL method: will probably change
 	 *
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.mapper.orm.massindexing.impl.FileMassIndexingCheckpointStore;
+
+/**
+ * A store for mass indexing checkpoints,
+ * i.e. snapshots of the progress of mass indexing that allow to resume it after a failure.
+ * <p>
+ * Checkpoints are opaque data (UTF-8 encoded text with an explicit format version),
+ * saved periodically while mass indexing and cleared once mass indexing completes successfully.
+ * Calls to the methods of a store are never concurrent.
+ *
+ * @see MassIndexer#checkpointTo(MassIndexingCheckpointStore)
+ * @see MassIndexer#resumeFrom(MassIndexingCheckpointStore)
+ */
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @return The last saved checkpoint, or {@code null} if there isn't any.
+	 * @throws IOException If the checkpoint cannot be loaded.
+	 */
+	byte[] load() throws IOException;
+
+	/**
+	 * Save a checkpoint, replacing the previous one atomically:
+	 * if saving fails, {@link #load()} must still return the previous checkpoint.
+	 *
+	 * @param checkpoint The checkpoint to save.
+	 * @throws IOException If the checkpoint cannot be saved.
+	 */
+	void save(byte[] checkpoint) throws IOException;
+
+	/**
+	 * Remove the last saved checkpoint, if any.
+	 *
+	 * @throws IOException If the checkpoint cannot be removed.
+	 */
+	void clear() throws IOException;
+
+	/**
+	 * @param path The path to a file; parent directories will be created as necessary.
+	 * @return A store saving checkpoints to the given file.
+	 */
+	static MassIndexingCheckpointStore ofFile(Path path) {
+		return new FileMassIndexingCheckpointStore( path );
+	}
+
+}
@@ -17,10 +17,12 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.DetachedSessionContextImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkExecutor;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Executors;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 import javax.persistence.metamodel.IdentifiableType;
@@ -44,26 +46,33 @@ public class BatchCoordinator extends ErrorHandledRunnable {
 	private final PojoScopeWorkExecutor scopeWorkExecutor;
 
 	private final int typesToIndexInParallel;
+	private final int idProducerThreads;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int pendingBatchesPerThread;
 	private final boolean optimizeAtEnd;
 	private final boolean purgeAtStart;
 	private final boolean optimizeAfterPurge;
+	private final boolean offlineRebuild;
+	private final MassIndexingCheckpointTracker checkpointTracker;
+	private final MassIndexingFailureTracker failureTracker = new MassIndexingFailureTracker();
 	private final CountDownLatch endAllSignal;
 	private final MassIndexingMonitor monitor;
 	private final long objectsLimit;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 	private final List<Future<?>> indexingTasks = new ArrayList<>();
+	private boolean rebuildInProgress = false;
 
 	public BatchCoordinator(SessionFactoryImplementor sessionFactory,
 			HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedSessionContextImplementor sessionContext,
 			Set<Class<?>> rootEntities, PojoScopeWorkExecutor scopeWorkExecutor,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
-			int objectLoadingBatchSize, long objectsLimit, boolean optimizeAtEnd,
-			boolean purgeAtStart, boolean optimizeAfterPurge, MassIndexingMonitor monitor,
+			int typesToIndexInParallel, int idProducerThreads, int documentBuilderThreads, CacheMode cacheMode,
+			int objectLoadingBatchSize, int pendingBatchesPerThread, long objectsLimit, boolean optimizeAtEnd,
+			boolean purgeAtStart, boolean optimizeAfterPurge, boolean offlineRebuild,
+			MassIndexingCheckpointStore checkpointStore, boolean resumeFromCheckpoint, MassIndexingMonitor monitor,
 			int idFetchSize, Integer transactionTimeout) {
 		this.sessionFactory = sessionFactory;
 		this.mappingContext = mappingContext;
@@ -74,12 +83,24 @@ public BatchCoordinator(SessionFactoryImplementor sessionFactory,
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.idProducerThreads = idProducerThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
+		this.pendingBatchesPerThread = pendingBatchesPerThread;
 		this.optimizeAtEnd = optimizeAtEnd;
 		this.purgeAtStart = purgeAtStart;
 		this.optimizeAfterPurge = optimizeAfterPurge;
+		this.offlineRebuild = offlineRebuild;
+		if ( checkpointStore == null || objectsLimit != 0 ) {
+			// When limiting the number of indexed objects, indexing is never complete: there is nothing to resume
+			this.checkpointTracker = MassIndexingCheckpointTracker.disabled();
+		}
+		else {
+			this.checkpointTracker = MassIndexingCheckpointTracker.create(
+					checkpointStore, resumeFromCheckpoint, scopeWorkExecutor::flush
+			);
+		}
 		this.monitor = monitor;
 		this.objectsLimit = objectsLimit;
 		this.endAllSignal = new CountDownLatch( rootEntities.size() );
@@ -111,6 +132,13 @@ public void runWithErrorHandler() {
 			// restore interruption signal:
 			Thread.currentThread().interrupt();
 		}
+		catch (RuntimeException e) {
+			if ( rebuildInProgress ) {
+				// Never leave a rebuild in progress: later changes would not be visible
+				new SuppressingCloser( e ).push( BatchCoordinator::abortRebuild, this );
+			}
+			throw e;
+		}
 		finally {
 			monitor.indexingCompleted();
 		}
@@ -138,9 +166,9 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				sessionFactory, mappingContext, sessionContext,
 				indexedType, idAttributeOfIndexedType,
-				documentBuilderThreads, cacheMode,
-				objectLoadingBatchSize, endAllSignal,
-				monitor, objectsLimit, idFetchSize, transactionTimeout
+				idProducerThreads, documentBuilderThreads, cacheMode,
+				objectLoadingBatchSize, pendingBatchesPerThread, endAllSignal,
+				monitor, checkpointTracker, failureTracker, objectsLimit, idFetchSize, transactionTimeout
 		);
 	}
 
@@ -148,10 +176,24 @@ private void doBatchWork() throws InterruptedException {
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() {
+		if ( this.offlineRebuild ) {
+			Throwable failure = failureTracker.getFirstFailure();
+			if ( failure != null ) {
+				// The rebuilt index is missing some entities: keep the current one
+				abortRebuild();
+				throw log.offlineRebuildAbortedOnFailure( failure.getMessage(), failure );
+			}
+		}
 		if ( this.optimizeAtEnd ) {
+			// When rebuilding offline, this optimizes the rebuilt index before it replaces the current one
 			scopeWorkExecutor.optimize().join();
 		}
 		scopeWorkExecutor.flush().join();
+		if ( this.offlineRebuild ) {
+			scopeWorkExecutor.completeRebuild().join();
+			rebuildInProgress = false;
+		}
+		checkpointTracker.finish( rootEntities );
 	}
 
 	/**
@@ -159,13 +201,32 @@ private void afterBatch() {
 	 */
 	private void afterBatchOnInterruption() {
 		scopeWorkExecutor.flush().join();
+		if ( this.offlineRebuild ) {
+			// The rebuilt index is incomplete: keep the current one
+			abortRebuild();
+		}
+		checkpointTracker.finish( rootEntities );
+	}
+
+	private void abortRebuild() {
+		rebuildInProgress = false;
+		scopeWorkExecutor.abortRebuild().join();
 	}
 
 	/**
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() {
-		if ( this.purgeAtStart ) {
+		if ( this.offlineRebuild ) {
+			// The rebuilt index is initially empty: no need to purge
+			scopeWorkExecutor.startRebuild().join();
+			rebuildInProgress = true;
+		}
+		else if ( checkpointTracker.isResumed() ) {
+			// Entities indexed before the checkpoint must be kept
+			log.debugf( "Resuming mass indexing from a checkpoint: not purging indexes" );
+		}
+		else if ( this.purgeAtStart ) {
 			scopeWorkExecutor.purge().join();
 			if ( this.optimizeAfterPurge ) {
 				scopeWorkExecutor.optimize().join();
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
@@ -41,8 +42,7 @@
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final DetachedSessionContextImplementor sessionContext;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
-
+	private final int idProducerThreads;
 	private final int documentBuilderThreads;
 	private final Class<E> indexedType;
 	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
@@ -52,10 +52,13 @@
 	private final CountDownLatch endAllSignal; //released when we release all locks and IndexWriter
 
 	private final MassIndexingMonitor monitor;
+	private final MassIndexingCheckpointTracker checkpointTracker;
+	private final MassIndexingFailureTracker failureTracker;
 
 	// loading options
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int pendingBatchesPerThread;
 
 	private final long objectsLimit;
 
@@ -68,8 +71,10 @@
 			HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedSessionContextImplementor sessionContext,
 			Class<E> type, SingularAttribute<? super E, I> idAttributeOfIndexedType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
-			CountDownLatch endAllSignal, MassIndexingMonitor monitor, long objectsLimit,
+			int idProducerThreads, int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int pendingBatchesPerThread,
+			CountDownLatch endAllSignal, MassIndexingMonitor monitor,
+			MassIndexingCheckpointTracker checkpointTracker, MassIndexingFailureTracker failureTracker, long objectsLimit,
 			int idFetchSize, Integer transactionTimeout) {
 		this.sessionFactory = sessionFactory;
 		this.mappingContext = mappingContext;
@@ -81,20 +86,21 @@
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
+		this.idProducerThreads = idProducerThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
-
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.pendingBatchesPerThread = pendingBatchesPerThread;
 
 		//end signal shared with other instances:
 		this.endAllSignal = endAllSignal;
 		this.producerEndSignal = new CountDownLatch( documentBuilderThreads );
 
 		this.monitor = monitor;
+		this.checkpointTracker = checkpointTracker;
+		this.failureTracker = failureTracker;
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -106,13 +112,25 @@ public void runWithErrorHandler() {
 
 		try {
 			final BatchTransactionalContext transactionalContext = new BatchTransactionalContext( sessionFactory );
+			//split identifiers between producers, if necessary, or resume from the checkpoint:
+			List<IdentifierRangeProgress<I>> identifierRanges = checkpointTracker.start(
+					indexedType, () -> splitIdentifiers( transactionalContext ),
+					IdentifierRangePartitioner.isComparable( idAttributeOfIndexedType.getJavaType() ),
+					IdentifierStringConverter.create( sessionFactory, indexedType )
+			);
+			if ( identifierRanges.isEmpty() ) {
+				log.debugf( "All entities of type %s were indexed before the checkpoint", indexedType.getName() );
+				return;
+			}
+			//pipelining queues:
+			ProducerConsumerQueue<IdentifierBatch<I>> primaryKeyStream = new ProducerConsumerQueue<>( identifierRanges.size() );
 			//first start the consumers, then the producers (reverse order):
 			//from primary keys to LuceneWork ADD operations:
 			//TODO HSEARCH-3110 implement and pass the error handler
-			startTransformationToLuceneWork();
+			startTransformationToLuceneWork( primaryKeyStream );
 			//from class definition to all primary keys:
 			//TODO HSEARCH-3110 implement and pass the error handler
-			startProducingPrimaryKeys( transactionalContext );
+			startProducingPrimaryKeys( transactionalContext, primaryKeyStream, identifierRanges );
 			try {
 				producerEndSignal.await(); //await for all work being sent to the backend
 				log.debugf( "All work for type %s has been produced", indexedType.getName() );
@@ -129,39 +147,65 @@ public void runWithErrorHandler() {
 				throw log.interruptedBatchIndexingException( e );
 			}
 		}
+		catch (RuntimeException e) {
+			failureTracker.failed( e );
+			throw e;
+		}
 		finally {
 			endAllSignal.countDown();
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				new IdentifierProducer<>(
-						primaryKeyStream, sessionFactory, objectLoadingBatchSize,
-						indexedType, idAttributeOfIndexedType, monitor, objectsLimit,
-						idFetchSize, sessionContext.getTenantIdentifier()
-				),
-				transactionTimeout, sessionContext.getTenantIdentifier()
+	private List<IdentifierRange<I>> splitIdentifiers(BatchTransactionalContext transactionalContext) {
+		if ( idProducerThreads <= 1 || objectsLimit != 0 ) {
+			//a single producer: the list of identifiers is consistent as produced by one transaction
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		IdentifierRangePartitioner<E, I> partitioner = new IdentifierRangePartitioner<>(
+				sessionFactory, indexedType, idAttributeOfIndexedType,
+				idProducerThreads, idFetchSize, sessionContext.getTenantIdentifier()
 		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor execIdentifiersLoader = Executors.newFixedThreadPool( 1, "identifierloader" );
+		new OptionallyWrapInJTATransaction(
+				transactionalContext, partitioner, transactionTimeout, sessionContext.getTenantIdentifier()
+		)
+				.run();
+		return partitioner.getRanges();
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			ProducerConsumerQueue<IdentifierBatch<I>> primaryKeyStream, List<IdentifierRangeProgress<I>> identifierRanges) {
+		//one thread per range of identifiers; each range is loaded in its own transaction
+		final ThreadPoolExecutor execIdentifiersLoader =
+				Executors.newFixedThreadPool( identifierRanges.size(), "identifierloader" );
 		try {
-			tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			for ( IdentifierRangeProgress<I> identifierRange : identifierRanges ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						new IdentifierProducer<>(
+								primaryKeyStream, sessionFactory, objectLoadingBatchSize,
+								indexedType, idAttributeOfIndexedType, identifierRange,
+								monitor, failureTracker, objectsLimit,
+								idFetchSize, sessionContext.getTenantIdentifier()
+						),
+						transactionTimeout, sessionContext.getTenantIdentifier()
+				);
+				tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			}
 		}
 		finally {
 			execIdentifiersLoader.shutdown();
 		}
 	}
 
-	private void startTransformationToLuceneWork() {
+	private void startTransformationToLuceneWork(ProducerConsumerQueue<IdentifierBatch<I>> primaryKeyStream) {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
 				primaryKeyStream, monitor,
 				sessionFactory, mappingContext,
 				producerEndSignal, cacheMode,
 				indexedType, idAttributeOfIndexedType,
 				transactionTimeout,
-				sessionContext.getTenantIdentifier()
+				sessionContext.getTenantIdentifier(),
+				pendingBatchesPerThread, checkpointTracker, failureTracker
 		);
 		final ThreadPoolExecutor execFirstLoader = Executors.newFixedThreadPool( documentBuilderThreads, "entityloader" );
 		try {
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+
+/**
+ * A {@link MassIndexingCheckpointStore} saving checkpoints to a file.
+ * <p>
+ * Checkpoints are first written to a temporary file in the same directory,
+ * which then atomically replaces the checkpoint file,
+ * so that a failure while saving never leaves a truncated checkpoint behind.
+ */
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private final Path path;
+
+	public FileMassIndexingCheckpointStore(Path path) {
+		this.path = path.toAbsolutePath();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + path + "]";
+	}
+
+	@Override
+	public byte[] load() throws IOException {
+		try {
+			return Files.readAllBytes( path );
+		}
+		catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public void save(byte[] checkpoint) throws IOException {
+		Path directory = path.getParent();
+		Files.createDirectories( directory );
+		Path tempFile = Files.createTempFile( directory, path.getFileName().toString(), ".tmp" );
+		try {
+			Files.write( tempFile, checkpoint );
+			Files.move( tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		finally {
+			Files.deleteIfExists( tempFile );
+		}
+	}
+
+	@Override
+	public void clear() throws IOException {
+		Files.deleteIfExists( path );
+	}
+}
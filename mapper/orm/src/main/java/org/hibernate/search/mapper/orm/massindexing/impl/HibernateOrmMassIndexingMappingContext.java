@@ -15,4 +15,6 @@ public interface HibernateOrmMassIndexingMappingContext {
 	PojoSessionWorkExecutor createSessionWorkExecutor(SessionImplementor sessionImplementor,
 			DocumentCommitStrategy commitStrategy);
 
+	boolean isMassIndexingJmxEnabled();
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.List;
+
+/**
+ * A batch of identifiers produced by an {@link IdentifierProducer},
+ * to be loaded and indexed by an {@link IdentifierConsumerDocumentProducer}.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierBatch<I> {
+
+	private final IdentifierRangeProgress<I> rangeProgress;
+	private final long sequenceNumber;
+	private final List<I> ids;
+
+	IdentifierBatch(IdentifierRangeProgress<I> rangeProgress, long sequenceNumber, List<I> ids) {
+		this.rangeProgress = rangeProgress;
+		this.sequenceNumber = sequenceNumber;
+		this.ids = ids;
+	}
+
+	@Override
+	public String toString() {
+		return ids.toString();
+	}
+
+	List<I> getIds() {
+		return ids;
+	}
+
+	/**
+	 * To be called once all entities of this batch have been indexed, or indexing failed.
+	 *
+	 * @param success {@code true} if all entities were indexed successfully, {@code false} otherwise.
+	 */
+	void indexed(boolean success) {
+		rangeProgress.batchIndexed( sequenceNumber, ids.get( ids.size() - 1 ), success );
+	}
+}
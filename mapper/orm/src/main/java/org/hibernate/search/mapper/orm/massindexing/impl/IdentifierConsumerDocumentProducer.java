@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -38,6 +40,15 @@
  * to the index writing backend.
  * It will finish when the queue it is consuming from will
  * signal there are no more identifiers.
+ * <p>
+ * Loading and indexing are pipelined: once the documents of a batch have been built
+ * and submitted to the backend, the transaction is released and the next batch is loaded
+ * while the backend is still processing the previous ones,
+ * up to a given number of pending batches per thread.
+ * Backpressure comes from the backend itself: submitting works blocks while its queues are full.
+ * <p>
+ * When resuming from a checkpoint, some entities may already be indexed:
+ * documents are then updated instead of added, so that they do not end up duplicated in the index.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -48,7 +59,7 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final ProducerConsumerQueue<List<I>> source;
+	private final ProducerConsumerQueue<IdentifierBatch<I>> source;
 	private final SessionFactory sessionFactory;
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final CacheMode cacheMode;
@@ -58,6 +69,9 @@
 	private final CountDownLatch producerEndSignal;
 	private final Integer transactionTimeout;
 	private final String tenantId;
+	private final int maxPendingBatches;
+	private final MassIndexingCheckpointTracker checkpointTracker;
+	private final MassIndexingFailureTracker failureTracker;
 
 	/**
 	 * The JTA transaction manager or {@code null} if not in a JTA environment
@@ -65,11 +79,12 @@
 	private final TransactionManager transactionManager;
 
 	IdentifierConsumerDocumentProducer(
-			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities, MassIndexingMonitor monitor,
+			ProducerConsumerQueue<IdentifierBatch<I>> fromIdentifierListToEntities, MassIndexingMonitor monitor,
 			SessionFactory sessionFactory, HibernateOrmMassIndexingMappingContext mappingContext,
 			CountDownLatch producerEndSignal, CacheMode cacheMode,
 			Class<E> indexedType, SingularAttribute<? super E, I> idAttributeOfIndexedType, Integer transactionTimeout,
-			String tenantId) {
+			String tenantId, int maxPendingBatches, MassIndexingCheckpointTracker checkpointTracker,
+			MassIndexingFailureTracker failureTracker) {
 		this.source = fromIdentifierListToEntities;
 		this.sessionFactory = sessionFactory;
 		this.mappingContext = mappingContext;
@@ -80,6 +95,9 @@
 		this.producerEndSignal = producerEndSignal;
 		this.transactionTimeout = transactionTimeout;
 		this.tenantId = tenantId;
+		this.maxPendingBatches = maxPendingBatches;
+		this.checkpointTracker = checkpointTracker;
+		this.failureTracker = failureTracker;
 		this.transactionManager = ( (SessionFactoryImplementor) sessionFactory )
 				.getServiceRegistry()
 				.getService( JtaPlatform.class )
@@ -102,6 +120,7 @@ public void run() {
 			loadAllFromQueue( session );
 		}
 		catch (Exception exception) {
+			failureTracker.failed( exception );
 			String logMessage = log.massIndexerExceptionWhileTransformingIds();
 
 			// TODO HSEARCH-3110 use an errorHandler instance
@@ -121,16 +140,27 @@ private void loadAllFromQueue(SessionImplementor session) throws Exception {
 		PojoSessionWorkExecutor workExecutor = mappingContext.createSessionWorkExecutor(
 				session, DocumentCommitStrategy.NONE
 		);
+		// This runnable is executed by multiple threads: keep track of pending batches locally
+		Deque<CompletableFuture<?>> pendingBatches = new ArrayDeque<>( maxPendingBatches + 1 );
 		try {
-			List<I> idList;
+			IdentifierBatch<I> batch;
 			do {
-				idList = source.take();
-				if ( idList != null ) {
-					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, workExecutor );
+				batch = source.take();
+				if ( batch != null ) {
+					log.tracef( "received list of ids %s", batch );
+					monitor.identifierQueueSampled( type, source.size(), source.capacity() );
+					pendingBatches.add( loadList( batch, session, workExecutor ) );
+					while ( pendingBatches.size() > maxPendingBatches ) {
+						// Wait for the oldest batch before loading more entities
+						pendingBatches.poll().get();
+					}
+					checkpointTracker.saveIfNecessary();
 				}
 			}
-			while ( idList != null );
+			while ( batch != null );
+			while ( !pendingBatches.isEmpty() ) {
+				pendingBatches.poll().get();
+			}
 		}
 		catch (InterruptedException e) {
 			// just quit
@@ -143,11 +173,13 @@ private void loadAllFromQueue(SessionImplementor session) throws Exception {
 	 * entities are then transformed into Lucene Documents
 	 * and forwarded to the indexing backend.
 	 *
-	 * @param listIds the list of entity identifiers (of type
+	 * @param batch the batch of entity identifiers
 	 * @param session the session to be used
 	 * @param workExecutor the work executor to be used
+	 * @return A future that will be completed when all entities have been indexed
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoSessionWorkExecutor workExecutor) throws Exception {
+	private CompletableFuture<?> loadList(IdentifierBatch<I> batch, SessionImplementor session, PojoSessionWorkExecutor workExecutor) throws Exception {
+		List<I> listIds = batch.getIds();
 		try {
 			beginTransaction( session );
 
@@ -164,8 +196,14 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoSessionWo
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( workExecutor, query.getResultList() );
+			long loadingStartNanos = System.nanoTime();
+			List<E> entities = query.getResultList();
+			long loadingNanos = System.nanoTime() - loadingStartNanos;
+
+			// Documents are built synchronously: once this returns, we no longer need the entities
+			CompletableFuture<?> future = indexAllQueue( workExecutor, batch, entities, loadingNanos );
 			session.clear();
+			return future;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -200,14 +238,19 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(PojoSessionWorkExecutor workExecutor, List<E> entities) throws InterruptedException {
+	private CompletableFuture<?> indexAllQueue(PojoSessionWorkExecutor workExecutor, IdentifierBatch<I> batch,
+			List<E> entities, long loadingNanos) throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			// Entities were deleted concurrently: nothing to index
+			batch.indexed( true );
+			return CompletableFuture.completedFuture( null );
 		}
 
 		monitor.entitiesLoaded( entities.size() );
+		monitor.entitiesLoaded( type, entities.size(), loadingNanos );
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[entities.size()];
 
+		long buildingStartNanos = System.nanoTime();
 		for ( int i = 0; i < entities.size(); i++ ) {
 			final E entity = entities.get( i );
 			futures[i] = index( workExecutor, entity );
@@ -216,10 +259,15 @@ private void indexAllQueue(PojoSessionWorkExecutor workExecutor, List<E> entitie
 				return null;
 			} );
 		}
+		long submittedNanos = System.nanoTime();
+		monitor.documentsBuilt( type, entities.size(), submittedNanos - buildingStartNanos );
 		// handle exceptions on a per-work basis
-		CompletableFuture.allOf( futures ).exceptionally( exception -> null ).join();
-
-		monitor.documentsAdded( entities.size() );
+		return CompletableFuture.allOf( futures ).handle( (result, exception) -> {
+			monitor.documentsAdded( entities.size() );
+			monitor.documentsAdded( type, entities.size(), System.nanoTime() - submittedNanos );
+			batch.indexed( exception == null );
+			return null;
+		} );
 	}
 
 	private CompletableFuture<?> index(PojoSessionWorkExecutor workExecutor, E entity) throws InterruptedException {
@@ -229,7 +277,7 @@ private CompletableFuture<?> index(PojoSessionWorkExecutor workExecutor, E entit
 			throw new InterruptedException();
 		}
 
-		CompletableFuture<?> future = Futures.create( () -> workExecutor.add( entity )
+		CompletableFuture<?> future = Futures.create( () -> submit( workExecutor, entity )
 				.exceptionally( exception -> {
 					handleException( entity, exception );
 					return null;
@@ -239,7 +287,17 @@ private CompletableFuture<?> index(PojoSessionWorkExecutor workExecutor, E entit
 		return future;
 	}
 
+	private CompletableFuture<?> submit(PojoSessionWorkExecutor workExecutor, E entity) {
+		if ( checkpointTracker.isResumed() ) {
+			return workExecutor.update( entity );
+		}
+		else {
+			return workExecutor.add( entity );
+		}
+	}
+
 	private void handleException(Object entity, Throwable e) {
+		failureTracker.failed( e );
 		String errorMsg = log.massIndexerUnableToIndexInstance( entity.getClass().getName(), entity.toString() );
 
 		// TODO HSEARCH-3110 implements exception handler
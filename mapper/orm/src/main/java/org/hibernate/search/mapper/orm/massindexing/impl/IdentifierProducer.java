@@ -13,6 +13,7 @@
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -30,12 +31,17 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
+ * This step in the indexing process is not parallel by default (should be
  * done by one thread per type) so that a single transaction is used
  * to define the group of entities to be indexed.
- * Produced identifiers are put in the destination queue grouped in List
- * instances: the reason for this is to load them in batches
+ * When requested, identifiers can be split into disjoint {@link IdentifierRange ranges}
+ * (see {@link IdentifierRangePartitioner}), each loaded by a different producer
+ * in a different transaction.
+ * Produced identifiers are put in the destination queue grouped in
+ * {@link IdentifierBatch batches}: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
+ * When mass indexing checkpoints are enabled, identifiers are produced in ascending order when possible,
+ * so that the checkpoint can record the last indexed identifier.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -46,12 +52,15 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final ProducerConsumerQueue<List<I>> destination;
+	private final ProducerConsumerQueue<IdentifierBatch<I>> destination;
 	private final SessionFactory sessionFactory;
 	private final int batchSize;
 	private final Class<E> indexedType;
 	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
+	private final IdentifierRangeProgress<I> rangeProgress;
+	private final IdentifierRange<I> range;
 	private final MassIndexingMonitor monitor;
+	private final MassIndexingFailureTracker failureTracker;
 	private final long objectsLimit;
 	private final int idFetchSize;
 	private final String tenantId;
@@ -62,23 +71,29 @@
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param indexedType the entity type whose identifiers are to be loaded
 	 * @param idAttributeOfIndexedType the id attribute to be loaded
+	 * @param rangeProgress the progress of the range of identifiers to be loaded
 	 * @param monitor the indexing monitor
+	 * @param failureTracker the tracker to notify of failures
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
 	 * @param tenantId the tenant identifier
 	 */
 	public IdentifierProducer(
-			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities, SessionFactory sessionFactory,
+			ProducerConsumerQueue<IdentifierBatch<I>> fromIdentifierListToEntities, SessionFactory sessionFactory,
 			int objectLoadingBatchSize,
 			Class<E> indexedType, SingularAttribute<? super E, I> idAttributeOfIndexedType,
-			MassIndexingMonitor monitor,
+			IdentifierRangeProgress<I> rangeProgress,
+			MassIndexingMonitor monitor, MassIndexingFailureTracker failureTracker,
 			long objectsLimit, int idFetchSize, String tenantId) {
 		this.destination = fromIdentifierListToEntities;
 		this.sessionFactory = sessionFactory;
 		this.batchSize = objectLoadingBatchSize;
 		this.indexedType = indexedType;
 		this.idAttributeOfIndexedType = idAttributeOfIndexedType;
+		this.rangeProgress = rangeProgress;
+		this.range = rangeProgress.getRange();
 		this.monitor = monitor;
+		this.failureTracker = failureTracker;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
 		this.tenantId = tenantId;
@@ -92,6 +107,7 @@ public void run(StatelessSession upperSession) {
 			inTransactionWrapper( upperSession );
 		}
 		catch (Exception exception) {
+			failureTracker.failed( exception );
 			String errorMessage = log.massIndexerExceptionWhileFetchingIds();
 
 			// TODO HSEARCH-3110 handle with an errorHandler
@@ -122,6 +138,7 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 			}
 			try {
 				loadAllIdentifiers( session );
+				rangeProgress.producerCompleted();
 			}
 			finally {
 				if ( controlTransactions ) {
@@ -149,12 +166,14 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, range );
 		}
 		monitor.addToTotalCount( totalCount );
+		monitor.addToTotalCount( indexedType, totalCount );
 
 		ArrayList<I> destinationList = new ArrayList<>( batchSize );
 		long counter = 0;
+		long batchStartNanos = System.nanoTime();
 		try ( ScrollableResults results = createIdentifiersQuery( session ).scroll( ScrollMode.FORWARD_ONLY ) ) {
 			while ( results.next() ) {
 				@SuppressWarnings("unchecked")
@@ -168,8 +187,10 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 						throw log.transactionNotActiveWhileProducingIdsForBatchIndexing( indexedType );
 					}
 
-					enqueueList( destinationList );
+					enqueueList( destinationList, batchStartNanos );
 					destinationList = new ArrayList<>( batchSize );
+					// Don't count the time spent waiting for consumers
+					batchStartNanos = System.nanoTime();
 				}
 				counter++;
 				if ( counter == totalCount ) {
@@ -177,7 +198,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 				}
 			}
 		}
-		enqueueList( destinationList );
+		enqueueList( destinationList, batchStartNanos );
 	}
 
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
@@ -186,6 +207,7 @@ private Query<Long> createTotalCountQuery(StatelessSession session) {
 
 		Root<E> root = criteriaQuery.from( indexedType );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		restrictToRange( criteriaBuilder, criteriaQuery, root );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
@@ -198,15 +220,27 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 		Root<E> root = criteriaQuery.from( indexedType );
 		Path<I> idPath = root.get( idAttributeOfIndexedType );
 		criteriaQuery.select( idPath );
+		restrictToRange( criteriaBuilder, criteriaQuery, root );
+		if ( rangeProgress.isOrderRequired() ) {
+			criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+		}
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
-	private void enqueueList(final List<I> idsList) throws InterruptedException {
+	private void restrictToRange(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery, Root<E> root) {
+		Predicate rangePredicate = range.toPredicate( criteriaBuilder, root.get( idAttributeOfIndexedType ) );
+		if ( rangePredicate != null ) {
+			criteriaQuery.where( rangePredicate );
+		}
+	}
+
+	private void enqueueList(final List<I> idsList, long batchStartNanos) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
-			destination.put( idsList );
+			monitor.identifiersLoaded( indexedType, idsList.size(), System.nanoTime() - batchStartNanos );
+			destination.put( rangeProgress.createBatch( idsList ) );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
 	}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * A range of entity identifiers, used to split the loading of identifiers
+ * between multiple {@link IdentifierProducer}s.
+ * <p>
+ * Bounds are optional: a range without a lower bound includes all identifiers
+ * lower than its upper bound, a range without an upper bound includes all identifiers
+ * greater than or equal to its lower bound, and a range without any bound includes all identifiers.
+ * <p>
+ * Ranges can be saved in a {@link MassIndexingCheckpoint checkpoint},
+ * with their bounds converted to strings.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierRange<I> {
+
+	private static final IdentifierRange<?> ALL = new IdentifierRange<>( null, true, null );
+
+	@SuppressWarnings("unchecked") // ALL doesn't hold any identifier, so it's valid for any identifier type
+	static <I> IdentifierRange<I> all() {
+		return (IdentifierRange<I>) ALL;
+	}
+
+	/**
+	 * @param boundaries Identifiers in ascending order, without duplicates.
+	 * @param <I> The identifier type
+	 * @return Contiguous, disjoint ranges covering all identifiers,
+	 * split at the given boundaries.
+	 */
+	static <I> List<IdentifierRange<I>> splitAt(List<I> boundaries) {
+		List<IdentifierRange<I>> ranges = new ArrayList<>( boundaries.size() + 1 );
+		I lowerBound = null;
+		for ( I boundary : boundaries ) {
+			ranges.add( new IdentifierRange<>( lowerBound, true, boundary ) );
+			lowerBound = boundary;
+		}
+		ranges.add( new IdentifierRange<>( lowerBound, true, null ) );
+		return ranges;
+	}
+
+	/**
+	 * @param lowerBound The lower bound, or {@code null}.
+	 * @param lowerBoundInclusive Whether the lower bound is included in the range.
+	 * @param upperBoundExclusive The upper bound, excluded from the range, or {@code null}.
+	 * @param <I> The identifier type
+	 * @return A range with the given bounds.
+	 */
+	static <I> IdentifierRange<I> of(I lowerBound, boolean lowerBoundInclusive, I upperBoundExclusive) {
+		return new IdentifierRange<>( lowerBound, lowerBoundInclusive, upperBoundExclusive );
+	}
+
+	private final I lowerBound;
+	private final boolean lowerBoundInclusive;
+	private final I upperBoundExclusive;
+
+	private IdentifierRange(I lowerBound, boolean lowerBoundInclusive, I upperBoundExclusive) {
+		this.lowerBound = lowerBound;
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return ( lowerBoundInclusive ? "[" : "(" ) + ( lowerBound == null ? "" : lowerBound )
+				+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	I getLowerBound() {
+		return lowerBound;
+	}
+
+	boolean isLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	I getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	/**
+	 * @param lastIndexedId An identifier within this range, all identifiers lower than or equal to which were indexed.
+	 * @return The range of identifiers in this range that are strictly greater than the given identifier.
+	 */
+	IdentifierRange<I> resumeAfter(I lastIndexedId) {
+		return new IdentifierRange<>( lastIndexedId, false, upperBoundExclusive );
+	}
+
+	/**
+	 * @param criteriaBuilder A criteria builder.
+	 * @param idPath The path to the identifier in the query.
+	 * @return A predicate restricting the query to identifiers within this range,
+	 * or {@code null} if this range includes all identifiers.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Bounds are only set for Comparable identifiers, see IdentifierRangePartitioner
+	Predicate toPredicate(CriteriaBuilder criteriaBuilder, Path<I> idPath) {
+		Path<Comparable> comparablePath = (Path<Comparable>) idPath;
+		if ( lowerBound == null && upperBoundExclusive == null ) {
+			return null;
+		}
+		else if ( upperBoundExclusive == null ) {
+			return toLowerBoundPredicate( criteriaBuilder, comparablePath );
+		}
+		else if ( lowerBound == null ) {
+			return criteriaBuilder.lessThan( comparablePath, (Comparable) upperBoundExclusive );
+		}
+		else {
+			return criteriaBuilder.and(
+					toLowerBoundPredicate( criteriaBuilder, comparablePath ),
+					criteriaBuilder.lessThan( comparablePath, (Comparable) upperBoundExclusive )
+			);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Bounds are only set for Comparable identifiers, see IdentifierRangePartitioner
+	private Predicate toLowerBoundPredicate(CriteriaBuilder criteriaBuilder, Path<Comparable> comparablePath) {
+		if ( lowerBoundInclusive ) {
+			return criteriaBuilder.greaterThanOrEqualTo( comparablePath, (Comparable) lowerBound );
+		}
+		else {
+			return criteriaBuilder.greaterThan( comparablePath, (Comparable) lowerBound );
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable splits the identifiers of all the entities going to be indexed
+ * into disjoint {@link IdentifierRange ranges}, so that they can be loaded
+ * by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * For integral identifiers (integers, longs, ...), the minimum and maximum identifiers are probed,
+ * and the interval between them is split into ranges of equal width.
+ * For other comparable identifiers (strings, dates, ...), boundaries are picked
+ * among existing identifiers while scrolling through them once in ascending order,
+ * every {@code count / partitionCount} identifiers,
+ * so that each range contains approximately the same number of entities.
+ * Other identifiers (e.g. embedded identifiers) cannot be split:
+ * they will be loaded by a single producer.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class IdentifierRangePartitioner<E, I> implements StatelessSessionAwareRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final Class<E> indexedType;
+	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
+	private final int partitionCount;
+	private final int idFetchSize;
+	private final String tenantId;
+
+	private List<IdentifierRange<I>> ranges = Collections.singletonList( IdentifierRange.all() );
+
+	/**
+	 * @param sessionFactory the Hibernate SessionFactory to use to probe identifiers
+	 * @param indexedType the entity type whose identifiers are to be split
+	 * @param idAttributeOfIndexedType the id attribute
+	 * @param partitionCount the maximum number of ranges to split identifiers into
+	 * @param idFetchSize the fetch size when scrolling through identifiers
+	 * @param tenantId the tenant identifier
+	 */
+	public IdentifierRangePartitioner(SessionFactory sessionFactory,
+			Class<E> indexedType, SingularAttribute<? super E, I> idAttributeOfIndexedType,
+			int partitionCount, int idFetchSize, String tenantId) {
+		this.sessionFactory = sessionFactory;
+		this.indexedType = indexedType;
+		this.idAttributeOfIndexedType = idAttributeOfIndexedType;
+		this.partitionCount = partitionCount;
+		this.idFetchSize = idFetchSize;
+		this.tenantId = tenantId;
+	}
+
+	/**
+	 * @return The ranges of identifiers, contiguous and disjoint, covering all identifiers.
+	 * A single range if identifiers could not or need not be split.
+	 */
+	public List<IdentifierRange<I>> getRanges() {
+		return ranges;
+	}
+
+	@Override
+	public void run(StatelessSession upperSession) {
+		StatelessSession session = upperSession;
+		if ( upperSession == null ) {
+			if ( tenantId == null ) {
+				session = sessionFactory.openStatelessSession();
+			}
+			else {
+				session = sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+			}
+		}
+		try {
+			Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+			final boolean controlTransactions = ! transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				ranges = IdentifierRange.splitAt( probeBoundaries( session ) );
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			if ( upperSession == null ) {
+				session.close();
+			}
+		}
+		log.debugf( "Identifiers of type %s split into ranges %s", indexedType.getName(), ranges );
+	}
+
+	private List<I> probeBoundaries(StatelessSession session) {
+		Class<?> idType = toWrapperType( idAttributeOfIndexedType.getJavaType() );
+		if ( isIntegral( idType ) ) {
+			return probeIntegralBoundaries( session, idType );
+		}
+		else if ( Comparable.class.isAssignableFrom( idType ) ) {
+			return probeOrderedBoundaries( session );
+		}
+		else {
+			log.debugf( "Identifiers of type %s cannot be split into ranges: %s is not comparable",
+					indexedType.getName(), idType );
+			return Collections.emptyList();
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // We checked the identifier type is integral, thus comparable
+	private List<I> probeIntegralBoundaries(StatelessSession session, Class<?> idType) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+		Root<E> root = criteriaQuery.from( indexedType );
+		Expression<Comparable> idPath = (Expression) root.get( idAttributeOfIndexedType );
+		criteriaQuery.multiselect( criteriaBuilder.least( idPath ), criteriaBuilder.greatest( idPath ) );
+		Object[] minMax = session.createQuery( criteriaQuery ).setCacheable( false ).uniqueResult();
+		if ( minMax == null || minMax[0] == null || minMax[1] == null ) {
+			// No entity
+			return Collections.emptyList();
+		}
+		return (List<I>) integralBoundaries( idType, minMax[0], minMax[1], partitionCount );
+	}
+
+	private List<I> probeOrderedBoundaries(StatelessSession session) {
+		long totalCount = createTotalCountQuery( session ).uniqueResult();
+		if ( totalCount < 2L || partitionCount < 2 ) {
+			// Don't bother scrolling: there will be a single range anyway
+			return Collections.emptyList();
+		}
+		try ( ScrollableResults results = createOrderedIdentifiersQuery( session )
+				.scroll( ScrollMode.FORWARD_ONLY ) ) {
+			return sampleBoundaries( new ScrollableResultsIterator<>( results ), totalCount, partitionCount );
+		}
+	}
+
+	/**
+	 * @param idType The wrapper type of identifiers, which must be integral.
+	 * @param min The lowest existing identifier.
+	 * @param max The highest existing identifier.
+	 * @param partitionCount The maximum number of ranges to split identifiers into.
+	 * @return Boundaries splitting the interval between {@code min} and {@code max} (inclusive)
+	 * into at most {@code partitionCount} ranges of equal width, in ascending order.
+	 */
+	static List<Object> integralBoundaries(Class<?> idType, Object min, Object max, int partitionCount) {
+		BigInteger minValue = toBigInteger( min );
+		BigInteger span = toBigInteger( max ).subtract( minValue ).add( BigInteger.ONE );
+		BigInteger rangeCount = span.min( BigInteger.valueOf( partitionCount ) );
+		BigInteger rangeWidth = span.divide( rangeCount );
+		List<Object> boundaries = new ArrayList<>();
+		for ( int i = 1; i < rangeCount.intValue(); i++ ) {
+			BigInteger boundary = minValue.add( rangeWidth.multiply( BigInteger.valueOf( i ) ) );
+			boundaries.add( fromBigInteger( idType, boundary ) );
+		}
+		return boundaries;
+	}
+
+	/**
+	 * @param orderedIds Existing identifiers, in ascending order.
+	 * @param totalCount The number of existing identifiers.
+	 * @param partitionCount The maximum number of ranges to split identifiers into.
+	 * @param <I> The identifier type
+	 * @return Boundaries picked every {@code totalCount / partitionCount} identifiers, in ascending order,
+	 * consuming {@code orderedIds} at most once.
+	 */
+	static <I> List<I> sampleBoundaries(Iterator<I> orderedIds, long totalCount, int partitionCount) {
+		long rangeCount = Math.min( totalCount, partitionCount );
+		List<I> boundaries = new ArrayList<>();
+		long position = -1L;
+		for ( int i = 1; i < rangeCount; i++ ) {
+			// Equivalent to totalCount * i / rangeCount, without overflowing
+			long target = totalCount / rangeCount * i + totalCount % rangeCount * i / rangeCount;
+			I boundary = null;
+			while ( position < target && orderedIds.hasNext() ) {
+				boundary = orderedIds.next();
+				++position;
+			}
+			if ( position < target ) {
+				// Entities were deleted concurrently
+				break;
+			}
+			if ( boundaries.isEmpty() || !boundaries.get( boundaries.size() - 1 ).equals( boundary ) ) {
+				boundaries.add( boundary );
+			}
+		}
+		return boundaries;
+	}
+
+	private Query<Long> createTotalCountQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
+
+		Root<E> root = criteriaQuery.from( indexedType );
+		criteriaQuery.select( criteriaBuilder.count( root ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	private Query<I> createOrderedIdentifiersQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfIndexedType.getJavaType() );
+
+		Root<E> root = criteriaQuery.from( indexedType );
+		Path<I> idPath = root.get( idAttributeOfIndexedType );
+		criteriaQuery.select( idPath ).orderBy( criteriaBuilder.asc( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.setFetchSize( idFetchSize );
+	}
+
+	/**
+	 * @param idJavaType The Java type of identifiers.
+	 * @return {@code true} if identifiers of this type can be ordered, and thus split into ranges.
+	 */
+	static boolean isComparable(Class<?> idJavaType) {
+		return Comparable.class.isAssignableFrom( toWrapperType( idJavaType ) );
+	}
+
+	private static Class<?> toWrapperType(Class<?> type) {
+		if ( !type.isPrimitive() ) {
+			return type;
+		}
+		else if ( long.class.equals( type ) ) {
+			return Long.class;
+		}
+		else if ( int.class.equals( type ) ) {
+			return Integer.class;
+		}
+		else if ( short.class.equals( type ) ) {
+			return Short.class;
+		}
+		else if ( byte.class.equals( type ) ) {
+			return Byte.class;
+		}
+		else if ( char.class.equals( type ) ) {
+			return Character.class;
+		}
+		else {
+			// Other primitive types (float, double, boolean) are comparable but not integral
+			return Comparable.class;
+		}
+	}
+
+	private static boolean isIntegral(Class<?> type) {
+		return Long.class.equals( type ) || Integer.class.equals( type )
+				|| Short.class.equals( type ) || Byte.class.equals( type )
+				|| BigInteger.class.equals( type );
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		if ( value instanceof BigInteger ) {
+			return (BigInteger) value;
+		}
+		return BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	private static Object fromBigInteger(Class<?> type, BigInteger value) {
+		if ( Long.class.equals( type ) ) {
+			return value.longValue();
+		}
+		else if ( Integer.class.equals( type ) ) {
+			return value.intValue();
+		}
+		else if ( Short.class.equals( type ) ) {
+			return value.shortValue();
+		}
+		else if ( Byte.class.equals( type ) ) {
+			return value.byteValue();
+		}
+		else {
+			return value;
+		}
+	}
+
+	private static final class ScrollableResultsIterator<I> implements Iterator<I> {
+		private final ScrollableResults results;
+		private Boolean hasNext;
+
+		private ScrollableResultsIterator(ScrollableResults results) {
+			this.results = results;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( hasNext == null ) {
+				hasNext = results.next();
+			}
+			return hasNext;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public I next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			hasNext = null;
+			return (I) results.get( 0 );
+		}
+	}
+}
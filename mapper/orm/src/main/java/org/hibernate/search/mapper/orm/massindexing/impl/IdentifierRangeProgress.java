@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the progress of indexing a range of identifiers, to update the mass indexing checkpoint.
+ * <p>
+ * Batches of identifiers are indexed concurrently and thus complete in any order:
+ * the checkpoint only moves forward when all batches up to a given one have been indexed successfully.
+ * After a failure, the checkpoint no longer moves forward for this range.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierRangeProgress<I> {
+
+	private final MassIndexingCheckpointTracker tracker;
+	private final MassIndexingCheckpoint.RangeCheckpoint<I> checkpoint;
+	private final IdentifierRange<I> range;
+	private final boolean ordered;
+
+	// Only accessed from the producer thread
+	private long producedBatchCount = 0L;
+
+	// The following fields are guarded by the tracker
+	private long nextBatchToComplete = 0L;
+	private final Map<Long, I> completedBatchesLastIds = new HashMap<>();
+	private long totalBatchCount = -1L;
+	private boolean failed = false;
+
+	/**
+	 * @param tracker The checkpoint tracker.
+	 * @param checkpoint The checkpoint to update, or {@code null} if checkpoints are disabled.
+	 * @param range The range of identifiers to index.
+	 * @param ordered Whether identifiers can be produced in ascending order.
+	 */
+	IdentifierRangeProgress(MassIndexingCheckpointTracker tracker, MassIndexingCheckpoint.RangeCheckpoint<I> checkpoint,
+			IdentifierRange<I> range, boolean ordered) {
+		this.tracker = tracker;
+		this.checkpoint = checkpoint;
+		this.range = range;
+		this.ordered = ordered;
+	}
+
+	IdentifierRange<I> getRange() {
+		return range;
+	}
+
+	/**
+	 * @return {@code true} if identifiers must be produced in ascending order,
+	 * so that the checkpoint can record the last indexed identifier.
+	 */
+	boolean isOrderRequired() {
+		return checkpoint != null && ordered;
+	}
+
+	IdentifierBatch<I> createBatch(List<I> ids) {
+		return new IdentifierBatch<>( this, producedBatchCount++, ids );
+	}
+
+	/**
+	 * To be called by the producer once all identifiers of the range have been produced successfully.
+	 */
+	void producerCompleted() {
+		if ( checkpoint == null ) {
+			return;
+		}
+		synchronized ( tracker ) {
+			totalBatchCount = producedBatchCount;
+			checkCompleted();
+		}
+	}
+
+	void batchIndexed(long sequenceNumber, I lastId, boolean success) {
+		if ( checkpoint == null ) {
+			return;
+		}
+		synchronized ( tracker ) {
+			if ( failed ) {
+				return;
+			}
+			if ( !success ) {
+				failed = true;
+				completedBatchesLastIds.clear();
+				return;
+			}
+			completedBatchesLastIds.put( sequenceNumber, lastId );
+			I lastIndexedId = null;
+			while ( completedBatchesLastIds.containsKey( nextBatchToComplete ) ) {
+				lastIndexedId = completedBatchesLastIds.remove( nextBatchToComplete );
+				++nextBatchToComplete;
+			}
+			if ( ordered && lastIndexedId != null ) {
+				checkpoint.setLastIndexedId( lastIndexedId );
+			}
+			checkCompleted();
+		}
+	}
+
+	private void checkCompleted() {
+		if ( !failed && nextBatchToComplete == totalBatchCount ) {
+			checkpoint.markCompleted();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * Converts entity identifiers to and from their string representation in {@link MassIndexingCheckpoint checkpoints},
+ * using the conversions of the identifier's Hibernate ORM type.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierStringConverter<I> {
+
+	/**
+	 * @param sessionFactory The session factory.
+	 * @param entityType The entity type.
+	 * @param <I> The identifier type
+	 * @return A converter for identifiers of the given entity type,
+	 * or {@code null} if these identifiers have no string representation (e.g. embedded identifiers),
+	 * in which case they are not split into ranges anyway.
+	 */
+	@SuppressWarnings("unchecked") // The identifier type of an entity type handles identifiers of that entity type
+	static <I> IdentifierStringConverter<I> create(SessionFactoryImplementor sessionFactory, Class<?> entityType) {
+		Type identifierType = sessionFactory.getMetamodel().entityPersister( entityType ).getIdentifierType();
+		if ( identifierType instanceof StringRepresentableType ) {
+			return new IdentifierStringConverter<>( (StringRepresentableType<I>) identifierType );
+		}
+		return null;
+	}
+
+	private final StringRepresentableType<I> type;
+
+	IdentifierStringConverter(StringRepresentableType<I> type) {
+		this.type = type;
+	}
+
+	String toString(I identifier) {
+		return type.toString( identifier );
+	}
+
+	I fromString(String string) {
+		return type.fromStringValue( string );
+	}
+}
@@ -16,8 +16,10 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.DetachedSessionContextImplementor;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.massindexing.monitor.impl.JmxMassIndexingMonitor;
 import org.hibernate.search.mapper.orm.massindexing.monitor.impl.SimpleIndexingProgressMonitor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkExecutor;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -43,14 +45,18 @@ public class MassIndexerImpl implements MassIndexer {
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
+	private int idProducerThreads = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
+	private int pendingBatchesPerThread = 2;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean optimizeAtEnd = true;
 	private boolean purgeAtStart = true;
 	private boolean optimizeAfterPurge = true;
-	private MassIndexingMonitor monitor;
+	private boolean offlineRebuild = false;
+	private MassIndexingCheckpointStore checkpointStore;
+	private boolean resumeFromCheckpoint = false;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
 
@@ -64,9 +70,6 @@ public MassIndexerImpl(SessionFactoryImplementor sessionFactory,
 		this.sessionContext = sessionContext;
 		this.rootEntities = toRootEntities( targetedIndexedTypes );
 		this.scopeWorkExecutor = scopeWorkExecutor;
-
-		// TODO HSEARCH-3057 use a JMX monitor if JMX is enabled (see Search 5)
-		this.monitor = new SimpleIndexingProgressMonitor();
 	}
 
 	/*
@@ -108,6 +111,15 @@ public MassIndexer typesToIndexInParallel(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer idProducerThreads(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.idProducerThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer cacheMode(CacheMode cacheMode) {
 		if ( cacheMode == null ) {
@@ -135,6 +147,15 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer pendingBatchesPerThread(int pendingBatches) {
+		if ( pendingBatches < 0 ) {
+			throw new IllegalArgumentException( "pendingBatches must be at least 0" );
+		}
+		this.pendingBatchesPerThread = pendingBatches;
+		return this;
+	}
+
 	@Override
 	public MassIndexer optimizeOnFinish(boolean optimize) {
 		this.optimizeAtEnd = optimize;
@@ -153,6 +174,29 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer offlineRebuild(boolean offlineRebuild) {
+		this.offlineRebuild = offlineRebuild;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointTo(MassIndexingCheckpointStore store) {
+		if ( store == null ) {
+			throw new IllegalArgumentException( "store must not be null" );
+		}
+		this.checkpointStore = store;
+		this.resumeFromCheckpoint = false;
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		checkpointTo( store );
+		this.resumeFromCheckpoint = true;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -174,16 +218,29 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
+		if ( offlineRebuild && checkpointStore != null ) {
+			throw log.massIndexingCheckpointWithOfflineRebuild();
+		}
 		return new BatchCoordinator(
 				sessionFactory, mappingContext, sessionContext,
 				rootEntities, scopeWorkExecutor,
-				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
-				optimizeAtEnd, purgeAtStart, optimizeAfterPurge,
-				monitor, idFetchSize, idLoadingTransactionTimeout
+				typesToIndexInParallel, idProducerThreads, documentBuilderThreads,
+				cacheMode, objectLoadingBatchSize, pendingBatchesPerThread, objectsLimit,
+				optimizeAtEnd, purgeAtStart, optimizeAfterPurge, offlineRebuild,
+				checkpointStore, resumeFromCheckpoint, createMonitor(), idFetchSize, idLoadingTransactionTimeout
 		);
 	}
 
+	private MassIndexingMonitor createMonitor() {
+		// Only create the monitor when indexing starts: the JMX monitor registers MBeans upon creation
+		if ( mappingContext.isMassIndexingJmxEnabled() ) {
+			return new JmxMassIndexingMonitor();
+		}
+		else {
+			return new SimpleIndexingProgressMonitor();
+		}
+	}
+
 	@Override
 	public MassIndexer limitIndexedObjectsTo(long maximum) {
 		this.objectsLimit = maximum;
@@ -0,0 +1,336 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The progress of mass indexing, as saved to a
+ * {@link org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore}.
+ * <p>
+ * For each indexed type that started indexing, a checkpoint holds the ranges of identifiers of that type
+ * and, for each range, whether it was completely indexed
+ * or the last identifier such that all identifiers up to and including it were indexed.
+ * <p>
+ * Checkpoints are saved as UTF-8 encoded {@link Properties}, with an explicit format version,
+ * and with identifiers converted to strings through an {@link IdentifierStringConverter}.
+ * Since the identifier type of an entity type is only known once indexing of that type starts,
+ * ranges of a loaded checkpoint are kept in their string form until then.
+ * <p>
+ * Instances are not thread-safe: see {@link MassIndexingCheckpointTracker} for synchronization.
+ */
+final class MassIndexingCheckpoint {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String FORMAT_VERSION = "1";
+
+	private static final String VERSION_KEY = "version";
+	private static final String TYPE_COUNT_KEY = "type.count";
+	private static final String TYPE_PREFIX = "type.";
+	private static final String NAME_KEY = ".name";
+	private static final String RANGE_COUNT_KEY = ".range.count";
+	private static final String RANGE_PREFIX = ".range.";
+	private static final String LOWER_BOUND_KEY = ".lower_bound";
+	private static final String LOWER_BOUND_INCLUSIVE_KEY = ".lower_bound_inclusive";
+	private static final String UPPER_BOUND_KEY = ".upper_bound";
+	private static final String LAST_INDEXED_ID_KEY = ".last_indexed_id";
+	private static final String COMPLETED_KEY = ".completed";
+
+	static MassIndexingCheckpoint fromBytes(byte[] bytes) throws IOException {
+		Properties properties = new Properties();
+		try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8 ) ) {
+			properties.load( reader );
+		}
+		if ( !FORMAT_VERSION.equals( properties.getProperty( VERSION_KEY ) ) ) {
+			throw log.invalidMassIndexingCheckpoint( VERSION_KEY );
+		}
+		MassIndexingCheckpoint checkpoint = new MassIndexingCheckpoint();
+		int typeCount = getInt( properties, TYPE_COUNT_KEY );
+		for ( int i = 0; i < typeCount; i++ ) {
+			String typePrefix = TYPE_PREFIX + i;
+			String typeName = getRequired( properties, typePrefix + NAME_KEY );
+			int rangeCount = getInt( properties, typePrefix + RANGE_COUNT_KEY );
+			List<SerializedRangeCheckpoint> rangeCheckpoints = new ArrayList<>( rangeCount );
+			for ( int j = 0; j < rangeCount; j++ ) {
+				String rangePrefix = typePrefix + RANGE_PREFIX + j;
+				rangeCheckpoints.add( new SerializedRangeCheckpoint(
+						properties.getProperty( rangePrefix + LOWER_BOUND_KEY ),
+						getBoolean( properties, rangePrefix + LOWER_BOUND_INCLUSIVE_KEY ),
+						properties.getProperty( rangePrefix + UPPER_BOUND_KEY ),
+						properties.getProperty( rangePrefix + LAST_INDEXED_ID_KEY ),
+						getBoolean( properties, rangePrefix + COMPLETED_KEY )
+				) );
+			}
+			checkpoint.serializedRanges.put( typeName, rangeCheckpoints );
+		}
+		return checkpoint;
+	}
+
+	/**
+	 * Entity type name => progress of each range of identifiers of that type.
+	 */
+	private final Map<String, TypeCheckpoint<?>> ranges = new LinkedHashMap<>();
+
+	/**
+	 * Entity type name => progress of each range of identifiers of that type, as loaded from a saved checkpoint,
+	 * for types whose indexing did not start since the checkpoint was loaded.
+	 */
+	private final Map<String, List<SerializedRangeCheckpoint>> serializedRanges = new LinkedHashMap<>();
+
+	byte[] toBytes() throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty( VERSION_KEY, FORMAT_VERSION );
+		int typeIndex = 0;
+		for ( Map.Entry<String, TypeCheckpoint<?>> entry : ranges.entrySet() ) {
+			writeType( properties, typeIndex++, entry.getKey(), entry.getValue().serialize() );
+		}
+		for ( Map.Entry<String, List<SerializedRangeCheckpoint>> entry : serializedRanges.entrySet() ) {
+			writeType( properties, typeIndex++, entry.getKey(), entry.getValue() );
+		}
+		properties.setProperty( TYPE_COUNT_KEY, String.valueOf( typeIndex ) );
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( Writer writer = new OutputStreamWriter( bytes, StandardCharsets.UTF_8 ) ) {
+			properties.store( writer, "Hibernate Search mass indexing checkpoint" );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param typeName The name of an entity type.
+	 * @param converter The converter for identifiers of that type, or {@code null} if there isn't any.
+	 * @param <I> The identifier type
+	 * @return The progress of each range of identifiers of that type,
+	 * or {@code null} if indexing of that type never started.
+	 */
+	@SuppressWarnings("unchecked") // Checkpoints are keyed by entity type, so the identifier type is correct
+	<I> List<RangeCheckpoint<I>> get(String typeName, IdentifierStringConverter<I> converter) {
+		TypeCheckpoint<I> typeCheckpoint = (TypeCheckpoint<I>) ranges.get( typeName );
+		if ( typeCheckpoint != null ) {
+			return typeCheckpoint.rangeCheckpoints;
+		}
+		List<SerializedRangeCheckpoint> serialized = serializedRanges.remove( typeName );
+		if ( serialized == null ) {
+			return null;
+		}
+		List<RangeCheckpoint<I>> rangeCheckpoints = new ArrayList<>( serialized.size() );
+		for ( SerializedRangeCheckpoint serializedRangeCheckpoint : serialized ) {
+			rangeCheckpoints.add( serializedRangeCheckpoint.deserialize( converter ) );
+		}
+		ranges.put( typeName, new TypeCheckpoint<>( converter, rangeCheckpoints ) );
+		return rangeCheckpoints;
+	}
+
+	<I> List<RangeCheckpoint<I>> start(String typeName, List<IdentifierRange<I>> identifierRanges,
+			IdentifierStringConverter<I> converter) {
+		List<RangeCheckpoint<I>> rangeCheckpoints = new ArrayList<>( identifierRanges.size() );
+		for ( IdentifierRange<I> identifierRange : identifierRanges ) {
+			rangeCheckpoints.add( new RangeCheckpoint<>( identifierRange, null, false ) );
+		}
+		serializedRanges.remove( typeName );
+		ranges.put( typeName, new TypeCheckpoint<>( converter, rangeCheckpoints ) );
+		return rangeCheckpoints;
+	}
+
+	/**
+	 * @param types The indexed types.
+	 * @return {@code true} if all the given types were completely indexed, {@code false} otherwise.
+	 */
+	boolean isCompleted(Collection<Class<?>> types) {
+		for ( Class<?> type : types ) {
+			TypeCheckpoint<?> typeCheckpoint = ranges.get( type.getName() );
+			if ( typeCheckpoint == null ) {
+				return false;
+			}
+			for ( RangeCheckpoint<?> rangeCheckpoint : typeCheckpoint.rangeCheckpoints ) {
+				if ( !rangeCheckpoint.completed ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void writeType(Properties properties, int typeIndex, String typeName,
+			List<SerializedRangeCheckpoint> rangeCheckpoints) {
+		String typePrefix = TYPE_PREFIX + typeIndex;
+		properties.setProperty( typePrefix + NAME_KEY, typeName );
+		properties.setProperty( typePrefix + RANGE_COUNT_KEY, String.valueOf( rangeCheckpoints.size() ) );
+		int rangeIndex = 0;
+		for ( SerializedRangeCheckpoint rangeCheckpoint : rangeCheckpoints ) {
+			String rangePrefix = typePrefix + RANGE_PREFIX + rangeIndex++;
+			setIfNotNull( properties, rangePrefix + LOWER_BOUND_KEY, rangeCheckpoint.lowerBound );
+			properties.setProperty( rangePrefix + LOWER_BOUND_INCLUSIVE_KEY,
+					String.valueOf( rangeCheckpoint.lowerBoundInclusive ) );
+			setIfNotNull( properties, rangePrefix + UPPER_BOUND_KEY, rangeCheckpoint.upperBoundExclusive );
+			setIfNotNull( properties, rangePrefix + LAST_INDEXED_ID_KEY, rangeCheckpoint.lastIndexedId );
+			properties.setProperty( rangePrefix + COMPLETED_KEY, String.valueOf( rangeCheckpoint.completed ) );
+		}
+	}
+
+	private static void setIfNotNull(Properties properties, String key, String value) {
+		if ( value != null ) {
+			properties.setProperty( key, value );
+		}
+	}
+
+	private static String getRequired(Properties properties, String key) {
+		String value = properties.getProperty( key );
+		if ( value == null ) {
+			throw log.invalidMassIndexingCheckpoint( key );
+		}
+		return value;
+	}
+
+	private static int getInt(Properties properties, String key) {
+		try {
+			int value = Integer.parseInt( getRequired( properties, key ) );
+			if ( value >= 0 ) {
+				return value;
+			}
+		}
+		catch (NumberFormatException e) {
+			// Handled below
+		}
+		throw log.invalidMassIndexingCheckpoint( key );
+	}
+
+	private static boolean getBoolean(Properties properties, String key) {
+		String value = getRequired( properties, key );
+		if ( "true".equals( value ) ) {
+			return true;
+		}
+		else if ( "false".equals( value ) ) {
+			return false;
+		}
+		throw log.invalidMassIndexingCheckpoint( key );
+	}
+
+	private static <I> String toString(IdentifierStringConverter<I> converter, I identifier) {
+		if ( identifier == null ) {
+			return null;
+		}
+		return requireConverter( converter ).toString( identifier );
+	}
+
+	private static <I> I fromString(IdentifierStringConverter<I> converter, String string) {
+		if ( string == null ) {
+			return null;
+		}
+		return requireConverter( converter ).fromString( string );
+	}
+
+	private static <I> IdentifierStringConverter<I> requireConverter(IdentifierStringConverter<I> converter) {
+		if ( converter == null ) {
+			throw new AssertionFailure(
+					"Identifier range bounds for an identifier type without a string representation."
+					+ " There is probably a bug in Hibernate Search, please report it."
+			);
+		}
+		return converter;
+	}
+
+	private static final class TypeCheckpoint<I> {
+		private final IdentifierStringConverter<I> converter;
+		private final List<RangeCheckpoint<I>> rangeCheckpoints;
+
+		private TypeCheckpoint(IdentifierStringConverter<I> converter, List<RangeCheckpoint<I>> rangeCheckpoints) {
+			this.converter = converter;
+			this.rangeCheckpoints = rangeCheckpoints;
+		}
+
+		List<SerializedRangeCheckpoint> serialize() {
+			List<SerializedRangeCheckpoint> result = new ArrayList<>( rangeCheckpoints.size() );
+			for ( RangeCheckpoint<I> rangeCheckpoint : rangeCheckpoints ) {
+				IdentifierRange<I> range = rangeCheckpoint.range;
+				result.add( new SerializedRangeCheckpoint(
+						MassIndexingCheckpoint.toString( converter, range.getLowerBound() ),
+						range.isLowerBoundInclusive(),
+						MassIndexingCheckpoint.toString( converter, range.getUpperBoundExclusive() ),
+						MassIndexingCheckpoint.toString( converter, rangeCheckpoint.lastIndexedId ),
+						rangeCheckpoint.completed
+				) );
+			}
+			return result;
+		}
+	}
+
+	private static final class SerializedRangeCheckpoint {
+		private final String lowerBound;
+		private final boolean lowerBoundInclusive;
+		private final String upperBoundExclusive;
+		private final String lastIndexedId;
+		private final boolean completed;
+
+		private SerializedRangeCheckpoint(String lowerBound, boolean lowerBoundInclusive, String upperBoundExclusive,
+				String lastIndexedId, boolean completed) {
+			this.lowerBound = lowerBound;
+			this.lowerBoundInclusive = lowerBoundInclusive;
+			this.upperBoundExclusive = upperBoundExclusive;
+			this.lastIndexedId = lastIndexedId;
+			this.completed = completed;
+		}
+
+		<I> RangeCheckpoint<I> deserialize(IdentifierStringConverter<I> converter) {
+			IdentifierRange<I> range = IdentifierRange.of(
+					fromString( converter, lowerBound ), lowerBoundInclusive, fromString( converter, upperBoundExclusive )
+			);
+			return new RangeCheckpoint<>( range, fromString( converter, lastIndexedId ), completed );
+		}
+	}
+
+	static final class RangeCheckpoint<I> {
+
+		private final IdentifierRange<I> range;
+		private I lastIndexedId;
+		private boolean completed;
+
+		private RangeCheckpoint(IdentifierRange<I> range, I lastIndexedId, boolean completed) {
+			this.range = range;
+			this.lastIndexedId = lastIndexedId;
+			this.completed = completed;
+		}
+
+		boolean isCompleted() {
+			return completed;
+		}
+
+		void markCompleted() {
+			this.completed = true;
+		}
+
+		void setLastIndexedId(I lastIndexedId) {
+			this.lastIndexedId = lastIndexedId;
+		}
+
+		/**
+		 * @return The identifiers of this range that remain to be indexed.
+		 */
+		IdentifierRange<I> getRemainingRange() {
+			return lastIndexedId == null ? range : range.resumeAfter( lastIndexedId );
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Tracks the progress of mass indexing and saves it periodically to a {@link MassIndexingCheckpointStore},
+ * so that mass indexing can be resumed after a failure.
+ * <p>
+ * Before a checkpoint is saved, indexes are flushed,
+ * so that a checkpoint never refers to documents that could be lost on failure.
+ * <p>
+ * Methods of this class are thread-safe.
+ */
+final class MassIndexingCheckpointTracker {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 30 );
+
+	static MassIndexingCheckpointTracker disabled() {
+		return new MassIndexingCheckpointTracker( null, null, null, false );
+	}
+
+	/**
+	 * @param store The store to save checkpoints to.
+	 * @param resume Whether to resume from the checkpoint currently in the store, if any.
+	 * @param flush A supplier of futures flushing all indexes.
+	 * @return A checkpoint tracker.
+	 */
+	static MassIndexingCheckpointTracker create(MassIndexingCheckpointStore store, boolean resume,
+			Supplier<CompletableFuture<?>> flush) {
+		MassIndexingCheckpoint checkpoint = null;
+		if ( resume ) {
+			try {
+				byte[] bytes = store.load();
+				if ( bytes != null ) {
+					checkpoint = MassIndexingCheckpoint.fromBytes( bytes );
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.unableToLoadMassIndexingCheckpoint( e.getMessage(), e );
+			}
+		}
+		boolean resumed = checkpoint != null;
+		if ( !resumed ) {
+			checkpoint = new MassIndexingCheckpoint();
+		}
+		return new MassIndexingCheckpointTracker( store, flush, checkpoint, resumed );
+	}
+
+	private final MassIndexingCheckpointStore store;
+	private final Supplier<CompletableFuture<?>> flush;
+	private final MassIndexingCheckpoint checkpoint;
+	private final boolean resumed;
+
+	private final AtomicBoolean saving = new AtomicBoolean( false );
+	private volatile long lastSaveNanos = System.nanoTime();
+
+	private MassIndexingCheckpointTracker(MassIndexingCheckpointStore store, Supplier<CompletableFuture<?>> flush,
+			MassIndexingCheckpoint checkpoint, boolean resumed) {
+		this.store = store;
+		this.flush = flush;
+		this.checkpoint = checkpoint;
+		this.resumed = resumed;
+	}
+
+	/**
+	 * @return {@code true} if mass indexing resumes from a checkpoint,
+	 * in which case some entities may already be indexed.
+	 */
+	boolean isResumed() {
+		return resumed;
+	}
+
+	/**
+	 * @param type The indexed type.
+	 * @param identifierRangesSupplier A supplier of ranges of identifiers to index,
+	 * only called if indexing of the given type did not start before the checkpoint.
+	 * @param ordered Whether identifiers of this type can be produced in ascending order.
+	 * @param converter The converter for identifiers of this type, or {@code null} if there isn't any.
+	 * @param <I> The identifier type
+	 * @return The progress of each range of identifiers that remain to be indexed;
+	 * empty if the given type was completely indexed before the checkpoint.
+	 */
+	<I> List<IdentifierRangeProgress<I>> start(Class<?> type,
+			Supplier<List<IdentifierRange<I>>> identifierRangesSupplier, boolean ordered,
+			IdentifierStringConverter<I> converter) {
+		if ( checkpoint == null ) {
+			List<IdentifierRange<I>> identifierRanges = identifierRangesSupplier.get();
+			List<IdentifierRangeProgress<I>> progresses = new ArrayList<>( identifierRanges.size() );
+			for ( IdentifierRange<I> identifierRange : identifierRanges ) {
+				progresses.add( new IdentifierRangeProgress<>( this, null, identifierRange, ordered ) );
+			}
+			return progresses;
+		}
+
+		String typeName = type.getName();
+		List<MassIndexingCheckpoint.RangeCheckpoint<I>> rangeCheckpoints;
+		synchronized ( this ) {
+			rangeCheckpoints = checkpoint.get( typeName, converter );
+		}
+		if ( rangeCheckpoints == null ) {
+			// Splitting identifiers may involve database queries: don't hold the lock while doing it
+			List<IdentifierRange<I>> identifierRanges = identifierRangesSupplier.get();
+			synchronized ( this ) {
+				rangeCheckpoints = checkpoint.start( typeName, identifierRanges, converter );
+			}
+		}
+
+		List<IdentifierRangeProgress<I>> progresses = new ArrayList<>( rangeCheckpoints.size() );
+		synchronized ( this ) {
+			for ( MassIndexingCheckpoint.RangeCheckpoint<I> rangeCheckpoint : rangeCheckpoints ) {
+				if ( !rangeCheckpoint.isCompleted() ) {
+					progresses.add( new IdentifierRangeProgress<>(
+							this, rangeCheckpoint, rangeCheckpoint.getRemainingRange(), ordered
+					) );
+				}
+			}
+		}
+		return progresses;
+	}
+
+	/**
+	 * Save a checkpoint if the last one was saved long enough ago.
+	 * <p>
+	 * Must not be called from a backend thread, since it waits for indexes to be flushed.
+	 */
+	void saveIfNecessary() {
+		if ( checkpoint == null || System.nanoTime() - lastSaveNanos < SAVE_INTERVAL_NANOS ) {
+			return;
+		}
+		// Only one thread saves checkpoints at a time; other threads just carry on indexing
+		if ( saving.compareAndSet( false, true ) ) {
+			try {
+				doSave();
+			}
+			finally {
+				saving.set( false );
+			}
+		}
+	}
+
+	/**
+	 * To be called at the end of mass indexing, after indexes have been flushed:
+	 * clears the checkpoint if every type was completely indexed, saves it otherwise.
+	 *
+	 * @param types All the types that were to be indexed.
+	 */
+	void finish(Collection<Class<?>> types) {
+		if ( checkpoint == null ) {
+			return;
+		}
+		boolean completed;
+		synchronized ( this ) {
+			completed = checkpoint.isCompleted( types );
+		}
+		if ( completed ) {
+			try {
+				store.clear();
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToClearMassIndexingCheckpoint( e.getMessage(), e );
+			}
+		}
+		else {
+			doSave();
+		}
+	}
+
+	private void doSave() {
+		try {
+			byte[] bytes;
+			synchronized ( this ) {
+				bytes = checkpoint.toBytes();
+			}
+			// Flush after taking the snapshot: the snapshot only refers to documents submitted before the flush
+			flush.get().join();
+			store.save( bytes );
+			log.debugf( "Saved mass indexing checkpoint to %s", store );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToSaveMassIndexingCheckpoint( e.getMessage(), e );
+		}
+		finally {
+			lastSaveNanos = System.nanoTime();
+		}
+	}
+}
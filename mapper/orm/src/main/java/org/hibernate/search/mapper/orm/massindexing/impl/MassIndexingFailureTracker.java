@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Records failures of the mass indexing threads,
+ * so that the coordinator can tell whether every entity was indexed once all threads are done.
+ * <p>
+ * Failures are not reported through this class: they are still propagated by each thread.
+ * <p>
+ * Methods of this class are thread-safe.
+ */
+final class MassIndexingFailureTracker {
+
+	private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+	void failed(Throwable throwable) {
+		firstFailure.compareAndSet( null, throwable );
+	}
+
+	boolean hasFailed() {
+		return firstFailure.get() != null;
+	}
+
+	/**
+	 * @return The first recorded failure, or {@code null} if there was none.
+	 */
+	Throwable getFirstFailure() {
+		return firstFailure.get();
+	}
+
+}
@@ -25,6 +25,7 @@
 	//doesn't use <T> here as exitToken needs to be put in the queue too:
 	private final BlockingQueue<Object> queue;
 	private final AtomicInteger producersToWaitFor;
+	private final int capacity;
 
 	/**
 	 * @param producersToWaitFor The number of producer threads.
@@ -35,6 +36,7 @@ public ProducerConsumerQueue( int producersToWaitFor ) {
 
 	public ProducerConsumerQueue( int queueLength, int producersToWaitFor ) {
 		queue = new ArrayBlockingQueue<>( queueLength );
+		this.capacity = queueLength;
 		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
 	}
 
@@ -67,6 +69,20 @@ public void put(T obj) throws InterruptedException {
 		queue.put( obj );
 	}
 
+	/**
+	 * @return the approximate number of objects currently in the queue, for monitoring purposes
+	 */
+	public int size() {
+		return queue.size();
+	}
+
+	/**
+	 * @return the maximum number of objects in the queue
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
 	/**
 	 * Each producer thread should call producerStopping() when it has
 	 * finished. After doing it can safely terminate.
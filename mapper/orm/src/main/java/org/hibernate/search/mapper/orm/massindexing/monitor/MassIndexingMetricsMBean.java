@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.monitor;
+
+/**
+ * A MBean for following the progress and performance of mass indexing,
+ * either globally or for a single entity type.
+ * <p>
+ * Timings are given per stage of mass indexing, for each batch of entities,
+ * and can help tuning the number of threads and batch sizes:
+ * <ul>
+ * <li>identifier loading: scrolling through identifiers in the database;</li>
+ * <li>entity loading: executing the query loading a batch of entities;</li>
+ * <li>document building: building documents and submitting them to the backend,
+ * including the time spent waiting for the backend when its queues are full;</li>
+ * <li>backend indexing: waiting for the backend to acknowledge submitted documents.</li>
+ * </ul>
+ *
+ * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#MASS_INDEXING_JMX_ENABLED
+ */
+public interface MassIndexingMetricsMBean {
+
+	String OBJECT_NAME_DOMAIN = "org.hibernate.search.mapper.orm";
+
+	String OBJECT_NAME_TYPE = "MassIndexing";
+
+	/**
+	 * @return the total number of entities which need indexing
+	 */
+	long getEntitiesToIndexCount();
+
+	/**
+	 * @return the number of entities loaded so far
+	 */
+	long getEntitiesLoadedCount();
+
+	/**
+	 * @return the number of documents built so far
+	 */
+	long getDocumentsBuiltCount();
+
+	/**
+	 * @return the number of documents added to the index so far
+	 */
+	long getDocumentsAddedCount();
+
+	/**
+	 * @return the average number of documents added per second since mass indexing started
+	 */
+	double getDocumentsAddedPerSecond();
+
+	/**
+	 * @return the exponentially-weighted moving average of the number of documents added per second
+	 * over the last minute
+	 */
+	double getDocumentsAddedPerSecondOneMinuteAverage();
+
+	/**
+	 * @return the exponentially-weighted moving average of the number of documents added per second
+	 * over the last five minutes
+	 */
+	double getDocumentsAddedPerSecondFiveMinuteAverage();
+
+	/**
+	 * @return the estimated time until all entities are indexed, in seconds,
+	 * based on the one-minute moving average; {@code -1} if it cannot be estimated yet
+	 */
+	long getEstimatedRemainingTimeSeconds();
+
+	/**
+	 * @return the number of batches of identifiers waiting for their entities to be loaded
+	 */
+	int getIdentifierQueueSize();
+
+	/**
+	 * @return the maximum number of batches of identifiers waiting for their entities to be loaded
+	 */
+	int getIdentifierQueueCapacity();
+
+	long getIdentifierLoadingTotalTimeMillis();
+
+	double getIdentifierLoadingAverageTimeMillis();
+
+	long getIdentifierLoadingMaxTimeMillis();
+
+	long getEntityLoadingTotalTimeMillis();
+
+	double getEntityLoadingAverageTimeMillis();
+
+	long getEntityLoadingMaxTimeMillis();
+
+	long getDocumentBuildingTotalTimeMillis();
+
+	double getDocumentBuildingAverageTimeMillis();
+
+	long getDocumentBuildingMaxTimeMillis();
+
+	long getBackendIndexingTotalTimeMillis();
+
+	double getBackendIndexingAverageTimeMillis();
+
+	long getBackendIndexingMaxTimeMillis();
+
+}
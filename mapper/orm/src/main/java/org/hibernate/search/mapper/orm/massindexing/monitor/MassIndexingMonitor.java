@@ -98,4 +98,99 @@ public interface MassIndexingMonitor {
 	 * Notify the monitor that indexing is complete.
 	 */
 	void indexingCompleted();
+
+	/*
+	 * The methods below provide per-type details and timings of each stage of mass indexing.
+	 * They are invoked in addition to the methods above, not instead of them,
+	 * so that monitors only interested in global counters can ignore them.
+	 */
+
+	/**
+	 * Notify the monitor that {@code increment} more entities of the given type have been
+	 * detected in the database and will be indexed.
+	 * <p>
+	 * Invoked along with {@link #addToTotalCount(long)}.
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param increment additional number of entities of that type that will be indexed
+	 */
+	default void addToTotalCount(Class<?> entityType, long increment) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that a batch of identifiers of the given type has been loaded from the database.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param count the number of identifiers in the batch
+	 * @param durationNanos the time spent scrolling through identifiers to fill the batch, in nanoseconds
+	 */
+	default void identifiersLoaded(Class<?> entityType, long count, long durationNanos) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that a batch of entities of the given type has been loaded from the database.
+	 * <p>
+	 * Invoked along with {@link #entitiesLoaded(long)}.
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param count the number of entities in the batch
+	 * @param durationNanos the time spent executing the entity loading query, in nanoseconds
+	 */
+	default void entitiesLoaded(Class<?> entityType, long count, long durationNanos) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that the documents for a batch of entities of the given type
+	 * have been built and submitted to the backend.
+	 * <p>
+	 * Invoked in addition to {@link #documentsBuilt(long)}.
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param count the number of documents in the batch
+	 * @param durationNanos the time spent building documents and submitting them to the backend, in nanoseconds;
+	 * this includes the time spent waiting for the backend to accept works when its queues are full
+	 */
+	default void documentsBuilt(Class<?> entityType, long count, long durationNanos) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that the backend acknowledged the documents for a batch of entities of the given type.
+	 * <p>
+	 * Invoked along with {@link #documentsAdded(long)}.
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param count the number of documents in the batch
+	 * @param durationNanos the time elapsed between the submission of the documents to the backend
+	 * and their acknowledgement, in nanoseconds
+	 */
+	default void documentsAdded(Class<?> entityType, long count, long durationNanos) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor of the current occupancy of the queue of identifier batches for the given type,
+	 * i.e. of the batches that were loaded but are still waiting for their entities to be loaded.
+	 * <p>
+	 * A queue that is almost always full means entity loading is the bottleneck,
+	 * while a queue that is almost always empty means identifier loading is the bottleneck.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities
+	 * @param size the number of batches currently in the queue
+	 * @param capacity the maximum number of batches in the queue
+	 */
+	default void identifierQueueSampled(Class<?> entityType, int size, int capacity) {
+		// No-op by default
+	}
 }
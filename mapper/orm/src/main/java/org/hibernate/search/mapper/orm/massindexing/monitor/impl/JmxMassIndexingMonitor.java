@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.monitor.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMetricsMBean;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A {@link SimpleIndexingProgressMonitor} that also exposes
+ * the progress and performance metrics of mass indexing as JMX MBeans:
+ * one for the whole mass indexing process, and one per entity type.
+ * <p>
+ * MBeans are registered when the monitor is created or when the first notification for an entity type is received,
+ * and unregistered when indexing completes.
+ * Failures to register or unregister MBeans are logged, but never interrupt mass indexing.
+ */
+public class JmxMassIndexingMonitor extends SimpleIndexingProgressMonitor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final MBeanServer mBeanServer;
+	private final String id;
+	private final MassIndexingMetrics globalMetrics = new MassIndexingMetrics();
+	private final Map<Class<?>, MassIndexingMetrics> typeMetrics = new ConcurrentHashMap<>();
+	private final List<ObjectName> registeredNames = new ArrayList<>();
+
+	public JmxMassIndexingMonitor() {
+		this( ManagementFactory.getPlatformMBeanServer() );
+	}
+
+	public JmxMassIndexingMonitor(MBeanServer mBeanServer) {
+		this.mBeanServer = mBeanServer;
+		// Make names unique in case there are multiple mass indexers at the same time
+		this.id = Integer.toHexString( System.identityHashCode( this ) );
+		register( globalMetrics, null );
+	}
+
+	@Override
+	public void indexingCompleted() {
+		super.indexingCompleted();
+		synchronized ( registeredNames ) {
+			for ( ObjectName name : registeredNames ) {
+				try {
+					mBeanServer.unregisterMBean( name );
+				}
+				catch (JMException | RuntimeException e) {
+					log.unableToUnregisterMassIndexingMBean( name.toString(), e.getMessage(), e );
+				}
+			}
+			registeredNames.clear();
+		}
+	}
+
+	@Override
+	public void addToTotalCount(Class<?> entityType, long increment) {
+		globalMetrics.addToTotalCount( increment );
+		getMetrics( entityType ).addToTotalCount( increment );
+	}
+
+	@Override
+	public void identifiersLoaded(Class<?> entityType, long count, long durationNanos) {
+		globalMetrics.identifiersLoaded( durationNanos );
+		getMetrics( entityType ).identifiersLoaded( durationNanos );
+	}
+
+	@Override
+	public void entitiesLoaded(Class<?> entityType, long count, long durationNanos) {
+		globalMetrics.entitiesLoaded( count, durationNanos );
+		getMetrics( entityType ).entitiesLoaded( count, durationNanos );
+	}
+
+	@Override
+	public void documentsBuilt(Class<?> entityType, long count, long durationNanos) {
+		globalMetrics.documentsBuilt( count, durationNanos );
+		getMetrics( entityType ).documentsBuilt( count, durationNanos );
+	}
+
+	@Override
+	public void documentsAdded(Class<?> entityType, long count, long durationNanos) {
+		globalMetrics.documentsAdded( count, durationNanos );
+		getMetrics( entityType ).documentsAdded( count, durationNanos );
+	}
+
+	@Override
+	public void identifierQueueSampled(Class<?> entityType, int size, int capacity) {
+		MassIndexingMetrics metrics = getMetrics( entityType );
+		// The global metrics sum the occupancy of the queues of every type
+		globalMetrics.addToIdentifierQueueSize( size - metrics.setIdentifierQueueSize( size ) );
+		globalMetrics.addToIdentifierQueueCapacity( capacity - metrics.setIdentifierQueueCapacity( capacity ) );
+	}
+
+	private MassIndexingMetrics getMetrics(Class<?> entityType) {
+		return typeMetrics.computeIfAbsent( entityType, type -> {
+			MassIndexingMetrics metrics = new MassIndexingMetrics();
+			register( metrics, type );
+			return metrics;
+		} );
+	}
+
+	private void register(MassIndexingMetrics metrics, Class<?> entityType) {
+		Hashtable<String, String> properties = new Hashtable<>();
+		properties.put( "type", MassIndexingMetricsMBean.OBJECT_NAME_TYPE );
+		properties.put( "id", id );
+		if ( entityType != null ) {
+			properties.put( "entity", ObjectName.quote( entityType.getName() ) );
+		}
+		ObjectName name = null;
+		try {
+			name = new ObjectName( MassIndexingMetricsMBean.OBJECT_NAME_DOMAIN, properties );
+			mBeanServer.registerMBean( new StandardMBean( metrics, MassIndexingMetricsMBean.class ), name );
+			synchronized ( registeredNames ) {
+				registeredNames.add( name );
+			}
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToRegisterMassIndexingMBean( String.valueOf( name ), e.getMessage(), e );
+		}
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.monitor.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMetricsMBean;
+
+/**
+ * Metrics of mass indexing, either globally or for a single entity type.
+ * <p>
+ * Methods of this class are thread-safe.
+ */
+final class MassIndexingMetrics implements MassIndexingMetricsMBean {
+
+	private final LongAdder entitiesToIndex = new LongAdder();
+	private final LongAdder entitiesLoaded = new LongAdder();
+	private final LongAdder documentsBuilt = new LongAdder();
+	private final LongAdder documentsAdded = new LongAdder();
+
+	private final StageTimer identifierLoading = new StageTimer();
+	private final StageTimer entityLoading = new StageTimer();
+	private final StageTimer documentBuilding = new StageTimer();
+	private final StageTimer backendIndexing = new StageTimer();
+
+	private final MovingAverageRate documentsAddedRate = new MovingAverageRate();
+
+	private final AtomicInteger identifierQueueSize = new AtomicInteger();
+	private final AtomicInteger identifierQueueCapacity = new AtomicInteger();
+
+	private final long startNanos = System.nanoTime();
+
+	void addToTotalCount(long increment) {
+		entitiesToIndex.add( increment );
+	}
+
+	void identifiersLoaded(long durationNanos) {
+		identifierLoading.record( durationNanos );
+	}
+
+	void entitiesLoaded(long count, long durationNanos) {
+		entitiesLoaded.add( count );
+		entityLoading.record( durationNanos );
+	}
+
+	void documentsBuilt(long count, long durationNanos) {
+		documentsBuilt.add( count );
+		documentBuilding.record( durationNanos );
+	}
+
+	void documentsAdded(long count, long durationNanos) {
+		documentsAdded.add( count );
+		documentsAddedRate.mark( count );
+		backendIndexing.record( durationNanos );
+	}
+
+	/**
+	 * @return The previous queue size.
+	 */
+	int setIdentifierQueueSize(int size) {
+		return identifierQueueSize.getAndSet( size );
+	}
+
+	void addToIdentifierQueueSize(int delta) {
+		identifierQueueSize.addAndGet( delta );
+	}
+
+	/**
+	 * @return The previous queue capacity.
+	 */
+	int setIdentifierQueueCapacity(int capacity) {
+		return identifierQueueCapacity.getAndSet( capacity );
+	}
+
+	void addToIdentifierQueueCapacity(int delta) {
+		identifierQueueCapacity.addAndGet( delta );
+	}
+
+	@Override
+	public long getEntitiesToIndexCount() {
+		return entitiesToIndex.sum();
+	}
+
+	@Override
+	public long getEntitiesLoadedCount() {
+		return entitiesLoaded.sum();
+	}
+
+	@Override
+	public long getDocumentsBuiltCount() {
+		return documentsBuilt.sum();
+	}
+
+	@Override
+	public long getDocumentsAddedCount() {
+		return documentsAdded.sum();
+	}
+
+	@Override
+	public double getDocumentsAddedPerSecond() {
+		long elapsedNanos = System.nanoTime() - startNanos;
+		return elapsedNanos <= 0L ? 0.0 : documentsAdded.sum() * (double) TimeUnit.SECONDS.toNanos( 1 ) / elapsedNanos;
+	}
+
+	@Override
+	public double getDocumentsAddedPerSecondOneMinuteAverage() {
+		return documentsAddedRate.getOneMinuteRatePerSecond();
+	}
+
+	@Override
+	public double getDocumentsAddedPerSecondFiveMinuteAverage() {
+		return documentsAddedRate.getFiveMinuteRatePerSecond();
+	}
+
+	@Override
+	public long getEstimatedRemainingTimeSeconds() {
+		long remaining = entitiesToIndex.sum() - documentsAdded.sum();
+		if ( remaining <= 0L ) {
+			return 0L;
+		}
+		double rate = documentsAddedRate.getOneMinuteRatePerSecond();
+		if ( rate <= 0.0 ) {
+			// The moving average is only available after a few seconds
+			rate = getDocumentsAddedPerSecond();
+		}
+		return rate <= 0.0 ? -1L : (long) Math.ceil( remaining / rate );
+	}
+
+	@Override
+	public int getIdentifierQueueSize() {
+		return identifierQueueSize.get();
+	}
+
+	@Override
+	public int getIdentifierQueueCapacity() {
+		return identifierQueueCapacity.get();
+	}
+
+	@Override
+	public long getIdentifierLoadingTotalTimeMillis() {
+		return identifierLoading.getTotalTimeMillis();
+	}
+
+	@Override
+	public double getIdentifierLoadingAverageTimeMillis() {
+		return identifierLoading.getAverageTimeMillis();
+	}
+
+	@Override
+	public long getIdentifierLoadingMaxTimeMillis() {
+		return identifierLoading.getMaxTimeMillis();
+	}
+
+	@Override
+	public long getEntityLoadingTotalTimeMillis() {
+		return entityLoading.getTotalTimeMillis();
+	}
+
+	@Override
+	public double getEntityLoadingAverageTimeMillis() {
+		return entityLoading.getAverageTimeMillis();
+	}
+
+	@Override
+	public long getEntityLoadingMaxTimeMillis() {
+		return entityLoading.getMaxTimeMillis();
+	}
+
+	@Override
+	public long getDocumentBuildingTotalTimeMillis() {
+		return documentBuilding.getTotalTimeMillis();
+	}
+
+	@Override
+	public double getDocumentBuildingAverageTimeMillis() {
+		return documentBuilding.getAverageTimeMillis();
+	}
+
+	@Override
+	public long getDocumentBuildingMaxTimeMillis() {
+		return documentBuilding.getMaxTimeMillis();
+	}
+
+	@Override
+	public long getBackendIndexingTotalTimeMillis() {
+		return backendIndexing.getTotalTimeMillis();
+	}
+
+	@Override
+	public double getBackendIndexingAverageTimeMillis() {
+		return backendIndexing.getAverageTimeMillis();
+	}
+
+	@Override
+	public long getBackendIndexingMaxTimeMillis() {
+		return backendIndexing.getMaxTimeMillis();
+	}
+
+	/**
+	 * Records the duration of a stage of mass indexing, for each batch.
+	 */
+	private static final class StageTimer {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator( Math::max, 0L );
+
+		void record(long durationNanos) {
+			count.increment();
+			totalNanos.add( durationNanos );
+			maxNanos.accumulate( durationNanos );
+		}
+
+		long getTotalTimeMillis() {
+			return TimeUnit.NANOSECONDS.toMillis( totalNanos.sum() );
+		}
+
+		double getAverageTimeMillis() {
+			long currentCount = count.sum();
+			return currentCount == 0L ? 0.0 : totalNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos( 1 ) / currentCount;
+		}
+
+		long getMaxTimeMillis() {
+			return TimeUnit.NANOSECONDS.toMillis( maxNanos.get() );
+		}
+	}
+
+	/**
+	 * Exponentially-weighted moving averages of a rate of events,
+	 * updated every few seconds, similar to the Unix load average.
+	 */
+	private static final class MovingAverageRate {
+		private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 5 );
+		private static final double ONE_MINUTE_ALPHA = 1.0 - Math.exp( -5.0 / 60.0 );
+		private static final double FIVE_MINUTE_ALPHA = 1.0 - Math.exp( -5.0 / 300.0 );
+		private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos( 1 );
+
+		private final LongAdder uncounted = new LongAdder();
+		private final AtomicLong lastTickNanos = new AtomicLong( System.nanoTime() );
+
+		// Rates in events per nanosecond, guarded by this
+		private boolean initialized = false;
+		private double oneMinuteRate = 0.0;
+		private double fiveMinuteRate = 0.0;
+
+		void mark(long count) {
+			tickIfNecessary();
+			uncounted.add( count );
+		}
+
+		double getOneMinuteRatePerSecond() {
+			tickIfNecessary();
+			synchronized ( this ) {
+				return oneMinuteRate * NANOS_PER_SECOND;
+			}
+		}
+
+		double getFiveMinuteRatePerSecond() {
+			tickIfNecessary();
+			synchronized ( this ) {
+				return fiveMinuteRate * NANOS_PER_SECOND;
+			}
+		}
+
+		private void tickIfNecessary() {
+			long oldTick = lastTickNanos.get();
+			long age = System.nanoTime() - oldTick;
+			if ( age < TICK_INTERVAL_NANOS ) {
+				return;
+			}
+			long newTick = oldTick + age - age % TICK_INTERVAL_NANOS;
+			// Only one thread ticks; others just carry on
+			if ( lastTickNanos.compareAndSet( oldTick, newTick ) ) {
+				long ticks = age / TICK_INTERVAL_NANOS;
+				for ( long i = 0; i < ticks; i++ ) {
+					tick();
+				}
+			}
+		}
+
+		private synchronized void tick() {
+			double instantRate = uncounted.sumThenReset() / (double) TICK_INTERVAL_NANOS;
+			if ( initialized ) {
+				oneMinuteRate += ONE_MINUTE_ALPHA * ( instantRate - oneMinuteRate );
+				fiveMinuteRate += FIVE_MINUTE_ALPHA * ( instantRate - fiveMinuteRate );
+			}
+			else {
+				oneMinuteRate = instantRate;
+				fiveMinuteRate = instantRate;
+				initialized = true;
+			}
+		}
+	}
+}
@@ -8,6 +8,8 @@
 
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactory;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryOptionsStep;
@@ -69,6 +71,22 @@
 	 */
 	SearchSortFactory sort();
 
+	/**
+	 * Initiate the building of a search aggregation that will be valid for the indexes in this scope.
+	 * <p>
+	 * The aggregation will only be valid for {@link #search() search queries} created using this scope
+	 * or a wider scope.
+	 * <p>
+	 * Note this method is only necessary if you do not want to use lambda expressions,
+	 * since you can {@link SearchQueryOptionsStep#aggregation(AggregationKey, Function) define aggregations with lambdas}
+	 * within the search query DSL,
+	 * removing the need to create separate objects to represent the aggregations.
+	 *
+	 * @return An aggregation factory.
+	 * @see SearchAggregationFactory
+	 */
+	SearchAggregationFactory aggregation();
+
 	/**
 	 * Initiate the building of a search projection that will be valid for the indexes in this scope.
 	 * <p>
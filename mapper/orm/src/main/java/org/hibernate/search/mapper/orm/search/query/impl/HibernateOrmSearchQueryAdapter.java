@@ -9,13 +9,16 @@
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
+import javax.persistence.QueryTimeoutException;
 import javax.persistence.TemporalType;
 
 import org.hibernate.HibernateException;
@@ -25,13 +28,17 @@
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.internal.AbstractProducedQuery;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryImplementor;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.mapper.orm.search.loading.impl.MutableEntityLoadingOptions;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -41,13 +48,16 @@ public static <R> HibernateOrmSearchQueryAdapter<R> create(SearchQuery<R> query)
 		return query.extension( HibernateOrmSearchQueryAdapterExtension.get() );
 	}
 
-	private final SearchQuery<R> delegate;
+	private static final String JPA_TIMEOUT_HINT = "javax.persistence.query.timeout";
+
+	private final SearchQueryImplementor<R> delegate;
 	private final MutableEntityLoadingOptions loadingOptions;
+	private final Map<String, Object> hints = new HashMap<>();
 
 	private Integer firstResult;
 	private Integer maxResults;
 
-	HibernateOrmSearchQueryAdapter(SearchQuery<R> delegate, SessionImplementor sessionImplementor,
+	HibernateOrmSearchQueryAdapter(SearchQueryImplementor<R> delegate, SessionImplementor sessionImplementor,
 			MutableEntityLoadingOptions loadingOptions) {
 		super( sessionImplementor, new ParameterMetadataImpl( null, null ) );
 		this.delegate = delegate;
@@ -86,6 +96,9 @@ public List<R> list() {
 		try {
 			return doList();
 		}
+		catch (SearchTimeoutException e) {
+			throw new QueryTimeoutException( e.getMessage(), e, this );
+		}
 		catch (QueryException he) {
 			throw new IllegalStateException( he );
 		}
@@ -153,7 +166,6 @@ protected boolean isNativeQuery() {
 
 	@Override
 	protected List<R> doList() {
-		// TODO HSEARCH-3352 handle timeouts
 		// TODO HSEARCH-3093 apply the result transformer?
 		return delegate.fetchHits( maxResults, firstResult );
 	}
@@ -188,13 +200,33 @@ private UnsupportedOperationException resultStreamingNotImplemented() {
 
 	@Override
 	public HibernateOrmSearchQueryAdapter<R> setHint(String hintName, Object value) {
-		// TODO HSEARCH-3352 hints (javax.persistence.query.timeout hint in particular)
-		throw new UnsupportedOperationException( "Not implemented yet" );
+		// Unknown hints are ignored, as required by the JPA specification
+		hints.put( hintName, value );
+		if ( JPA_TIMEOUT_HINT.equals( hintName ) ) {
+			Integer timeoutMillis = ConfigurationHelper.getInteger( JPA_TIMEOUT_HINT, hints );
+			applyTimeout( timeoutMillis, TimeUnit.MILLISECONDS );
+		}
+		return this;
 	}
 
 	@Override
 	public Map<String, Object> getHints() {
-		throw new UnsupportedOperationException( "Not implemented yet" );
+		return Collections.unmodifiableMap( hints );
+	}
+
+	@Override
+	public HibernateOrmSearchQueryAdapter<R> setTimeout(int timeout) {
+		applyTimeout( timeout, TimeUnit.SECONDS );
+		return this;
+	}
+
+	private void applyTimeout(Integer timeout, TimeUnit timeUnit) {
+		if ( timeout == null || timeout <= 0 ) {
+			delegate.timeout( null );
+		}
+		else {
+			delegate.timeout( SearchTimeout.failAfter( timeout, timeUnit ) );
+		}
 	}
 
 	@Override
@@ -344,16 +376,6 @@ public HibernateOrmSearchQueryAdapter<R> setLockMode(String alias, LockMode lock
 		throw new UnsupportedOperationException( "Lock options are not implemented in Hibernate Search queries" );
 	}
 
-	@Override
-	public HibernateOrmSearchQueryAdapter<R> setTimeout(int timeout) {
-		throw timeoutNotImplementedYet();
-	}
-
-	private UnsupportedOperationException timeoutNotImplementedYet() {
-		// TODO HSEARCH-3352 add support for timeouts
-		return new UnsupportedOperationException( "Not implemented yet" );
-	}
-
 	@Deprecated
 	@Override
 	public Type[] getReturnTypes() {
@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.spi.SearchQueryImplementor;
 import org.hibernate.search.mapper.orm.search.loading.context.impl.HibernateOrmLoadingContext;
 
 final class HibernateOrmSearchQueryAdapterExtension<H> implements
@@ -28,7 +29,8 @@ public Optional<HibernateOrmSearchQueryAdapter<H>> extendOptional(SearchQuery<H>
 		if ( loadingContext instanceof HibernateOrmLoadingContext ) {
 			HibernateOrmLoadingContext<?> castedLoadingContext = (HibernateOrmLoadingContext<?>) loadingContext;
 			return Optional.of( new HibernateOrmSearchQueryAdapter<>(
-					original,
+					// All search queries implement this SPI
+					(SearchQueryImplementor<H>) original,
 					castedLoadingContext.getSessionImplementor(),
 					castedLoadingContext.getLoadingOptions()
 			) );
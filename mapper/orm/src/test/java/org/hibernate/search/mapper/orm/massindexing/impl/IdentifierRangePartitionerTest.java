@@ -0,0 +1,122 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class IdentifierRangePartitionerTest {
+
+	@Test
+	public void splitAt() {
+		assertThat( toStrings( IdentifierRange.splitAt( Collections.emptyList() ) ) )
+				.containsExactly( "[, )" );
+		assertThat( toStrings( IdentifierRange.splitAt( Arrays.asList( 10L, 20L ) ) ) )
+				.containsExactly( "[, 10)", "[10, 20)", "[20, )" );
+	}
+
+	@Test
+	public void integralBoundaries() {
+		assertThat( IdentifierRangePartitioner.integralBoundaries( Long.class, 0L, 99L, 4 ) )
+				.containsExactly( 25L, 50L, 75L );
+	}
+
+	@Test
+	public void integralBoundaries_singleIdentifier() {
+		assertThat( IdentifierRangePartitioner.integralBoundaries( Integer.class, 42, 42, 4 ) )
+				.isEmpty();
+	}
+
+	@Test
+	public void integralBoundaries_negativeIdentifiers() {
+		assertThat( IdentifierRangePartitioner.integralBoundaries( Integer.class, -20, 19, 4 ) )
+				.containsExactly( -10, 0, 10 );
+	}
+
+	@Test
+	public void integralBoundaries_spanLowerThanPartitionCount() {
+		assertThat( IdentifierRangePartitioner.integralBoundaries( Short.class, (short) 5, (short) 7, 10 ) )
+				.containsExactly( (short) 6, (short) 7 );
+	}
+
+	@Test
+	public void integralBoundaries_bigInteger() {
+		BigInteger min = BigInteger.valueOf( Long.MAX_VALUE );
+		BigInteger max = min.multiply( BigInteger.valueOf( 3 ) ).add( BigInteger.valueOf( 2 ) );
+		assertThat( IdentifierRangePartitioner.integralBoundaries( BigInteger.class, min, max, 2 ) )
+				.containsExactly( min.add( min ).add( BigInteger.ONE ) );
+	}
+
+	@Test
+	public void sampleBoundaries() {
+		List<String> ids = ids( 100 );
+		CountingIterator<String> iterator = new CountingIterator<>( ids.iterator() );
+		assertThat( IdentifierRangePartitioner.sampleBoundaries( iterator, ids.size(), 4 ) )
+				.containsExactly( ids.get( 25 ), ids.get( 50 ), ids.get( 75 ) );
+		// Identifiers are scrolled through once, and only up to the last boundary
+		assertThat( iterator.count ).isEqualTo( 76 );
+	}
+
+	@Test
+	public void sampleBoundaries_countLowerThanPartitionCount() {
+		List<String> ids = ids( 3 );
+		assertThat( IdentifierRangePartitioner.sampleBoundaries( ids.iterator(), ids.size(), 10 ) )
+				.containsExactly( ids.get( 1 ), ids.get( 2 ) );
+	}
+
+	@Test
+	public void sampleBoundaries_entitiesDeletedConcurrently() {
+		List<String> ids = ids( 50 );
+		assertThat( IdentifierRangePartitioner.sampleBoundaries( ids.iterator(), 100, 4 ) )
+				.containsExactly( ids.get( 25 ) );
+	}
+
+	private static List<String> ids(int count) {
+		return IntStream.range( 0, count )
+				.mapToObj( i -> String.format( Locale.ROOT, "id%03d", i ) )
+				.collect( Collectors.toList() );
+	}
+
+	private static List<String> toStrings(List<? extends IdentifierRange<?>> ranges) {
+		List<String> result = new ArrayList<>();
+		for ( IdentifierRange<?> range : ranges ) {
+			result.add( range.toString() );
+		}
+		return result;
+	}
+
+	private static final class CountingIterator<T> implements Iterator<T> {
+		private final Iterator<T> delegate;
+		private int count = 0;
+
+		private CountingIterator(Iterator<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public T next() {
+			++count;
+			return delegate.next();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.hibernate.type.StringRepresentableType;
+
+import org.junit.Test;
+
+public class MassIndexingCheckpointTest {
+
+	private static final IdentifierStringConverter<Long> LONG_CONVERTER =
+			new IdentifierStringConverter<>( new StringRepresentableType<Long>() {
+				@Override
+				public String toString(Long value) {
+					return value.toString();
+				}
+
+				@Override
+				public Long fromStringValue(String string) {
+					return Long.valueOf( string );
+				}
+			} );
+
+	@Test
+	public void roundTrip() throws IOException {
+		MassIndexingCheckpoint checkpoint = new MassIndexingCheckpoint();
+		List<MassIndexingCheckpoint.RangeCheckpoint<Long>> rangeCheckpoints = checkpoint.start(
+				"com.example.Book", IdentifierRange.splitAt( Arrays.asList( 100L, 200L ) ), LONG_CONVERTER
+		);
+		rangeCheckpoints.get( 0 ).markCompleted();
+		rangeCheckpoints.get( 1 ).setLastIndexedId( 150L );
+		checkpoint.start( "com.example.Author", Collections.singletonList( IdentifierRange.all() ), null );
+
+		byte[] bytes = checkpoint.toBytes();
+		// The format is plain text, not Java serialization
+		assertThat( new String( bytes, StandardCharsets.UTF_8 ) )
+				.contains( "version=1" )
+				.contains( "com.example.Book" );
+
+		MassIndexingCheckpoint loaded = MassIndexingCheckpoint.fromBytes( bytes );
+		List<MassIndexingCheckpoint.RangeCheckpoint<Long>> loadedRangeCheckpoints =
+				loaded.get( "com.example.Book", LONG_CONVERTER );
+		assertThat( loadedRangeCheckpoints ).hasSize( 3 );
+		assertThat( loadedRangeCheckpoints.get( 0 ).isCompleted() ).isTrue();
+		assertThat( loadedRangeCheckpoints.get( 1 ).isCompleted() ).isFalse();
+		assertThat( loadedRangeCheckpoints.get( 1 ).getRemainingRange() ).hasToString( "(150, 200)" );
+		assertThat( loadedRangeCheckpoints.get( 2 ).getRemainingRange() ).hasToString( "[200, )" );
+		assertThat( loaded.get( "com.example.Author", null ) ).hasSize( 1 );
+		assertThat( loaded.get( "com.example.Unknown", null ) ).isNull();
+	}
+
+	@Test
+	public void roundTrip_typeNotStartedAfterLoading() throws IOException {
+		MassIndexingCheckpoint checkpoint = new MassIndexingCheckpoint();
+		checkpoint.start( "com.example.Book", IdentifierRange.splitAt( Arrays.asList( 100L ) ), LONG_CONVERTER )
+				.get( 0 ).setLastIndexedId( 42L );
+
+		// Types that did not start indexing since loading must be saved again as they were loaded
+		MassIndexingCheckpoint reloaded = MassIndexingCheckpoint.fromBytes(
+				MassIndexingCheckpoint.fromBytes( checkpoint.toBytes() ).toBytes()
+		);
+		assertThat( reloaded.get( "com.example.Book", LONG_CONVERTER ).get( 0 ).getRemainingRange() )
+				.hasToString( "(42, 100)" );
+	}
+
+	@Test
+	public void invalid_unsupportedVersion() {
+		SubTest.expectException( () -> MassIndexingCheckpoint.fromBytes(
+				"version=2\ntype.count=0\n".getBytes( StandardCharsets.UTF_8 )
+		) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "'version'" );
+	}
+
+	@Test
+	public void invalid_javaSerialization() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( new ArrayList<>() );
+		}
+		SubTest.expectException( () -> MassIndexingCheckpoint.fromBytes( bytes.toByteArray() ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "'version'" );
+	}
+
+	@Test
+	public void invalid_missingKey() {
+		SubTest.expectException( () -> MassIndexingCheckpoint.fromBytes(
+				"version=1\ntype.count=1\ntype.0.name=com.example.Book\n".getBytes( StandardCharsets.UTF_8 )
+		) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "'type.0.range.count'" );
+	}
+}
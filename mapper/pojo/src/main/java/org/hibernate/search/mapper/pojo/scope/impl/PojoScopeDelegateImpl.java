@@ -25,6 +25,7 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 import org.hibernate.search.mapper.pojo.mapping.context.spi.AbstractPojoMappingContextImplementor;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortFactory;
 import org.hibernate.search.mapper.pojo.work.impl.PojoScopeWorkExecutorImpl;
@@ -114,6 +115,11 @@ public SearchSortFactory sort() {
 		return getIndexScope().sort();
 	}
 
+	@Override
+	public SearchAggregationFactory aggregation() {
+		return getIndexScope().aggregation();
+	}
+
 	@Override
 	public SearchProjectionFactory<R, E2> projection() {
 		return getIndexScope().projection();
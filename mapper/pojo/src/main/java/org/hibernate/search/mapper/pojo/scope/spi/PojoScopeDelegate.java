@@ -8,6 +8,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactory;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactory;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactory;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryHitTypeStep;
@@ -36,6 +37,8 @@
 
 	SearchSortFactory sort();
 
+	SearchAggregationFactory aggregation();
+
 	SearchProjectionFactory<R, E> projection();
 
 	PojoScopeWorkExecutor executor();
@@ -42,6 +42,21 @@ public CompletableFuture<?> flush() {
 		return doOperationOnTypes( IndexWorkExecutor::flush );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		return doOperationOnTypes( IndexWorkExecutor::startRebuild );
+	}
+
+	@Override
+	public CompletableFuture<?> completeRebuild() {
+		return doOperationOnTypes( IndexWorkExecutor::completeRebuild );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return doOperationOnTypes( IndexWorkExecutor::abortRebuild );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkExecutor, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[workExecutors.size()];
 		int typeCounter = 0;
@@ -46,14 +46,27 @@ public CompletableFuture<?> add(Object entity) {
 
 	@Override
 	public CompletableFuture<?> add(Object providedId, Object entity) {
+		return getTypeDocumentExecutor( entity ).add( providedId, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> update(Object entity) {
+		return update( null, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> update(Object providedId, Object entity) {
+		return getTypeDocumentExecutor( entity ).update( providedId, entity );
+	}
+
+	private PojoTypeDocumentWorkExecutor<?, ?, ?> getTypeDocumentExecutor(Object entity) {
 		Class<?> clazz = introspector.getClass( entity );
 		PojoTypeDocumentWorkExecutor<?, ?, ?> typeExecutor = this.typeExecutors.get( clazz );
 		if ( typeExecutor == null ) {
 			typeExecutor = createTypeDocumentExecutor( clazz );
 			typeExecutors.put( clazz, typeExecutor );
 		}
-
-		return typeExecutor.add( providedId, entity );
+		return typeExecutor;
 	}
 
 	private PojoTypeDocumentWorkExecutor<?, ?, ?> createTypeDocumentExecutor(Class<?> clazz) {
@@ -34,4 +34,11 @@ CompletableFuture<?> add(Object providedId, Object entity) {
 		DocumentReferenceProvider referenceProvider = typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
 		return delegate.add( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
 	}
+
+	CompletableFuture<?> update(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		DocumentReferenceProvider referenceProvider = typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
+		return delegate.update( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
+	}
 }
@@ -16,4 +16,10 @@ public interface PojoScopeWorkExecutor {
 
 	CompletableFuture<?> flush();
 
+	CompletableFuture<?> startRebuild();
+
+	CompletableFuture<?> completeRebuild();
+
+	CompletableFuture<?> abortRebuild();
+
 }
@@ -34,4 +34,28 @@ public interface PojoSessionWorkExecutor {
 	 */
 	CompletableFuture<?> add(Object entity);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index.
+	 * <p>
+	 * Unlike {@link #add(Object, Object)}, this never leads to duplicate entries in the index,
+	 * but may be slower depending on the backend.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @return A {@link CompletableFuture} reflecting the completion state of the operation.
+	 */
+	CompletableFuture<?> update(Object providedId, Object entity);
+
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index.
+	 * <p>
+	 * Shorthand for {@code update(null, entity)}; see {@link #update(Object, Object)}.
+	 *
+	 * @param entity The entity to update in the index.
+	 * @return A {@link CompletableFuture} reflecting the completion state of the operation.
+	 */
+	CompletableFuture<?> update(Object entity);
+
 }
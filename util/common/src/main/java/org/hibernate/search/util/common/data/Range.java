@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.data;
+
+import java.util.Objects;
+
+/**
+ * A range of values, with an included lower bound and an excluded upper bound.
+ * <p>
+ * Either bound may be {@code null}, meaning the range is unbounded on that side.
+ *
+ * @param <T> The type of values in this range.
+ */
+public final class Range<T> {
+
+	/**
+	 * @param lowerBoundIncluded The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBoundExcluded The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @param <T> The type of values in this range.
+	 * @return A new range.
+	 */
+	public static <T> Range<T> of(T lowerBoundIncluded, T upperBoundExcluded) {
+		return new Range<>( lowerBoundIncluded, upperBoundExcluded );
+	}
+
+	/**
+	 * @param lowerBoundIncluded The lower bound of the range, included.
+	 * @param <T> The type of values in this range.
+	 * @return A new range with no upper bound.
+	 */
+	public static <T> Range<T> atLeast(T lowerBoundIncluded) {
+		return new Range<>( lowerBoundIncluded, null );
+	}
+
+	/**
+	 * @param upperBoundExcluded The upper bound of the range, excluded.
+	 * @param <T> The type of values in this range.
+	 * @return A new range with no lower bound.
+	 */
+	public static <T> Range<T> lessThan(T upperBoundExcluded) {
+		return new Range<>( null, upperBoundExcluded );
+	}
+
+	private final T lowerBoundIncluded;
+	private final T upperBoundExcluded;
+
+	private Range(T lowerBoundIncluded, T upperBoundExcluded) {
+		this.lowerBoundIncluded = lowerBoundIncluded;
+		this.upperBoundExcluded = upperBoundExcluded;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundIncluded == null ? "-inf" : lowerBoundIncluded )
+				+ ", " + ( upperBoundExcluded == null ? "+inf" : upperBoundExcluded ) + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( !( obj instanceof Range ) ) {
+			return false;
+		}
+		Range<?> other = (Range<?>) obj;
+		return Objects.equals( lowerBoundIncluded, other.lowerBoundIncluded )
+				&& Objects.equals( upperBoundExcluded, other.upperBoundExcluded );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( lowerBoundIncluded, upperBoundExcluded );
+	}
+
+	/**
+	 * @return The lower bound of this range, included, or {@code null} if there is no lower bound.
+	 */
+	public T getLowerBoundIncluded() {
+		return lowerBoundIncluded;
+	}
+
+	/**
+	 * @return The upper bound of this range, excluded, or {@code null} if there is no upper bound.
+	 */
+	public T getUpperBoundExcluded() {
+		return upperBoundExcluded;
+	}
+}
@@ -47,6 +47,8 @@ public StubSearchWorkAssert matches(StubSearchWork expected) {
 		hasAnyMismatch = hasAnyMismatch || mismatch;
 		mismatch = checkForMismatch( builder, "limit", expected.getLimit(), actual.getLimit() );
 		hasAnyMismatch = hasAnyMismatch || mismatch;
+		mismatch = checkForMismatch( builder, "timeout", expected.getTimeout(), actual.getTimeout() );
+		hasAnyMismatch = hasAnyMismatch || mismatch;
 
 		if ( hasAnyMismatch ) {
 			Assert.fail( builder.toString() );
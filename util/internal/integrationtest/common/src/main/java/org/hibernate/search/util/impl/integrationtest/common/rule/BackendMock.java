@@ -357,6 +357,39 @@ public IndexScopeWorkCallListContext flush(CompletableFuture<?> future) {
 			);
 		}
 
+		public IndexScopeWorkCallListContext startRebuild() {
+			return startRebuild( CompletableFuture.completedFuture( null ) );
+		}
+
+		public IndexScopeWorkCallListContext startRebuild(CompletableFuture<?> future) {
+			return work(
+					StubIndexScopeWork.builder( StubIndexScopeWork.Type.START_REBUILD ).build(),
+					future
+			);
+		}
+
+		public IndexScopeWorkCallListContext completeRebuild() {
+			return completeRebuild( CompletableFuture.completedFuture( null ) );
+		}
+
+		public IndexScopeWorkCallListContext completeRebuild(CompletableFuture<?> future) {
+			return work(
+					StubIndexScopeWork.builder( StubIndexScopeWork.Type.COMPLETE_REBUILD ).build(),
+					future
+			);
+		}
+
+		public IndexScopeWorkCallListContext abortRebuild() {
+			return abortRebuild( CompletableFuture.completedFuture( null ) );
+		}
+
+		public IndexScopeWorkCallListContext abortRebuild(CompletableFuture<?> future) {
+			return work(
+					StubIndexScopeWork.builder( StubIndexScopeWork.Type.ABORT_REBUILD ).build(),
+					future
+			);
+		}
+
 		private IndexScopeWorkCallListContext work(StubIndexScopeWork work, CompletableFuture<?> future) {
 			expectationConsumer.accept( new IndexScopeWorkCall( indexNames, work, future ) );
 			return this;
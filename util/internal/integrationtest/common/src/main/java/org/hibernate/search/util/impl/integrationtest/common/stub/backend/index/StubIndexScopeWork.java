@@ -9,7 +9,7 @@
 public final class StubIndexScopeWork {
 
 	public enum Type {
-		OPTIMIZE, PURGE, FLUSH
+		OPTIMIZE, PURGE, FLUSH, START_REBUILD, COMPLETE_REBUILD, ABORT_REBUILD
 	}
 
 	public static Builder builder(Type type) {
@@ -33,10 +33,21 @@ public StubIndexDocumentWorkExecutor(StubIndexManager indexManager, SessionConte
 	@Override
 	public CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider,
 			DocumentContributor<StubDocumentElement> documentContributor) {
+		return execute( StubDocumentWork.Type.ADD, documentReferenceProvider, documentContributor );
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<StubDocumentElement> documentContributor) {
+		return execute( StubDocumentWork.Type.UPDATE, documentReferenceProvider, documentContributor );
+	}
+
+	private CompletableFuture<?> execute(StubDocumentWork.Type type, DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<StubDocumentElement> documentContributor) {
 		StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
 		documentContributor.contribute( new StubDocumentElement( documentBuilder ) );
 
-		StubDocumentWork work = StubDocumentWork.builder( StubDocumentWork.Type.ADD )
+		StubDocumentWork work = StubDocumentWork.builder( type )
 				.tenantIdentifier( sessionContext.getTenantIdentifier() )
 				.identifier( documentReferenceProvider.getIdentifier() )
 				.routingKey( documentReferenceProvider.getRoutingKey() )
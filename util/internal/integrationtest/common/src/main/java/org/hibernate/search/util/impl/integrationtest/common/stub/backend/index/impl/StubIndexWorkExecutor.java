@@ -46,4 +46,22 @@ public CompletableFuture<?> flush() {
 		StubIndexScopeWork work = StubIndexScopeWork.builder( StubIndexScopeWork.Type.FLUSH ).build();
 		return behavior.executeIndexScopeWork( Collections.singleton( indexName ), work );
 	}
+
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		StubIndexScopeWork work = StubIndexScopeWork.builder( StubIndexScopeWork.Type.START_REBUILD ).build();
+		return behavior.executeIndexScopeWork( Collections.singleton( indexName ), work );
+	}
+
+	@Override
+	public CompletableFuture<?> completeRebuild() {
+		StubIndexScopeWork work = StubIndexScopeWork.builder( StubIndexScopeWork.Type.COMPLETE_REBUILD ).build();
+		return behavior.executeIndexScopeWork( Collections.singleton( indexName ), work );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		StubIndexScopeWork work = StubIndexScopeWork.builder( StubIndexScopeWork.Type.ABORT_REBUILD ).build();
+		return behavior.executeIndexScopeWork( Collections.singleton( indexName ), work );
+	}
 }
@@ -7,13 +7,18 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -51,6 +56,11 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 		);
 	}
 
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		workBuilder.timeout( timeout );
+	}
+
 	@Override
 	public SearchResult<H> fetch(Integer limit, Integer offset) {
 		workBuilder.limit( limit ).offset( offset );
@@ -59,8 +69,24 @@ public SearchResult<H> fetch(Integer limit, Integer offset) {
 		);
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit, Integer offset) {
+		// The stub backend is synchronous: just execute the work in the current thread
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( limit, offset ) ) );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		throw new UnsupportedOperationException( "Scrolling is not supported by the stub backend" );
+	}
 }
@@ -10,6 +10,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.impl.StubScopeModel;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
@@ -46,6 +47,16 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		workBuilder.totalHitCountThreshold( totalHitCountThreshold );
+	}
+
+	@Override
+	public void timeout(SearchTimeout timeout) {
+		workBuilder.timeout( timeout );
+	}
+
 	@Override
 	public SearchQuery<H> build() {
 		return new StubSearchQuery<>(
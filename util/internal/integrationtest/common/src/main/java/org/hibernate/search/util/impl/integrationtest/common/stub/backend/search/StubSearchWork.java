@@ -10,6 +10,8 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.search.engine.search.query.spi.SearchTimeout;
+
 public class StubSearchWork {
 
 	public enum ResultType {
@@ -26,12 +28,16 @@ public static Builder builder(ResultType resultType) {
 	private final List<String> routingKeys;
 	private final Integer offset;
 	private final Integer limit;
+	private final Long totalHitCountThreshold;
+	private final SearchTimeout timeout;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
 		this.routingKeys = Collections.unmodifiableList( new ArrayList<>( builder.routingKeys ) );
 		this.offset = builder.offset;
 		this.limit = builder.limit;
+		this.totalHitCountThreshold = builder.totalHitCountThreshold;
+		this.timeout = builder.timeout;
 	}
 
 	public ResultType getResultType() {
@@ -50,12 +56,22 @@ public Integer getLimit() {
 		return limit;
 	}
 
+	public Long getTotalHitCountThreshold() {
+		return totalHitCountThreshold;
+	}
+
+	public SearchTimeout getTimeout() {
+		return timeout;
+	}
+
 	@Override
 	public String toString() {
 		return "StubSearchWork[" +
 				", routingKeys=" + routingKeys +
 				", offset=" + offset +
 				", limit=" + limit +
+				", totalHitCountThreshold=" + totalHitCountThreshold +
+				", timeout=" + timeout +
 				']';
 	}
 
@@ -65,6 +81,8 @@ public static class Builder {
 		private final List<String> routingKeys = new ArrayList<>();
 		private Integer offset;
 		private Integer limit;
+		private Long totalHitCountThreshold;
+		private SearchTimeout timeout;
 
 		private Builder(ResultType resultType) {
 			this.resultType = resultType;
@@ -85,6 +103,16 @@ public Builder limit(Integer limit) {
 			return this;
 		}
 
+		public Builder totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
+		public Builder timeout(SearchTimeout timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
 		public StubSearchWork build() {
 			return new StubSearchWork( this );
 		}
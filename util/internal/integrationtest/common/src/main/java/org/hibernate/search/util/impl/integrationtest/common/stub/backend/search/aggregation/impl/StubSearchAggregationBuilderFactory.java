@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.DateHistogramAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+
+public class StubSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<StubQueryElementCollector> {
+
+	@Override
+	public <A> void contribute(StubQueryElementCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		throw unsupported();
+	}
+
+	@Override
+	public <F> TermsAggregationBuilder<F> createTermsAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		throw unsupported();
+	}
+
+	@Override
+	public <F> RangeAggregationBuilder<F> createRangeAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		throw unsupported();
+	}
+
+	@Override
+	public <F> DateHistogramAggregationBuilder<F> createDateHistogramAggregationBuilder(String absoluteFieldPath,
+			Class<F> expectedType) {
+		throw unsupported();
+	}
+
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException( "Aggregations are not supported by the stub backend" );
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -47,12 +48,40 @@ public static DocumentReferenceProvider referenceProvider(String identifier, Str
 	 * @param <R> The reference type.
 	 * @param <E> The entity type.
 	 */
-	@SuppressWarnings({"unchecked", "rawtypes"})
 	public static <R, E> void expectHitMapping(
 			LoadingContext<R, E> loadingContextMock,
 			ReferenceHitMapper<R> referenceTransformerMock,
 			EntityLoader<R, E> objectLoaderMock,
 			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition) {
+		expectHitMapping( loadingContextMock, referenceTransformerMock, objectLoaderMock, hitMappingDefinition, false );
+	}
+
+	/**
+	 * Same as {@link #expectHitMapping(LoadingContext, ReferenceHitMapper, EntityLoader, Consumer)},
+	 * but expects entities to be loaded through {@link EntityLoader#loadAsync(List)}.
+	 *
+	 * @param loadingContextMock The EasyMock mock for the loading context.
+	 * @param referenceTransformerMock The EasyMock mock for the reference transformer.
+	 * @param objectLoaderMock The EasyMock mock for the entity loader.
+	 * @param hitMappingDefinition A definition of the reference -> entity mapping.
+	 * @param <R> The reference type.
+	 * @param <E> The entity type.
+	 */
+	public static <R, E> void expectHitMappingAsync(
+			LoadingContext<R, E> loadingContextMock,
+			ReferenceHitMapper<R> referenceTransformerMock,
+			EntityLoader<R, E> objectLoaderMock,
+			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition) {
+		expectHitMapping( loadingContextMock, referenceTransformerMock, objectLoaderMock, hitMappingDefinition, true );
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <R, E> void expectHitMapping(
+			LoadingContext<R, E> loadingContextMock,
+			ReferenceHitMapper<R> referenceTransformerMock,
+			EntityLoader<R, E> objectLoaderMock,
+			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition,
+			boolean async) {
 		/*
 		 * We expect getProjectionHitMapper to be called *every time* a load is performed,
 		 * so that the mapper can check its state (session is open in ORM, for example).
@@ -73,15 +102,24 @@ public static <R, E> void expectHitMapping(
 			}
 		}
 
-		expect( objectLoaderMock.loadBlocking(
-				EasyMockUtils.collectionAnyOrderMatcher( new ArrayList<>( context.loadingMap.keySet() ) )
-		) )
-				.andAnswer(
-						// We need to cast to a raw type to conform to List<? extends E>
-						() -> (List) ( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
-						.map( context.loadingMap::get )
-						.collect( Collectors.toList() )
-				);
+		List<R> expectedReferences = new ArrayList<>( context.loadingMap.keySet() );
+		if ( async ) {
+			expect( objectLoaderMock.loadAsync( EasyMockUtils.collectionAnyOrderMatcher( expectedReferences ) ) )
+					.andAnswer(
+							() -> CompletableFuture.completedFuture( ( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
+									.map( context.loadingMap::get )
+									.collect( Collectors.toList() ) )
+					);
+		}
+		else {
+			expect( objectLoaderMock.loadBlocking( EasyMockUtils.collectionAnyOrderMatcher( expectedReferences ) ) )
+					.andAnswer(
+							// We need to cast to a raw type to conform to List<? extends E>
+							() -> (List) ( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
+							.map( context.loadingMap::get )
+							.collect( Collectors.toList() )
+					);
+		}
 	}
 
 	public static class HitMappingDefinitionContext<R, E> {